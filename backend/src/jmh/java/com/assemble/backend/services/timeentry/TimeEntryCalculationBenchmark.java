@@ -0,0 +1,81 @@
+/*
+ * assemble
+ * TimeEntryCalculationBenchmark.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with the jmh profile, -prof gc reports gc.alloc.rate.norm as bytes per operation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeEntryCalculationBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final TimeEntryCalculationService calculationService = new TimeEntryCalculationService();
+
+    private final Duration[] totals = new Duration[SIZE];
+
+    private final Duration[] pauses = new Duration[SIZE];
+
+    private final BigDecimal[] rates = new BigDecimal[SIZE];
+
+    private final long[] minutes = new long[SIZE];
+
+    private final long[] rateCents = new long[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random( 42 );
+
+        for ( int i = 0; i < SIZE; i++ ) {
+            totals[i] = Duration.ofMinutes( 15 + random.nextInt( 12 * 60 ) );
+            pauses[i] = Duration.ofMinutes( random.nextInt( 15 ) );
+            // Rates as loaded from numeric(38,2) columns
+            rates[i] = BigDecimal.valueOf( 1_000 + random.nextInt( 20_000 ), 2 );
+            minutes[i] = totals[i].minus( pauses[i] ).toMinutes();
+            rateCents[i] = rates[i].unscaledValue().longValueExact();
+        }
+    }
+
+    private int next() {
+        index = ( index + 1 ) & ( SIZE - 1 );
+        return index;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        int i = next();
+        return calculationService.calculateTotal( totals[i], pauses[i], rates[i] );
+    }
+
+    @Benchmark
+    public long fixedPoint() {
+        int i = next();
+        return TimeEntryFixedPointCalculator.calculateTotalCents( minutes[i], rateCents[i] );
+    }
+
+    @Benchmark
+    public long fixedPointFromDurations() {
+        int i = next();
+        return calculationService.calculateTotalCents( totals[i], pauses[i], rates[i] );
+    }
+}
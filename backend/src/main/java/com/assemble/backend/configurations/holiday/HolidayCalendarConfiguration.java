@@ -0,0 +1,47 @@
+/*
+ * assemble
+ * HolidayCalendarConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.holiday;
+
+import com.assemble.backend.repositories.holiday.HolidayRepository;
+import com.assemble.backend.services.holiday.HolidayCalendarServiceImpl;
+import com.assemble.backend.utils.PostgresInvalidations;
+import com.assemble.backend.utils.PostgresNotificationListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class HolidayCalendarConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public PostgresInvalidations holidayCalendarInvalidations(
+            PostgresNotificationListener postgresNotificationListener,
+            JdbcTemplate jdbcTemplate,
+            @Value("${assemble.holidays.calendar.channel:holiday_calendar_invalidations}") String channel
+    ) {
+        return new PostgresInvalidations( postgresNotificationListener, jdbcTemplate, channel );
+    }
+
+    @Bean
+    public HolidayCalendarServiceImpl holidayCalendarService(
+            HolidayRepository holidayRepository,
+            @Qualifier("holidayCalendarInvalidations") PostgresInvalidations holidayCalendarInvalidations
+    ) {
+        HolidayCalendarServiceImpl holidayCalendarService = new HolidayCalendarServiceImpl(
+                holidayRepository,
+                holidayCalendarInvalidations
+        );
+        holidayCalendarInvalidations.start( holidayCalendarService::evictLocally, holidayCalendarService::clear );
+        return holidayCalendarService;
+    }
+}
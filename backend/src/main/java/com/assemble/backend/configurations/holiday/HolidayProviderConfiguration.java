@@ -0,0 +1,80 @@
+/*
+ * assemble
+ * HolidayProviderConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.holiday;
+
+import com.assemble.backend.services.holiday.CachingHolidayProvider;
+import com.assemble.backend.services.holiday.FileHolidayProvider;
+import com.assemble.backend.services.holiday.HolidayProvider;
+import com.assemble.backend.services.holiday.OpenHolidaysApiProvider;
+import com.assemble.backend.utils.CircuitBreaker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class HolidayProviderConfiguration {
+
+    @Bean
+    public HolidayProvider holidayProvider(
+            RestClient.Builder restClientBuilder,
+            ObjectMapper objectMapper,
+            @Value("${assemble.holidays.provider:api}") String provider,
+            @Value("${assemble.holidays.api-url:https://openholidaysapi.org/}") String apiUrl,
+            @Value("${assemble.holidays.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${assemble.holidays.read-timeout:10s}") Duration readTimeout,
+            @Value("${assemble.holidays.max-attempts:3}") int maxAttempts,
+            @Value("${assemble.holidays.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${assemble.holidays.failure-threshold:5}") int failureThreshold,
+            @Value("${assemble.holidays.open-duration:1m}") Duration openDuration,
+            @Value("${assemble.holidays.cache-dir:${java.io.tmpdir}/assemble/holidays}") Path cacheDirectory,
+            @Value("${assemble.holidays.cache-ttl:7d}") Duration cacheTimeToLive,
+            @Value("${assemble.holidays.file-location:}") String fileLocation,
+            ResourceLoader resourceLoader
+    ) {
+        // Offline mode reads the files as they are, there is nothing to cache or retry
+        if ( "file".equalsIgnoreCase( provider ) ) {
+            Resource location = fileLocation.isBlank()
+                    ? new FileSystemResource( cacheDirectory + "/" )
+                    : resourceLoader.getResource( fileLocation );
+            if ( !location.exists() )
+                throw new IllegalStateException( "Holiday file location does not exist: " + location.getDescription() );
+            return new FileHolidayProvider( location, objectMapper );
+        }
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout( connectTimeout );
+        requestFactory.setReadTimeout( readTimeout );
+
+        RestClient restClient = restClientBuilder
+                .baseUrl( apiUrl )
+                .requestFactory( requestFactory )
+                .build();
+
+        HolidayProvider apiProvider = new OpenHolidaysApiProvider(
+                restClient,
+                new CircuitBreaker( failureThreshold, openDuration, Clock.systemUTC() ),
+                maxAttempts,
+                initialBackoff
+        );
+
+        return new CachingHolidayProvider( apiProvider, cacheDirectory, cacheTimeToLive, objectMapper, Clock.systemUTC() );
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * assemble
+ * PostgresNotificationConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.jdbc;
+
+import com.assemble.backend.utils.PostgresNotificationListener;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Properties;
+
+@Configuration
+public class PostgresNotificationConfiguration {
+
+    // Not a pooled data source, the listening connection stays open for as long as the application runs
+    @Bean(destroyMethod = "close")
+    public PostgresNotificationListener postgresNotificationListener( JdbcConnectionDetails connectionDetails ) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                connectionDetails.getJdbcUrl(),
+                connectionDetails.getUsername(),
+                connectionDetails.getPassword()
+        );
+        dataSource.setDriverClassName( connectionDetails.getDriverClassName() );
+
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty( "ApplicationName", "assemble-notifications" );
+        connectionProperties.setProperty( "tcpKeepAlive", "true" );
+        dataSource.setConnectionProperties( connectionProperties );
+
+        return new PostgresNotificationListener( dataSource );
+    }
+}
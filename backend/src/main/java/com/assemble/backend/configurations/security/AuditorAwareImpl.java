@@ -32,7 +32,7 @@ public class AuditorAwareImpl implements AuditorAware<UserAudit> {
         ) {
             return Optional.of(
                     new UserAudit(
-                            principal.getUser().getId(),
+                            principal.getId(),
                             principal.getUsername()
                     )
             );
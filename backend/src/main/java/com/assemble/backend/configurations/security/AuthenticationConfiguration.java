@@ -11,25 +11,35 @@
 package com.assemble.backend.configurations.security;
 
 import com.assemble.backend.services.auth.CustomUserDetailsService;
+import com.assemble.backend.utils.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @AllArgsConstructor
 @Configuration
 public class AuthenticationConfiguration {
 
     private final CustomUserDetailsService customUserDetailsService;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "close")
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${assemble.auth.password.strength:10}") int strength,
+            @Value("${assemble.auth.password.threads:2}") int threads,
+            @Value("${assemble.auth.password.queue-capacity:32}") int queueCapacity,
+            @Value("${assemble.auth.password.timeout:5s}") Duration timeout
+    ) {
+        return new BoundedPasswordEncoder( strength, meterRegistry, threads, queueCapacity, timeout );
     }
 
     @Bean
@@ -41,6 +51,8 @@ public class AuthenticationConfiguration {
     public AuthenticationManager authenticationManager( UserDetailsService userDetailsService, PasswordEncoder passwordEncoder ) {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider( userDetailsService );
         daoAuthenticationProvider.setPasswordEncoder( passwordEncoder );
+        // Rehashes the password on login once the configured strength changed
+        daoAuthenticationProvider.setUserDetailsPasswordService( customUserDetailsService );
 
         return new ProviderManager( daoAuthenticationProvider );
     }
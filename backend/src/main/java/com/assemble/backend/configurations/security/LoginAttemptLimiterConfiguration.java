@@ -0,0 +1,69 @@
+/*
+ * assemble
+ * LoginAttemptLimiterConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.security;
+
+import com.assemble.backend.services.auth.LoginAttemptLimiter;
+import com.assemble.backend.utils.InvalidationPublisher;
+import com.assemble.backend.utils.PostgresInvalidations;
+import com.assemble.backend.utils.PostgresNotificationListener;
+import com.assemble.backend.utils.SlidingWindowLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+@Configuration
+public class LoginAttemptLimiterConfiguration {
+
+    // Only needed when several nodes serve the login, a single node counts every attempt itself
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "assemble.auth.login-limit", name = "shared", havingValue = "true")
+    public PostgresInvalidations loginAttemptNotifications(
+            PostgresNotificationListener postgresNotificationListener,
+            JdbcTemplate jdbcTemplate,
+            @Value("${assemble.auth.login-limit.channel:login_attempts}") String channel
+    ) {
+        return new PostgresInvalidations( postgresNotificationListener, jdbcTemplate, channel );
+    }
+
+    @Bean
+    public LoginAttemptLimiter loginAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Qualifier("loginAttemptNotifications") Optional<PostgresInvalidations> loginAttemptNotifications,
+            @Value("${assemble.auth.login-limit.username.max-attempts:10}") int usernameMaxAttempts,
+            @Value("${assemble.auth.login-limit.username.window:5m}") Duration usernameWindow,
+            @Value("${assemble.auth.login-limit.address.max-attempts:50}") int addressMaxAttempts,
+            @Value("${assemble.auth.login-limit.address.window:1m}") Duration addressWindow,
+            @Value("${assemble.auth.login-limit.maximum-keys:100000}") int maximumKeys
+    ) {
+        LoginAttemptLimiter loginAttemptLimiter = new LoginAttemptLimiter(
+                new SlidingWindowLimiter( usernameMaxAttempts, usernameWindow, maximumKeys, Clock.systemUTC() ),
+                new SlidingWindowLimiter( addressMaxAttempts, addressWindow, maximumKeys, Clock.systemUTC() ),
+                loginAttemptNotifications.<InvalidationPublisher>map( notifications -> notifications )
+                        .orElse( InvalidationPublisher.NONE ),
+                meterRegistry
+        );
+        // Attempts sent while the listener reconnects are lost, there is nothing to reset once it listens again
+        loginAttemptNotifications.ifPresent( notifications -> notifications.start(
+                loginAttemptLimiter::recordRemoteAttempt,
+                () -> {
+                }
+        ) );
+        return loginAttemptLimiter;
+    }
+}
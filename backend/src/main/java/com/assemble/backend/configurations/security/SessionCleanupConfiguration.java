@@ -0,0 +1,52 @@
+/*
+ * assemble
+ * SessionCleanupConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.security;
+
+import com.assemble.backend.repositories.session.ExpiredSessionSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+
+// Replaces the cleanup cron of Spring Session, which must be disabled with spring.session.jdbc.cleanup-cron=-
+@Configuration
+@ConditionalOnProperty(prefix = "assemble.sessions.cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionCleanupConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ExpiredSessionSweeper expiredSessionSweeper(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${spring.session.jdbc.table-name:" + JdbcIndexedSessionRepository.DEFAULT_TABLE_NAME + "}") String tableName,
+            @Value("${assemble.sessions.cleanup.interval:1m}") Duration interval,
+            @Value("${assemble.sessions.cleanup.batch-size:500}") int batchSize,
+            @Value("${assemble.sessions.cleanup.max-batches:20}") int maxBatches,
+            @Value("${assemble.sessions.cleanup.lease-duration:5m}") Duration leaseDuration
+    ) {
+        ExpiredSessionSweeper sweeper = new ExpiredSessionSweeper(
+                jdbcTemplate,
+                meterRegistry,
+                tableName,
+                batchSize,
+                maxBatches,
+                leaseDuration,
+                Clock.systemUTC()
+        );
+        sweeper.start( interval );
+        return sweeper;
+    }
+}
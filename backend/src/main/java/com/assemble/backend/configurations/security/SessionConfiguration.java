@@ -10,15 +10,36 @@
 
 package com.assemble.backend.configurations.security;
 
+import com.assemble.backend.repositories.session.SessionAttributeSerializer;
+import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.session.security.SpringSessionBackedSessionRegistry;
 
 @Configuration
-public class SessionConfiguration {
+public class SessionConfiguration implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader( ClassLoader classLoader ) {
+        this.classLoader = classLoader;
+    }
+
+    // Picked up by name by the JDBC session repository to convert the values of SESSION_ATTRIBUTES
+    @Bean
+    public ConversionService springSessionConversionService() {
+        SessionAttributeSerializer serializer = new SessionAttributeSerializer( classLoader );
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter( Object.class, byte[].class, serializer::serialize );
+        conversionService.addConverter( byte[].class, Object.class, serializer::deserialize );
+        return conversionService;
+    }
 
     @Bean
     public SessionRegistry sessionRegistry(
@@ -0,0 +1,77 @@
+/*
+ * assemble
+ * SessionNearCacheConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.security;
+
+import com.assemble.backend.repositories.session.NearCacheSessionRepository;
+import com.assemble.backend.repositories.session.SessionNearCache;
+import com.assemble.backend.utils.PostgresInvalidations;
+import com.assemble.backend.utils.PostgresNotificationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "assemble.sessions.near-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SessionNearCacheConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public SessionNearCache sessionNearCache(
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.session.jdbc.table-name:" + JdbcIndexedSessionRepository.DEFAULT_TABLE_NAME + "}") String tableName,
+            @Value("${assemble.sessions.near-cache.maximum-size:10000}") int maximumSize,
+            @Value("${assemble.sessions.near-cache.time-to-live:30s}") Duration timeToLive,
+            @Value("${assemble.sessions.near-cache.flush-interval:10s}") Duration flushInterval
+    ) {
+        SessionNearCache nearCache = new SessionNearCache( jdbcTemplate, tableName, maximumSize, timeToLive, Clock.systemUTC() );
+        nearCache.start( flushInterval );
+        return nearCache;
+    }
+
+    @Bean(destroyMethod = "close")
+    public PostgresInvalidations sessionInvalidations(
+            PostgresNotificationListener postgresNotificationListener,
+            JdbcTemplate jdbcTemplate,
+            SessionNearCache sessionNearCache,
+            @Value("${assemble.sessions.near-cache.channel:session_invalidations}") String channel
+    ) {
+        PostgresInvalidations invalidations = new PostgresInvalidations( postgresNotificationListener, jdbcTemplate, channel );
+        invalidations.start( sessionNearCache::evict, sessionNearCache::clear );
+        return invalidations;
+    }
+
+    // Wraps the repository of Spring Session, which keeps running its own cleanup of expired sessions
+    @Bean
+    public static BeanPostProcessor nearCacheSessionRepositoryPostProcessor(
+            ObjectProvider<SessionNearCache> sessionNearCache,
+            @Qualifier("sessionInvalidations") ObjectProvider<PostgresInvalidations> sessionInvalidations
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization( Object bean, String beanName ) {
+                if ( !( bean instanceof JdbcIndexedSessionRepository sessionRepository ) ) return bean;
+                return new NearCacheSessionRepository<>(
+                        sessionRepository,
+                        sessionNearCache.getObject(),
+                        sessionInvalidations.getObject()
+                );
+            }
+        };
+    }
+}
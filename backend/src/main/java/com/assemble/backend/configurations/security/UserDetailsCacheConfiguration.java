@@ -0,0 +1,61 @@
+/*
+ * assemble
+ * UserDetailsCacheConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.security;
+
+import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
+import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.utils.PostgresInvalidations;
+import com.assemble.backend.utils.PostgresNotificationListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class UserDetailsCacheConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public PostgresInvalidations userInvalidations(
+            PostgresNotificationListener postgresNotificationListener,
+            JdbcTemplate jdbcTemplate,
+            @Value("${assemble.users.cache.channel:user_invalidations}") String channel
+    ) {
+        return new PostgresInvalidations( postgresNotificationListener, jdbcTemplate, channel );
+    }
+
+    @Bean
+    public UserDetailsCache userDetailsCache(
+            UserRepository userRepository,
+            UserMapper userMapper,
+            MeterRegistry meterRegistry,
+            @Qualifier("userInvalidations") PostgresInvalidations userInvalidations,
+            @Value("${assemble.users.cache.maximum-size:1000}") int maximumSize,
+            @Value("${assemble.users.cache.time-to-live:5m}") Duration timeToLive
+    ) {
+        UserDetailsCache userDetailsCache = new UserDetailsCache(
+                userRepository,
+                userMapper,
+                meterRegistry,
+                userInvalidations,
+                maximumSize,
+                timeToLive,
+                Clock.systemUTC()
+        );
+        userInvalidations.start( userDetailsCache::evictLocally, userDetailsCache::clear );
+        return userDetailsCache;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * assemble
+ * TombstoneCleanupConfiguration.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.timeentry;
+
+import com.assemble.backend.services.timeentry.ExpiredTombstoneSweeper;
+import com.assemble.backend.services.timeentry.TimeEntrySyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+// Enforces the tombstone retention of the delta sync, the purge-timeentry-tombstones command runs it on demand
+@Configuration
+@ConditionalOnProperty(prefix = "assemble.timeentries.tombstones.cleanup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TombstoneCleanupConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public ExpiredTombstoneSweeper expiredTombstoneSweeper(
+            TimeEntrySyncService timeEntrySyncService,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${assemble.timeentries.tombstones.cleanup.interval:1h}") Duration interval,
+            @Value("${assemble.timeentries.tombstones.cleanup.lease-duration:2h}") Duration leaseDuration
+    ) {
+        ExpiredTombstoneSweeper sweeper = new ExpiredTombstoneSweeper(
+                timeEntrySyncService,
+                jdbcTemplate,
+                meterRegistry,
+                leaseDuration
+        );
+        sweeper.start( interval );
+        return sweeper;
+    }
+}
@@ -10,12 +10,18 @@
 
 package com.assemble.backend.controllers;
 
+import com.assemble.backend.exceptions.auth.LoginAttemptsExceededException;
+import com.assemble.backend.exceptions.auth.PasswordHashingRejectedException;
 import com.assemble.backend.exceptions.auth.PasswordMismatchException;
+import com.assemble.backend.exceptions.global.PreconditionFailedException;
+import com.assemble.backend.exceptions.holiday.HolidayImportRejectedException;
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
 import com.assemble.backend.models.dtos.global.ErrorResponse;
 import com.assemble.backend.models.dtos.global.FieldValidationError;
 import com.assemble.backend.models.dtos.global.ValidationErrorResponse;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -66,6 +72,30 @@ public class GlobalExceptionController {
         return createErrorResponse( ex.getMessage(), HttpStatus.BAD_REQUEST );
     }
 
+    @ExceptionHandler(LoginAttemptsExceededException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleLoginAttemptsExceededException( LoginAttemptsExceededException ex ) {
+        return createErrorResponse( ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS );
+    }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handlePasswordHashingRejectedException( PasswordHashingRejectedException ex ) {
+        return createErrorResponse( ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS );
+    }
+
+    @ExceptionHandler(HolidayProviderUnavailableException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleHolidayProviderUnavailableException( HolidayProviderUnavailableException ex ) {
+        return createErrorResponse( ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE );
+    }
+
+    @ExceptionHandler(HolidayImportRejectedException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleHolidayImportRejectedException( HolidayImportRejectedException ex ) {
+        return createErrorResponse( ex.getMessage(), HttpStatus.TOO_MANY_REQUESTS );
+    }
+
     @ExceptionHandler(InvalidParameterException.class)
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleInvalidParameterException( InvalidParameterException ex ) {
@@ -98,6 +128,19 @@ public class GlobalExceptionController {
         return createErrorResponse( ex.getMessage(), HttpStatus.NOT_FOUND );
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException( PreconditionFailedException ex ) {
+        return createErrorResponse( ex.getMessage(), HttpStatus.PRECONDITION_FAILED );
+    }
+
+    // Another transaction committed the same entity between loading and writing it
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException() {
+        return createErrorResponse( "The entity was modified concurrently, reload it and try again", HttpStatus.CONFLICT );
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseBody
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException() {
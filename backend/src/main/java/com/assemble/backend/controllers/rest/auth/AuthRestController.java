@@ -14,6 +14,7 @@ import com.assemble.backend.models.dtos.auth.LoginRequest;
 import com.assemble.backend.models.dtos.auth.LoginResponse;
 import com.assemble.backend.models.dtos.global.ErrorResponse;
 import com.assemble.backend.models.dtos.global.ValidationErrorResponse;
+import com.assemble.backend.services.auth.LoginAttemptLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -49,6 +50,7 @@ public class AuthRestController {
 
     private final AuthenticationManager authenticationManager;
     private final SecurityContextRepository securityContextRepository;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     @Operation(
             summary = "Login",
@@ -94,6 +96,14 @@ public class AuthRestController {
                     schema = @Schema(implementation = ErrorResponse.class)
             )
     )
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponse.class)
+            )
+    )
     @PostMapping(
             path = "/login",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -109,6 +119,10 @@ public class AuthRestController {
             HttpServletResponse response
     ) {
 
+        // Before the user is loaded, attempts over the limit cause neither a query nor a password hash.
+        // Behind the frontend proxy the remote address is the client from X-Forwarded-For, resolved by the server
+        loginAttemptLimiter.checkAttempt( credentials.getUsername(), request.getRemoteAddr() );
+
         Authentication authRequest = UsernamePasswordAuthenticationToken
                 .unauthenticated( credentials.getUsername(), credentials.getPassword() );
 
@@ -12,6 +12,7 @@ package com.assemble.backend.controllers.rest.employee;
 
 import com.assemble.backend.models.dtos.employee.*;
 import com.assemble.backend.models.dtos.global.ErrorResponse;
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.global.ValidationErrorResponse;
 import com.assemble.backend.services.employee.EmployeeService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,11 +23,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -50,11 +53,16 @@ public class EmployeeRestController {
                     array = @ArraySchema(schema = @Schema(implementation = EmployeeDTO.class))
             )
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not Modified"
+    )
     @GetMapping(
             path = "",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
+    public ResponseEntity<List<EmployeeDTO>> getAllEmployees( WebRequest request ) {
+        if ( request.checkNotModified( employeeService.getAllEmployeesTag() ) ) return null;
         return ResponseEntity.ok( employeeService.getAllEmployees() );
     }
 
@@ -77,11 +85,16 @@ public class EmployeeRestController {
                     schema = @Schema(implementation = ErrorResponse.class)
             )
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Not Modified"
+    )
     @GetMapping(
             path = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<EmployeeDTO> getEmployee( @PathVariable String id ) {
+    public ResponseEntity<EmployeeDTO> getEmployee( @PathVariable String id, WebRequest request ) {
+        if ( request.checkNotModified( employeeService.getEmployeeTag( id ) ) ) return null;
         return ResponseEntity.ok( employeeService.getEmployeeById( id ) );
     }
 
@@ -193,6 +206,10 @@ public class EmployeeRestController {
                     schema = @Schema(implementation = ErrorResponse.class)
             )
     )
+    @ApiResponse(
+            responseCode = "412",
+            description = "Precondition Failed"
+    )
     @PatchMapping(
             path = "/{id}/user",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -200,11 +217,17 @@ public class EmployeeRestController {
     )
     public ResponseEntity<EmployeeDTO> updateEmployeeUser(
             @PathVariable String id,
-            @Valid @RequestBody EmployeeUpdateUserDTO employeeUpdateUserDTO
+            @Valid @RequestBody EmployeeUpdateUserDTO employeeUpdateUserDTO,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(
-                employeeService.setEmployeeUser( id, employeeUpdateUserDTO )
+        TaggedDTO<EmployeeDTO> employeeDTO = employeeService.setEmployeeUser(
+                id,
+                employeeUpdateUserDTO,
+                request.getHeader( HttpHeaders.IF_MATCH )
         );
+        return ResponseEntity.ok()
+                .eTag( employeeDTO.entityTag() )
+                .body( employeeDTO.body() );
     }
 
     @Operation(
@@ -234,6 +257,10 @@ public class EmployeeRestController {
                     schema = @Schema(implementation = ValidationErrorResponse.class)
             )
     )
+    @ApiResponse(
+            responseCode = "412",
+            description = "Precondition Failed"
+    )
     @PatchMapping(
             path = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -241,11 +268,18 @@ public class EmployeeRestController {
     )
     public ResponseEntity<EmployeeDTO> updateEmployee(
             @PathVariable String id,
-            @Valid @RequestBody EmployeeUpdateDTO employeeUpdateDTO
+            @Valid @RequestBody EmployeeUpdateDTO employeeUpdateDTO,
+            WebRequest request
     ) {
-        return ResponseEntity.ok(
-                employeeService.updateEmployee( id, employeeUpdateDTO )
+        // A stale If-Match tag is answered with 412 by the update transaction, before anything is changed
+        TaggedDTO<EmployeeDTO> employeeDTO = employeeService.updateEmployee(
+                id,
+                employeeUpdateDTO,
+                request.getHeader( HttpHeaders.IF_MATCH )
         );
+        return ResponseEntity.ok()
+                .eTag( employeeDTO.entityTag() )
+                .body( employeeDTO.body() );
     }
 
     @Operation(
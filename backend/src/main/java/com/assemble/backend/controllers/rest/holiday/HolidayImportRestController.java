@@ -10,8 +10,9 @@
 
 package com.assemble.backend.controllers.rest.holiday;
 
-import com.assemble.backend.models.dtos.holiday.HolidayDTO;
-import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.services.holiday.HolidayImportJobService;
 import com.assemble.backend.services.holiday.HolidayImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -25,6 +26,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.EnumSet;
 import java.util.List;
 
 @RestController
@@ -36,6 +39,8 @@ public class HolidayImportRestController {
 
     private HolidayImportService service;
 
+    private HolidayImportJobService jobService;
+
     @Operation(
             summary = "Get imported years"
     )
@@ -60,32 +65,110 @@ public class HolidayImportRestController {
     }
 
     @Operation(
-            summary = "Import Holidays for a given year"
+            summary = "Import Holidays for a given year",
+            description = "Queues an import job and returns right away, the job inserts new and updates changed holidays of the year. Safe to repeat."
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Accepted",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = HolidayImportJobDTO.class
+                    )
+            )
+    )
+    @PostMapping(
+            path = "/{year}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<HolidayImportJobDTO> getHolidaysFromYear(
+            @PathVariable String year,
+            @RequestParam(defaultValue = "DE") HolidayCountry country
+    ) {
+        int parsedYear = Integer.parseInt( year );
+        return accepted( jobService.startImport( EnumSet.of( country ), parsedYear, parsedYear ) );
+    }
+
+    @Operation(
+            summary = "Import Holidays for countries and a range of years",
+            description = "Queues an import job for every country and year, both years are inclusive. Safe to repeat."
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "Accepted",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = HolidayImportJobDTO.class
+                    )
+            )
+    )
+    @PostMapping(
+            path = "",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<HolidayImportJobDTO> importHolidays(
+            @RequestParam(defaultValue = "DE") List<HolidayCountry> countries,
+            @RequestParam int fromYear,
+            @RequestParam int toYear
+    ) {
+        return accepted( jobService.startImport(
+                countries.isEmpty() ? EnumSet.noneOf( HolidayCountry.class ) : EnumSet.copyOf( countries ),
+                fromYear,
+                toYear
+        ) );
+    }
+
+    @Operation(
+            summary = "Get the status and progress of a holiday import job"
     )
     @ApiResponse(
             responseCode = "200",
             description = "OK",
             content = @Content(
                     mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    array = @ArraySchema(
-                            schema = @Schema(
-                                    implementation = HolidayDTO.class
-                            )
+                    schema = @Schema(
+                            implementation = HolidayImportJobDTO.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/jobs/{jobId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<HolidayImportJobDTO> getImportJob(
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok( jobService.getJob( jobId ) );
+    }
+
+    @Operation(
+            summary = "Cancel a holiday import job",
+            description = "A queued job is cancelled right away, a running job stops before its next year. Years already imported stay imported."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "OK",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = HolidayImportJobDTO.class
                     )
             )
     )
     @PostMapping(
-            path = "/{year}",
+            path = "/jobs/{jobId}/cancel",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<Holiday>> getHolidaysFromYear(
-            @PathVariable String year
+    public ResponseEntity<HolidayImportJobDTO> cancelImportJob(
+            @PathVariable String jobId
     ) {
-        return ResponseEntity.ok( service.importHolidaysByYear( Integer.parseInt( year ) ) );
+        return ResponseEntity.ok( jobService.cancelJob( jobId ) );
     }
 
     @Operation(
-            summary = "Delete Holidays for a given year"
+            summary = "Delete Holidays of a country for a given year"
     )
     @ApiResponse(
             responseCode = "204",
@@ -93,9 +176,16 @@ public class HolidayImportRestController {
     )
     @DeleteMapping("/{year}")
     public ResponseEntity<Void> deleteHolidaysFromYear(
-            @PathVariable String year
+            @PathVariable String year,
+            @RequestParam(defaultValue = "DE") HolidayCountry country
     ) {
-        service.deleteHolidaysByYear( Integer.parseInt( year ) );
+        service.deleteHolidaysByYear( country, Integer.parseInt( year ) );
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<HolidayImportJobDTO> accepted( HolidayImportJobDTO job ) {
+        return ResponseEntity.accepted()
+                .location( URI.create( "/api/holidays/import/jobs/" + job.getId() ) )
+                .body( job );
+    }
 }
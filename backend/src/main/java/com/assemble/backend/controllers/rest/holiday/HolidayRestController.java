@@ -11,6 +11,7 @@
 package com.assemble.backend.controllers.rest.holiday;
 
 import com.assemble.backend.models.dtos.holiday.HolidayDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.SubdivisionCode;
 import com.assemble.backend.services.app.AppSettingsService;
 import com.assemble.backend.services.holiday.HolidayService;
@@ -61,7 +62,7 @@ public class HolidayRestController {
     }
 
     @Operation(
-            summary = "Get Holidays By Year and Subdivision Code"
+            summary = "Get Holidays By Year, Country and Subdivision Code"
     )
     @ApiResponse(
             responseCode = "200",
@@ -81,10 +82,11 @@ public class HolidayRestController {
     )
     public ResponseEntity<List<HolidayDTO>> getHolidaysByYearAndSubdivisionCode(
             @RequestParam String year,
+            @RequestParam(defaultValue = "DE") HolidayCountry country,
             @RequestParam String subdivisionCode
     ) {
         return ResponseEntity.ok( service
-                .getHolidaysByYearAndSubdivisionCode( Integer.parseInt( year ), subdivisionCode )
+                .getHolidaysByYearAndSubdivisionCode( Integer.parseInt( year ), country, subdivisionCode )
         );
     }
 
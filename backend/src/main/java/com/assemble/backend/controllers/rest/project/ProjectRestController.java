@@ -10,6 +10,7 @@
 
 package com.assemble.backend.controllers.rest.project;
 
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.global.ValidationErrorResponse;
 import com.assemble.backend.models.dtos.project.ProjectCreateDTO;
 import com.assemble.backend.models.dtos.project.ProjectDTO;
@@ -23,12 +24,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -56,11 +59,16 @@ public class ProjectRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
+    public ResponseEntity<List<ProjectDTO>> getAllProjects( WebRequest request ) {
+        if ( request.checkNotModified( projectService.getAllProjectsTag() ) ) return null;
         return ResponseEntity.ok( projectService.getAllProjects() );
     }
 
@@ -87,11 +95,16 @@ public class ProjectRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<ProjectDTO> getProjectById( @PathVariable String id ) {
+    public ResponseEntity<ProjectDTO> getProjectById( @PathVariable String id, WebRequest request ) {
+        if ( request.checkNotModified( projectService.getProjectTag( id ) ) ) return null;
         return ResponseEntity.ok( projectService.getProjectById( id ) );
     }
 
@@ -200,6 +213,10 @@ public class ProjectRestController {
                     schema = @Schema(implementation = ErrorResponse.class)
             )
     )
+    @ApiResponse(
+            description = "Precondition Failed",
+            responseCode = "412"
+    )
     @PatchMapping(
             path = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -207,10 +224,18 @@ public class ProjectRestController {
     )
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable String id,
-            @Valid @RequestBody ProjectUpdateDTO projectUpdateDTO
+            @Valid @RequestBody ProjectUpdateDTO projectUpdateDTO,
+            WebRequest request
     ) {
-        return ResponseEntity
-                .ok( projectService.updateProject( id, projectUpdateDTO ) );
+        // A stale If-Match tag is answered with 412 by the update transaction, before anything is changed
+        TaggedDTO<ProjectDTO> projectDTO = projectService.updateProject(
+                id,
+                projectUpdateDTO,
+                request.getHeader( HttpHeaders.IF_MATCH )
+        );
+        return ResponseEntity.ok()
+                .eTag( projectDTO.entityTag() )
+                .body( projectDTO.body() );
     }
 
     @Operation(
@@ -11,12 +11,28 @@
 package com.assemble.backend.controllers.rest.timeentry;
 
 import com.assemble.backend.models.dtos.global.ErrorResponse;
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.global.ValidationErrorResponse;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBalanceDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkCreateDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkResultDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryExportFormat;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryPageDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.dtos.timeentry.TimeEntrySyncDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryView;
 import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.services.timeentry.TimeEntryBalanceService;
+import com.assemble.backend.services.timeentry.TimeEntryExportService;
+import com.assemble.backend.services.timeentry.TimeEntryRollupService;
 import com.assemble.backend.services.timeentry.TimeEntryService;
+import com.assemble.backend.services.timeentry.TimeEntrySyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,12 +41,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -42,8 +63,17 @@ public class TimeEntryRestController {
 
     private TimeEntryService timeEntryService;
 
+    private TimeEntryExportService timeEntryExportService;
+
+    private TimeEntryRollupService timeEntryRollupService;
+
+    private TimeEntrySyncService timeEntrySyncService;
+
+    private TimeEntryBalanceService timeEntryBalanceService;
+
     @Operation(
-            summary = "Get All Timentries"
+            summary = "Get All Timentries",
+            description = "Pass view=compact to receive TimeEntryCompactDTO items without audit data and employee or project details."
     )
     @ApiResponse(
             description = "OK",
@@ -52,21 +82,125 @@ public class TimeEntryRestController {
                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                     array = @ArraySchema(
                             schema = @Schema(
-                                    implementation = TimeEntryDTO.class
+                                    oneOf = { TimeEntryDTO.class, TimeEntryCompactDTO.class }
                             )
                     )
             )
     )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<TimeEntryDTO>> getAllTimeEntries() {
+    public ResponseEntity<List<?>> getAllTimeEntries(
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request
+    ) {
+        boolean compact = TimeEntryView.fromValue( view ) == TimeEntryView.COMPACT;
+
+        if ( request.checkNotModified( timeEntryService.getAllTimeEntriesTag() ) ) return null;
+        if ( compact )
+            return ResponseEntity.ok( timeEntryService.getAllCompactTimeEntries() );
         return ResponseEntity.ok( timeEntryService.getAllTimeEntries() );
     }
 
     @Operation(
-            summary = "Get All Timeentries by Project ID"
+            summary = "Get Timeentries page",
+            description = "Returns timeentries ordered by date and id. Pass the returned cursor to fetch the next page."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryPageDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/page",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
+    public ResponseEntity<TimeEntryPageDTO> getTimeEntryPage(
+            @ParameterObject TimeEntryFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok( timeEntryService.getTimeEntryPage( filter, cursor, size ) );
+    }
+
+    @Operation(
+            summary = "Export Timeentries",
+            description = "Streams all matching timeentries ordered by date as CSV or NDJSON."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = {
+                    @Content(mediaType = "text/csv"),
+                    @Content(mediaType = "application/x-ndjson")
+            }
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/export"
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
+    public ResponseEntity<StreamingResponseBody> exportTimeEntries(
+            @ParameterObject TimeEntryFilterDTO filter,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        TimeEntryExportFormat exportFormat = TimeEntryExportFormat.fromValue( format );
+
+        return ResponseEntity.ok()
+                .contentType( MediaType.parseMediaType( exportFormat.getMediaType() ) )
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename( "timeentries." + exportFormat.getExtension() )
+                                .build()
+                                .toString()
+                )
+                .body( timeEntryExportService.exportTimeEntries( filter, exportFormat ) );
+    }
+
+    @Operation(
+            summary = "Get Timeentry Rollups",
+            description = "Returns precomputed totals per employee, project and day or month. Monthly rollups include every month touched by the date range."
     )
     @ApiResponse(
             description = "OK",
@@ -75,23 +209,135 @@ public class TimeEntryRestController {
                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                     array = @ArraySchema(
                             schema = @Schema(
-                                    implementation = TimeEntryDTO.class
+                                    implementation = TimeEntryRollupDTO.class
                             )
                     )
             )
     )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/rollups",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
+    public ResponseEntity<List<TimeEntryRollupDTO>> getTimeEntryRollups(
+            @ParameterObject TimeEntryFilterDTO filter,
+            @RequestParam(defaultValue = "month") String granularity
+    ) {
+        return ResponseEntity.ok(
+                timeEntryRollupService.getRollups( filter, TimeEntryRollupGranularity.fromValue( granularity ) )
+        );
+    }
+
+    @Operation(
+            summary = "Get Timeentry Balances by Employee ID",
+            description = "Returns target, actual and balance time per month within the inclusive date range. " +
+                    "Target time counts weekdays without holidays of the company subdivision, half day holidays count half."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(
+                            schema = @Schema(
+                                    implementation = TimeEntryBalanceDTO.class
+                            )
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Found",
+            responseCode = "404",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/balance",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
+    public ResponseEntity<List<TimeEntryBalanceDTO>> getTimeEntryBalances(
+            @RequestParam String employeeId,
+            @RequestParam String from,
+            @RequestParam String to
+    ) {
+        return ResponseEntity.ok( timeEntryBalanceService.getMonthlyBalances( employeeId, from, to ) );
+    }
+
+    @Operation(
+            summary = "Get All Timeentries by Project ID",
+            description = "Pass view=compact to receive TimeEntryCompactDTO items without audit data and employee or project details."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(
+                            schema = @Schema(
+                                    oneOf = { TimeEntryDTO.class, TimeEntryCompactDTO.class }
+                            )
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "/project/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<TimeEntryDTO>> getAllTimeEntriesByProjectId(
-            @PathVariable String id
+    public ResponseEntity<List<?>> getAllTimeEntriesByProjectId(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request
     ) {
+        boolean compact = TimeEntryView.fromValue( view ) == TimeEntryView.COMPACT;
+
+        if ( request.checkNotModified( timeEntryService.getTimeEntriesByProjectIdTag( id ) ) ) return null;
+        if ( compact )
+            return ResponseEntity.ok( timeEntryService.getCompactTimeEntriesByProjectId( id ) );
         return ResponseEntity.ok( timeEntryService.getTimeEntriesByProjectId( id ) );
     }
 
     @Operation(
-            summary = "Get All Timeentries by Employee ID"
+            summary = "Get All Timeentries by Employee ID",
+            description = "Pass view=compact to receive TimeEntryCompactDTO items without audit data and employee or project details."
     )
     @ApiResponse(
             description = "OK",
@@ -100,23 +346,45 @@ public class TimeEntryRestController {
                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                     array = @ArraySchema(
                             schema = @Schema(
-                                    implementation = TimeEntryDTO.class
+                                    oneOf = { TimeEntryDTO.class, TimeEntryCompactDTO.class }
                             )
                     )
             )
     )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "/employee/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<TimeEntryDTO>> getAllTimeEntriesByEmployeeId(
-            @PathVariable String id
+    public ResponseEntity<List<?>> getAllTimeEntriesByEmployeeId(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "full") String view,
+            WebRequest request
     ) {
+        boolean compact = TimeEntryView.fromValue( view ) == TimeEntryView.COMPACT;
+
+        if ( request.checkNotModified( timeEntryService.getTimeEntriesByEmployeeIdTag( id ) ) ) return null;
+        if ( compact )
+            return ResponseEntity.ok( timeEntryService.getCompactTimeEntriesByEmployeeId( id ) );
         return ResponseEntity.ok( timeEntryService.getTimeEntriesByEmployeeId( id ) );
     }
 
     @Operation(
-            summary = "Get Own Timeentries"
+            summary = "Get Own Timeentries",
+            description = "Pass view=compact to receive TimeEntryCompactDTO items without audit data and employee or project details."
     )
     @ApiResponse(
             description = "OK",
@@ -125,7 +393,7 @@ public class TimeEntryRestController {
                     mediaType = MediaType.APPLICATION_JSON_VALUE,
                     array = @ArraySchema(
                             schema = @Schema(
-                                    implementation = TimeEntryDTO.class
+                                    oneOf = { TimeEntryDTO.class, TimeEntryCompactDTO.class }
                             )
                     )
             )
@@ -154,18 +422,110 @@ public class TimeEntryRestController {
             path = "/me",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<List<TimeEntryDTO>> getOwnTimeEntries(
+    public ResponseEntity<List<?>> getOwnTimeEntries(
             @AuthenticationPrincipal SecurityUser user,
             @RequestParam(required = false) String aroundDate,
-            @RequestParam(required = false) String exactDate
+            @RequestParam(required = false) String exactDate,
+            @RequestParam(defaultValue = "full") String view
     ) {
-        if ( aroundDate != null ) return ResponseEntity
-                .ok( timeEntryService.getOwnTimeEntries( user, aroundDate ) );
-        else if ( exactDate != null ) return ResponseEntity
-                .ok( timeEntryService.getOwnTimeEntriesByDate( user, exactDate ) );
+        boolean compact = TimeEntryView.fromValue( view ) == TimeEntryView.COMPACT;
+
+        if ( aroundDate != null ) return ResponseEntity.ok( compact
+                ? timeEntryService.getOwnCompactTimeEntries( user, aroundDate )
+                : timeEntryService.getOwnTimeEntries( user, aroundDate ) );
+        else if ( exactDate != null ) return ResponseEntity.ok( compact
+                ? timeEntryService.getOwnCompactTimeEntriesByDate( user, exactDate )
+                : timeEntryService.getOwnTimeEntriesByDate( user, exactDate ) );
         else return ResponseEntity.ok( List.of() );
     }
 
+    @Operation(
+            summary = "Sync Own Timeentries",
+            description = "Returns own time entries created, modified or deleted after the since watermark. " +
+                    "Omit since or react to reset=true by reloading the time entries, then sync from the returned watermark. " +
+                    "Entries may be returned again on the next sync, apply them by id."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntrySyncDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/me/sync",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<TimeEntrySyncDTO> syncOwnTimeEntries(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "full") String view
+    ) {
+        return ResponseEntity.ok( timeEntrySyncService.getOwnChanges( user, since, TimeEntryView.fromValue( view ) ) );
+    }
+
+    @Operation(
+            summary = "Get Own Timeentry Balances",
+            description = "Returns target, actual and balance time per month within the inclusive date range. " +
+                    "Target time counts weekdays without holidays of the company subdivision, half day holidays count half."
+    )
+    @ApiResponse(
+            description = "OK",
+            responseCode = "200",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(
+                            schema = @Schema(
+                                    implementation = TimeEntryBalanceDTO.class
+                            )
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Found",
+            responseCode = "404",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @GetMapping(
+            path = "/me/balance",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<List<TimeEntryBalanceDTO>> getOwnTimeEntryBalances(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam String from,
+            @RequestParam String to
+    ) {
+        return ResponseEntity.ok( timeEntryBalanceService.getOwnMonthlyBalances( user, from, to ) );
+    }
+
     @Operation(
             summary = "Get Timeentry by ID"
     )
@@ -189,11 +549,16 @@ public class TimeEntryRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public ResponseEntity<TimeEntryDTO> getTimeEntryById( @PathVariable String id ) {
+    public ResponseEntity<TimeEntryDTO> getTimeEntryById( @PathVariable String id, WebRequest request ) {
+        if ( request.checkNotModified( timeEntryService.getTimeEntryTag( id ) ) ) return null;
         return ResponseEntity.ok( timeEntryService.getTimeEntryById( id ) );
     }
 
@@ -230,14 +595,20 @@ public class TimeEntryRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Not Modified",
+            responseCode = "304"
+    )
     @GetMapping(
             path = "/me/{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
     public ResponseEntity<TimeEntryDTO> getOwnTimeEntryById(
             @AuthenticationPrincipal SecurityUser user,
-            @PathVariable String id
+            @PathVariable String id,
+            WebRequest request
     ) {
+        if ( request.checkNotModified( timeEntryService.getOwnTimeEntryTag( id, user ) ) ) return null;
         return ResponseEntity.ok( timeEntryService.getOwnTimeEntryById( id, user ) );
     }
 
@@ -343,6 +714,115 @@ public class TimeEntryRestController {
                 .body( timeEntryService.createTimeEntry( timeEntryCreateDTO ) );
     }
 
+    @Operation(
+            summary = "Create own timeentries in bulk",
+            description = "Creates up to " + TimeEntryBulkCreateDTO.MAX_ENTRIES + " timeentries and reports the result per entry."
+    )
+    @ApiResponse(
+            description = "Created",
+            responseCode = "201",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Some entries failed",
+            responseCode = "207",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Not Found",
+            responseCode = "404",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = ErrorResponse.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @PostMapping(
+            path = "/me/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<TimeEntryBulkResultDTO> createOwnTimeEntries(
+            @AuthenticationPrincipal SecurityUser user,
+            @Valid @RequestBody TimeEntryBulkCreateDTO bulkCreateDTO
+    ) {
+        TimeEntryBulkResultDTO result = timeEntryService.createOwnTimeEntries( bulkCreateDTO, user );
+        return ResponseEntity.status( bulkStatus( result ) ).body( result );
+    }
+
+    @Operation(
+            summary = "Create timeentries in bulk",
+            description = "Creates up to " + TimeEntryBulkCreateDTO.MAX_ENTRIES + " timeentries and reports the result per entry."
+    )
+    @ApiResponse(
+            description = "Created",
+            responseCode = "201",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Some entries failed",
+            responseCode = "207",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @ApiResponse(
+            description = "Bad Request",
+            responseCode = "400",
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(
+                            implementation = TimeEntryBulkResultDTO.class
+                    )
+            )
+    )
+    @PostMapping(
+            path = "/bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
+    public ResponseEntity<TimeEntryBulkResultDTO> createTimeEntries(
+            @Valid @RequestBody TimeEntryBulkCreateDTO bulkCreateDTO
+    ) {
+        TimeEntryBulkResultDTO result = timeEntryService.createTimeEntries( bulkCreateDTO );
+        return ResponseEntity.status( bulkStatus( result ) ).body( result );
+    }
+
+    private HttpStatus bulkStatus( TimeEntryBulkResultDTO result ) {
+        if ( result.getFailed() == 0 ) return HttpStatus.CREATED;
+        return result.getCreated() > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.BAD_REQUEST;
+    }
+
     @Operation(
             summary = "Update own timeentry"
     )
@@ -386,6 +866,10 @@ public class TimeEntryRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Precondition Failed",
+            responseCode = "412"
+    )
     @PatchMapping(
             path = "/me/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -394,9 +878,18 @@ public class TimeEntryRestController {
     public ResponseEntity<TimeEntryDTO> updateOwnTimeEntry(
             @AuthenticationPrincipal SecurityUser user,
             @PathVariable String id,
-            @Valid @RequestBody TimeEntryUpdateDTO timeEntryUpdateDTO
+            @Valid @RequestBody TimeEntryUpdateDTO timeEntryUpdateDTO,
+            WebRequest request
     ) {
-        return ResponseEntity.ok( timeEntryService.updateOwnTimeEntry( id, timeEntryUpdateDTO, user ) );
+        TaggedDTO<TimeEntryDTO> timeEntryDTO = timeEntryService.updateOwnTimeEntry(
+                id,
+                timeEntryUpdateDTO,
+                user,
+                request.getHeader( HttpHeaders.IF_MATCH )
+        );
+        return ResponseEntity.ok()
+                .eTag( timeEntryDTO.entityTag() )
+                .body( timeEntryDTO.body() );
     }
 
     @Operation(
@@ -432,6 +925,10 @@ public class TimeEntryRestController {
                     )
             )
     )
+    @ApiResponse(
+            description = "Precondition Failed",
+            responseCode = "412"
+    )
     @PatchMapping(
             path = "/{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -440,9 +937,18 @@ public class TimeEntryRestController {
     @PreAuthorize("hasRole('ROLE_ADMIN')||hasRole('ROLE_MANAGER')||hasRole('ROLE_SUPERUSER')")
     public ResponseEntity<TimeEntryDTO> updateTimeEntry(
             @PathVariable String id,
-            @Valid @RequestBody TimeEntryUpdateDTO timeEntryUpdateDTO
+            @Valid @RequestBody TimeEntryUpdateDTO timeEntryUpdateDTO,
+            WebRequest request
     ) {
-        return ResponseEntity.ok( timeEntryService.updateTimeEntry( id, timeEntryUpdateDTO ) );
+        // A stale If-Match tag is answered with 412 by the update transaction, before anything is changed
+        TaggedDTO<TimeEntryDTO> timeEntryDTO = timeEntryService.updateTimeEntry(
+                id,
+                timeEntryUpdateDTO,
+                request.getHeader( HttpHeaders.IF_MATCH )
+        );
+        return ResponseEntity.ok()
+                .eTag( timeEntryDTO.entityTag() )
+                .body( timeEntryDTO.body() );
     }
 
     @Operation(
@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * LoginAttemptsExceededException.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.exceptions.auth;
+
+public class LoginAttemptsExceededException extends RuntimeException {
+    public LoginAttemptsExceededException( String message ) {
+        super( message );
+    }
+}
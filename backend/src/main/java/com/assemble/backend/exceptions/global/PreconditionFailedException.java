@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * PreconditionFailedException.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.exceptions.global;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException( String message ) {
+        super( message );
+    }
+}
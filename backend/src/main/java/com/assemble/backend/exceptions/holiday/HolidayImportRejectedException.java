@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * HolidayImportRejectedException.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.exceptions.holiday;
+
+public class HolidayImportRejectedException extends RuntimeException {
+    public HolidayImportRejectedException( String message ) {
+        super( message );
+    }
+}
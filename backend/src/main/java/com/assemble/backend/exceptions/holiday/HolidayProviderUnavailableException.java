@@ -0,0 +1,21 @@
+/*
+ * assemble
+ * HolidayProviderUnavailableException.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.exceptions.holiday;
+
+public class HolidayProviderUnavailableException extends RuntimeException {
+    public HolidayProviderUnavailableException( String message ) {
+        super( message );
+    }
+
+    public HolidayProviderUnavailableException( String message, Throwable cause ) {
+        super( message, cause );
+    }
+}
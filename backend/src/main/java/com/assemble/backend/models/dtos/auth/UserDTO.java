@@ -19,7 +19,7 @@ import lombok.NonNull;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Schema(name = "User", description = "Contains information about a user")
 public class UserDTO {
 
@@ -0,0 +1,15 @@
+/*
+ * assemble
+ * TaggedDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.global;
+
+// A DTO together with the entity tag of the state it was mapped from
+public record TaggedDTO<T>(T body, String entityTag) {
+}
@@ -10,6 +10,7 @@
 
 package com.assemble.backend.models.dtos.holiday;
 
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.TemporalScope;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -40,6 +41,13 @@ public class HolidayDTO {
     @NonNull
     private String name;
 
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private HolidayCountry country;
+
     private LocalDate startDate;
 
     @Schema(
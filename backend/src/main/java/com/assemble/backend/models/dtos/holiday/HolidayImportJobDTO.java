@@ -0,0 +1,84 @@
+/*
+ * assemble
+ * HolidayImportJobDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.holiday;
+
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+@Data
+@Builder
+@Schema
+public class HolidayImportJobDTO {
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            format = "uuid"
+    )
+    @NonNull
+    private String id;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private HolidayImportJobStatus status;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private Set<HolidayCountry> countries;
+
+    private int fromYear;
+
+    private int toYear;
+
+    // Number of country and year pairs, completed counts the imported ones
+    private int total;
+
+    private int completed;
+
+    private int inserted;
+
+    private int updated;
+
+    private int skipped;
+
+    private String error;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private Instant createdDate;
+
+    private Instant startedDate;
+
+    private Instant finishedDate;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private List<HolidayImportResultDTO> results;
+}
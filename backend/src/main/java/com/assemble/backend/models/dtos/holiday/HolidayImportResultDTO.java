@@ -0,0 +1,22 @@
+/*
+ * assemble
+ * HolidayImportResultDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.holiday;
+
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+
+public record HolidayImportResultDTO(
+        HolidayCountry country,
+        int year,
+        int inserted,
+        int updated,
+        int skipped
+) {
+}
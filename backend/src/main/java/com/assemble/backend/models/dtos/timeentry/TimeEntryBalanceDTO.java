@@ -0,0 +1,94 @@
+/*
+ * assemble
+ * TimeEntryBalanceDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import com.assemble.backend.models.entities.holiday.SubdivisionCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema
+public class TimeEntryBalanceDTO {
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            format = "uuid"
+    )
+    private UUID employeeId;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "First day of the month within the requested range",
+            example = "2026-01-01"
+    )
+    private LocalDate from;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Last day of the month within the requested range",
+            example = "2026-01-31"
+    )
+    private LocalDate to;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            description = "Company subdivision whose holidays were taken into account"
+    )
+    private SubdivisionCode subdivisionCode;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "False if the holidays of the year were never imported, holidays then count as working days"
+    )
+    private boolean holidaysImported;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Weekdays without holidays, half day holidays count as half a day",
+            example = "20.5"
+    )
+    private double workingDays;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Duration targetTime;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Recorded time without pauses"
+    )
+    private Duration actualTime;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Actual minus target time, negative when hours are missing"
+    )
+    private Duration balance;
+}
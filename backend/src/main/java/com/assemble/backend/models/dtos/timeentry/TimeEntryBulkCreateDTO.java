@@ -0,0 +1,47 @@
+/*
+ * assemble
+ * TimeEntryBulkCreateDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema
+public class TimeEntryBulkCreateDTO {
+
+    public static final int MAX_ENTRIES = 500;
+
+    @Schema(
+            accessMode = Schema.AccessMode.WRITE_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Entries are validated one by one, invalid entries are reported in the result"
+    )
+    @NotEmpty
+    @Size(max = MAX_ENTRIES)
+    private List<TimeEntryCreateDTO> entries;
+
+    @Schema(
+            accessMode = Schema.AccessMode.WRITE_ONLY,
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            description = "When true no entry is created if any entry fails"
+    )
+    private boolean allOrNothing;
+}
@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * TimeEntryBulkItemStatus.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+public enum TimeEntryBulkItemStatus {
+    CREATED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,37 @@
+/*
+ * assemble
+ * TimeEntryExportFormat.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import lombok.Getter;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+
+@Getter
+public enum TimeEntryExportFormat {
+    CSV( "text/csv", "csv" ),
+    NDJSON( "application/x-ndjson", "ndjson" );
+
+    private final String mediaType;
+    private final String extension;
+
+    TimeEntryExportFormat( String mediaType, String extension ) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static TimeEntryExportFormat fromValue( String value ) {
+        return Arrays.stream( values() )
+                .filter( format -> format.name().equalsIgnoreCase( value ) )
+                .findFirst()
+                .orElseThrow( () -> new InvalidParameterException( "Unsupported export format: " + value ) );
+    }
+}
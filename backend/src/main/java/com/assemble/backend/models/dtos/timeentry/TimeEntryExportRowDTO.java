@@ -0,0 +1,37 @@
+/*
+ * assemble
+ * TimeEntryExportRowDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Builder
+public record TimeEntryExportRowDTO(
+        String no,
+        LocalDate date,
+        String employeeNo,
+        String employeeName,
+        String projectNo,
+        String projectName,
+        String description,
+        Instant startTime,
+        Instant endTime,
+        Duration pauseTime,
+        Duration totalTime,
+        BigDecimal rate,
+        BigDecimal total,
+        BigDecimal totalInternal
+) {
+}
@@ -0,0 +1,46 @@
+/*
+ * assemble
+ * TimeEntryPageDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema
+public class TimeEntryPageDTO {
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NonNull
+    private List<TimeEntryDTO> content;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            description = "Opaque cursor to pass as cursor parameter to fetch the next page"
+    )
+    @Nullable
+    private String nextCursor;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private boolean hasNext;
+}
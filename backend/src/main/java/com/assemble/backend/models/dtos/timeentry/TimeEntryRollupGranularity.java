@@ -0,0 +1,37 @@
+/*
+ * assemble
+ * TimeEntryRollupGranularity.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import lombok.Getter;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+
+@Getter
+public enum TimeEntryRollupGranularity {
+    DAY( "time_entry_daily_rollups", "day" ),
+    MONTH( "time_entry_monthly_rollups", "month" );
+
+    private final String tableName;
+    private final String periodColumn;
+
+    TimeEntryRollupGranularity( String tableName, String periodColumn ) {
+        this.tableName = tableName;
+        this.periodColumn = periodColumn;
+    }
+
+    public static TimeEntryRollupGranularity fromValue( String value ) {
+        return Arrays.stream( values() )
+                .filter( granularity -> granularity.name().equalsIgnoreCase( value ) )
+                .findFirst()
+                .orElseThrow( () -> new InvalidParameterException( "Unsupported rollup granularity: " + value ) );
+    }
+}
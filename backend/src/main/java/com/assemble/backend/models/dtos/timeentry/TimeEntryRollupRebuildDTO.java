@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * TimeEntryRollupRebuildDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+public record TimeEntryRollupRebuildDTO(
+        int dailyRollups,
+        int monthlyRollups
+) {
+}
@@ -0,0 +1,61 @@
+/*
+ * assemble
+ * TimeEntrySyncDTO.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema
+public class TimeEntrySyncDTO {
+
+    @ArraySchema(
+            schema = @Schema(
+                    oneOf = { TimeEntryDTO.class, TimeEntryCompactDTO.class }
+            ),
+            arraySchema = @Schema(
+                    accessMode = Schema.AccessMode.READ_ONLY,
+                    requiredMode = Schema.RequiredMode.REQUIRED,
+                    description = "Time entries created or modified since the passed watermark"
+            )
+    )
+    @NonNull
+    private List<?> changed;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Time entries deleted or moved to another employee since the passed watermark"
+    )
+    @NonNull
+    private List<TimeEntryTombstoneDTO> deleted;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "Opaque watermark to pass as since parameter on the next sync"
+    )
+    @NonNull
+    private String watermark;
+
+    @Schema(
+            accessMode = Schema.AccessMode.READ_ONLY,
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            description = "True if the client has to reload its time entries before syncing from the returned watermark"
+    )
+    private boolean reset;
+}
@@ -0,0 +1,26 @@
+/*
+ * assemble
+ * TimeEntryView.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.dtos.timeentry;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+
+public enum TimeEntryView {
+    FULL,
+    COMPACT;
+
+    public static TimeEntryView fromValue( String value ) {
+        return Arrays.stream( values() )
+                .filter( view -> view.name().equalsIgnoreCase( value ) )
+                .findFirst()
+                .orElseThrow( () -> new InvalidParameterException( "Unsupported view: " + value ) );
+    }
+}
@@ -10,25 +10,59 @@
 
 package com.assemble.backend.models.entities.auth;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.With;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.Serial;
 import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
-@RequiredArgsConstructor
+/*
+ * Principal stored in the session, it only keeps what authorization, auditing and the self-service endpoints need.
+ * The employee id is resolved once at login and updated in the sessions when the employee is relinked.
+ * The password is only set while authenticating and erased afterwards.
+ */
+@AllArgsConstructor
 @Getter
-public class SecurityUser implements UserDetails {
+public class SecurityUser implements UserDetails, CredentialsContainer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+
+    @With
+    private final UUID employeeId;
 
     @NonNull
-    private User user;
+    private final String username;
 
-    @Override
-    public String getUsername() {
-        return this.user.getUsername();
+    private transient String password;
+
+    @NonNull
+    private final List<UserRole> roles;
+
+    private final boolean enabled;
+
+    private final boolean locked;
+
+    public SecurityUser( @NonNull User user ) {
+        this(
+                user.getId(),
+                user.getEmployee() != null ? user.getEmployee().getId() : null,
+                user.getUsername(),
+                user.getPassword(),
+                List.copyOf( user.getRoles() ),
+                user.isEnabled(),
+                user.isLocked()
+        );
     }
 
     @Override
@@ -38,29 +72,23 @@ public class SecurityUser implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return !this.user.isLocked();
+        return !this.locked;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().
-                stream()
+        return roles.stream()
                 .map( role -> new SimpleGrantedAuthority( "ROLE_" + role.name() ) )
                 .toList();
     }
 
-    @Override
-    public String getPassword() {
-        return this.user.getPassword();
-    }
-
     @Override
     public boolean isCredentialsNonExpired() {
         return UserDetails.super.isCredentialsNonExpired();
     }
 
     @Override
-    public boolean isEnabled() {
-        return this.user.isEnabled();
+    public void eraseCredentials() {
+        this.password = null;
     }
 }
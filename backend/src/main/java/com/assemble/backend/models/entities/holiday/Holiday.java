@@ -29,8 +29,17 @@ public class Holiday extends BaseJPAEntity {
     @Column(nullable = false, name = "NAME")
     private String name;
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "SUBDIVISIONS", joinColumns = @JoinColumn(name = "HOLIDAY_ID"))
+    @Column(nullable = false, name = "COUNTRY", length = 2)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private HolidayCountry country = HolidayCountry.DE;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(
+            name = "HOLIDAY_SUBDIVISIONS",
+            joinColumns = @JoinColumn(name = "HOLIDAY_ID"),
+            inverseJoinColumns = @JoinColumn(name = "SUBDIVISION_CODE")
+    )
     private List<Subdivision> subdivisions;
 
     @Column(nullable = false, name = "START_DATE")
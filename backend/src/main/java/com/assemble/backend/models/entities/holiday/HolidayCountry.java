@@ -0,0 +1,27 @@
+/*
+ * assemble
+ * HolidayCountry.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.models.entities.holiday;
+
+import lombok.Getter;
+
+// Countries holidays can be imported for, the name is the ISO 3166-1 alpha-2 code
+@Getter
+public enum HolidayCountry {
+    DE( "Deutschland" ),
+    AT( "Österreich" ),
+    CH( "Schweiz" );
+
+    private final String label;
+
+    HolidayCountry( String label ) {
+        this.label = label;
+    }
+}
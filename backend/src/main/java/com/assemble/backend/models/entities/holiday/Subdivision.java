@@ -1,27 +1,33 @@
 package com.assemble.backend.models.entities.holiday;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
+import jakarta.persistence.*;
 import lombok.*;
 
-@Embeddable
+// Reference data of the holiday provider, shared by all holidays of the subdivision
+@Entity
 @Getter
 @Setter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "subdivisions")
 public class Subdivision {
 
-    @Column(nullable = false, name = "HOLIDAY_CODE")
+    @Id
+    @Column(nullable = false, name = "CODE")
     private String code;
 
-    @Column(nullable = false, name = "HOLIDAY_ISO_CODE")
+    @Column(nullable = false, name = "COUNTRY", length = 2)
+    @Enumerated(EnumType.STRING)
+    private HolidayCountry country;
+
+    @Column(nullable = false, name = "ISO_CODE")
     private String isoCode;
 
-    @Column(nullable = false, name = "HOLIDAY_SHORT_NAME")
+    @Column(nullable = false, name = "SHORT_NAME")
     private String shortName;
 
-    @Column(nullable = false, name = "HOLIDAY_NAME")
+    @Column(nullable = false, name = "NAME")
     private String name;
 
 }
@@ -36,4 +36,9 @@ public enum SubdivisionCode {
     SubdivisionCode( String label ) {
         this.label = label;
     }
+
+    // Holiday subdivisions use ISO 3166-2 codes like DE-BE
+    public String getIsoCode() {
+        return HolidayCountry.DE.name() + "-" + name();
+    }
 }
@@ -30,9 +30,30 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(TimeEntryEntityListener.class)
 @Entity
-@Table(name = "time_entries")
+@Table(
+        name = "time_entries",
+        indexes = {
+                @Index(name = "idx_time_entries_date_id", columnList = "date, id"),
+                @Index(name = "idx_time_entries_employee_date_id", columnList = "employee_id, date, id"),
+                @Index(name = "idx_time_entries_project_date_id", columnList = "project_id, date, id")
+        }
+)
+@NamedEntityGraph(
+        name = TimeEntry.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "employee", subgraph = "employee"),
+                @NamedAttributeNode("project")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("roles"))
+        }
+)
 public class TimeEntry extends BaseJPAEntity {
 
+    // Everything TimeEntryMapper.toTimeEntryDTO walks, loaded in a single select
+    public static final String DETAILS_GRAPH = "TimeEntry.details";
+
     @Column(name = "NO", unique = true)
     private String no;
 
@@ -74,4 +95,8 @@ public class TimeEntry extends BaseJPAEntity {
 
     @Column(name = "TOTAL_INTERNAL", nullable = false)
     private BigDecimal totalInternal;
+
+    // Id of the last transaction writing the row, set by a trigger and read by the delta sync
+    @Column(name = "CHANGE_XID", nullable = false, insertable = false, updatable = false)
+    private Long changeXid;
 }
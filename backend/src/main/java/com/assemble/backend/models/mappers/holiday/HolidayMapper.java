@@ -12,6 +12,7 @@ package com.assemble.backend.models.mappers.holiday;
 
 import com.assemble.backend.models.dtos.holiday.HolidayDTO;
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
 import org.mapstruct.*;
@@ -31,7 +32,8 @@ public interface HolidayMapper {
     @Mapping(target = "nationWide", source = "holidayResponse.nationwide")
     @Mapping(target = "temporalScope", source = "holidayResponse.temporalScope")
     @Mapping(target = "subdivisions", source = "subdivisionList")
-    Holiday toHoliday( HolidayResponse holidayResponse, List<Subdivision> subdivisionList );
+    @Mapping(target = "country", source = "country")
+    Holiday toHoliday( HolidayResponse holidayResponse, List<Subdivision> subdivisionList, HolidayCountry country );
 
     HolidayDTO toHolidayDTO( Holiday holiday );
 }
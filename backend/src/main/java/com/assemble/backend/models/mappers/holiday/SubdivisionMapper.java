@@ -10,6 +10,7 @@
 
 package com.assemble.backend.models.mappers.holiday;
 
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
 import org.mapstruct.*;
@@ -24,5 +25,6 @@ public interface SubdivisionMapper {
     @Mapping(target = "isoCode", source = "subdivisionResponse.isoCode")
     @Mapping(target = "shortName", source = "subdivisionResponse.shortName")
     @Mapping(target = "name", expression = "java(subdivisionResponse.name().getFirst().text())")
-    Subdivision toSubdivision( SubdivisionResponse subdivisionResponse );
+    @Mapping(target = "country", source = "country")
+    Subdivision toSubdivision( SubdivisionResponse subdivisionResponse, HolidayCountry country );
 }
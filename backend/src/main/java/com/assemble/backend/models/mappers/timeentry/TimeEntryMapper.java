@@ -10,6 +10,7 @@
 
 package com.assemble.backend.models.mappers.timeentry;
 
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
@@ -19,6 +20,7 @@ import com.assemble.backend.models.entities.timeentry.TimeEntry;
 import com.assemble.backend.models.mappers.core.BaseEntity;
 import com.assemble.backend.models.mappers.employee.EmployeeMapper;
 import com.assemble.backend.models.mappers.project.ProjectMapper;
+import com.assemble.backend.repositories.timeentry.TimeEntryCompactProjection;
 import org.mapstruct.*;
 
 @Mapper(
@@ -31,6 +33,20 @@ public interface TimeEntryMapper {
     @BaseEntity
     TimeEntryDTO toTimeEntryDTO( TimeEntry timeEntry );
 
+    @Mapping(target = "employee.id", source = "employeeId")
+    @Mapping(target = "employee.no", source = "employeeNo")
+    @Mapping(target = "employee.fullname", source = "projection", qualifiedByName = "compactEmployeeFullname")
+    @Mapping(target = "project.id", source = "projectId")
+    @Mapping(target = "project.no", source = "projectNo")
+    @Mapping(target = "project.name", source = "projectName")
+    @Mapping(target = "project.color", source = "projectColor")
+    TimeEntryCompactDTO toTimeEntryCompactDTO( TimeEntryCompactProjection projection );
+
+    @Named("compactEmployeeFullname")
+    default String compactEmployeeFullname( TimeEntryCompactProjection projection ) {
+        return projection.employeeFirstname() + " " + projection.employeeLastname();
+    }
+
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "employee", source = "e")
     @Mapping(target = "project", source = "p")
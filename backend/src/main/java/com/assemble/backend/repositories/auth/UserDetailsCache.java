@@ -0,0 +1,187 @@
+/*
+ * assemble
+ * UserDetailsCache.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.auth;
+
+import com.assemble.backend.models.dtos.auth.UserDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.utils.InvalidationPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Bounded in process copy of the users looked up by username, least recently used users are dropped first.
+ * Serves the authentication and /me, changes to a user must be evicted through evict, which also tells the other nodes.
+ */
+public class UserDetailsCache {
+
+    private final UserRepository userRepository;
+
+    private final UserMapper userMapper;
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    private final Map<String, CachedUser> users;
+
+    // Bumped by every eviction, a lookup that raced with one does not cache what it loaded
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    public UserDetailsCache(
+            UserRepository userRepository,
+            UserMapper userMapper,
+            MeterRegistry meterRegistry,
+            InvalidationPublisher invalidationPublisher,
+            int maximumSize,
+            Duration timeToLive,
+            Clock clock
+    ) {
+        if ( maximumSize < 1 ) throw new IllegalArgumentException( "Maximum size must be positive" );
+
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.invalidationPublisher = invalidationPublisher;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.users = Collections.synchronizedMap( new LinkedHashMap<>( 16, 0.75f, true ) {
+            @Override
+            protected boolean removeEldestEntry( Map.Entry<String, CachedUser> eldest ) {
+                return size() > maximumSize;
+            }
+        } );
+
+        this.hits = Counter.builder( "assemble.users.cache.lookups" )
+                .description( "Number of user lookups by username" )
+                .tag( "result", "hit" )
+                .register( meterRegistry );
+        this.misses = Counter.builder( "assemble.users.cache.lookups" )
+                .description( "Number of user lookups by username" )
+                .tag( "result", "miss" )
+                .register( meterRegistry );
+        Gauge.builder( "assemble.users.cache.size", users, Map::size )
+                .description( "Number of cached users" )
+                .register( meterRegistry );
+    }
+
+    // Unknown usernames are not cached, a user created later would otherwise need an eviction too
+    public Optional<CachedUser> get( String username ) {
+        CachedUser cached = users.get( username );
+        if ( cached != null && !cached.loadedDate().plus( timeToLive ).isBefore( clock.instant() ) ) {
+            hits.increment();
+            return Optional.of( cached );
+        }
+
+        misses.increment();
+        long loadedGeneration = generation.get();
+        Optional<CachedUser> loaded = userRepository.findByUsername( username ).map( this::toCachedUser );
+        if ( loaded.isEmpty() ) {
+            users.remove( username );
+            return loaded;
+        }
+
+        synchronized ( users ) {
+            if ( generation.get() == loadedGeneration ) users.put( username, loaded.get() );
+        }
+        return loaded;
+    }
+
+    // Evicted right away and once more after commit, so a lookup during the transaction cannot cache the old state
+    public void evict( String username ) {
+        evictLocally( username );
+        invalidationPublisher.publish( username );
+
+        if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+            TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally( username );
+                }
+            } );
+        }
+    }
+
+    public void evictLocally( String username ) {
+        synchronized ( users ) {
+            generation.incrementAndGet();
+            users.remove( username );
+        }
+    }
+
+    public void clear() {
+        synchronized ( users ) {
+            generation.incrementAndGet();
+            users.clear();
+        }
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    private CachedUser toCachedUser( User user ) {
+        return new CachedUser(
+                user.getId(),
+                user.getEmployee() != null ? user.getEmployee().getId() : null,
+                user.getUsername(),
+                user.getPassword(),
+                List.copyOf( user.getRoles() ),
+                user.isEnabled(),
+                user.isLocked(),
+                userMapper.toUserDTO( user ),
+                clock.instant()
+        );
+    }
+
+    public record CachedUser(
+            UUID id,
+            UUID employeeId,
+            String username,
+            String password,
+            List<UserRole> roles,
+            boolean enabled,
+            boolean locked,
+            UserDTO user,
+            Instant loadedDate
+    ) {
+
+        // A new instance every time, authentication erases the password of the principal it returns
+        public SecurityUser toSecurityUser() {
+            return new SecurityUser( id, employeeId, username, password, roles, enabled, locked );
+        }
+
+        public UserDTO toUserDTO() {
+            return user.toBuilder().roles( List.copyOf( roles ) ).build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * assemble
+ * EntityVersionProjection.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.core;
+
+import com.assemble.backend.exceptions.global.PreconditionFailedException;
+
+import java.time.Instant;
+
+/*
+ * Versions only increase, so an update of the entity or a nested entity raises the sum.
+ * Inserts and deletes change the count, an insert replacing a deleted row moves the
+ * last modified date.
+ */
+public record EntityVersionProjection(Long count, Long versionSum, Instant lastModifiedDate) {
+
+    // The tag of one loaded entity, it has to be flushed so versions and last modified date match the row
+    public static EntityVersionProjection of( Instant lastModifiedDate, Long... versions ) {
+        long versionSum = 0L;
+        for ( Long version : versions ) {
+            versionSum += version != null ? version : 0L;
+        }
+        return new EntityVersionProjection( 1L, versionSum, lastModifiedDate );
+    }
+
+    public String toEntityTag() {
+        return "\"%x-%x-%x\"".formatted(
+                count != null ? count : 0L,
+                versionSum != null ? versionSum : 0L,
+                lastModifiedDate != null ? toEpochMicros( lastModifiedDate ) : 0L
+        );
+    }
+
+    // Strong comparison as required for If-Match, weak tags never match
+    public boolean matches( String ifMatch ) {
+        String entityTag = toEntityTag();
+        for ( String candidate : ifMatch.split( "," ) ) {
+            String tag = candidate.trim();
+            if ( tag.equals( "*" ) || tag.equals( entityTag ) ) return true;
+        }
+        return false;
+    }
+
+    // Without an If-Match header every state is accepted
+    public void checkIfMatch( String ifMatch ) {
+        if ( ifMatch != null && !matches( ifMatch ) )
+            throw new PreconditionFailedException( "The entity was modified, reload it and try again" );
+    }
+
+    // Rounded like Postgres stores timestamps, a date set in memory then yields the tag of the stored row
+    private static long toEpochMicros( Instant instant ) {
+        return Math.floorDiv( instant.getEpochSecond() * 1_000_000_000L + instant.getNano() + 500L, 1_000L );
+    }
+}
@@ -12,6 +12,7 @@ package com.assemble.backend.repositories.employee;
 
 
 import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,6 +23,14 @@ import java.util.UUID;
 
 public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
+    String SELECT_VERSION = """
+            SELECT new com.assemble.backend.repositories.core.EntityVersionProjection(
+                count(e), sum(e.version + coalesce(u.version, 0)), max(e.lastModifiedDate)
+            )
+            FROM Employee e
+            LEFT JOIN e.user u
+            """;
+
     @Query("""
                 SELECT e
                 FROM Employee e
@@ -43,4 +52,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     Optional<Employee> findByUser_Id( UUID userId );
 
+    @Query(SELECT_VERSION)
+    EntityVersionProjection findVersion();
+
+    @Query(SELECT_VERSION + "WHERE e.id = :id")
+    EntityVersionProjection findVersionById( @Param("id") UUID id );
+
 }
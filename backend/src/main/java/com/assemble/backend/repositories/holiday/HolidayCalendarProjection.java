@@ -0,0 +1,25 @@
+/*
+ * assemble
+ * HolidayCalendarProjection.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.holiday;
+
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+
+import java.time.LocalDate;
+
+// One row per holiday and subdivision, subdivisionCode is null for nation wide holidays
+public record HolidayCalendarProjection(
+        LocalDate startDate,
+        LocalDate endDate,
+        TemporalScope temporalScope,
+        Boolean nationWide,
+        String subdivisionCode
+) {
+}
@@ -0,0 +1,257 @@
+/*
+ * assemble
+ * HolidayImportJobRepository.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.holiday;
+
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobDTO;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobStatus;
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/*
+ * State of the holiday import jobs, shared by all nodes. The node running a job writes its progress,
+ * any node answers the status requests and flags the job as cancelled, the running node checks that flag.
+ * Status changes are conditional updates, a finished job is never changed again.
+ */
+@Repository
+@AllArgsConstructor
+public class HolidayImportJobRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_JOB = """
+            INSERT INTO holiday_import_jobs
+                (id, status, countries, from_year, to_year, total, created_date, progress_date)
+            VALUES (?, 'QUEUED', ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String DELETE_JOB = """
+            DELETE FROM holiday_import_jobs WHERE id = ?
+            """;
+
+    private static final String SELECT_JOB = """
+            SELECT id, status, countries, from_year, to_year, total, error, created_date, started_date, finished_date
+            FROM holiday_import_jobs
+            WHERE id = ?
+            """;
+
+    private static final String SELECT_RESULTS = """
+            SELECT country, year, inserted, updated, skipped FROM holiday_import_job_results WHERE job_id = ?
+            """;
+
+    private static final String UPDATE_RUNNING = """
+            UPDATE holiday_import_jobs SET status = 'RUNNING', started_date = ?, progress_date = ?
+            WHERE id = ? AND status = 'QUEUED'
+            """;
+
+    private static final String UPDATE_TOTAL = """
+            UPDATE holiday_import_jobs SET total = ?, progress_date = ? WHERE id = ?
+            """;
+
+    private static final String INSERT_RESULT = """
+            INSERT INTO holiday_import_job_results (job_id, country, year, inserted, updated, skipped)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (job_id, country, year) DO UPDATE SET
+                inserted = EXCLUDED.inserted,
+                updated = EXCLUDED.updated,
+                skipped = EXCLUDED.skipped
+            """;
+
+    private static final String UPDATE_PROGRESS = """
+            UPDATE holiday_import_jobs SET progress_date = ? WHERE id = ?
+            """;
+
+    private static final String SELECT_CANCEL_REQUESTED = """
+            SELECT cancel_requested FROM holiday_import_jobs WHERE id = ?
+            """;
+
+    // A failure after the cancellation was requested is reported as cancelled
+    private static final String UPDATE_FINISHED = """
+            UPDATE holiday_import_jobs SET
+                status = CASE WHEN ? = 'FAILED' AND cancel_requested THEN 'CANCELLED' ELSE ? END,
+                error = ?,
+                finished_date = ?
+            WHERE id = ? AND status IN ('QUEUED', 'RUNNING')
+            """;
+
+    // A queued job is cancelled right away, it is skipped once its turn comes
+    private static final String UPDATE_CANCEL_REQUESTED = """
+            UPDATE holiday_import_jobs SET
+                cancel_requested = true,
+                status = CASE WHEN status = 'QUEUED' THEN 'CANCELLED' ELSE status END,
+                finished_date = CASE WHEN status = 'QUEUED' THEN ? ELSE finished_date END
+            WHERE id = ? AND status IN ('QUEUED', 'RUNNING')
+            """;
+
+    // Jobs whose node went down never finish on their own
+    private static final String UPDATE_ABANDONED = """
+            UPDATE holiday_import_jobs SET status = 'FAILED', error = ?, finished_date = ?
+            WHERE status IN ('QUEUED', 'RUNNING') AND progress_date < ?
+            """;
+
+    private static final String DELETE_FINISHED = """
+            DELETE FROM holiday_import_jobs WHERE finished_date < ?
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+
+    public void insert( HolidayImportJobDTO job ) {
+        jdbcTemplate.update(
+                INSERT_JOB,
+                UUID.fromString( job.getId() ),
+                job.getCountries().stream().map( HolidayCountry::name ).collect( Collectors.joining( "," ) ),
+                job.getFromYear(),
+                job.getToYear(),
+                job.getTotal(),
+                Timestamp.from( job.getCreatedDate() ),
+                Timestamp.from( job.getCreatedDate() )
+        );
+    }
+
+    public void delete( String jobId ) {
+        jdbcTemplate.update( DELETE_JOB, UUID.fromString( jobId ) );
+    }
+
+    public Optional<HolidayImportJobDTO> findById( String jobId ) {
+        Optional<UUID> id = parseId( jobId );
+        if ( id.isEmpty() ) return Optional.empty();
+
+        List<HolidayImportResultDTO> results = jdbcTemplate.query( SELECT_RESULTS, this::toResultDTO, id.get() )
+                .stream()
+                .sorted(
+                        Comparator.comparing( HolidayImportResultDTO::country )
+                                .thenComparingInt( HolidayImportResultDTO::year )
+                )
+                .toList();
+
+        return jdbcTemplate.query( SELECT_JOB, ( rs, rowNum ) -> toJobDTO( rs, results ), id.get() )
+                .stream()
+                .findFirst();
+    }
+
+    // False if the job was cancelled while it was queued
+    public boolean markRunning( String jobId, Instant now ) {
+        return jdbcTemplate.update( UPDATE_RUNNING, Timestamp.from( now ), Timestamp.from( now ), UUID.fromString( jobId ) ) > 0;
+    }
+
+    public void updateTotal( String jobId, int total, Instant now ) {
+        jdbcTemplate.update( UPDATE_TOTAL, total, Timestamp.from( now ), UUID.fromString( jobId ) );
+    }
+
+    public void insertResult( String jobId, HolidayImportResultDTO result, Instant now ) {
+        UUID id = UUID.fromString( jobId );
+        jdbcTemplate.update(
+                INSERT_RESULT,
+                id,
+                result.country().name(),
+                result.year(),
+                result.inserted(),
+                result.updated(),
+                result.skipped()
+        );
+        jdbcTemplate.update( UPDATE_PROGRESS, Timestamp.from( now ), id );
+    }
+
+    public boolean isCancelRequested( String jobId ) {
+        return jdbcTemplate.query( SELECT_CANCEL_REQUESTED, ( rs, rowNum ) -> rs.getBoolean( 1 ), UUID.fromString( jobId ) )
+                .stream()
+                .findFirst()
+                .orElse( true );
+    }
+
+    public void finish( String jobId, HolidayImportJobStatus status, String error, Instant now ) {
+        jdbcTemplate.update(
+                UPDATE_FINISHED,
+                status.name(),
+                status.name(),
+                error != null && error.length() > MAX_ERROR_LENGTH ? error.substring( 0, MAX_ERROR_LENGTH ) : error,
+                Timestamp.from( now ),
+                UUID.fromString( jobId )
+        );
+    }
+
+    public void requestCancel( String jobId, Instant now ) {
+        parseId( jobId ).ifPresent( id -> jdbcTemplate.update( UPDATE_CANCEL_REQUESTED, Timestamp.from( now ), id ) );
+    }
+
+    public int failAbandoned( Instant progressBefore, Instant now ) {
+        return jdbcTemplate.update(
+                UPDATE_ABANDONED,
+                "Holiday import was abandoned",
+                Timestamp.from( now ),
+                Timestamp.from( progressBefore )
+        );
+    }
+
+    public int deleteFinishedBefore( Instant instant ) {
+        return jdbcTemplate.update( DELETE_FINISHED, Timestamp.from( instant ) );
+    }
+
+    private static Optional<UUID> parseId( String jobId ) {
+        try {
+            return Optional.of( UUID.fromString( jobId ) );
+        } catch ( IllegalArgumentException e ) {
+            return Optional.empty();
+        }
+    }
+
+    private HolidayImportJobDTO toJobDTO( ResultSet rs, List<HolidayImportResultDTO> results ) throws SQLException {
+        Set<HolidayCountry> countries = EnumSet.noneOf( HolidayCountry.class );
+        Arrays.stream( rs.getString( "countries" ).split( "," ) ).map( HolidayCountry::valueOf ).forEach( countries::add );
+
+        return HolidayImportJobDTO.builder()
+                .id( rs.getObject( "id", UUID.class ).toString() )
+                .status( HolidayImportJobStatus.valueOf( rs.getString( "status" ) ) )
+                .countries( countries )
+                .fromYear( rs.getInt( "from_year" ) )
+                .toYear( rs.getInt( "to_year" ) )
+                .total( rs.getInt( "total" ) )
+                .completed( results.size() )
+                .inserted( results.stream().mapToInt( HolidayImportResultDTO::inserted ).sum() )
+                .updated( results.stream().mapToInt( HolidayImportResultDTO::updated ).sum() )
+                .skipped( results.stream().mapToInt( HolidayImportResultDTO::skipped ).sum() )
+                .error( rs.getString( "error" ) )
+                .createdDate( rs.getTimestamp( "created_date" ).toInstant() )
+                .startedDate( toInstant( rs.getTimestamp( "started_date" ) ) )
+                .finishedDate( toInstant( rs.getTimestamp( "finished_date" ) ) )
+                .results( results )
+                .build();
+    }
+
+    private HolidayImportResultDTO toResultDTO( ResultSet rs, int rowNum ) throws SQLException {
+        return new HolidayImportResultDTO(
+                HolidayCountry.valueOf( rs.getString( "country" ) ),
+                rs.getInt( "year" ),
+                rs.getInt( "inserted" ),
+                rs.getInt( "updated" ),
+                rs.getInt( "skipped" )
+        );
+    }
+
+    private static Instant toInstant( Timestamp timestamp ) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
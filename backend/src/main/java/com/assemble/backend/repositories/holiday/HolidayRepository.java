@@ -11,8 +11,11 @@
 package com.assemble.backend.repositories.holiday;
 
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,11 +24,46 @@ import java.util.UUID;
 
 public interface HolidayRepository extends JpaRepository<Holiday, UUID> {
 
+    @EntityGraph(attributePaths = "subdivisions")
     List<Holiday> searchHolidayByStartDateBetween( LocalDate startDateAfter, LocalDate startDateBefore );
 
+    // Nation wide holidays and the ones of the subdivision, resolved through the holiday_subdivisions index
+    @EntityGraph(attributePaths = "subdivisions")
+    @Query("""
+            SELECT h
+            FROM Holiday h
+            WHERE h.country = :country
+                AND h.startDate BETWEEN :startDate AND :endDate
+                AND (
+                    h.nationWide = true
+                    OR EXISTS (SELECT 1 FROM h.subdivisions s WHERE s.code = :subdivisionCode)
+                )
+            ORDER BY h.startDate
+            """)
+    List<Holiday> findAllByCountryAndSubdivisionBetween(
+            @Param("country") HolidayCountry country,
+            @Param("subdivisionCode") String subdivisionCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     Optional<Holiday> findByStartDate( LocalDate startDate );
 
     @Query("SELECT DISTINCT YEAR(h.startDate) FROM Holiday h ORDER BY YEAR(h.startDate)")
     List<Integer> findDistinctYears();
-    
+
+    @Query("""
+            SELECT new com.assemble.backend.repositories.holiday.HolidayCalendarProjection(
+                h.startDate, h.endDate, h.temporalScope, h.nationWide, s.code
+            )
+            FROM Holiday h
+            LEFT JOIN h.subdivisions s
+            WHERE h.country = :country AND h.startDate <= :endDate AND h.endDate >= :startDate
+            """)
+    List<HolidayCalendarProjection> findAllCalendarEntriesBetween(
+            @Param("country") HolidayCountry country,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
 }
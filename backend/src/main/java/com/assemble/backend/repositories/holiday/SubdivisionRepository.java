@@ -0,0 +1,17 @@
+/*
+ * assemble
+ * SubdivisionRepository.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.holiday;
+
+import com.assemble.backend.models.entities.holiday.Subdivision;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SubdivisionRepository extends JpaRepository<Subdivision, String> {
+}
@@ -12,7 +12,10 @@ package com.assemble.backend.repositories.project;
 
 import com.assemble.backend.models.entities.project.ProjectAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,4 +27,15 @@ public interface ProjectAssignmentRepository extends JpaRepository<ProjectAssign
     List<ProjectAssignment> findAllByEmployeeId( UUID employeeId );
 
     Optional<ProjectAssignment> findByProject_IdAndEmployee_Id( UUID projectId, UUID employeeId );
+
+    @Query("""
+            SELECT pa FROM ProjectAssignment pa
+            JOIN FETCH pa.employee
+            JOIN FETCH pa.project
+            WHERE pa.employee.id IN :employeeIds AND pa.project.id IN :projectIds
+            """)
+    List<ProjectAssignment> findAllByEmployeeIdsAndProjectIds(
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("projectIds") Collection<UUID> projectIds
+    );
 }
@@ -12,6 +12,7 @@ package com.assemble.backend.repositories.project;
 
 
 import com.assemble.backend.models.entities.project.Project;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,10 +21,24 @@ import java.util.List;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
+
+    String SELECT_VERSION = """
+            SELECT new com.assemble.backend.repositories.core.EntityVersionProjection(
+                count(p), sum(p.version), max(p.lastModifiedDate)
+            )
+            FROM Project p
+            """;
+
     @Query("""
                 SELECT p
                 FROM Project p
                 WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))
             """)
     List<Project> searchAll( @Param("searchTerm") String searchTerm );
+
+    @Query(SELECT_VERSION)
+    EntityVersionProjection findVersion();
+
+    @Query(SELECT_VERSION + "WHERE p.id = :id")
+    EntityVersionProjection findVersionById( @Param("id") UUID id );
 }
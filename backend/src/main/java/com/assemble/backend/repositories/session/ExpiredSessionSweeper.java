@@ -0,0 +1,160 @@
+/*
+ * assemble
+ * ExpiredSessionSweeper.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import com.assemble.backend.utils.SchedulerLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Deletes expired sessions in small batches instead of one statement over the whole table.
+ * Every batch is its own statement, so row locks are held briefly and requests touching other sessions never wait.
+ * Only the node holding the lease sweeps, the others skip their runs until the lease expires.
+ */
+@Slf4j
+public class ExpiredSessionSweeper {
+
+    static final String LEASE_NAME = "expired-session-sweeper";
+
+    // Walks the EXPIRY_TIME index, rows locked by a concurrent request are left for the next run
+    private static final String DELETE_BATCH_QUERY = """
+            DELETE FROM %TABLE_NAME%
+            WHERE PRIMARY_ID IN (
+                SELECT PRIMARY_ID FROM %TABLE_NAME%
+                WHERE EXPIRY_TIME < ?
+                ORDER BY EXPIRY_TIME
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            """;
+
+    private static final String COUNT_EXPIRED_QUERY = """
+            SELECT COUNT(*) FROM %TABLE_NAME% WHERE EXPIRY_TIME < ?
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    private final String deleteBatchQuery;
+
+    private final String countExpiredQuery;
+
+    private final int batchSize;
+
+    private final int maxBatches;
+
+    private final SchedulerLease lease;
+
+    private final Clock clock;
+
+    private final Counter sweptCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    public ExpiredSessionSweeper(
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry,
+            String tableName,
+            int batchSize,
+            int maxBatches,
+            Duration leaseDuration,
+            Clock clock
+    ) {
+        if ( batchSize < 1 ) throw new IllegalArgumentException( "Batch size must be positive" );
+        if ( maxBatches < 1 ) throw new IllegalArgumentException( "Maximum number of batches must be positive" );
+
+        this.jdbcOperations = jdbcOperations;
+        this.deleteBatchQuery = DELETE_BATCH_QUERY.replace( "%TABLE_NAME%", tableName );
+        this.countExpiredQuery = COUNT_EXPIRED_QUERY.replace( "%TABLE_NAME%", tableName );
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.lease = new SchedulerLease( jdbcOperations, LEASE_NAME, leaseDuration );
+        this.clock = clock;
+
+        this.sweptCounter = Counter.builder( "assemble.sessions.swept" )
+                .description( "Number of expired sessions deleted" )
+                .register( meterRegistry );
+        this.batchTimer = Timer.builder( "assemble.sessions.sweep.batch" )
+                .description( "Time spent deleting one batch of expired sessions" )
+                .register( meterRegistry );
+        Gauge.builder( "assemble.sessions.sweep.backlog", backlog, AtomicLong::get )
+                .description( "Expired sessions left after the last run of the lease holder" )
+                .register( meterRegistry );
+    }
+
+    public synchronized void start( Duration interval ) {
+        if ( scheduler != null ) return;
+        if ( lease.getDuration().compareTo( interval ) <= 0 )
+            throw new IllegalArgumentException( "Lease duration must be longer than the sweep interval" );
+
+        scheduler = Executors.newSingleThreadScheduledExecutor( Thread.ofPlatform()
+                .name( "session-sweeper" )
+                .daemon()
+                .factory()
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::sweepQuietly,
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    // Gives the lease up, so another node can take over without waiting for it to expire
+    public synchronized void close() {
+        if ( scheduler == null ) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+        lease.release();
+    }
+
+    // Number of sessions deleted, -1 if another node holds the lease
+    public int sweep() {
+        if ( !lease.tryAcquire() ) return -1;
+
+        long now = clock.millis();
+        int swept = 0;
+        for ( int batch = 0; batch < maxBatches; batch++ ) {
+            int deleted = batchTimer.record( () -> jdbcOperations.update( deleteBatchQuery, now, batchSize ) );
+            swept += deleted;
+            sweptCounter.increment( deleted );
+            if ( deleted < batchSize ) break;
+        }
+
+        Long expired = jdbcOperations.queryForObject( countExpiredQuery, Long.class, now );
+        backlog.set( expired != null ? expired : 0 );
+
+        if ( swept > 0 ) log.debug( "Deleted {} expired sessions, {} left", swept, backlog.get() );
+        return swept;
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not delete expired sessions: {}", e.getMessage() );
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * assemble
+ * NearCacheSessionRepository.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import com.assemble.backend.utils.InvalidationPublisher;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Serves sessions from the near cache and only goes to the delegate on a miss or a write.
+ * A request that merely reads its session and refreshes the last access time causes no statement,
+ * writes are saved through the delegate right away and invalidate the copies of the other nodes.
+ */
+public class NearCacheSessionRepository<S extends Session>
+        implements FindByIndexNameSessionRepository<NearCacheSessionRepository<S>.NearCacheSession> {
+
+    private final FindByIndexNameSessionRepository<S> delegate;
+
+    private final SessionNearCache nearCache;
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    public NearCacheSessionRepository(
+            FindByIndexNameSessionRepository<S> delegate,
+            SessionNearCache nearCache,
+            InvalidationPublisher invalidationPublisher
+    ) {
+        this.delegate = delegate;
+        this.nearCache = nearCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public NearCacheSession createSession() {
+        return new NearCacheSession( delegate.createSession(), true );
+    }
+
+    @Override
+    public void save( NearCacheSession session ) {
+        session.save();
+    }
+
+    @Override
+    public NearCacheSession findById( String id ) {
+        MapSession cached = nearCache.get( id );
+        if ( cached != null && !cached.isExpired() ) return new NearCacheSession( cached );
+
+        // The delegate also deletes the session if it is expired
+        nearCache.evict( id );
+        S session = delegate.findById( id );
+        if ( session == null ) {
+            nearCache.remove( id );
+            return null;
+        }
+
+        return new NearCacheSession( nearCache.put( session ) );
+    }
+
+    @Override
+    public void deleteById( String id ) {
+        delegate.deleteById( id );
+        nearCache.remove( id );
+        invalidationPublisher.publish( id );
+    }
+
+    // Not cached, these lookups are rare and must see the sessions of every node
+    @Override
+    public Map<String, NearCacheSession> findByIndexNameAndIndexValue( String indexName, String indexValue ) {
+        Map<String, NearCacheSession> sessions = new LinkedHashMap<>();
+        delegate.findByIndexNameAndIndexValue( indexName, indexValue )
+                .forEach( ( id, session ) -> sessions.put( id, new NearCacheSession( session, false ) ) );
+        return sessions;
+    }
+
+    // Reads the cached copy until the first write, from then on it is backed by a session of the delegate
+    public final class NearCacheSession implements Session {
+
+        private final MapSession cached;
+
+        private S session;
+
+        private String originalId;
+
+        private boolean isNew;
+
+        private boolean changed;
+
+        private boolean accessed;
+
+        private boolean removed;
+
+        private NearCacheSession( MapSession cached ) {
+            this.cached = cached;
+            this.originalId = cached.getId();
+        }
+
+        private NearCacheSession( S session, boolean isNew ) {
+            this.cached = null;
+            this.session = session;
+            this.originalId = session.getId();
+            this.isNew = isNew;
+        }
+
+        @Override
+        public String getId() {
+            return current().getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return write().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute( String attributeName ) {
+            return current().getAttribute( attributeName );
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return current().getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute( String attributeName, Object attributeValue ) {
+            write().setAttribute( attributeName, attributeValue );
+        }
+
+        @Override
+        public void removeAttribute( String attributeName ) {
+            write().removeAttribute( attributeName );
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return current().getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime( Instant lastAccessedTime ) {
+            current().setLastAccessedTime( lastAccessedTime );
+            accessed = true;
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return current().getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval( Duration interval ) {
+            write().setMaxInactiveInterval( interval );
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return current().getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return current().isExpired();
+        }
+
+        private Session current() {
+            return session != null ? session : cached;
+        }
+
+        // Loads the stored session on the first write, so the delegate saves exactly the changed attributes
+        private Session write() {
+            changed = true;
+            if ( session != null || removed ) return current();
+
+            session = delegate.findById( cached.getId() );
+            if ( session == null ) {
+                // Deleted by another request meanwhile, the write is dropped like the delegate would do
+                removed = true;
+                return cached;
+            }
+
+            session.setLastAccessedTime( cached.getLastAccessedTime() );
+            return session;
+        }
+
+        private void save() {
+            if ( removed ) {
+                nearCache.remove( originalId );
+                return;
+            }
+
+            if ( session == null ) {
+                if ( accessed ) nearCache.touch( cached.getId(), cached.getLastAccessedTime(), cached.getMaxInactiveInterval() );
+                accessed = false;
+                return;
+            }
+
+            delegate.save( session );
+
+            if ( changed || isNew ) {
+                if ( !originalId.equals( session.getId() ) ) nearCache.remove( originalId );
+                nearCache.put( session );
+                if ( !isNew ) invalidationPublisher.publish( originalId );
+            }
+
+            originalId = session.getId();
+            isNew = false;
+            changed = false;
+            accessed = false;
+        }
+    }
+}
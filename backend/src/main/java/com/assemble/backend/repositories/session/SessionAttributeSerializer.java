@@ -0,0 +1,198 @@
+/*
+ * assemble
+ * SessionAttributeSerializer.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.UserRole;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Serializes session attributes for the sessions table.
+ * The security context of a logged-in user is written in a compact binary format that starts with a version byte,
+ * every other attribute falls back to Java serialization. Java serialized values start with the stream magic 0xACED,
+ * so rows written before this format existed are still readable.
+ * Contexts in the first version carry no employee id, they are dropped like outdated Java values and the user signs in again.
+ */
+@Slf4j
+public class SessionAttributeSerializer {
+
+    static final byte SECURITY_CONTEXT_V1 = 0x01;
+
+    static final byte SECURITY_CONTEXT_V2 = 0x02;
+
+    private static final byte JAVA_STREAM_MAGIC = (byte) 0xAC;
+
+    private static final int ENABLED = 1;
+
+    private static final int LOCKED = 1 << 1;
+
+    private static final int HAS_ID = 1 << 2;
+
+    private static final int HAS_DETAILS = 1 << 3;
+
+    private static final int HAS_EMPLOYEE_ID = 1 << 4;
+
+    private final SerializingConverter serializingConverter = new SerializingConverter();
+
+    private final DeserializingConverter deserializingConverter;
+
+    public SessionAttributeSerializer( ClassLoader classLoader ) {
+        this.deserializingConverter = new DeserializingConverter( classLoader );
+    }
+
+    public byte[] serialize( Object attribute ) {
+        if ( attribute instanceof SecurityContext context && isCompact( context.getAuthentication() ) ) {
+            try {
+                return writeSecurityContext( context.getAuthentication() );
+            } catch ( IOException e ) {
+                throw new SerializationFailedException( "Could not serialize security context", e );
+            }
+        }
+        return serializingConverter.convert( attribute );
+    }
+
+    public Object deserialize( byte[] bytes ) {
+        if ( bytes.length == 0 ) throw new SerializationFailedException( "Empty session attribute" );
+        if ( bytes[0] == JAVA_STREAM_MAGIC ) return deserializeJava( bytes );
+        if ( bytes[0] == SECURITY_CONTEXT_V1 ) {
+            log.warn( "Dropping security context without employee id, the user has to sign in again" );
+            return null;
+        }
+        if ( bytes[0] != SECURITY_CONTEXT_V2 )
+            throw new SerializationFailedException( "Unknown session attribute format: " + bytes[0] );
+
+        try {
+            return readSecurityContext( bytes );
+        } catch ( IOException | IllegalArgumentException e ) {
+            throw new SerializationFailedException( "Could not deserialize security context", e );
+        }
+    }
+
+    // A value written by an older version of its class is dropped, for the security context this means signed out
+    private Object deserializeJava( byte[] bytes ) {
+        try {
+            return deserializingConverter.convert( bytes );
+        } catch ( SerializationFailedException e ) {
+            log.warn( "Dropping session attribute that can no longer be deserialized: {}", e.getMessage() );
+            return null;
+        }
+    }
+
+    // Only the authentication the login creates, anything else keeps its Java serialized form
+    private static boolean isCompact( Authentication authentication ) {
+        if ( !( authentication instanceof UsernamePasswordAuthenticationToken token ) ) return false;
+        if ( token.getClass() != UsernamePasswordAuthenticationToken.class || !token.isAuthenticated() ) return false;
+        if ( !( token.getPrincipal() instanceof SecurityUser principal ) ) return false;
+        if ( token.getDetails() != null && token.getDetails().getClass() != WebAuthenticationDetails.class )
+            return false;
+        return new HashSet<>( token.getAuthorities() ).equals( new HashSet<>( principal.getAuthorities() ) );
+    }
+
+    private static byte[] writeSecurityContext( Authentication authentication ) throws IOException {
+        SecurityUser principal = (SecurityUser) authentication.getPrincipal();
+        WebAuthenticationDetails details = (WebAuthenticationDetails) authentication.getDetails();
+
+        int flags = 0;
+        if ( principal.isEnabled() ) flags |= ENABLED;
+        if ( principal.isLocked() ) flags |= LOCKED;
+        if ( principal.getId() != null ) flags |= HAS_ID;
+        if ( details != null ) flags |= HAS_DETAILS;
+        if ( principal.getEmployeeId() != null ) flags |= HAS_EMPLOYEE_ID;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream( 64 );
+        try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+            out.writeByte( SECURITY_CONTEXT_V2 );
+            out.writeByte( flags );
+            if ( principal.getId() != null ) writeUuid( out, principal.getId() );
+            if ( principal.getEmployeeId() != null ) writeUuid( out, principal.getEmployeeId() );
+            out.writeUTF( principal.getUsername() );
+            out.writeByte( principal.getRoles().size() );
+            for ( UserRole role : principal.getRoles() ) {
+                out.writeUTF( role.name() );
+            }
+            if ( details != null ) {
+                writeNullable( out, details.getRemoteAddress() );
+                writeNullable( out, details.getSessionId() );
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SecurityContext readSecurityContext( byte[] bytes ) throws IOException {
+        try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+            in.readByte();
+            int flags = in.readUnsignedByte();
+            UUID id = ( flags & HAS_ID ) != 0 ? readUuid( in ) : null;
+            UUID employeeId = ( flags & HAS_EMPLOYEE_ID ) != 0 ? readUuid( in ) : null;
+            String username = in.readUTF();
+            int roleCount = in.readUnsignedByte();
+            List<UserRole> roles = new ArrayList<>( roleCount );
+            for ( int i = 0; i < roleCount; i++ ) {
+                roles.add( UserRole.valueOf( in.readUTF() ) );
+            }
+
+            SecurityUser principal = new SecurityUser(
+                    id,
+                    employeeId,
+                    username,
+                    null,
+                    List.copyOf( roles ),
+                    ( flags & ENABLED ) != 0,
+                    ( flags & LOCKED ) != 0
+            );
+            UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                    principal,
+                    null,
+                    principal.getAuthorities()
+            );
+            if ( ( flags & HAS_DETAILS ) != 0 ) {
+                authentication.setDetails( new WebAuthenticationDetails( readNullable( in ), readNullable( in ) ) );
+            }
+            return new SecurityContextImpl( authentication );
+        }
+    }
+
+    private static void writeUuid( DataOutputStream out, UUID value ) throws IOException {
+        out.writeLong( value.getMostSignificantBits() );
+        out.writeLong( value.getLeastSignificantBits() );
+    }
+
+    private static UUID readUuid( DataInputStream in ) throws IOException {
+        return new UUID( in.readLong(), in.readLong() );
+    }
+
+    private static void writeNullable( DataOutputStream out, String value ) throws IOException {
+        out.writeBoolean( value != null );
+        if ( value != null ) out.writeUTF( value );
+    }
+
+    private static String readNullable( DataInputStream in ) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * assemble
+ * SessionNearCache.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Bounded in process copy of the recently used sessions of this node, least recently used sessions are dropped first.
+ * Last access times only update the copy and are written to the sessions table in periodic batches.
+ */
+@Slf4j
+public class SessionNearCache {
+
+    private static final String UPDATE_ACCESS_TIME_QUERY = """
+            UPDATE %TABLE_NAME%
+            SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ?
+            WHERE SESSION_ID = ? AND LAST_ACCESS_TIME < ?
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    private final String updateAccessTimeQuery;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    private final Map<String, CachedSession> sessions;
+
+    private final Map<String, PendingAccess> pendingAccesses = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushScheduler;
+
+    public SessionNearCache(
+            JdbcOperations jdbcOperations,
+            String tableName,
+            int maximumSize,
+            Duration timeToLive,
+            Clock clock
+    ) {
+        if ( maximumSize < 1 ) throw new IllegalArgumentException( "Maximum size must be positive" );
+
+        this.jdbcOperations = jdbcOperations;
+        this.updateAccessTimeQuery = UPDATE_ACCESS_TIME_QUERY.replace( "%TABLE_NAME%", tableName );
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.sessions = Collections.synchronizedMap( new LinkedHashMap<>( 16, 0.75f, true ) {
+            @Override
+            protected boolean removeEldestEntry( Map.Entry<String, CachedSession> eldest ) {
+                return size() > maximumSize;
+            }
+        } );
+    }
+
+    public synchronized void start( Duration flushInterval ) {
+        if ( flushScheduler != null ) return;
+        flushScheduler = Executors.newSingleThreadScheduledExecutor( Thread.ofPlatform()
+                .name( "session-flush" )
+                .daemon()
+                .factory()
+        );
+        flushScheduler.scheduleWithFixedDelay(
+                this::flushQuietly,
+                flushInterval.toMillis(),
+                flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    // Writes the access times still pending, so no session of this node expires early after a restart
+    public synchronized void close() {
+        if ( flushScheduler != null ) {
+            flushScheduler.shutdown();
+            flushScheduler = null;
+        }
+        flushQuietly();
+    }
+
+    // Copy of the cached session, null if it is not cached or was loaded longer ago than the time to live
+    public MapSession get( String sessionId ) {
+        CachedSession cached = sessions.get( sessionId );
+        if ( cached == null ) return null;
+        if ( cached.loadedDate().plus( timeToLive ).isBefore( clock.instant() ) ) {
+            sessions.remove( sessionId, cached );
+            return null;
+        }
+        return new MapSession( cached.session() );
+    }
+
+    // Caches a copy of the session and returns another one, an access time not yet written wins over the loaded one
+    public MapSession put( Session session ) {
+        MapSession copy = new MapSession( session );
+        PendingAccess pendingAccess = pendingAccesses.get( copy.getId() );
+        if ( pendingAccess != null && pendingAccess.lastAccessedTime().isAfter( copy.getLastAccessedTime() ) )
+            copy.setLastAccessedTime( pendingAccess.lastAccessedTime() );
+
+        sessions.put( copy.getId(), new CachedSession( copy, clock.instant() ) );
+        return new MapSession( copy );
+    }
+
+    public void touch( String sessionId, Instant lastAccessedTime, Duration maxInactiveInterval ) {
+        addPendingAccess( sessionId, new PendingAccess( lastAccessedTime, maxInactiveInterval ) );
+        sessions.computeIfPresent( sessionId, ( id, cached ) -> {
+            if ( !lastAccessedTime.isAfter( cached.session().getLastAccessedTime() ) ) return cached;
+            MapSession copy = new MapSession( cached.session() );
+            copy.setLastAccessedTime( lastAccessedTime );
+            return new CachedSession( copy, cached.loadedDate() );
+        } );
+    }
+
+    // Drops the cached copy only, a pending access time is still written if the session exists
+    public void evict( String sessionId ) {
+        sessions.remove( sessionId );
+    }
+
+    public void remove( String sessionId ) {
+        sessions.remove( sessionId );
+        pendingAccesses.remove( sessionId );
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    // The guard on the last access time keeps a newer time written by another node
+    public int flush() {
+        List<Map.Entry<String, PendingAccess>> flushed = new ArrayList<>();
+        for ( Map.Entry<String, PendingAccess> entry : pendingAccesses.entrySet() ) {
+            if ( pendingAccesses.remove( entry.getKey(), entry.getValue() ) ) flushed.add( entry );
+        }
+        if ( flushed.isEmpty() ) return 0;
+
+        // Sorted, so concurrent flushes of several nodes lock the rows in the same order
+        flushed.sort( Map.Entry.comparingByKey( Comparator.naturalOrder() ) );
+
+        try {
+            jdbcOperations.batchUpdate( updateAccessTimeQuery, flushed.stream()
+                    .map( entry -> {
+                        long lastAccessTime = entry.getValue().lastAccessedTime().toEpochMilli();
+                        return new Object[]{
+                                lastAccessTime,
+                                entry.getValue().getExpiryTime(),
+                                entry.getKey(),
+                                lastAccessTime
+                        };
+                    } )
+                    .toList()
+            );
+        } catch ( DataAccessException e ) {
+            flushed.forEach( entry -> addPendingAccess( entry.getKey(), entry.getValue() ) );
+            throw e;
+        }
+
+        return flushed.size();
+    }
+
+    private void addPendingAccess( String sessionId, PendingAccess pendingAccess ) {
+        pendingAccesses.merge(
+                sessionId,
+                pendingAccess,
+                ( current, next ) -> next.lastAccessedTime().isAfter( current.lastAccessedTime() ) ? next : current
+        );
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not write session access times: {}", e.getMessage() );
+        }
+    }
+
+    private record CachedSession( MapSession session, Instant loadedDate ) {
+    }
+
+    private record PendingAccess( Instant lastAccessedTime, Duration maxInactiveInterval ) {
+
+        // Same expiry the JDBC session repository writes, a negative interval never expires
+        long getExpiryTime() {
+            return maxInactiveInterval.isNegative()
+                    ? Long.MAX_VALUE
+                    : lastAccessedTime.plus( maxInactiveInterval ).toEpochMilli();
+        }
+    }
+}
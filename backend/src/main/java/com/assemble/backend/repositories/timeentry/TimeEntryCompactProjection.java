@@ -0,0 +1,42 @@
+/*
+ * assemble
+ * TimeEntryCompactProjection.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.timeentry;
+
+import com.assemble.backend.models.entities.project.ProjectColor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TimeEntryCompactProjection(
+        UUID id,
+        String no,
+        UUID employeeId,
+        String employeeNo,
+        String employeeFirstname,
+        String employeeLastname,
+        UUID projectId,
+        String projectNo,
+        String projectName,
+        ProjectColor projectColor,
+        String description,
+        LocalDate date,
+        Instant startTime,
+        Instant endTime,
+        Duration pauseTime,
+        Duration totalTime,
+        BigDecimal rate,
+        BigDecimal total,
+        BigDecimal totalInternal
+) {
+}
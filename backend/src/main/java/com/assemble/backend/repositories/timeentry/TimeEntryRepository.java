@@ -11,20 +11,121 @@
 package com.assemble.backend.repositories.timeentry;
 
 import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
-public interface TimeEntryRepository extends JpaRepository<TimeEntry, UUID> {
+public interface TimeEntryRepository extends JpaRepository<TimeEntry, UUID>, JpaSpecificationExecutor<TimeEntry> {
 
+    String SELECT_COMPACT = """
+            SELECT new com.assemble.backend.repositories.timeentry.TimeEntryCompactProjection(
+                t.id, t.no, e.id, e.no, e.firstname, e.lastname, p.id, p.no, p.name, p.color,
+                t.description, t.date, t.startTime, t.endTime, t.pauseTime, t.totalTime,
+                t.rate, t.total, t.totalInternal
+            )
+            FROM TimeEntry t
+            JOIN t.employee e
+            JOIN t.project p
+            """;
+
+    // Covers the employee, user and project versions nested in TimeEntryDTO
+    String SELECT_VERSION = """
+            SELECT new com.assemble.backend.repositories.core.EntityVersionProjection(
+                count(t), sum(t.version + e.version + p.version + coalesce(u.version, 0)), max(t.lastModifiedDate)
+            )
+            FROM TimeEntry t
+            JOIN t.employee e
+            LEFT JOIN e.user u
+            JOIN t.project p
+            """;
+
+    @Override
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
+    List<TimeEntry> findAll();
+
+    @Override
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
+    Optional<TimeEntry> findById( UUID id );
+
+    // Used for keyset paging. Roles are left to their batch fetch, joining
+    // a collection would make Hibernate apply the limit in memory.
+    @Override
+    @EntityGraph(attributePaths = { "employee.user", "project" })
+    <S extends TimeEntry, R> R findBy(
+            Specification<TimeEntry> spec,
+            Function<? super SpecificationFluentQuery<S>, R> queryFunction
+    );
+
+    // Ownership is part of the lookup, entries of other users are never loaded
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
+    Optional<TimeEntry> findByIdAndEmployee_User_Id( UUID id, UUID userId );
+
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
     List<TimeEntry> findAllByEmployeeId( UUID employeeId );
 
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
     List<TimeEntry> findAllByProjectId( UUID projectId );
 
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
     List<TimeEntry> findAllByEmployee_IdAndDateIsBetween( UUID employeeId, LocalDate dateAfter, LocalDate dateBefore );
 
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
     List<TimeEntry> findAllByEmployee_IdAndDateIs( UUID employeeId, LocalDate date );
 
+    @EntityGraph(TimeEntry.DETAILS_GRAPH)
+    List<TimeEntry> findAllByEmployee_IdAndChangeXidGreaterThanEqual( UUID employeeId, Long changeXid );
+
+
+    @Query(SELECT_COMPACT)
+    List<TimeEntryCompactProjection> findAllCompact();
+
+    @Query(SELECT_COMPACT + "WHERE e.id = :employeeId")
+    List<TimeEntryCompactProjection> findAllCompactByEmployeeId( @Param("employeeId") UUID employeeId );
+
+    @Query(SELECT_COMPACT + "WHERE p.id = :projectId")
+    List<TimeEntryCompactProjection> findAllCompactByProjectId( @Param("projectId") UUID projectId );
+
+    @Query(SELECT_COMPACT + "WHERE e.id = :employeeId AND t.date BETWEEN :dateAfter AND :dateBefore")
+    List<TimeEntryCompactProjection> findAllCompactByEmployeeIdAndDateBetween(
+            @Param("employeeId") UUID employeeId,
+            @Param("dateAfter") LocalDate dateAfter,
+            @Param("dateBefore") LocalDate dateBefore
+    );
+
+    @Query(SELECT_COMPACT + "WHERE e.id = :employeeId AND t.date = :date")
+    List<TimeEntryCompactProjection> findAllCompactByEmployeeIdAndDate(
+            @Param("employeeId") UUID employeeId,
+            @Param("date") LocalDate date
+    );
+
+    @Query(SELECT_COMPACT + "WHERE e.id = :employeeId AND t.changeXid >= :changeXid")
+    List<TimeEntryCompactProjection> findAllCompactByEmployeeIdAndChangeXidGreaterThanEqual(
+            @Param("employeeId") UUID employeeId,
+            @Param("changeXid") Long changeXid
+    );
+
+    @Query(SELECT_VERSION)
+    EntityVersionProjection findVersion();
+
+    @Query(SELECT_VERSION + "WHERE t.id = :id")
+    EntityVersionProjection findVersionById( @Param("id") UUID id );
+
+    @Query(SELECT_VERSION + "WHERE t.id = :id AND u.id = :userId")
+    EntityVersionProjection findVersionByIdAndUserId( @Param("id") UUID id, @Param("userId") UUID userId );
+
+    @Query(SELECT_VERSION + "WHERE e.id = :employeeId")
+    EntityVersionProjection findVersionByEmployeeId( @Param("employeeId") UUID employeeId );
+
+    @Query(SELECT_VERSION + "WHERE p.id = :projectId")
+    EntityVersionProjection findVersionByProjectId( @Param("projectId") UUID projectId );
 }
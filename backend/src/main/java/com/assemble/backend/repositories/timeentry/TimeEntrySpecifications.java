@@ -0,0 +1,74 @@
+/*
+ * assemble
+ * TimeEntrySpecifications.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.entities.project.ProjectAssignment;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public final class TimeEntrySpecifications {
+
+    private TimeEntrySpecifications() {
+    }
+
+    public static Specification<TimeEntry> matches( TimeEntryFilterDTO filter ) {
+        return Specification.allOf(
+                hasEmployeeId( filter.getEmployeeId() ),
+                hasProjectId( filter.getProjectId() ),
+                isOnOrAfter( filter.getFrom() ),
+                isOnOrBefore( filter.getTo() ),
+                hasActiveAssignment( filter.getActiveAssignment() )
+        );
+    }
+
+    public static Specification<TimeEntry> hasEmployeeId( UUID employeeId ) {
+        return ( root, query, cb ) -> employeeId == null ? null
+                : cb.equal( root.get( "employee" ).get( "id" ), employeeId );
+    }
+
+    public static Specification<TimeEntry> hasProjectId( UUID projectId ) {
+        return ( root, query, cb ) -> projectId == null ? null
+                : cb.equal( root.get( "project" ).get( "id" ), projectId );
+    }
+
+    public static Specification<TimeEntry> isOnOrAfter( LocalDate from ) {
+        return ( root, query, cb ) -> from == null ? null
+                : cb.greaterThanOrEqualTo( root.get( "date" ), from );
+    }
+
+    public static Specification<TimeEntry> isOnOrBefore( LocalDate to ) {
+        return ( root, query, cb ) -> to == null ? null
+                : cb.lessThanOrEqualTo( root.get( "date" ), to );
+    }
+
+    public static Specification<TimeEntry> hasActiveAssignment( Boolean active ) {
+        return ( root, query, cb ) -> {
+            if ( active == null || query == null ) return null;
+
+            Subquery<Integer> assignment = query.subquery( Integer.class );
+            Root<ProjectAssignment> pa = assignment.from( ProjectAssignment.class );
+            assignment.select( cb.literal( 1 ) )
+                    .where(
+                            cb.equal( pa.get( "employee" ), root.get( "employee" ) ),
+                            cb.equal( pa.get( "project" ), root.get( "project" ) ),
+                            cb.equal( pa.get( "active" ), active )
+                    );
+
+            return cb.exists( assignment );
+        };
+    }
+}
@@ -15,8 +15,10 @@ import com.assemble.backend.models.entities.employee.Address;
 import com.assemble.backend.models.entities.employee.BankAccount;
 import com.assemble.backend.models.entities.employee.Employee;
 import com.assemble.backend.models.entities.employee.MaritalStatus;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
+import com.assemble.backend.services.auth.SessionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +39,10 @@ public class EmployeeCommands {
 
     private EmployeeRepository employeeRepository;
 
+    private UserDetailsCache userDetailsCache;
+
+    private SessionService sessionService;
+
     @ShellMethod(
             key = "create-employee"
     )
@@ -88,6 +94,8 @@ public class EmployeeCommands {
 
         user.setEmployee( savedEmployee );
         userRepository.save( user );
+        userDetailsCache.evict( user.getUsername() );
+        sessionService.setUserSessionsEmployee( user.getUsername(), savedEmployee.getId() );
 
         log.info( "Created employee with id: {}", savedEmployee.getId() );
 
@@ -0,0 +1,55 @@
+/*
+ * assemble
+ * TimeEntryCommands.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.scripts.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupRebuildDTO;
+import com.assemble.backend.services.timeentry.TimeEntryRollupService;
+import com.assemble.backend.services.timeentry.TimeEntrySyncService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+
+@Slf4j
+@ShellComponent
+@AllArgsConstructor
+public class TimeEntryCommands {
+
+    private TimeEntryRollupService timeEntryRollupService;
+
+    private TimeEntrySyncService timeEntrySyncService;
+
+    @ShellMethod(
+            key = "rebuild-timeentry-rollups"
+    )
+    public String rebuildTimeEntryRollups() {
+        TimeEntryRollupRebuildDTO result = timeEntryRollupService.rebuildRollups();
+
+        log.info(
+                "Rebuilt {} daily and {} monthly time entry rollups",
+                result.dailyRollups(),
+                result.monthlyRollups()
+        );
+
+        return result.dailyRollups() + " daily and " + result.monthlyRollups() + " monthly rollups rebuilt";
+    }
+
+    @ShellMethod(
+            key = "purge-timeentry-tombstones"
+    )
+    public String purgeTimeEntryTombstones() {
+        int purged = timeEntrySyncService.purgeTombstones();
+
+        log.info( "Purged {} expired time entry tombstones", purged );
+
+        return purged + " tombstones purged";
+    }
+}
@@ -12,26 +12,44 @@ package com.assemble.backend.services.auth;
 
 import com.assemble.backend.models.entities.auth.SecurityUser;
 import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserDetailsCache userDetailsCache;
 
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService( UserRepository userRepository ) {
+    public CustomUserDetailsService( UserDetailsCache userDetailsCache, UserRepository userRepository ) {
+        this.userDetailsCache = userDetailsCache;
         this.userRepository = userRepository;
     }
 
     @Override
     public UserDetails loadUserByUsername( String username ) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername( username ).orElseThrow(
-                () -> new UsernameNotFoundException( "Invalid username or password." )
-        );
+        return userDetailsCache.get( username )
+                .map( UserDetailsCache.CachedUser::toSecurityUser )
+                .orElseThrow( () -> new UsernameNotFoundException( "Invalid username or password." ) );
+    }
+
+    // Called by the authentication after a successful login whose stored hash has another cost than configured
+    @Override
+    @Transactional
+    public UserDetails updatePassword( UserDetails userDetails, String newPassword ) {
+        User user = userRepository.findByUsername( userDetails.getUsername() )
+                .orElseThrow( () -> new UsernameNotFoundException( "Invalid username or password." ) );
+
+        user.setPassword( newPassword );
+        userRepository.save( user );
+        userDetailsCache.evict( user.getUsername() );
 
         return new SecurityUser( user );
     }
@@ -0,0 +1,95 @@
+/*
+ * assemble
+ * LoginAttemptLimiter.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.auth;
+
+import com.assemble.backend.exceptions.auth.LoginAttemptsExceededException;
+import com.assemble.backend.utils.InvalidationPublisher;
+import com.assemble.backend.utils.SlidingWindowLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+
+/*
+ * Limits the login attempts per username and per client address, checked before the user is loaded or a password hashed.
+ * The counters live in memory, with a publisher every accepted attempt is also counted by the other nodes.
+ */
+@Slf4j
+public class LoginAttemptLimiter {
+
+    // Longer usernames cannot exist, they would only make the keys and notifications large
+    private static final int MAX_USERNAME_LENGTH = 255;
+
+    private final SlidingWindowLimiter usernameLimiter;
+
+    private final SlidingWindowLimiter addressLimiter;
+
+    private final InvalidationPublisher attemptPublisher;
+
+    private final Counter usernameRejections;
+
+    private final Counter addressRejections;
+
+    public LoginAttemptLimiter(
+            SlidingWindowLimiter usernameLimiter,
+            SlidingWindowLimiter addressLimiter,
+            InvalidationPublisher attemptPublisher,
+            MeterRegistry meterRegistry
+    ) {
+        this.usernameLimiter = usernameLimiter;
+        this.addressLimiter = addressLimiter;
+        this.attemptPublisher = attemptPublisher;
+
+        this.usernameRejections = Counter.builder( "assemble.auth.login.rejected" )
+                .description( "Number of login attempts rejected by the attempt limit" )
+                .tag( "limit", "username" )
+                .register( meterRegistry );
+        this.addressRejections = Counter.builder( "assemble.auth.login.rejected" )
+                .description( "Number of login attempts rejected by the attempt limit" )
+                .tag( "limit", "address" )
+                .register( meterRegistry );
+    }
+
+    public void checkAttempt( String username, String address ) {
+        String usernameKey = usernameKey( username );
+
+        if ( !addressLimiter.tryAcquire( address ) ) {
+            addressRejections.increment();
+            throw new LoginAttemptsExceededException( "Too many login attempts, try again later" );
+        }
+        if ( !usernameLimiter.tryAcquire( usernameKey ) ) {
+            usernameRejections.increment();
+            throw new LoginAttemptsExceededException( "Too many login attempts, try again later" );
+        }
+
+        // A lost notification only lets the other nodes count one attempt less, it must not fail the login
+        try {
+            attemptPublisher.publish( address + "/" + usernameKey );
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not publish login attempt to the other nodes: {}", e.getMessage() );
+        }
+    }
+
+    // Addresses never contain a slash, everything after the first one is the username
+    public void recordRemoteAttempt( String attempt ) {
+        int separator = attempt.indexOf( '/' );
+        if ( separator < 0 ) return;
+
+        addressLimiter.record( attempt.substring( 0, separator ) );
+        usernameLimiter.record( attempt.substring( separator + 1 ) );
+    }
+
+    private static String usernameKey( String username ) {
+        String key = username.toLowerCase( Locale.ROOT );
+        return key.length() > MAX_USERNAME_LENGTH ? key.substring( 0, MAX_USERNAME_LENGTH ) : key;
+    }
+}
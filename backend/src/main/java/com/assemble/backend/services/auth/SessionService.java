@@ -15,11 +15,14 @@ import com.assemble.backend.models.dtos.auth.admin.SessionDTO;
 import lombok.NonNull;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface SessionService {
 
     void invalidateUserSessions( @NonNull String username );
 
+    void setUserSessionsEmployee( @NonNull String username, UUID employeeId );
+
     SessionCountDTO getActiveUserSessionsCount( @NonNull String username );
 
     List<SessionDTO> getUserSessionDetails( @NonNull String username );
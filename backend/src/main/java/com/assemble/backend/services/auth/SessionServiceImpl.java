@@ -12,14 +12,23 @@ package com.assemble.backend.services.auth;
 
 import com.assemble.backend.models.dtos.auth.admin.SessionCountDTO;
 import com.assemble.backend.models.dtos.auth.admin.SessionDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
 import lombok.AllArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 @Service
 @AllArgsConstructor
@@ -34,6 +43,50 @@ public class SessionServiceImpl implements SessionService {
         sessions.keySet().forEach( sessionRepository::deleteById );
     }
 
+    // The session repository writes in its own transaction, so the sessions are only touched once the relink committed
+    @Override
+    public void setUserSessionsEmployee( String username, UUID employeeId ) {
+        if ( !TransactionSynchronizationManager.isSynchronizationActive() ) {
+            setSessionsEmployee( sessionRepository, username, employeeId );
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                setSessionsEmployee( sessionRepository, username, employeeId );
+            }
+        } );
+    }
+
+    private static <S extends Session> void setSessionsEmployee(
+            FindByIndexNameSessionRepository<S> sessionRepository,
+            String username,
+            UUID employeeId
+    ) {
+        for ( S session : sessionRepository.findByPrincipalName( username ).values() ) {
+            SecurityContext context = session.getAttribute(
+                    HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY
+            );
+            if ( context == null ||
+                    !( context.getAuthentication() instanceof UsernamePasswordAuthenticationToken authentication ) ||
+                    !( authentication.getPrincipal() instanceof SecurityUser principal ) ||
+                    Objects.equals( principal.getEmployeeId(), employeeId )
+            ) continue;
+
+            UsernamePasswordAuthenticationToken updated = UsernamePasswordAuthenticationToken.authenticated(
+                    principal.withEmployeeId( employeeId ),
+                    authentication.getCredentials(),
+                    authentication.getAuthorities()
+            );
+            updated.setDetails( authentication.getDetails() );
+            session.setAttribute(
+                    HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                    new SecurityContextImpl( updated )
+            );
+            sessionRepository.save( session );
+        }
+    }
+
     @Override
     public SessionCountDTO getActiveUserSessionsCount( String username ) {
         long count = sessionRepository.findByPrincipalName( username )
@@ -15,6 +15,7 @@ import com.assemble.backend.models.entities.auth.User;
 import com.assemble.backend.models.entities.auth.UserRole;
 import com.assemble.backend.models.entities.employee.Employee;
 import com.assemble.backend.models.mappers.auth.UserAdminMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -36,6 +37,7 @@ public class UserAdminServiceImpl implements UserAdminService {
     private final PasswordEncoder passwordEncoder;
     private final EmployeeRepository employeeRepository;
     private final SessionService sessionService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public List<UserAdminDTO> getAllUsers() {
@@ -81,6 +83,7 @@ public class UserAdminServiceImpl implements UserAdminService {
 
         user.setEnabled( userUpdateStatusDTO.getEnabled() );
         user.setLocked( userUpdateStatusDTO.getLocked() );
+        userDetailsCache.evict( user.getUsername() );
 
         return userAdminMapper.toUserAdminDTO( userRepository.save( user ) );
     }
@@ -94,6 +97,7 @@ public class UserAdminServiceImpl implements UserAdminService {
                 );
 
         user.setRoles( roles );
+        userDetailsCache.evict( user.getUsername() );
         return userAdminMapper.toUserAdminDTO( userRepository.save( user ) );
     }
 
@@ -135,6 +139,8 @@ public class UserAdminServiceImpl implements UserAdminService {
             user.setEmployee( employee );
         }
 
+        userDetailsCache.evict( user.getUsername() );
+        sessionService.setUserSessionsEmployee( user.getUsername(), employee != null ? employee.getId() : null );
         return userAdminMapper.toUserAdminDTO( user );
     }
 
@@ -185,6 +191,9 @@ public class UserAdminServiceImpl implements UserAdminService {
                         () -> new EntityNotFoundException( "Could not find user with id: " + id )
                 );
 
+        // Evicted before mapping, the update may change the username
+        userDetailsCache.evict( user.getUsername() );
+
         return userAdminMapper.toUserAdminDTO(
                 userRepository.save(
                         userAdminMapper.toUser( userUpdateDTO, user )
@@ -207,6 +216,7 @@ public class UserAdminServiceImpl implements UserAdminService {
         user.setPassword( passwordEncoder.encode( newPassword ) );
 
         userRepository.save( user );
+        userDetailsCache.evict( user.getUsername() );
     }
 
     @Override
@@ -224,5 +234,6 @@ public class UserAdminServiceImpl implements UserAdminService {
         }
 
         userRepository.delete( user );
+        userDetailsCache.evict( user.getUsername() );
     }
 }
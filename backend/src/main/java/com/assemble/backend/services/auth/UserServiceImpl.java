@@ -14,7 +14,7 @@ import com.assemble.backend.exceptions.auth.PasswordMismatchException;
 import com.assemble.backend.models.dtos.auth.UserDTO;
 import com.assemble.backend.models.entities.auth.SecurityUser;
 import com.assemble.backend.models.entities.auth.User;
-import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
@@ -27,8 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
-    private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional
@@ -42,14 +42,14 @@ public class UserServiceImpl implements UserService {
 
         user.setPassword( passwordEncoder.encode( newPassword ) );
         this.userRepository.save( user );
+        userDetailsCache.evict( username );
     }
 
     @Override
     public UserDTO findMe( SecurityUser securityUser ) {
-        return userMapper.toUserDTO(
-                userRepository.findByUsername( securityUser.getUsername() )
-                        .orElseThrow( () -> new EntityNotFoundException( "User not found" ) )
-        );
+        return userDetailsCache.get( securityUser.getUsername() )
+                .map( UserDetailsCache.CachedUser::toUserDTO )
+                .orElseThrow( () -> new EntityNotFoundException( "User not found" ) );
     }
 
 }
@@ -11,6 +11,7 @@
 package com.assemble.backend.services.employee;
 
 import com.assemble.backend.models.dtos.employee.*;
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 
 import java.util.List;
 
@@ -20,7 +21,15 @@ public interface EmployeeService {
 
     EmployeeDTO getEmployeeById( String id );
 
-    EmployeeDTO setEmployeeUser( String employeeId, EmployeeUpdateUserDTO employeeUpdateUserDTO );
+    String getAllEmployeesTag();
+
+    String getEmployeeTag( String id );
+
+    TaggedDTO<EmployeeDTO> setEmployeeUser(
+            String employeeId,
+            EmployeeUpdateUserDTO employeeUpdateUserDTO,
+            String ifMatch
+    );
 
     List<EmployeeRefDTO> searchUnlinkedEmployees( String searchTerm );
 
@@ -28,7 +37,7 @@ public interface EmployeeService {
 
     EmployeeDTO createEmployee( EmployeeCreateDTO employeeCreateDTO );
 
-    EmployeeDTO updateEmployee( String id, EmployeeUpdateDTO employeeUpdateDTO );
+    TaggedDTO<EmployeeDTO> updateEmployee( String id, EmployeeUpdateDTO employeeUpdateDTO, String ifMatch );
 
     void deleteEmployee( String id );
 
@@ -11,12 +11,16 @@
 package com.assemble.backend.services.employee;
 
 import com.assemble.backend.models.dtos.employee.*;
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.entities.auth.User;
 import com.assemble.backend.models.entities.employee.Employee;
 import com.assemble.backend.models.mappers.employee.EmployeeMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
+import com.assemble.backend.services.auth.SessionService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -34,6 +38,8 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final UserRepository userRepository;
     private final EmployeeMapper employeeMapper;
     private final ProjectAssignmentRepository assignmentRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final SessionService sessionService;
 
     @Override
     public List<EmployeeDTO> getAllEmployees() {
@@ -52,6 +58,16 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employeeMapper.employeeToEmployeeDTO( employee );
     }
 
+    @Override
+    public String getAllEmployeesTag() {
+        return employeeRepository.findVersion().toEntityTag();
+    }
+
+    @Override
+    public String getEmployeeTag( String id ) {
+        return employeeRepository.findVersionById( UUID.fromString( id ) ).toEntityTag();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeRefDTO> searchUnlinkedEmployees( String searchTerm ) {
@@ -92,20 +108,27 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         Employee employee = employeeMapper.toEmployee( employeeCreateDTO );
         employee.setUser( user );
+        Employee savedEmployee = employeeRepository.save( employee );
+        if ( user != null ) {
+            userDetailsCache.evict( user.getUsername() );
+            sessionService.setUserSessionsEmployee( user.getUsername(), savedEmployee.getId() );
+        }
 
-
-        return employeeMapper.employeeToEmployeeDTO(
-                employeeRepository.save( employee )
-        );
+        return employeeMapper.employeeToEmployeeDTO( savedEmployee );
     }
 
     @Override
     @Transactional
-    public EmployeeDTO setEmployeeUser( String employeeId, EmployeeUpdateUserDTO employeeUpdateUserDTO ) {
+    public TaggedDTO<EmployeeDTO> setEmployeeUser(
+            String employeeId,
+            EmployeeUpdateUserDTO employeeUpdateUserDTO,
+            String ifMatch
+    ) {
         Employee employee = employeeRepository.findById( UUID.fromString( employeeId ) )
                 .orElseThrow(
                         () -> new EntityNotFoundException( "Could not find employee with id: " + employeeId )
                 );
+        versionOf( employee ).checkIfMatch( ifMatch );
 
         User user = employeeUpdateUserDTO.getUserId() != null ? userRepository
                 .findById( UUID.fromString( employeeUpdateUserDTO.getUserId() ) )
@@ -116,6 +139,11 @@ public class EmployeeServiceImpl implements EmployeeService {
                 )
                 : null;
 
+        if ( employee.getUser() != null ) {
+            userDetailsCache.evict( employee.getUser().getUsername() );
+            sessionService.setUserSessionsEmployee( employee.getUser().getUsername(), null );
+        }
+
         if ( user == null ) {
             employee.setUser( null );
         } else {
@@ -123,25 +151,29 @@ public class EmployeeServiceImpl implements EmployeeService {
                     "User is already linked to employee " + user.getEmployee().getFullname()
             );
             employee.setUser( user );
+            userDetailsCache.evict( user.getUsername() );
+            sessionService.setUserSessionsEmployee( user.getUsername(), employee.getId() );
         }
         employeeRepository.save( employee );
+        employeeRepository.flush();
 
-        return employeeMapper.employeeToEmployeeDTO( employee );
+        return new TaggedDTO<>( employeeMapper.employeeToEmployeeDTO( employee ), versionOf( employee ).toEntityTag() );
     }
 
     @Override
     @Transactional
-    public EmployeeDTO updateEmployee( String id, EmployeeUpdateDTO employeeUpdateDTO ) {
+    public TaggedDTO<EmployeeDTO> updateEmployee( String id, EmployeeUpdateDTO employeeUpdateDTO, String ifMatch ) {
         Employee employee = employeeRepository.findById( UUID.fromString( id ) )
                 .orElseThrow(
                         () -> new EntityNotFoundException( "Could not find employee with id: " + id )
                 );
+        versionOf( employee ).checkIfMatch( ifMatch );
 
-
-        return employeeMapper.employeeToEmployeeDTO(
-                employeeRepository.save( employeeMapper
-                        .toEmployee( employeeUpdateDTO, employee )
-                )
+        Employee savedEmployee = employeeRepository.save( employeeMapper.toEmployee( employeeUpdateDTO, employee ) );
+        employeeRepository.flush();
+        return new TaggedDTO<>(
+                employeeMapper.employeeToEmployeeDTO( savedEmployee ),
+                versionOf( savedEmployee ).toEntityTag()
         );
     }
 
@@ -157,6 +189,8 @@ public class EmployeeServiceImpl implements EmployeeService {
             User user = employee.getUser();
             user.setEmployee( null );
             userRepository.save( user );
+            userDetailsCache.evict( user.getUsername() );
+            sessionService.setUserSessionsEmployee( user.getUsername(), null );
         }
 
         assignmentRepository.deleteAll(
@@ -167,4 +201,13 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         employeeRepository.delete( employee );
     }
+
+    // Same sum as EmployeeRepository.SELECT_VERSION for a single employee, flushed so it matches the stored row
+    private static EntityVersionProjection versionOf( Employee employee ) {
+        return EntityVersionProjection.of(
+                employee.getLastModifiedDate(),
+                employee.getVersion(),
+                employee.getUser() != null ? employee.getUser().getVersion() : null
+        );
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * assemble
+ * CachingHolidayProvider.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*
+ * Keeps provider responses on disk keyed by country and year. Fresh entries are served without
+ * asking the provider, stale entries are refreshed and used as fallback while the provider is unavailable.
+ */
+@Slf4j
+public class CachingHolidayProvider implements HolidayProvider {
+
+    private final HolidayProvider delegate;
+
+    private final Path directory;
+
+    private final Duration timeToLive;
+
+    private final ObjectMapper objectMapper;
+
+    private final Clock clock;
+
+    public CachingHolidayProvider(
+            HolidayProvider delegate,
+            Path directory,
+            Duration timeToLive,
+            ObjectMapper objectMapper,
+            Clock clock
+    ) {
+        this.delegate = delegate;
+        this.directory = directory;
+        this.timeToLive = timeToLive;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public List<HolidayResponse> getHolidays( String countryIsoCode, int year ) {
+        return cached(
+                directory.resolve( FileHolidayProvider.holidaysFileName( countryIsoCode, year ) ),
+                new TypeReference<>() {
+                },
+                () -> delegate.getHolidays( countryIsoCode, year )
+        );
+    }
+
+    @Override
+    public List<SubdivisionResponse> getSubdivisions( String countryIsoCode ) {
+        return cached(
+                directory.resolve( FileHolidayProvider.subdivisionsFileName( countryIsoCode ) ),
+                new TypeReference<>() {
+                },
+                () -> delegate.getSubdivisions( countryIsoCode )
+        );
+    }
+
+    private <T> T cached( Path file, TypeReference<T> type, Supplier<T> loader ) {
+        T entry = read( file, type );
+        if ( entry != null && isFresh( file ) ) return entry;
+
+        T loaded;
+        try {
+            loaded = loader.get();
+        } catch ( HolidayProviderUnavailableException e ) {
+            if ( entry == null ) throw e;
+
+            log.warn( "Holiday provider unavailable, using stale cache entry {}", file.getFileName() );
+            return entry;
+        }
+
+        write( file, loaded );
+        return loaded;
+    }
+
+    private boolean isFresh( Path file ) {
+        try {
+            Instant modified = Files.getLastModifiedTime( file ).toInstant();
+            return clock.instant().isBefore( modified.plus( timeToLive ) );
+        } catch ( IOException e ) {
+            return false;
+        }
+    }
+
+    private <T> T read( Path file, TypeReference<T> type ) {
+        if ( !Files.isRegularFile( file ) ) return null;
+
+        try {
+            return objectMapper.readValue( file.toFile(), type );
+        } catch ( IOException e ) {
+            log.warn( "Ignoring unreadable holiday cache entry {}: {}", file.getFileName(), e.getMessage() );
+            return null;
+        }
+    }
+
+    private void write( Path file, Object value ) {
+        try {
+            Files.createDirectories( directory );
+            // Written next to the entry and moved, readers never see a partial file
+            Path temporary = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+            objectMapper.writeValue( temporary.toFile(), value );
+            Files.move( temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        } catch ( IOException e ) {
+            log.warn( "Could not write holiday cache entry {}: {}", file.getFileName(), e.getMessage() );
+        }
+    }
+}
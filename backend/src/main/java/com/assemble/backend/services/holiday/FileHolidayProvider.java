@@ -0,0 +1,72 @@
+/*
+ * assemble
+ * FileHolidayProvider.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/*
+ * Reads OpenHolidays responses from holidays-<country>-<year>.json and subdivisions-<country>.json,
+ * the layout CachingHolidayProvider writes, so a copied cache directory works as offline source.
+ */
+public class FileHolidayProvider implements HolidayProvider {
+
+    private final Resource location;
+
+    private final ObjectMapper objectMapper;
+
+    public FileHolidayProvider( Resource location, ObjectMapper objectMapper ) {
+        this.location = location;
+        this.objectMapper = objectMapper;
+    }
+
+    static String holidaysFileName( String countryIsoCode, int year ) {
+        return "holidays-" + countryIsoCode + "-" + year + ".json";
+    }
+
+    static String subdivisionsFileName( String countryIsoCode ) {
+        return "subdivisions-" + countryIsoCode + ".json";
+    }
+
+    @Override
+    public List<HolidayResponse> getHolidays( String countryIsoCode, int year ) {
+        return read( holidaysFileName( countryIsoCode, year ), new TypeReference<>() {
+        } );
+    }
+
+    @Override
+    public List<SubdivisionResponse> getSubdivisions( String countryIsoCode ) {
+        return read( subdivisionsFileName( countryIsoCode ), new TypeReference<>() {
+        } );
+    }
+
+    private <T> T read( String fileName, TypeReference<T> type ) {
+        try {
+            Resource resource = location.createRelative( fileName );
+            if ( !resource.exists() )
+                throw new HolidayProviderUnavailableException( "No holiday data available in " + fileName );
+
+            try ( InputStream inputStream = resource.getInputStream() ) {
+                return objectMapper.readValue( inputStream, type );
+            }
+        } catch ( IOException e ) {
+            throw new HolidayProviderUnavailableException( "Could not read holiday data from " + fileName, e );
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * assemble
+ * HolidayCalendar.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+import com.assemble.backend.repositories.holiday.HolidayCalendarProjection;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Day of year index of a single year, bit i stands for the date firstDay + i.
+ * Full day holidays on a weekend are still holidays but do not reduce the working days,
+ * half day holidays on a full day holiday count as full day holidays.
+ * Subdivisions are matched by their exact code, so a regional holiday of DE-BY-AU is no holiday of DE-BY.
+ * A null or unknown subdivision code only takes nation wide holidays into account.
+ */
+public final class HolidayCalendar {
+
+    private final int year;
+
+    private final LocalDate firstDay;
+
+    private final int length;
+
+    private final boolean imported;
+
+    private final BitSet weekends;
+
+    // Slot of every subdivision with own holidays, the slot after them is for nation wide holidays only
+    private final Map<String, Integer> slots;
+
+    private final int nationWide;
+
+    private final BitSet[] fullDays;
+
+    private final BitSet[] halfDays;
+
+    // workingHalfDays[slot][i] is the number of working half days before day i
+    private final int[][] workingHalfDays;
+
+    private HolidayCalendar( int year, Map<String, Integer> slots, boolean imported ) {
+        this.year = year;
+        this.firstDay = LocalDate.of( year, 1, 1 );
+        this.length = firstDay.lengthOfYear();
+        this.imported = imported;
+        this.weekends = new BitSet( length );
+        this.slots = slots;
+        this.nationWide = slots.size();
+        this.fullDays = new BitSet[nationWide + 1];
+        this.halfDays = new BitSet[nationWide + 1];
+        this.workingHalfDays = new int[nationWide + 1][];
+
+        for ( int i = 0; i < length; i++ ) {
+            DayOfWeek dayOfWeek = firstDay.plusDays( i ).getDayOfWeek();
+            if ( dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ) weekends.set( i );
+        }
+
+        for ( int slot = 0; slot <= nationWide; slot++ ) {
+            fullDays[slot] = new BitSet( length );
+            halfDays[slot] = new BitSet( length );
+        }
+    }
+
+    public static HolidayCalendar of( int year, List<HolidayCalendarProjection> entries ) {
+        Map<String, Integer> slots = new HashMap<>();
+        for ( HolidayCalendarProjection entry : entries ) {
+            if ( !Boolean.TRUE.equals( entry.nationWide() ) && entry.subdivisionCode() != null )
+                slots.putIfAbsent( entry.subdivisionCode(), slots.size() );
+        }
+
+        // Every country has holidays of its own each year, holidays reaching in from the last year do not count
+        boolean imported = entries.stream().anyMatch( entry -> entry.startDate().getYear() == year );
+        HolidayCalendar calendar = new HolidayCalendar( year, slots, imported );
+
+        for ( HolidayCalendarProjection entry : entries ) {
+            int from = Math.max( calendar.indexOf( entry.startDate() ), 0 );
+            int to = Math.min( calendar.indexOf( entry.endDate() ), calendar.length - 1 );
+            if ( from > to ) continue;
+
+            BitSet[] days = entry.temporalScope() == TemporalScope.HalfDay ? calendar.halfDays : calendar.fullDays;
+
+            if ( Boolean.TRUE.equals( entry.nationWide() ) ) {
+                for ( BitSet bits : days ) bits.set( from, to + 1 );
+            } else if ( entry.subdivisionCode() != null ) {
+                days[slots.get( entry.subdivisionCode() )].set( from, to + 1 );
+            }
+        }
+
+        for ( int slot = 0; slot <= calendar.nationWide; slot++ ) {
+            calendar.halfDays[slot].andNot( calendar.fullDays[slot] );
+            calendar.workingHalfDays[slot] = calendar.prefixSums( slot );
+        }
+
+        return calendar;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    // False if the holidays of the year were never imported, every day but weekends is a working day then
+    public boolean isImported() {
+        return imported;
+    }
+
+    public boolean isHoliday( LocalDate date, String subdivisionCode ) {
+        int index = checkedIndexOf( date );
+        return fullDays[slotOf( subdivisionCode )].get( index ) || halfDays[slotOf( subdivisionCode )].get( index );
+    }
+
+    public boolean isHalfDayHoliday( LocalDate date, String subdivisionCode ) {
+        return halfDays[slotOf( subdivisionCode )].get( checkedIndexOf( date ) );
+    }
+
+    // Both dates are inclusive and clamped to this year
+    public List<LocalDate> getHolidaysBetween( LocalDate startDate, LocalDate endDate, String subdivisionCode ) {
+        int from = Math.max( indexOf( startDate ), 0 );
+        int to = Math.min( indexOf( endDate ), length - 1 ) + 1;
+        List<LocalDate> holidays = new ArrayList<>();
+        if ( from >= to ) return holidays;
+
+        BitSet days = fullDays[slotOf( subdivisionCode )].get( from, to );
+        days.or( halfDays[slotOf( subdivisionCode )].get( from, to ) );
+
+        for ( int i = days.nextSetBit( 0 ); i >= 0; i = days.nextSetBit( i + 1 ) ) {
+            holidays.add( firstDay.plusDays( from + i ) );
+        }
+
+        return holidays;
+    }
+
+    // Both dates are inclusive and clamped to this year, a half day holiday is one working half day
+    public int getWorkingHalfDaysBetween( LocalDate startDate, LocalDate endDate, String subdivisionCode ) {
+        int from = Math.max( indexOf( startDate ), 0 );
+        int to = Math.min( indexOf( endDate ), length - 1 ) + 1;
+        if ( from >= to ) return 0;
+
+        int[] prefix = workingHalfDays[slotOf( subdivisionCode )];
+        return prefix[to] - prefix[from];
+    }
+
+    public double getWorkingDaysBetween( LocalDate startDate, LocalDate endDate, String subdivisionCode ) {
+        return getWorkingHalfDaysBetween( startDate, endDate, subdivisionCode ) / 2.0;
+    }
+
+    private int[] prefixSums( int slot ) {
+        int[] prefix = new int[length + 1];
+        for ( int i = 0; i < length; i++ ) {
+            int halfDaysOfDay = weekends.get( i ) || fullDays[slot].get( i ) ? 0 : halfDays[slot].get( i ) ? 1 : 2;
+            prefix[i + 1] = prefix[i] + halfDaysOfDay;
+        }
+        return prefix;
+    }
+
+    private int slotOf( String subdivisionCode ) {
+        return subdivisionCode != null ? slots.getOrDefault( subdivisionCode, nationWide ) : nationWide;
+    }
+
+    private int indexOf( LocalDate date ) {
+        if ( date.getYear() < year ) return -1;
+        if ( date.getYear() > year ) return length;
+        return date.getDayOfYear() - 1;
+    }
+
+    private int checkedIndexOf( LocalDate date ) {
+        if ( date.getYear() != year )
+            throw new IllegalArgumentException( "Date " + date + " is not in calendar year " + year );
+        return date.getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * assemble
+ * HolidayCalendarService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface HolidayCalendarService {
+
+    HolidayCalendar getCalendar( HolidayCountry country, int year );
+
+    boolean isHoliday( LocalDate date, HolidayCountry country, String subdivisionCode );
+
+    List<LocalDate> getHolidaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode );
+
+    int getWorkingHalfDaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode );
+
+    double getWorkingDaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode );
+
+    void evictCalendar( HolidayCountry country, int year );
+
+}
@@ -0,0 +1,151 @@
+/*
+ * assemble
+ * HolidayCalendarServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.repositories.holiday.HolidayRepository;
+import com.assemble.backend.utils.InvalidationPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.InvalidParameterException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Keeps the calendar of every country and year that was read, changes are evicted through evictCalendar,
+ * which also tells the other nodes.
+ */
+public class HolidayCalendarServiceImpl implements HolidayCalendarService {
+
+    private final HolidayRepository holidayRepository;
+
+    private final InvalidationPublisher invalidationPublisher;
+
+    private final Map<CalendarKey, HolidayCalendar> calendars = new ConcurrentHashMap<>();
+
+    // Bumped by every eviction, a load that raced with one does not cache what it loaded
+    private final AtomicLong generation = new AtomicLong();
+
+    public HolidayCalendarServiceImpl( HolidayRepository holidayRepository, InvalidationPublisher invalidationPublisher ) {
+        this.holidayRepository = holidayRepository;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    // Loaded outside the map, so a slow query never blocks reads of other calendars, concurrent misses may load twice
+    @Override
+    public HolidayCalendar getCalendar( HolidayCountry country, int year ) {
+        CalendarKey key = new CalendarKey( country, year );
+        HolidayCalendar cached = calendars.get( key );
+        if ( cached != null ) return cached;
+
+        long loadedGeneration = generation.get();
+        HolidayCalendar loaded = loadCalendar( key );
+        synchronized ( calendars ) {
+            if ( generation.get() == loadedGeneration ) calendars.putIfAbsent( key, loaded );
+        }
+        return loaded;
+    }
+
+    @Override
+    public boolean isHoliday( LocalDate date, HolidayCountry country, String subdivisionCode ) {
+        return getCalendar( country, date.getYear() ).isHoliday( date, subdivisionCode );
+    }
+
+    @Override
+    public List<LocalDate> getHolidaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode ) {
+        checkRange( startDate, endDate );
+
+        List<LocalDate> holidays = new ArrayList<>();
+        for ( int year = startDate.getYear(); year <= endDate.getYear(); year++ ) {
+            holidays.addAll( getCalendar( country, year ).getHolidaysBetween( startDate, endDate, subdivisionCode ) );
+        }
+        return holidays;
+    }
+
+    @Override
+    public int getWorkingHalfDaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode ) {
+        checkRange( startDate, endDate );
+
+        int workingHalfDays = 0;
+        for ( int year = startDate.getYear(); year <= endDate.getYear(); year++ ) {
+            workingHalfDays += getCalendar( country, year ).getWorkingHalfDaysBetween( startDate, endDate, subdivisionCode );
+        }
+        return workingHalfDays;
+    }
+
+    @Override
+    public double getWorkingDaysBetween( LocalDate startDate, LocalDate endDate, HolidayCountry country, String subdivisionCode ) {
+        return getWorkingHalfDaysBetween( startDate, endDate, country, subdivisionCode ) / 2.0;
+    }
+
+    // Evicted right away and once more after commit, so a read during the transaction cannot cache the old rows
+    @Override
+    public void evictCalendar( HolidayCountry country, int year ) {
+        String key = country.name() + ":" + year;
+        evictLocally( key );
+        invalidationPublisher.publish( key );
+
+        if ( TransactionSynchronizationManager.isSynchronizationActive() ) {
+            TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally( key );
+                }
+            } );
+        }
+    }
+
+    // Takes the key published by evictCalendar, country and year separated by a colon
+    public void evictLocally( String key ) {
+        int separator = key.indexOf( ':' );
+        if ( separator < 0 ) return;
+
+        CalendarKey calendarKey = new CalendarKey(
+                HolidayCountry.valueOf( key.substring( 0, separator ) ),
+                Integer.parseInt( key.substring( separator + 1 ) )
+        );
+        synchronized ( calendars ) {
+            generation.incrementAndGet();
+            calendars.remove( calendarKey );
+        }
+    }
+
+    public void clear() {
+        synchronized ( calendars ) {
+            generation.incrementAndGet();
+            calendars.clear();
+        }
+    }
+
+    private HolidayCalendar loadCalendar( CalendarKey key ) {
+        return HolidayCalendar.of(
+                key.year(),
+                holidayRepository.findAllCalendarEntriesBetween(
+                        key.country(),
+                        LocalDate.of( key.year(), 1, 1 ),
+                        LocalDate.of( key.year(), 12, 31 )
+                )
+        );
+    }
+
+    private void checkRange( LocalDate startDate, LocalDate endDate ) {
+        if ( startDate == null || endDate == null || startDate.isAfter( endDate ) )
+            throw new InvalidParameterException( "Invalid date range" );
+    }
+
+    private record CalendarKey( HolidayCountry country, int year ) {
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * assemble
+ * HolidayImportJob.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.repositories.holiday.HolidayImportJobRepository;
+
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.Set;
+
+// Import run by this node, its progress is written to the job table and read by the status requests of any node
+final class HolidayImportJob implements HolidayImportListener {
+
+    private final String id;
+
+    private final Set<HolidayCountry> countries;
+
+    private final int fromYear;
+
+    private final int toYear;
+
+    private final HolidayImportJobRepository holidayImportJobRepository;
+
+    private final Clock clock;
+
+    HolidayImportJob(
+            String id,
+            Set<HolidayCountry> countries,
+            int fromYear,
+            int toYear,
+            HolidayImportJobRepository holidayImportJobRepository,
+            Clock clock
+    ) {
+        this.id = id;
+        this.countries = EnumSet.copyOf( countries );
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.holidayImportJobRepository = holidayImportJobRepository;
+        this.clock = clock;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Set<HolidayCountry> getCountries() {
+        return countries;
+    }
+
+    int getFromYear() {
+        return fromYear;
+    }
+
+    int getToYear() {
+        return toYear;
+    }
+
+    @Override
+    public void onStarted( int total ) {
+        holidayImportJobRepository.updateTotal( id, total, clock.instant() );
+    }
+
+    @Override
+    public void onImported( HolidayImportResultDTO result ) {
+        holidayImportJobRepository.insertResult( id, result, clock.instant() );
+    }
+
+    // The flag may be set by any node, it is read once per year, next to a request to the provider
+    @Override
+    public boolean isCancelled() {
+        return holidayImportJobRepository.isCancelRequested( id );
+    }
+}
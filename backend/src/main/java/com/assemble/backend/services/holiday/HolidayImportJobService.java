@@ -0,0 +1,25 @@
+/*
+ * assemble
+ * HolidayImportJobService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+
+import java.util.Set;
+
+public interface HolidayImportJobService {
+
+    HolidayImportJobDTO startImport( Set<HolidayCountry> countries, int fromYear, int toYear );
+
+    HolidayImportJobDTO getJob( String jobId );
+
+    HolidayImportJobDTO cancelJob( String jobId );
+}
@@ -0,0 +1,174 @@
+/*
+ * assemble
+ * HolidayImportJobServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayImportRejectedException;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobDTO;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobStatus;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.repositories.holiday.HolidayImportJobRepository;
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+
+/*
+ * Runs imports on a small bounded pool, so a slow holiday provider never holds a request thread.
+ * Jobs are kept in the job table, so any node answers their status and cancels them, only the node that
+ * accepted a job runs it. Jobs are dropped once they are finished longer than the retention, jobs without
+ * progress for as long are failed, their node went down.
+ */
+@Slf4j
+@Service
+public class HolidayImportJobServiceImpl implements HolidayImportJobService {
+
+    private final HolidayImportService holidayImportService;
+
+    private final HolidayImportJobRepository holidayImportJobRepository;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Duration retention;
+
+    private final Clock clock;
+
+    @Autowired
+    public HolidayImportJobServiceImpl(
+            HolidayImportService holidayImportService,
+            HolidayImportJobRepository holidayImportJobRepository,
+            @Value("${assemble.holidays.import-jobs.threads:2}") int threads,
+            @Value("${assemble.holidays.import-jobs.queue-capacity:10}") int queueCapacity,
+            @Value("${assemble.holidays.import-jobs.retention:1h}") Duration retention
+    ) {
+        this( holidayImportService, holidayImportJobRepository, threads, queueCapacity, retention, Clock.systemUTC() );
+    }
+
+    HolidayImportJobServiceImpl(
+            HolidayImportService holidayImportService,
+            HolidayImportJobRepository holidayImportJobRepository,
+            int threads,
+            int queueCapacity,
+            Duration retention,
+            Clock clock
+    ) {
+        this.holidayImportService = holidayImportService;
+        this.holidayImportJobRepository = holidayImportJobRepository;
+        this.retention = retention;
+        this.clock = clock;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize( threads );
+        this.executor.setMaxPoolSize( threads );
+        this.executor.setQueueCapacity( queueCapacity );
+        this.executor.setThreadNamePrefix( "holiday-import-" );
+        // The import resolves its auditor from the security context of the requesting user
+        this.executor.setTaskDecorator( runnable -> DelegatingSecurityContextRunnable.create( runnable, null ) );
+        this.executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public HolidayImportJobDTO startImport( Set<HolidayCountry> countries, int fromYear, int toYear ) {
+        HolidayImportServiceImpl.checkImportRange( countries, fromYear, toYear );
+        purgeFinishedJobs();
+
+        HolidayImportJobDTO queued = HolidayImportJobDTO.builder()
+                .id( UuidCreator.getTimeOrderedEpoch().toString() )
+                .status( HolidayImportJobStatus.QUEUED )
+                .countries( EnumSet.copyOf( countries ) )
+                .fromYear( fromYear )
+                .toYear( toYear )
+                .total( countries.size() * ( toYear - fromYear + 1 ) )
+                .createdDate( clock.instant() )
+                .results( List.of() )
+                .build();
+        holidayImportJobRepository.insert( queued );
+
+        HolidayImportJob job = new HolidayImportJob(
+                queued.getId(),
+                countries,
+                fromYear,
+                toYear,
+                holidayImportJobRepository,
+                clock
+        );
+        try {
+            executor.execute( () -> run( job ) );
+        } catch ( TaskRejectedException e ) {
+            holidayImportJobRepository.delete( job.getId() );
+            throw new HolidayImportRejectedException( "Too many holiday imports are queued, try again later" );
+        }
+
+        return queued;
+    }
+
+    @Override
+    public HolidayImportJobDTO getJob( String jobId ) {
+        return findJob( jobId );
+    }
+
+    // A running job stops before its next year, the year in progress is still imported and written completely
+    @Override
+    public HolidayImportJobDTO cancelJob( String jobId ) {
+        holidayImportJobRepository.requestCancel( jobId, clock.instant() );
+        return findJob( jobId );
+    }
+
+    private void run( HolidayImportJob job ) {
+        try {
+            if ( !holidayImportJobRepository.markRunning( job.getId(), clock.instant() ) ) return;
+            holidayImportService.importHolidays( job.getCountries(), job.getFromYear(), job.getToYear(), job );
+            finish( job, HolidayImportJobStatus.COMPLETED, null );
+        } catch ( CancellationException e ) {
+            finish( job, HolidayImportJobStatus.CANCELLED, null );
+        } catch ( RuntimeException e ) {
+            log.warn( "Holiday import {} failed: {}", job.getId(), e.getMessage() );
+            finish( job, HolidayImportJobStatus.FAILED, e.getMessage() );
+        }
+    }
+
+    private void finish( HolidayImportJob job, HolidayImportJobStatus status, String error ) {
+        try {
+            holidayImportJobRepository.finish( job.getId(), status, error, clock.instant() );
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not finish holiday import {}: {}", job.getId(), e.getMessage() );
+        }
+    }
+
+    private HolidayImportJobDTO findJob( String jobId ) {
+        return holidayImportJobRepository.findById( jobId )
+                .orElseThrow( () -> new EntityNotFoundException( "Could not find holiday import job with id: " + jobId ) );
+    }
+
+    private void purgeFinishedJobs() {
+        Instant before = clock.instant().minus( retention );
+        holidayImportJobRepository.failAbandoned( before, clock.instant() );
+        holidayImportJobRepository.deleteFinishedBefore( before );
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * assemble
+ * HolidayImportListener.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+
+// Called from the import threads, implementations have to be thread safe
+public interface HolidayImportListener {
+
+    HolidayImportListener NONE = new HolidayImportListener() {
+    };
+
+    default void onStarted( int total ) {
+    }
+
+    default void onImported( HolidayImportResultDTO result ) {
+    }
+
+    // Checked before every year is fetched, a year already in progress is still imported
+    default boolean isCancelled() {
+        return false;
+    }
+}
@@ -10,21 +10,30 @@
 
 package com.assemble.backend.services.holiday;
 
-import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
 import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
 
 import java.util.List;
+import java.util.Set;
 
 public interface HolidayImportService {
 
-    List<Holiday> importHolidaysByYear( int year );
+    List<HolidayImportResultDTO> importHolidays( Set<HolidayCountry> countries, int fromYear, int toYear );
 
-    List<HolidayResponse> getHolidaysByYear( int year );
+    List<HolidayImportResultDTO> importHolidays(
+            Set<HolidayCountry> countries,
+            int fromYear,
+            int toYear,
+            HolidayImportListener listener
+    );
 
-    List<SubdivisionResponse> importSubdivisions();
+    List<HolidayResponse> getHolidaysByYear( HolidayCountry country, int year );
+
+    List<SubdivisionResponse> importSubdivisions( HolidayCountry country );
 
     List<Integer> getImportedYears();
 
-    void deleteHolidaysByYear( int year );
+    void deleteHolidaysByYear( HolidayCountry country, int year );
 }
@@ -10,32 +10,102 @@
 
 package com.assemble.backend.services.holiday;
 
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+import com.assemble.backend.models.entities.auth.UserAudit;
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
 import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
 import com.assemble.backend.models.mappers.holiday.HolidayMapper;
 import com.assemble.backend.models.mappers.holiday.SubdivisionMapper;
 import com.assemble.backend.repositories.holiday.HolidayRepository;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.MediaType;
+import com.github.f4b6a3.uuid.UuidCreator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClient;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class HolidayImportServiceImpl implements HolidayImportService {
 
-    private final RestClient restClient;
+    // Class key of the advisory lock, the object key is the imported or deleted country and year
+    private static final int IMPORT_LOCK = 0x484f4c49;
+
+    static final int MAX_YEARS = 10;
+
+    private static final String SELECT_EXISTING = """
+            SELECT h.id, h.external_id, h.name, h.country, h.start_date, h.end_date, h.temporal_scope, h.nation_wide,
+                coalesce(string_agg(s.subdivision_code, ',' ORDER BY s.subdivision_code), '') AS subdivision_codes
+            FROM holidays h
+            LEFT JOIN holiday_subdivisions s ON s.holiday_id = h.id
+            WHERE h.external_id = ANY (?)
+            GROUP BY h.id
+            """;
+
+    private static final String UPSERT = """
+            INSERT INTO holidays AS h (
+                id, external_id, name, country, start_date, end_date, temporal_scope, nation_wide, version,
+                created_date, last_modified_date, created_by_id, created_by_username,
+                last_modified_by_id, last_modified_by_username
+            )
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (external_id) DO UPDATE SET
+                name = EXCLUDED.name,
+                country = EXCLUDED.country,
+                start_date = EXCLUDED.start_date,
+                end_date = EXCLUDED.end_date,
+                temporal_scope = EXCLUDED.temporal_scope,
+                nation_wide = EXCLUDED.nation_wide,
+                version = h.version + 1,
+                last_modified_date = EXCLUDED.last_modified_date,
+                last_modified_by_id = EXCLUDED.last_modified_by_id,
+                last_modified_by_username = EXCLUDED.last_modified_by_username
+            """;
+
+    private static final String UPSERT_SUBDIVISION = """
+            INSERT INTO subdivisions AS s (code, country, iso_code, short_name, name)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (code) DO UPDATE SET
+                country = EXCLUDED.country,
+                iso_code = EXCLUDED.iso_code,
+                short_name = EXCLUDED.short_name,
+                name = EXCLUDED.name
+            WHERE (s.country, s.iso_code, s.short_name, s.name)
+                IS DISTINCT FROM (EXCLUDED.country, EXCLUDED.iso_code, EXCLUDED.short_name, EXCLUDED.name)
+            """;
+
+    // The subdivision links go with the holidays, the foreign key cascades
+    private static final String DELETE_BY_COUNTRY_AND_YEAR = """
+            DELETE FROM holidays
+            WHERE country = ? AND start_date BETWEEN ? AND ?
+            """;
+
+    private static final String INSERT_HOLIDAY_SUBDIVISION = """
+            INSERT INTO holiday_subdivisions (holiday_id, subdivision_code)
+            VALUES (?, ?)
+            """;
+
+    private final HolidayProvider holidayProvider;
 
     private final HolidayRepository holidayRepository;
 
@@ -43,32 +113,115 @@ public class HolidayImportServiceImpl implements HolidayImportService {
 
     private final SubdivisionMapper subdivisionMapper;
 
+    private final HolidayCalendarService holidayCalendarService;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AuditorAware<UserAudit> auditorAware;
+
+    private final int importConcurrency;
+
     public HolidayImportServiceImpl(
-            RestClient.Builder restClient,
+            HolidayProvider holidayProvider,
             HolidayRepository holidayRepository,
             HolidayMapper holidayMapper,
-            SubdivisionMapper subdivisionMapper
+            SubdivisionMapper subdivisionMapper,
+            HolidayCalendarService holidayCalendarService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            AuditorAware<UserAudit> auditorAware,
+            @Value("${assemble.holidays.import-concurrency:4}") int importConcurrency
     ) {
-        this.restClient = restClient
-                .baseUrl( "https://openholidaysapi.org/" )
-                .build();
+        if ( importConcurrency < 1 ) throw new IllegalArgumentException( "Import concurrency must be positive" );
+
+        this.holidayProvider = holidayProvider;
         this.holidayRepository = holidayRepository;
         this.holidayMapper = holidayMapper;
         this.subdivisionMapper = subdivisionMapper;
+        this.holidayCalendarService = holidayCalendarService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate( transactionManager );
+        this.auditorAware = auditorAware;
+        this.importConcurrency = importConcurrency;
     }
 
     @Override
-    @Transactional
-    public List<Holiday> importHolidaysByYear( int year ) {
-        Set<String> existingHolidayIds = holidayRepository.findAll().stream()
-                .map( Holiday::getExternalId )
-                .collect( Collectors.toSet() );
+    public List<HolidayImportResultDTO> importHolidays( Set<HolidayCountry> countries, int fromYear, int toYear ) {
+        return importHolidays( countries, fromYear, toYear, HolidayImportListener.NONE );
+    }
+
+    @Override
+    public List<HolidayImportResultDTO> importHolidays(
+            Set<HolidayCountry> countries,
+            int fromYear,
+            int toYear,
+            HolidayImportListener listener
+    ) {
+        checkImportRange( countries, fromYear, toYear );
+
+        // Resolved here, the security context is not visible to the import threads
+        UserAudit auditor = auditorAware.getCurrentAuditor().orElse( new UserAudit( null, "SYSTEM" ) );
+
+        List<HolidayCountry> sortedCountries = EnumSet.copyOf( countries ).stream().toList();
+        List<Map<String, Subdivision>> subdivisionMaps = runInParallel( sortedCountries, this::getSubdivisionMap );
+
+        List<ImportTask> tasks = new ArrayList<>();
+        for ( int i = 0; i < sortedCountries.size(); i++ ) {
+            for ( int year = fromYear; year <= toYear; year++ ) {
+                tasks.add( new ImportTask( sortedCountries.get( i ), year, subdivisionMaps.get( i ) ) );
+            }
+        }
 
-        List<HolidayResponse> holidayResponses = getHolidaysByYear( year );
+        listener.onStarted( tasks.size() );
+        return runInParallel( tasks, task -> {
+            if ( listener.isCancelled() ) throw new CancellationException( "Holiday import was cancelled" );
+            HolidayImportResultDTO result = importHolidays( task, auditor );
+            listener.onImported( result );
+            return result;
+        } );
+    }
+
+    // Shared with the job service, so an invalid range is rejected before a job is queued
+    static void checkImportRange( Set<HolidayCountry> countries, int fromYear, int toYear ) {
+        if ( countries == null || countries.isEmpty() )
+            throw new InvalidParameterException( "At least one country is required" );
+        if ( fromYear > toYear )
+            throw new InvalidParameterException( "From year must not be after to year" );
+        if ( toYear - fromYear >= MAX_YEARS )
+            throw new InvalidParameterException( "Year range must not exceed " + MAX_YEARS + " years" );
+    }
+
+    private HolidayImportResultDTO importHolidays( ImportTask task, UserAudit auditor ) {
+        // Fetched before the transaction, so neither a connection nor the lock is held during the request
+        List<HolidayResponse> holidayResponses = getHolidaysByYear( task.country(), task.year() );
+
+        Map<String, Holiday> holidays = new LinkedHashMap<>();
+        for ( HolidayResponse holidayResponse : holidayResponses ) {
+            List<Subdivision> subdivisions = !holidayResponse.nationwide()
+                    && holidayResponse.subdivisions() != null ?
+                    holidayResponse.subdivisions().stream()
+                            .map( subdivisionReference ->
+                                    task.subdivisions().get( subdivisionReference.code() )
+                            )
+                            .filter( Objects::nonNull )
+                            .distinct()
+                            .toList()
+                    : List.of();
+            holidays.put(
+                    holidayResponse.id(),
+                    holidayMapper.toHoliday( holidayResponse, subdivisions, task.country() )
+            );
+        }
+
+        return transactionTemplate.execute( status -> upsertHolidays( task.country(), task.year(), holidays, auditor ) );
+    }
 
-        List<SubdivisionResponse> subdivisionResponses = importSubdivisions();
-        Map<String, Subdivision> subdivisionMap = subdivisionResponses.stream()
-                .map( subdivisionMapper::toSubdivision )
+    // Upserts the reference rows once per country, the holidays of every year only link to them
+    private Map<String, Subdivision> getSubdivisionMap( HolidayCountry country ) {
+        Map<String, Subdivision> subdivisions = importSubdivisions( country ).stream()
+                .map( subdivisionResponse -> subdivisionMapper.toSubdivision( subdivisionResponse, country ) )
                 .collect(
                         Collectors.toMap(
                                 Subdivision::getCode,
@@ -76,56 +229,142 @@ public class HolidayImportServiceImpl implements HolidayImportService {
                         )
                 );
 
-        List<Holiday> holidays = holidayResponses.stream()
-                .filter( holidayResponse -> !existingHolidayIds.contains( holidayResponse.id() ) )
-                .map( holidayResponse -> {
-                    List<Subdivision> subdivisions = !holidayResponse.nationwide()
-                            && holidayResponse.subdivisions() != null ?
-                            holidayResponse.subdivisions().stream()
-                                    .map( subdivisionReference ->
-                                            subdivisionMap.get( subdivisionReference.code() )
-                                    )
-                                    .filter( Objects::nonNull )
-                                    .toList()
-                            : null;
-                    return holidayMapper.toHoliday( holidayResponse, subdivisions );
-                } )
-                .toList();
+        transactionTemplate.executeWithoutResult( status ->
+                jdbcTemplate.batchUpdate( UPSERT_SUBDIVISION, subdivisions.values().stream()
+                        .sorted( Comparator.comparing( Subdivision::getCode ) )
+                        .map( subdivision -> new Object[]{
+                                subdivision.getCode(),
+                                subdivision.getCountry().name(),
+                                subdivision.getIsoCode(),
+                                subdivision.getShortName(),
+                                subdivision.getName()
+                        } )
+                        .toList()
+                )
+        );
+
+        return subdivisions;
+    }
+
+    // Runs every action on its own virtual thread, at most importConcurrency at the same time
+    private <T, R> List<R> runInParallel( List<T> items, Function<T, R> action ) {
+        Semaphore permits = new Semaphore( importConcurrency );
+        List<Future<R>> futures = new ArrayList<>();
 
+        try ( ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor() ) {
+            for ( T item : items ) {
+                futures.add( executor.submit( () -> {
+                    permits.acquire();
+                    try {
+                        return action.apply( item );
+                    } finally {
+                        permits.release();
+                    }
+                } ) );
+            }
+        }
 
-        return holidayRepository.saveAll( holidays );
+        // All actions have finished here, years imported next to a failed one stay committed
+        List<R> results = new ArrayList<>();
+        for ( Future<R> future : futures ) {
+            switch ( future.state() ) {
+                case SUCCESS -> results.add( future.resultNow() );
+                case FAILED -> {
+                    if ( future.exceptionNow() instanceof RuntimeException e ) throw e;
+                    throw new IllegalStateException( "Holiday import failed", future.exceptionNow() );
+                }
+                // Interrupted while waiting, the executor stopped the remaining actions
+                default -> throw new CancellationException( "Holiday import was cancelled" );
+            }
+        }
+        return results;
+    }
+
+    private HolidayImportResultDTO upsertHolidays(
+            HolidayCountry country,
+            int year,
+            Map<String, Holiday> holidays,
+            UserAudit auditor
+    ) {
+        lockCountryAndYear( country, year );
+
+        Map<String, ExistingHoliday> existingHolidays = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement( SELECT_EXISTING );
+                    statement.setArray( 1, connection.createArrayOf( "varchar", holidays.keySet().toArray() ) );
+                    return statement;
+                },
+                resultSet -> {
+                    existingHolidays.put( resultSet.getString( "external_id" ), toExistingHoliday( resultSet ) );
+                }
+        );
+
+        List<Holiday> changedHolidays = new ArrayList<>();
+        int inserted = 0;
+        for ( Holiday holiday : holidays.values() ) {
+            ExistingHoliday existingHoliday = existingHolidays.get( holiday.getExternalId() );
+            if ( existingHoliday == null ) {
+                holiday.setId( UuidCreator.getTimeOrderedEpoch() );
+                changedHolidays.add( holiday );
+                inserted++;
+            } else if ( !existingHoliday.matches( holiday ) ) {
+                holiday.setId( existingHoliday.id() );
+                changedHolidays.add( holiday );
+            }
+        }
+        int updated = changedHolidays.size() - inserted;
+
+        if ( !changedHolidays.isEmpty() ) {
+            Timestamp now = Timestamp.from( Instant.now() );
+
+            jdbcTemplate.batchUpdate( UPSERT, changedHolidays.stream()
+                    .map( holiday -> new Object[]{
+                            holiday.getId(),
+                            holiday.getExternalId(),
+                            holiday.getName(),
+                            holiday.getCountry().name(),
+                            holiday.getStartDate(),
+                            holiday.getEndDate(),
+                            holiday.getTemporalScope().name(),
+                            holiday.getNationWide(),
+                            now,
+                            now,
+                            auditor.getId(),
+                            auditor.getUsername(),
+                            auditor.getId(),
+                            auditor.getUsername()
+                    } )
+                    .toList()
+            );
+
+            jdbcTemplate.batchUpdate( "DELETE FROM holiday_subdivisions WHERE holiday_id = ?", changedHolidays.stream()
+                    .filter( holiday -> existingHolidays.containsKey( holiday.getExternalId() ) )
+                    .map( holiday -> new Object[]{ holiday.getId() } )
+                    .toList()
+            );
+
+            jdbcTemplate.batchUpdate( INSERT_HOLIDAY_SUBDIVISION, changedHolidays.stream()
+                    .flatMap( holiday -> holiday.getSubdivisions().stream()
+                            .map( subdivision -> new Object[]{ holiday.getId(), subdivision.getCode() } )
+                    )
+                    .toList()
+            );
+
+            holidayCalendarService.evictCalendar( country, year );
+        }
+
+        return new HolidayImportResultDTO( country, year, inserted, updated, holidays.size() - inserted - updated );
     }
 
     @Override
-    public List<HolidayResponse> getHolidaysByYear( int year ) {
-        String validFrom = year + "-01-01";
-        String validTo = year + "-12-31";
-
-        return this.restClient
-                .get()
-                .uri( "PublicHolidays?countryIsoCode=DE&languageIsoCode=DE"
-                                + "&validFrom={validFrom}"
-                                + "&validTo={validTo}",
-                        validFrom,
-                        validTo
-                )
-                .accept( MediaType.APPLICATION_JSON )
-                .acceptCharset( StandardCharsets.UTF_8 )
-                .retrieve()
-                .body( new ParameterizedTypeReference<List<HolidayResponse>>() {
-                } );
+    public List<HolidayResponse> getHolidaysByYear( HolidayCountry country, int year ) {
+        return holidayProvider.getHolidays( country.name(), year );
     }
 
     @Override
-    public List<SubdivisionResponse> importSubdivisions() {
-        return this.restClient
-                .get()
-                .uri( "Subdivisions?countryIsoCode=DE&languageIsoCode=DE" )
-                .accept( MediaType.APPLICATION_JSON )
-                .acceptCharset( StandardCharsets.UTF_8 )
-                .retrieve()
-                .body( new ParameterizedTypeReference<List<SubdivisionResponse>>() {
-                } );
+    public List<SubdivisionResponse> importSubdivisions( HolidayCountry country ) {
+        return holidayProvider.getSubdivisions( country.name() );
     }
 
     @Override
@@ -136,11 +375,64 @@ public class HolidayImportServiceImpl implements HolidayImportService {
 
     @Override
     @Transactional
-    public void deleteHolidaysByYear( int year ) {
-        LocalDate startDate = LocalDate.of( year, 1, 1 );
-        LocalDate endDate = LocalDate.of( year, 12, 31 );
+    public void deleteHolidaysByYear( HolidayCountry country, int year ) {
+        lockCountryAndYear( country, year );
+
+        int deleted = jdbcTemplate.update(
+                DELETE_BY_COUNTRY_AND_YEAR,
+                country.name(),
+                LocalDate.of( year, 1, 1 ),
+                LocalDate.of( year, 12, 31 )
+        );
+        if ( deleted > 0 ) holidayCalendarService.evictCalendar( country, year );
+    }
+
+    // Serializes imports and deletes of the same country and year across nodes, released on commit or rollback
+    private void lockCountryAndYear( HolidayCountry country, int year ) {
+        jdbcTemplate.query( "SELECT pg_advisory_xact_lock(?, ?)", resultSet -> {
+        }, IMPORT_LOCK, country.ordinal() * 10_000 + year );
+    }
+
+    private ExistingHoliday toExistingHoliday( ResultSet resultSet ) throws SQLException {
+        return new ExistingHoliday(
+                resultSet.getObject( "id", UUID.class ),
+                resultSet.getString( "name" ),
+                resultSet.getString( "country" ),
+                resultSet.getObject( "start_date", LocalDate.class ),
+                resultSet.getObject( "end_date", LocalDate.class ),
+                resultSet.getString( "temporal_scope" ),
+                resultSet.getBoolean( "nation_wide" ),
+                resultSet.getString( "subdivision_codes" )
+        );
+    }
+
+    private record ExistingHoliday(
+            UUID id,
+            String name,
+            String country,
+            LocalDate startDate,
+            LocalDate endDate,
+            String temporalScope,
+            boolean nationWide,
+            String subdivisionCodes
+    ) {
+
+        boolean matches( Holiday holiday ) {
+            String codes = holiday.getSubdivisions().stream()
+                    .map( Subdivision::getCode )
+                    .sorted()
+                    .collect( Collectors.joining( "," ) );
+
+            return name.equals( holiday.getName() )
+                    && country.equals( holiday.getCountry().name() )
+                    && startDate.equals( holiday.getStartDate() )
+                    && endDate.equals( holiday.getEndDate() )
+                    && temporalScope.equals( holiday.getTemporalScope().name() )
+                    && nationWide == holiday.getNationWide()
+                    && subdivisionCodes.equals( codes );
+        }
+    }
 
-        List<Holiday> holidays = holidayRepository.searchHolidayByStartDateBetween( startDate, endDate );
-        holidayRepository.deleteAll( holidays );
+    private record ImportTask( HolidayCountry country, int year, Map<String, Subdivision> subdivisions ) {
     }
 }
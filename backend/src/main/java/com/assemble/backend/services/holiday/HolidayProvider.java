@@ -0,0 +1,24 @@
+/*
+ * assemble
+ * HolidayProvider.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
+
+import java.util.List;
+
+public interface HolidayProvider {
+
+    List<HolidayResponse> getHolidays( String countryIsoCode, int year );
+
+    List<SubdivisionResponse> getSubdivisions( String countryIsoCode );
+
+}
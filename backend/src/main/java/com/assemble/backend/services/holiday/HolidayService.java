@@ -11,11 +11,12 @@
 package com.assemble.backend.services.holiday;
 
 import com.assemble.backend.models.dtos.holiday.HolidayDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 
 import java.util.List;
 
 public interface HolidayService {
 
-    List<HolidayDTO> getHolidaysByYearAndSubdivisionCode( int year, String subdivisionCode );
+    List<HolidayDTO> getHolidaysByYearAndSubdivisionCode( int year, HolidayCountry country, String subdivisionCode );
 
 }
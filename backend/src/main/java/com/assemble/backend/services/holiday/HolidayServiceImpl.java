@@ -11,8 +11,7 @@
 package com.assemble.backend.services.holiday;
 
 import com.assemble.backend.models.dtos.holiday.HolidayDTO;
-import com.assemble.backend.models.entities.holiday.Holiday;
-import com.assemble.backend.models.entities.holiday.Subdivision;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.mappers.holiday.HolidayMapper;
 import com.assemble.backend.repositories.holiday.HolidayRepository;
 import lombok.AllArgsConstructor;
@@ -32,19 +31,12 @@ public class HolidayServiceImpl implements HolidayService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<HolidayDTO> getHolidaysByYearAndSubdivisionCode( int year, String subdivisionCode ) {
+    public List<HolidayDTO> getHolidaysByYearAndSubdivisionCode( int year, HolidayCountry country, String subdivisionCode ) {
         LocalDate startDate = LocalDate.of( year, 1, 1 );
         LocalDate endDate = LocalDate.of( year, 12, 31 );
 
-        List<Holiday> holidays = holidayRepository.searchHolidayByStartDateBetween( startDate, endDate );
-
-        return holidays.stream()
-                .filter(
-                        holiday -> holiday.getNationWide() ||
-                                holiday.getSubdivisions().stream()
-                                        .map( Subdivision::getCode ).toList()
-                                        .contains( subdivisionCode )
-                )
+        return holidayRepository.findAllByCountryAndSubdivisionBetween( country, subdivisionCode, startDate, endDate )
+                .stream()
                 .map( holidayMapper::toHolidayDTO )
                 .toList();
     }
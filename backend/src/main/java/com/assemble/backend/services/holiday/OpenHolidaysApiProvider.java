@@ -0,0 +1,141 @@
+/*
+ * assemble
+ * OpenHolidaysApiProvider.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.models.entities.holiday.api.SubdivisionResponse;
+import com.assemble.backend.utils.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+public class OpenHolidaysApiProvider implements HolidayProvider {
+
+    private final RestClient restClient;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final int maxAttempts;
+
+    private final Duration initialBackoff;
+
+    public OpenHolidaysApiProvider(
+            RestClient restClient,
+            CircuitBreaker circuitBreaker,
+            int maxAttempts,
+            Duration initialBackoff
+    ) {
+        if ( maxAttempts < 1 ) throw new IllegalArgumentException( "Max attempts must be positive" );
+
+        this.restClient = restClient;
+        this.circuitBreaker = circuitBreaker;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+    }
+
+    @Override
+    public List<HolidayResponse> getHolidays( String countryIsoCode, int year ) {
+        String validFrom = year + "-01-01";
+        String validTo = year + "-12-31";
+
+        return execute( () -> this.restClient
+                .get()
+                .uri( "PublicHolidays?countryIsoCode={countryIsoCode}&languageIsoCode=DE"
+                                + "&validFrom={validFrom}"
+                                + "&validTo={validTo}",
+                        countryIsoCode,
+                        validFrom,
+                        validTo
+                )
+                .accept( MediaType.APPLICATION_JSON )
+                .acceptCharset( StandardCharsets.UTF_8 )
+                .retrieve()
+                .body( new ParameterizedTypeReference<List<HolidayResponse>>() {
+                } )
+        );
+    }
+
+    @Override
+    public List<SubdivisionResponse> getSubdivisions( String countryIsoCode ) {
+        return execute( () -> this.restClient
+                .get()
+                .uri( "Subdivisions?countryIsoCode={countryIsoCode}&languageIsoCode=DE", countryIsoCode )
+                .accept( MediaType.APPLICATION_JSON )
+                .acceptCharset( StandardCharsets.UTF_8 )
+                .retrieve()
+                .body( new ParameterizedTypeReference<List<SubdivisionResponse>>() {
+                } )
+        );
+    }
+
+    private <T> T execute( Supplier<T> request ) {
+        if ( !circuitBreaker.tryAcquire() )
+            throw new HolidayProviderUnavailableException( "Holiday provider is unavailable, try again later" );
+
+        // Every outcome is reported, an unreported trial call would keep the breaker half open for good
+        try {
+            T result = retry( request );
+            circuitBreaker.onSuccess();
+            return result;
+        } catch ( HttpStatusCodeException e ) {
+            // Only client errors get here, the provider answered, it is not the provider that is broken
+            circuitBreaker.onSuccess();
+            throw e;
+        } catch ( RuntimeException e ) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private <T> T retry( Supplier<T> request ) {
+        Duration backoff = initialBackoff;
+        for ( int attempt = 1; ; attempt++ ) {
+            try {
+                return request.get();
+            } catch ( ResourceAccessException | HttpStatusCodeException e ) {
+                if ( !isRetryable( e ) ) throw e;
+                if ( attempt >= maxAttempts )
+                    throw new HolidayProviderUnavailableException( "Holiday provider request failed", e );
+
+                log.warn( "Holiday provider request failed, attempt {} of {}: {}", attempt, maxAttempts, e.getMessage() );
+                sleep( backoff );
+                backoff = backoff.multipliedBy( 2 );
+            }
+        }
+    }
+
+    private boolean isRetryable( RuntimeException e ) {
+        if ( e instanceof HttpStatusCodeException statusException )
+            return statusException.getStatusCode().is5xxServerError()
+                    || statusException.getStatusCode().isSameCodeAs( HttpStatus.TOO_MANY_REQUESTS );
+        return true;
+    }
+
+    private void sleep( Duration duration ) {
+        try {
+            Thread.sleep( duration );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new HolidayProviderUnavailableException( "Interrupted while waiting for the holiday provider", e );
+        }
+    }
+}
@@ -49,9 +49,8 @@ public class ProjectAssignmentServiceImpl implements ProjectAssignmentService {
 
     @Override
     public List<ProjectAssignmentDTO> getOwnProjectAssignments( SecurityUser user ) {
-        Employee employee = employeeRepository.findByUser_Id( user.getUser().getId() ).orElse( null );
-        if ( employee != null ) {
-            return projectAssignmentRepository.findAllByEmployeeId( employee.getId() )
+        if ( user.getEmployeeId() != null ) {
+            return projectAssignmentRepository.findAllByEmployeeId( user.getEmployeeId() )
                     .stream()
                     .map( projectAssignmentMapper::toProjectAssignmentDTO )
                     .toList();
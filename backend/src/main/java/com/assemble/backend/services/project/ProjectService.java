@@ -10,6 +10,7 @@
 
 package com.assemble.backend.services.project;
 
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.project.ProjectCreateDTO;
 import com.assemble.backend.models.dtos.project.ProjectDTO;
 import com.assemble.backend.models.dtos.project.ProjectUpdateDTO;
@@ -22,11 +23,15 @@ public interface ProjectService {
 
     ProjectDTO getProjectById( String id );
 
+    String getAllProjectsTag();
+
+    String getProjectTag( String id );
+
     List<ProjectDTO> searchAllProjects( String searchTerm );
 
     ProjectDTO createProject( ProjectCreateDTO projectCreateDTO );
 
-    ProjectDTO updateProject( String id, ProjectUpdateDTO projectUpdateDTO );
+    TaggedDTO<ProjectDTO> updateProject( String id, ProjectUpdateDTO projectUpdateDTO, String ifMatch );
 
     void deleteProjectById( String id );
 }
@@ -10,11 +10,13 @@
 
 package com.assemble.backend.services.project;
 
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.project.ProjectCreateDTO;
 import com.assemble.backend.models.dtos.project.ProjectDTO;
 import com.assemble.backend.models.dtos.project.ProjectUpdateDTO;
 import com.assemble.backend.models.entities.project.Project;
 import com.assemble.backend.models.mappers.project.ProjectMapper;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
 import com.assemble.backend.repositories.project.ProjectRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -51,6 +53,16 @@ public class ProjectServiceImpl implements ProjectService {
         return projectMapper.toProjectDTO( project );
     }
 
+    @Override
+    public String getAllProjectsTag() {
+        return projectRepository.findVersion().toEntityTag();
+    }
+
+    @Override
+    public String getProjectTag( String id ) {
+        return projectRepository.findVersionById( UUID.fromString( id ) ).toEntityTag();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ProjectDTO> searchAllProjects( String searchTerm ) {
@@ -70,17 +82,16 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional
-    public ProjectDTO updateProject( String id, ProjectUpdateDTO projectUpdateDTO ) {
+    public TaggedDTO<ProjectDTO> updateProject( String id, ProjectUpdateDTO projectUpdateDTO, String ifMatch ) {
         Project project = projectRepository.findById( UUID.fromString( id ) )
                 .orElseThrow(
                         () -> new EntityNotFoundException( "Could not find project with id: " + id )
                 );
+        versionOf( project ).checkIfMatch( ifMatch );
 
-        return projectMapper.toProjectDTO(
-                projectRepository.save(
-                        projectMapper.toProject( projectUpdateDTO, project )
-                )
-        );
+        Project savedProject = projectRepository.save( projectMapper.toProject( projectUpdateDTO, project ) );
+        projectRepository.flush();
+        return new TaggedDTO<>( projectMapper.toProjectDTO( savedProject ), versionOf( savedProject ).toEntityTag() );
     }
 
     @Override
@@ -98,4 +109,9 @@ public class ProjectServiceImpl implements ProjectService {
 
         projectRepository.delete( project );
     }
+
+    // Same sum as ProjectRepository.SELECT_VERSION for a single project, flushed so it matches the stored row
+    private static EntityVersionProjection versionOf( Project project ) {
+        return EntityVersionProjection.of( project.getLastModifiedDate(), project.getVersion() );
+    }
 }
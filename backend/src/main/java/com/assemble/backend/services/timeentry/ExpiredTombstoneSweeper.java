@@ -0,0 +1,98 @@
+/*
+ * assemble
+ * ExpiredTombstoneSweeper.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.utils.SchedulerLease;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Purges the time entry tombstones older than the sync retention on a schedule.
+ * Only the node holding the lease purges, the others skip their runs until the lease expires.
+ */
+@Slf4j
+public class ExpiredTombstoneSweeper {
+
+    static final String LEASE_NAME = "expired-tombstone-sweeper";
+
+    private final TimeEntrySyncService timeEntrySyncService;
+
+    private final SchedulerLease lease;
+
+    private final Counter purgedCounter;
+
+    private ScheduledExecutorService scheduler;
+
+    public ExpiredTombstoneSweeper(
+            TimeEntrySyncService timeEntrySyncService,
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry,
+            Duration leaseDuration
+    ) {
+        this.timeEntrySyncService = timeEntrySyncService;
+        this.lease = new SchedulerLease( jdbcOperations, LEASE_NAME, leaseDuration );
+
+        this.purgedCounter = Counter.builder( "assemble.timeentries.tombstones.purged" )
+                .description( "Number of expired time entry tombstones deleted" )
+                .register( meterRegistry );
+    }
+
+    public synchronized void start( Duration interval ) {
+        if ( scheduler != null ) return;
+        if ( lease.getDuration().compareTo( interval ) <= 0 )
+            throw new IllegalArgumentException( "Lease duration must be longer than the sweep interval" );
+
+        scheduler = Executors.newSingleThreadScheduledExecutor( Thread.ofPlatform()
+                .name( "tombstone-sweeper" )
+                .daemon()
+                .factory()
+        );
+        scheduler.scheduleWithFixedDelay(
+                this::sweepQuietly,
+                interval.toMillis(),
+                interval.toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+    }
+
+    public synchronized void close() {
+        if ( scheduler == null ) return;
+        scheduler.shutdownNow();
+        scheduler = null;
+        lease.release();
+    }
+
+    // Number of tombstones deleted, -1 if another node holds the lease
+    public int sweep() {
+        if ( !lease.tryAcquire() ) return -1;
+
+        int purged = timeEntrySyncService.purgeTombstones();
+        purgedCounter.increment( purged );
+
+        if ( purged > 0 ) log.debug( "Deleted {} expired time entry tombstones", purged );
+        return purged;
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not delete expired time entry tombstones: {}", e.getMessage() );
+        }
+    }
+}
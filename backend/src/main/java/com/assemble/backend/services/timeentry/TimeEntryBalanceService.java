@@ -0,0 +1,24 @@
+/*
+ * assemble
+ * TimeEntryBalanceService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBalanceDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+
+import java.util.List;
+
+public interface TimeEntryBalanceService {
+
+    List<TimeEntryBalanceDTO> getMonthlyBalances( String employeeId, String from, String to );
+
+    List<TimeEntryBalanceDTO> getOwnMonthlyBalances( SecurityUser user, String from, String to );
+
+}
@@ -0,0 +1,155 @@
+/*
+ * assemble
+ * TimeEntryBalanceServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBalanceDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.models.entities.holiday.SubdivisionCode;
+import com.assemble.backend.repositories.employee.EmployeeRepository;
+import com.assemble.backend.services.app.AppSettingsService;
+import com.assemble.backend.services.holiday.HolidayCalendarService;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class TimeEntryBalanceServiceImpl implements TimeEntryBalanceService {
+
+    static final int MAX_MONTHS = 36;
+
+    private static final String ACTUAL_TIME = """
+            SELECT CAST(date_trunc('month', r.%1$s) AS date) AS month, sum(r.total_time - r.pause_time) AS actual_time
+            FROM %2$s r
+            WHERE r.employee_id = ? AND r.%1$s BETWEEN ? AND ?
+            GROUP BY 1
+            """.formatted(
+            TimeEntryRollupGranularity.DAY.getPeriodColumn(),
+            TimeEntryRollupGranularity.DAY.getTableName()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EmployeeRepository employeeRepository;
+
+    private final HolidayCalendarService holidayCalendarService;
+
+    private final AppSettingsService appSettingsService;
+
+    private final long dailyMinutes;
+
+    public TimeEntryBalanceServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            EmployeeRepository employeeRepository,
+            HolidayCalendarService holidayCalendarService,
+            AppSettingsService appSettingsService,
+            @Value("${assemble.working-time.daily-minutes:480}") long dailyMinutes
+    ) {
+        if ( dailyMinutes < 0 ) throw new IllegalArgumentException( "Daily working minutes must not be negative" );
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.employeeRepository = employeeRepository;
+        this.holidayCalendarService = holidayCalendarService;
+        this.appSettingsService = appSettingsService;
+        this.dailyMinutes = dailyMinutes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryBalanceDTO> getMonthlyBalances( String employeeId, String from, String to ) {
+        UUID id = UUID.fromString( employeeId );
+        if ( !employeeRepository.existsById( id ) )
+            throw new EntityNotFoundException( "Could not find employee with id: " + employeeId );
+
+        return calculateMonthlyBalances( id, parseDate( from ), parseDate( to ) );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryBalanceDTO> getOwnMonthlyBalances( SecurityUser user, String from, String to ) {
+        if ( user.getEmployeeId() == null )
+            throw new EntityNotFoundException( "Could not find employee for user with id: " + user.getId() );
+
+        return calculateMonthlyBalances( user.getEmployeeId(), parseDate( from ), parseDate( to ) );
+    }
+
+    private List<TimeEntryBalanceDTO> calculateMonthlyBalances( UUID employeeId, LocalDate from, LocalDate to ) {
+        if ( from.isAfter( to ) )
+            throw new InvalidParameterException( "From date must not be after to date" );
+        if ( ChronoUnit.MONTHS.between( YearMonth.from( from ), YearMonth.from( to ) ) >= MAX_MONTHS )
+            throw new InvalidParameterException( "Date range must not exceed " + MAX_MONTHS + " months" );
+
+        // The company subdivision is a german state, employees have no country of their own yet
+        SubdivisionCode subdivisionCode = appSettingsService.getSettings().getHolidaySubdivisionCode();
+        String subdivisionIsoCode = subdivisionCode != null ? subdivisionCode.getIsoCode() : null;
+
+        Map<LocalDate, Long> actualNanos = new HashMap<>();
+        jdbcTemplate.query( ACTUAL_TIME, resultSet -> {
+            actualNanos.put( resultSet.getObject( "month", LocalDate.class ), resultSet.getLong( "actual_time" ) );
+        }, employeeId, from, to );
+
+        List<TimeEntryBalanceDTO> balances = new ArrayList<>();
+        for ( YearMonth month = YearMonth.from( from ); !month.isAfter( YearMonth.from( to ) ); month = month.plusMonths( 1 ) ) {
+            LocalDate start = from.isAfter( month.atDay( 1 ) ) ? from : month.atDay( 1 );
+            LocalDate end = to.isBefore( month.atEndOfMonth() ) ? to : month.atEndOfMonth();
+
+            int workingHalfDays = holidayCalendarService.getWorkingHalfDaysBetween(
+                    start,
+                    end,
+                    HolidayCountry.DE,
+                    subdivisionIsoCode
+            );
+            boolean holidaysImported = holidayCalendarService.getCalendar( HolidayCountry.DE, month.getYear() ).isImported();
+            Duration targetTime = Duration.ofSeconds( workingHalfDays * dailyMinutes * 30 );
+            Duration actualTime = Duration.ofNanos( actualNanos.getOrDefault( month.atDay( 1 ), 0L ) );
+
+            balances.add( TimeEntryBalanceDTO.builder()
+                    .employeeId( employeeId )
+                    .from( start )
+                    .to( end )
+                    .subdivisionCode( subdivisionCode )
+                    .holidaysImported( holidaysImported )
+                    .workingDays( workingHalfDays / 2.0 )
+                    .targetTime( targetTime )
+                    .actualTime( actualTime )
+                    .balance( actualTime.minus( targetTime ) )
+                    .build()
+            );
+        }
+
+        return balances;
+    }
+
+    private LocalDate parseDate( String date ) {
+        if ( date == null ) throw new InvalidParameterException( "Invalid date format" );
+
+        try {
+            return LocalDate.parse( date );
+        } catch ( DateTimeParseException e ) {
+            throw new InvalidParameterException( "Invalid date format" );
+        }
+    }
+}
@@ -21,6 +21,8 @@ import java.time.Duration;
 @Service
 public class TimeEntryCalculationService {
 
+    private static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
     private final MathContext mathContext = new MathContext(
             MathContext.DECIMAL64.getPrecision(), RoundingMode.HALF_UP
     );
@@ -41,4 +43,47 @@ public class TimeEntryCalculationService {
                         .multiply( BigDecimal.valueOf( minutes ), mathContext )
         );
     }
+
+    // Total as the NUMERIC(38,2) columns store it, used wherever the total of a time entry is written
+    public BigDecimal calculateRoundedTotal( Duration total, Duration pause, BigDecimal rate ) {
+        return BigDecimal.valueOf( calculateTotalCents( total, pause, rate ), 2 );
+    }
+
+    // Allocation free variant for recalculation jobs, equal to calculateTotal rounded HALF_UP to cents
+    public long calculateTotalCents( Duration total, Duration pause, BigDecimal rate ) {
+        if ( total == null || rate == null ) throw new InvalidParameterException( "Total or rate cannot be null" );
+
+        long seconds = total.getSeconds();
+        int nanos = total.getNano();
+        if ( pause != null ) {
+            seconds -= pause.getSeconds();
+            nanos -= pause.getNano();
+            if ( nanos < 0 ) seconds--;
+        }
+        // Same truncation as Duration.toMinutes() on the difference
+        long minutes = seconds / 60;
+
+        long rateCents = toCents( rate );
+        if ( rateCents == NOT_REPRESENTABLE || Math.abs( minutes ) >= TimeEntryFixedPointCalculator.MAX_MINUTES ) {
+            return calculateTotal( total, pause, rate )
+                    .setScale( 2, RoundingMode.HALF_UP )
+                    .unscaledValue()
+                    .longValueExact();
+        }
+
+        return TimeEntryFixedPointCalculator.calculateTotalCents( minutes, rateCents );
+    }
+
+    private long toCents( BigDecimal rate ) {
+        int scale = rate.scale();
+        if ( scale < 0 || scale > 2 || rate.precision() > 18 ) {
+            BigDecimal stripped = rate.stripTrailingZeros();
+            if ( stripped.scale() > 2 || stripped.precision() - stripped.scale() > 16 ) return NOT_REPRESENTABLE;
+            rate = stripped.setScale( 2, RoundingMode.UNNECESSARY );
+            scale = 2;
+        }
+
+        long cents = rate.unscaledValue().longValue() * ( scale == 2 ? 1 : scale == 1 ? 10 : 100 );
+        return Math.abs( cents ) < TimeEntryFixedPointCalculator.MAX_RATE_CENTS ? cents : NOT_REPRESENTABLE;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * assemble
+ * TimeEntryCursor.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position on (date, id) of a time entry. Ids are UUIDv7,
+ * so entries of the same day are ordered by creation time.
+ */
+record TimeEntryCursor( LocalDate date, UUID id ) {
+
+    private static final String SEPARATOR = "_";
+
+    static TimeEntryCursor of( TimeEntry timeEntry ) {
+        return new TimeEntryCursor( timeEntry.getDate(), timeEntry.getId() );
+    }
+
+    static TimeEntryCursor decode( String cursor ) {
+        try {
+            String decoded = new String( Base64.getUrlDecoder().decode( cursor ), StandardCharsets.UTF_8 );
+            String[] parts = decoded.split( SEPARATOR, 2 );
+            if ( parts.length != 2 ) throw new InvalidParameterException( "Invalid cursor" );
+
+            return new TimeEntryCursor( LocalDate.parse( parts[ 0 ] ), UUID.fromString( parts[ 1 ] ) );
+        } catch ( IllegalArgumentException | DateTimeParseException e ) {
+            throw new InvalidParameterException( "Invalid cursor" );
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString( ( date + SEPARATOR + id ).getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put( "date", date );
+        keys.put( "id", id );
+        return ScrollPosition.forward( keys );
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * assemble
+ * TimeEntryExportService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryExportFormat;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface TimeEntryExportService {
+
+    StreamingResponseBody exportTimeEntries( TimeEntryFilterDTO filter, TimeEntryExportFormat format );
+
+}
@@ -0,0 +1,232 @@
+/*
+ * assemble
+ * TimeEntryExportServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryExportFormat;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryExportRowDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TimeEntryExportServiceImpl implements TimeEntryExportService {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String CSV_HEADER = String.join( ",",
+            "no", "date", "employeeNo", "employeeName", "projectNo", "projectName", "description",
+            "startTime", "endTime", "pauseTime", "totalTime", "rate", "total", "totalInternal"
+    );
+
+    private static final String SELECT = """
+            SELECT t.no, t.date, e.no AS employee_no, e.first_name, e.last_name,
+                   p.no AS project_no, p.name AS project_name, t.description,
+                   t.start_time, t.end_time, t.pause_time, t.total_time,
+                   t.rate, t.total, t.total_internal
+            FROM time_entries t
+            JOIN employees e ON e.id = t.employee_id
+            JOIN projects p ON p.id = t.project_id
+            WHERE 1 = 1
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public TimeEntryExportServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate( transactionManager );
+        this.transactionTemplate.setReadOnly( true );
+    }
+
+    @Override
+    public StreamingResponseBody exportTimeEntries( TimeEntryFilterDTO filter, TimeEntryExportFormat format ) {
+        if ( filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter( filter.getTo() ) )
+            throw new InvalidParameterException( "From date must not be after to date" );
+
+        List<Object> parameters = new ArrayList<>();
+        String sql = buildQuery( filter, parameters );
+
+        // The PostgreSQL driver only honours the fetch size inside a transaction,
+        // otherwise it would buffer the whole result set before the first row.
+        return outputStream -> transactionTemplate.executeWithoutResult(
+                status -> streamRows( sql, parameters, format, outputStream )
+        );
+    }
+
+    private String buildQuery( TimeEntryFilterDTO filter, List<Object> parameters ) {
+        StringBuilder sql = new StringBuilder( SELECT );
+
+        if ( filter.getEmployeeId() != null ) {
+            sql.append( " AND t.employee_id = ?" );
+            parameters.add( filter.getEmployeeId() );
+        }
+        if ( filter.getProjectId() != null ) {
+            sql.append( " AND t.project_id = ?" );
+            parameters.add( filter.getProjectId() );
+        }
+        if ( filter.getFrom() != null ) {
+            sql.append( " AND t.date >= ?" );
+            parameters.add( filter.getFrom() );
+        }
+        if ( filter.getTo() != null ) {
+            sql.append( " AND t.date <= ?" );
+            parameters.add( filter.getTo() );
+        }
+        if ( filter.getActiveAssignment() != null ) {
+            sql.append( """
+                     AND EXISTS (
+                        SELECT 1 FROM project_assignments pa
+                        WHERE pa.employee_id = t.employee_id
+                        AND pa.project_id = t.project_id
+                        AND pa.active = ?
+                    )""" );
+            parameters.add( filter.getActiveAssignment() );
+        }
+
+        return sql.append( " ORDER BY t.date, t.id" ).toString();
+    }
+
+    private void streamRows(
+            String sql,
+            List<Object> parameters,
+            TimeEntryExportFormat format,
+            OutputStream outputStream
+    ) {
+        Writer writer = new BufferedWriter( new OutputStreamWriter( outputStream, StandardCharsets.UTF_8 ) );
+
+        try {
+            if ( format == TimeEntryExportFormat.CSV ) {
+                writer.write( CSV_HEADER );
+                writer.write( '\n' );
+                writer.flush();
+            }
+
+            jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                        );
+                        statement.setFetchSize( FETCH_SIZE );
+                        for ( int i = 0; i < parameters.size(); i++ ) {
+                            statement.setObject( i + 1, parameters.get( i ) );
+                        }
+                        return statement;
+                    },
+                    (RowCallbackHandler) resultSet -> {
+                        try {
+                            writeRow( writer, format, toRow( resultSet ) );
+                            writer.flush();
+                        } catch ( IOException e ) {
+                            throw new UncheckedIOException( e );
+                        }
+                    }
+            );
+
+            writer.flush();
+        } catch ( IOException e ) {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    private TimeEntryExportRowDTO toRow( ResultSet resultSet ) throws SQLException {
+        return TimeEntryExportRowDTO.builder()
+                .no( resultSet.getString( "no" ) )
+                .date( resultSet.getObject( "date", LocalDate.class ) )
+                .employeeNo( resultSet.getString( "employee_no" ) )
+                .employeeName( resultSet.getString( "first_name" ) + " " + resultSet.getString( "last_name" ) )
+                .projectNo( resultSet.getString( "project_no" ) )
+                .projectName( resultSet.getString( "project_name" ) )
+                .description( resultSet.getString( "description" ) )
+                .startTime( toInstant( resultSet.getObject( "start_time", OffsetDateTime.class ) ) )
+                .endTime( toInstant( resultSet.getObject( "end_time", OffsetDateTime.class ) ) )
+                .pauseTime( Duration.ofNanos( resultSet.getLong( "pause_time" ) ) )
+                .totalTime( Duration.ofNanos( resultSet.getLong( "total_time" ) ) )
+                .rate( resultSet.getBigDecimal( "rate" ) )
+                .total( resultSet.getBigDecimal( "total" ) )
+                .totalInternal( resultSet.getBigDecimal( "total_internal" ) )
+                .build();
+    }
+
+    private Instant toInstant( OffsetDateTime offsetDateTime ) {
+        return offsetDateTime != null ? offsetDateTime.toInstant() : null;
+    }
+
+    private void writeRow( Writer writer, TimeEntryExportFormat format, TimeEntryExportRowDTO row ) throws IOException {
+        if ( format == TimeEntryExportFormat.NDJSON ) {
+            writer.write( objectMapper.writeValueAsString( row ) );
+        } else {
+            writer.write( String.join( ",",
+                    csvText( row.no() ),
+                    csvValue( row.date() ),
+                    csvText( row.employeeNo() ),
+                    csvText( row.employeeName() ),
+                    csvText( row.projectNo() ),
+                    csvText( row.projectName() ),
+                    csvText( row.description() ),
+                    csvValue( row.startTime() ),
+                    csvValue( row.endTime() ),
+                    csvValue( row.pauseTime() ),
+                    csvValue( row.totalTime() ),
+                    csvNumber( row.rate() ),
+                    csvNumber( row.total() ),
+                    csvNumber( row.totalInternal() )
+            ) );
+        }
+        writer.write( '\n' );
+    }
+
+    private String csvValue( Object value ) {
+        return value != null ? value.toString() : "";
+    }
+
+    private String csvNumber( BigDecimal value ) {
+        return value != null ? value.toPlainString() : "";
+    }
+
+    private String csvText( String value ) {
+        if ( value == null || value.isEmpty() ) return "";
+
+        // Prevent spreadsheet applications from evaluating user input as a formula
+        String text = "=+-@\t\r".indexOf( value.charAt( 0 ) ) >= 0 ? "'" + value : value;
+
+        if ( text.contains( "," ) || text.contains( "\"" ) || text.contains( "\n" ) || text.contains( "\r" ) ) {
+            return "\"" + text.replace( "\"", "\"\"" ) + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * assemble
+ * TimeEntryFixedPointCalculator.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+public final class TimeEntryFixedPointCalculator {
+
+    public static final long MAX_RATE_CENTS = 1_000_000_000_000L;
+
+    public static final long MAX_MINUTES = 600_000L;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // 10^16, the first value exceeding the 16 digit precision of MathContext.DECIMAL64
+    private static final long PRECISION_LIMIT = 10_000_000_000_000_000L;
+
+    // 6 * 10^15, scaling the dividend above it gives a 16 digit quotient when dividing by 6
+    private static final long QUOTIENT_LOWER_BOUND = 6_000_000_000_000_000L;
+
+    private TimeEntryFixedPointCalculator() {
+    }
+
+    /*
+     * Mirrors TimeEntryCalculationService.calculateTotal rounded HALF_UP to cents:
+     * rate * hours + round16(round16(rate / 60) * minutes). The per minute rate keeps the
+     * 16 digit rounding of the BigDecimal version, so ties on half a cent resolve the same way.
+     */
+    public static long calculateTotalCents( long minutes, long rateCents ) {
+        if ( Math.abs( rateCents ) >= MAX_RATE_CENTS )
+            throw new ArithmeticException( "Rate exceeds fixed point range" );
+        if ( Math.abs( minutes ) >= MAX_MINUTES )
+            throw new ArithmeticException( "Duration exceeds fixed point range" );
+
+        boolean negative = ( minutes < 0 ) != ( rateCents < 0 );
+        long absoluteMinutes = Math.abs( minutes );
+        long absoluteRate = Math.abs( rateCents );
+
+        long cents = absoluteRate * ( absoluteMinutes / 60 ) + minuteCents( absoluteRate, absoluteMinutes % 60 );
+
+        return negative ? -cents : cents;
+    }
+
+    private static long minuteCents( long rateCents, long minutes ) {
+        if ( rateCents == 0 || minutes == 0 ) return 0;
+
+        // rate / 60 = rateCents / 6000 = dividend / 6 * 10^-scale
+        long dividend = rateCents;
+        int scale = 3;
+        while ( dividend < QUOTIENT_LOWER_BOUND ) {
+            dividend *= 10;
+            scale++;
+        }
+
+        long perMinute = roundHalfUp( dividend, 6 );
+        long amount = perMinute * minutes;
+
+        if ( amount >= PRECISION_LIMIT ) {
+            int dropped = amount >= PRECISION_LIMIT * 10 ? 2 : 1;
+            amount = roundHalfUp( amount, POWERS_OF_TEN[dropped] );
+            scale -= dropped;
+        }
+
+        return roundHalfUp( amount, POWERS_OF_TEN[scale - 2] );
+    }
+
+    private static long roundHalfUp( long value, long divisor ) {
+        long quotient = value / divisor;
+        return ( value % divisor ) * 2 >= divisor ? quotient + 1 : quotient;
+    }
+}
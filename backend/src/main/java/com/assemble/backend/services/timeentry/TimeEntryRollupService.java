@@ -0,0 +1,33 @@
+/*
+ * assemble
+ * TimeEntryRollupService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupRebuildDTO;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+
+import java.util.List;
+
+public interface TimeEntryRollupService {
+
+    void addTimeEntry( TimeEntry timeEntry );
+
+    void addTimeEntries( List<TimeEntry> timeEntries );
+
+    void removeTimeEntry( TimeEntry timeEntry );
+
+    List<TimeEntryRollupDTO> getRollups( TimeEntryFilterDTO filter, TimeEntryRollupGranularity granularity );
+
+    TimeEntryRollupRebuildDTO rebuildRollups();
+
+}
@@ -0,0 +1,214 @@
+/*
+ * assemble
+ * TimeEntryRollupServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupRebuildDTO;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.security.InvalidParameterException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class TimeEntryRollupServiceImpl implements TimeEntryRollupService {
+
+    private static final String UPSERT = """
+            INSERT INTO %1$s AS r (employee_id, project_id, %2$s, entry_count, total_time, pause_time, total, total_internal)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (employee_id, project_id, %2$s) DO UPDATE SET
+                entry_count = r.entry_count + EXCLUDED.entry_count,
+                total_time = r.total_time + EXCLUDED.total_time,
+                pause_time = r.pause_time + EXCLUDED.pause_time,
+                total = r.total + EXCLUDED.total,
+                total_internal = r.total_internal + EXCLUDED.total_internal
+            """;
+
+    private static final String DELETE_EMPTY = """
+            DELETE FROM %1$s
+            WHERE employee_id = ? AND project_id = ? AND %2$s = ? AND entry_count <= 0
+            """;
+
+    private static final String REBUILD = """
+            INSERT INTO %1$s (employee_id, project_id, %2$s, entry_count, total_time, pause_time, total, total_internal)
+            SELECT employee_id, project_id, %3$s, count(*), sum(total_time), sum(pause_time), sum(total), sum(total_internal)
+            FROM time_entries
+            GROUP BY employee_id, project_id, %3$s
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTimeEntry( TimeEntry timeEntry ) {
+        applyDelta( timeEntry, 1 );
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTimeEntries( List<TimeEntry> timeEntries ) {
+        if ( timeEntries.isEmpty() ) return;
+
+        for ( TimeEntryRollupGranularity granularity : TimeEntryRollupGranularity.values() ) {
+            jdbcTemplate.batchUpdate(
+                    UPSERT.formatted( granularity.getTableName(), granularity.getPeriodColumn() ),
+                    timeEntries.stream()
+                            .map( timeEntry -> upsertParameters( timeEntry, granularity, 1 ) )
+                            .toList()
+            );
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeTimeEntry( TimeEntry timeEntry ) {
+        applyDelta( timeEntry, -1 );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryRollupDTO> getRollups( TimeEntryFilterDTO filter, TimeEntryRollupGranularity granularity ) {
+        if ( filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter( filter.getTo() ) )
+            throw new InvalidParameterException( "From date must not be after to date" );
+
+        String period = granularity.getPeriodColumn();
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder sql = new StringBuilder( "SELECT r." )
+                .append( period )
+                .append( " AS period, r.employee_id, r.project_id, r.entry_count, r.total_time, r.pause_time, r.total, r.total_internal FROM " )
+                .append( granularity.getTableName() )
+                .append( " r WHERE 1 = 1" );
+
+        if ( filter.getEmployeeId() != null ) {
+            sql.append( " AND r.employee_id = ?" );
+            parameters.add( filter.getEmployeeId() );
+        }
+        if ( filter.getProjectId() != null ) {
+            sql.append( " AND r.project_id = ?" );
+            parameters.add( filter.getProjectId() );
+        }
+        if ( filter.getFrom() != null ) {
+            sql.append( " AND r." ).append( period ).append( " >= ?" );
+            parameters.add( periodOf( filter.getFrom(), granularity ) );
+        }
+        if ( filter.getTo() != null ) {
+            sql.append( " AND r." ).append( period ).append( " <= ?" );
+            parameters.add( periodOf( filter.getTo(), granularity ) );
+        }
+        if ( filter.getActiveAssignment() != null ) {
+            sql.append( """
+                     AND EXISTS (
+                        SELECT 1 FROM project_assignments pa
+                        WHERE pa.employee_id = r.employee_id
+                        AND pa.project_id = r.project_id
+                        AND pa.active = ?
+                    )""" );
+            parameters.add( filter.getActiveAssignment() );
+        }
+
+        sql.append( " ORDER BY period, r.employee_id, r.project_id" );
+
+        return jdbcTemplate.query( sql.toString(), this::toRollupDTO, parameters.toArray() );
+    }
+
+    @Override
+    @Transactional
+    public TimeEntryRollupRebuildDTO rebuildRollups() {
+        // Block concurrent writers so no delta is lost between the delete and the reinsert
+        jdbcTemplate.execute( "LOCK TABLE time_entries IN SHARE MODE" );
+
+        jdbcTemplate.update( "DELETE FROM " + TimeEntryRollupGranularity.DAY.getTableName() );
+        jdbcTemplate.update( "DELETE FROM " + TimeEntryRollupGranularity.MONTH.getTableName() );
+
+        int dailyRollups = jdbcTemplate.update( REBUILD.formatted(
+                TimeEntryRollupGranularity.DAY.getTableName(),
+                TimeEntryRollupGranularity.DAY.getPeriodColumn(),
+                "date"
+        ) );
+        int monthlyRollups = jdbcTemplate.update( REBUILD.formatted(
+                TimeEntryRollupGranularity.MONTH.getTableName(),
+                TimeEntryRollupGranularity.MONTH.getPeriodColumn(),
+                "CAST(date_trunc('month', date) AS date)"
+        ) );
+
+        return new TimeEntryRollupRebuildDTO( dailyRollups, monthlyRollups );
+    }
+
+    private void applyDelta( TimeEntry timeEntry, int sign ) {
+        for ( TimeEntryRollupGranularity granularity : TimeEntryRollupGranularity.values() ) {
+            jdbcTemplate.update(
+                    UPSERT.formatted( granularity.getTableName(), granularity.getPeriodColumn() ),
+                    upsertParameters( timeEntry, granularity, sign )
+            );
+
+            if ( sign < 0 ) {
+                jdbcTemplate.update(
+                        DELETE_EMPTY.formatted( granularity.getTableName(), granularity.getPeriodColumn() ),
+                        timeEntry.getEmployee().getId(),
+                        timeEntry.getProject().getId(),
+                        periodOf( timeEntry.getDate(), granularity )
+                );
+            }
+        }
+    }
+
+    private Object[] upsertParameters( TimeEntry timeEntry, TimeEntryRollupGranularity granularity, int sign ) {
+        return new Object[]{
+                timeEntry.getEmployee().getId(),
+                timeEntry.getProject().getId(),
+                periodOf( timeEntry.getDate(), granularity ),
+                sign,
+                sign * nanos( timeEntry.getTotalTime() ),
+                sign * nanos( timeEntry.getPauseTime() ),
+                amount( timeEntry.getTotal() ).multiply( BigDecimal.valueOf( sign ) ),
+                amount( timeEntry.getTotalInternal() ).multiply( BigDecimal.valueOf( sign ) )
+        };
+    }
+
+    private LocalDate periodOf( LocalDate date, TimeEntryRollupGranularity granularity ) {
+        return granularity == TimeEntryRollupGranularity.MONTH ? date.withDayOfMonth( 1 ) : date;
+    }
+
+    private long nanos( Duration duration ) {
+        return duration != null ? duration.toNanos() : 0L;
+    }
+
+    private BigDecimal amount( BigDecimal value ) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private TimeEntryRollupDTO toRollupDTO( ResultSet resultSet, int rowNum ) throws SQLException {
+        return TimeEntryRollupDTO.builder()
+                .period( resultSet.getObject( "period", LocalDate.class ) )
+                .employeeId( resultSet.getObject( "employee_id", UUID.class ) )
+                .projectId( resultSet.getObject( "project_id", UUID.class ) )
+                .entryCount( resultSet.getLong( "entry_count" ) )
+                .totalTime( Duration.ofNanos( resultSet.getLong( "total_time" ) ) )
+                .pauseTime( Duration.ofNanos( resultSet.getLong( "pause_time" ) ) )
+                .total( resultSet.getBigDecimal( "total" ) )
+                .totalInternal( resultSet.getBigDecimal( "total_internal" ) )
+                .build();
+    }
+}
@@ -10,8 +10,14 @@
 
 package com.assemble.backend.services.timeentry;
 
+import com.assemble.backend.models.dtos.global.TaggedDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkCreateDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkResultDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryPageDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
 import com.assemble.backend.models.entities.auth.SecurityUser;
 
@@ -21,25 +27,56 @@ public interface TimeEntryService {
 
     List<TimeEntryDTO> getAllTimeEntries();
 
+    List<TimeEntryCompactDTO> getAllCompactTimeEntries();
+
+    TimeEntryPageDTO getTimeEntryPage( TimeEntryFilterDTO filter, String cursor, int size );
+
     TimeEntryDTO getTimeEntryById( String id );
 
     TimeEntryDTO getOwnTimeEntryById( String id, SecurityUser user );
 
+    String getAllTimeEntriesTag();
+
+    String getTimeEntryTag( String id );
+
+    String getOwnTimeEntryTag( String id, SecurityUser user );
+
+    String getTimeEntriesByEmployeeIdTag( String employeeId );
+
+    String getTimeEntriesByProjectIdTag( String projectId );
+
     List<TimeEntryDTO> getTimeEntriesByEmployeeId( String employeeId );
 
+    List<TimeEntryCompactDTO> getCompactTimeEntriesByEmployeeId( String employeeId );
+
     List<TimeEntryDTO> getTimeEntriesByProjectId( String projectId );
 
+    List<TimeEntryCompactDTO> getCompactTimeEntriesByProjectId( String projectId );
+
     List<TimeEntryDTO> getOwnTimeEntries( SecurityUser user, String aroundDate );
 
+    List<TimeEntryCompactDTO> getOwnCompactTimeEntries( SecurityUser user, String aroundDate );
+
     List<TimeEntryDTO> getOwnTimeEntriesByDate( SecurityUser user, String date );
 
+    List<TimeEntryCompactDTO> getOwnCompactTimeEntriesByDate( SecurityUser user, String date );
+
     TimeEntryDTO createOwnTimeEntry( TimeEntryCreateDTO timeEntryCreateDTO, SecurityUser user );
 
     TimeEntryDTO createTimeEntry( TimeEntryCreateDTO timeEntryCreateDTO );
 
-    TimeEntryDTO updateTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO );
+    TimeEntryBulkResultDTO createOwnTimeEntries( TimeEntryBulkCreateDTO bulkCreateDTO, SecurityUser user );
+
+    TimeEntryBulkResultDTO createTimeEntries( TimeEntryBulkCreateDTO bulkCreateDTO );
+
+    TaggedDTO<TimeEntryDTO> updateTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO, String ifMatch );
 
-    TimeEntryDTO updateOwnTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO, SecurityUser user );
+    TaggedDTO<TimeEntryDTO> updateOwnTimeEntry(
+            String id,
+            TimeEntryUpdateDTO timeEntryUpdateDTO,
+            SecurityUser user,
+            String ifMatch
+    );
 
     void deleteTimeEntryById( String id );
 
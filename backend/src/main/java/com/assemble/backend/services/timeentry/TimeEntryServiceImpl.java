@@ -10,8 +10,16 @@
 
 package com.assemble.backend.services.timeentry;
 
+import com.assemble.backend.models.dtos.global.TaggedDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkCreateDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkItemResultDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkItemStatus;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkResultDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryPageDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
 import com.assemble.backend.models.dtos.timeentry.validators.TimeValidatable;
 import com.assemble.backend.models.entities.auth.SecurityUser;
@@ -20,24 +28,35 @@ import com.assemble.backend.models.entities.project.Project;
 import com.assemble.backend.models.entities.project.ProjectAssignment;
 import com.assemble.backend.models.entities.timeentry.TimeEntry;
 import com.assemble.backend.models.mappers.timeentry.TimeEntryMapper;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
+import com.assemble.backend.repositories.project.ProjectRepository;
 import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
+import com.assemble.backend.repositories.timeentry.TimeEntrySpecifications;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.security.InvalidParameterException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -45,13 +64,30 @@ public class TimeEntryServiceImpl implements TimeEntryService {
 
     private static final BigDecimal FIXED_RATE = new BigDecimal( 50 );
     private static final BigDecimal FIXED_INTERNAL_RATE = new BigDecimal( 30 );
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final Sort KEYSET_SORT = Sort.by( Sort.Order.asc( "date" ), Sort.Order.asc( "id" ) );
+
+    // Ownership is checked by the statement itself, the returned row feeds the rollups and the sync tombstone
+    private static final String DELETE_OWN_TIME_ENTRY = """
+            DELETE FROM time_entries t
+            USING employees e
+            WHERE t.id = ? AND t.employee_id = e.id AND e.user_id = ?
+            RETURNING t.id, t.employee_id, t.project_id, t.description, t.date,
+                t.total_time, t.pause_time, t.total, t.total_internal
+            """;
 
     private TimeEntryRepository timeEntryRepository;
     private TimeEntryMapper timeEntryMapper;
     private TimeEntryCalculationService calculationService;
+    private TimeEntryRollupService rollupService;
+    private TimeEntrySyncService syncService;
 
     private ProjectAssignmentRepository projectAssignmentRepository;
     private EmployeeRepository employeeRepository;
+    private ProjectRepository projectRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    private Validator validator;
 
     @Override
     public List<TimeEntryDTO> getAllTimeEntries() {
@@ -61,6 +97,45 @@ public class TimeEntryServiceImpl implements TimeEntryService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryCompactDTO> getAllCompactTimeEntries() {
+        return timeEntryRepository.findAllCompact()
+                .stream()
+                .map( timeEntryMapper::toTimeEntryCompactDTO )
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimeEntryPageDTO getTimeEntryPage( TimeEntryFilterDTO filter, String cursor, int size ) {
+        if ( size < 1 || size > MAX_PAGE_SIZE )
+            throw new InvalidParameterException( "Size must be between 1 and " + MAX_PAGE_SIZE );
+
+        if ( filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter( filter.getTo() ) )
+            throw new InvalidParameterException( "From date must not be after to date" );
+
+        ScrollPosition position = cursor != null && !cursor.isBlank()
+                ? TimeEntryCursor.decode( cursor ).toScrollPosition()
+                : ScrollPosition.keyset();
+
+        Window<TimeEntry> window = timeEntryRepository.findBy(
+                TimeEntrySpecifications.matches( filter ),
+                query -> query.sortBy( KEYSET_SORT ).limit( size ).scroll( position )
+        );
+
+        List<TimeEntry> timeEntries = window.getContent();
+        String nextCursor = window.hasNext() && !timeEntries.isEmpty()
+                ? TimeEntryCursor.of( timeEntries.getLast() ).encode()
+                : null;
+
+        return TimeEntryPageDTO.builder()
+                .content( timeEntries.stream().map( timeEntryMapper::toTimeEntryDTO ).toList() )
+                .nextCursor( nextCursor )
+                .hasNext( nextCursor != null )
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TimeEntryDTO> getTimeEntriesByEmployeeId( String employeeId ) {
@@ -70,6 +145,15 @@ public class TimeEntryServiceImpl implements TimeEntryService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryCompactDTO> getCompactTimeEntriesByEmployeeId( String employeeId ) {
+        return timeEntryRepository.findAllCompactByEmployeeId( UUID.fromString( employeeId ) )
+                .stream()
+                .map( timeEntryMapper::toTimeEntryCompactDTO )
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TimeEntryDTO> getTimeEntriesByProjectId( String projectId ) {
@@ -81,25 +165,23 @@ public class TimeEntryServiceImpl implements TimeEntryService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TimeEntryDTO> getOwnTimeEntries( SecurityUser user, String aroundDate ) {
-        Employee employee = employeeRepository.findByUser_Id( user.getUser().getId() )
-                .orElse( null );
-
-        if ( employee != null && aroundDate != null ) {
-            AtomicReference<LocalDate> date = new AtomicReference<>();
+    public List<TimeEntryCompactDTO> getCompactTimeEntriesByProjectId( String projectId ) {
+        return timeEntryRepository.findAllCompactByProjectId( UUID.fromString( projectId ) )
+                .stream()
+                .map( timeEntryMapper::toTimeEntryCompactDTO )
+                .toList();
+    }
 
-            try {
-                LocalDate parsedDate = LocalDate.parse( aroundDate );
-                date.set( parsedDate );
-            } catch ( DateTimeParseException e ) {
-                throw new InvalidParameterException( "Invalid date format" );
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryDTO> getOwnTimeEntries( SecurityUser user, String aroundDate ) {
+        UUID employeeId = user.getEmployeeId();
 
-            LocalDate afterDate = date.get().minusMonths( 2 );
-            LocalDate beforeDate = date.get().plusMonths( 2 );
+        if ( employeeId != null && aroundDate != null ) {
+            LocalDate date = parseDate( aroundDate );
 
             return timeEntryRepository.findAllByEmployee_IdAndDateIsBetween(
-                            employee.getId(), afterDate, beforeDate
+                            employeeId, date.minusMonths( 2 ), date.plusMonths( 2 )
                     )
                     .stream()
                     .map( timeEntryMapper::toTimeEntryDTO )
@@ -109,6 +191,25 @@ public class TimeEntryServiceImpl implements TimeEntryService {
         return List.of();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryCompactDTO> getOwnCompactTimeEntries( SecurityUser user, String aroundDate ) {
+        UUID employeeId = user.getEmployeeId();
+
+        if ( employeeId != null && aroundDate != null ) {
+            LocalDate date = parseDate( aroundDate );
+
+            return timeEntryRepository.findAllCompactByEmployeeIdAndDateBetween(
+                            employeeId, date.minusMonths( 2 ), date.plusMonths( 2 )
+                    )
+                    .stream()
+                    .map( timeEntryMapper::toTimeEntryCompactDTO )
+                    .toList();
+        }
+
+        return List.of();
+    }
+
     @Override
     public TimeEntryDTO getTimeEntryById( String id ) {
         TimeEntry timeEntry = timeEntryRepository.findById( UUID.fromString( id ) )
@@ -121,47 +222,74 @@ public class TimeEntryServiceImpl implements TimeEntryService {
     @Override
     @Transactional(readOnly = true)
     public TimeEntryDTO getOwnTimeEntryById( String id, SecurityUser user ) {
-        TimeEntry timeEntry = timeEntryRepository.findById( UUID.fromString( id ) )
-                .orElseThrow(
-                        () -> new EntityNotFoundException( "Could not find time entry with id: " + id )
-                );
-        Employee employee = employeeRepository.findByUser_Id( user.getUser().getId() )
-                .orElseThrow(
-                        () -> new EntityNotFoundException( "Could not find employee for user with id: " + user.getUser().getId() )
-                );
+        return timeEntryMapper.toTimeEntryDTO( findOwnTimeEntry( id, user ) );
+    }
 
-        if ( timeEntry.getEmployee().getId() != null &&
-                !timeEntry.getEmployee().getId().equals( employee.getId() )
-        ) {
-            throw new AccessDeniedException( "You are not allowed to access this time entry" );
-        }
+    @Override
+    public String getAllTimeEntriesTag() {
+        return timeEntryRepository.findVersion().toEntityTag();
+    }
 
-        return timeEntryMapper.toTimeEntryDTO( timeEntry );
+    @Override
+    public String getTimeEntryTag( String id ) {
+        return timeEntryRepository.findVersionById( UUID.fromString( id ) ).toEntityTag();
+    }
+
+    // Entries of other users never match, their requests continue to the access check
+    @Override
+    public String getOwnTimeEntryTag( String id, SecurityUser user ) {
+        return timeEntryRepository.findVersionByIdAndUserId( UUID.fromString( id ), user.getId() )
+                .toEntityTag();
+    }
+
+    @Override
+    public String getTimeEntriesByEmployeeIdTag( String employeeId ) {
+        return timeEntryRepository.findVersionByEmployeeId( UUID.fromString( employeeId ) ).toEntityTag();
+    }
+
+    @Override
+    public String getTimeEntriesByProjectIdTag( String projectId ) {
+        return timeEntryRepository.findVersionByProjectId( UUID.fromString( projectId ) ).toEntityTag();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TimeEntryDTO> getOwnTimeEntriesByDate( SecurityUser user, String date ) {
-        Employee relatedEmployee = this.employeeRepository.findByUser_Id( user.getUser().getId() )
-                .orElseThrow(
-                        () -> new EntityNotFoundException( "Could not find employee for user with id: " + user.getUser().getId() )
-                );
+        UUID employeeId = requireEmployeeId( user );
 
-        AtomicReference<LocalDate> parsedDate = new AtomicReference<>();
+        return this.timeEntryRepository
+                .findAllByEmployee_IdAndDateIs( employeeId, parseDate( date ) )
+                .stream()
+                .map( timeEntryMapper::toTimeEntryDTO )
+                .toList();
+    }
 
-        try {
-            parsedDate.set( LocalDate.parse( date ) );
-        } catch ( DateTimeParseException ex ) {
-            throw new InvalidParameterException( "Invalid date format" );
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeEntryCompactDTO> getOwnCompactTimeEntriesByDate( SecurityUser user, String date ) {
+        UUID employeeId = requireEmployeeId( user );
 
         return this.timeEntryRepository
-                .findAllByEmployee_IdAndDateIs( relatedEmployee.getId(), parsedDate.get() )
+                .findAllCompactByEmployeeIdAndDate( employeeId, parseDate( date ) )
                 .stream()
-                .map( timeEntryMapper::toTimeEntryDTO )
+                .map( timeEntryMapper::toTimeEntryCompactDTO )
                 .toList();
     }
 
+    // Resolved at login and kept up to date by the relink, so the self-service calls never look it up
+    private static UUID requireEmployeeId( SecurityUser user ) {
+        if ( user.getEmployeeId() == null )
+            throw new EntityNotFoundException( "Could not find employee for user with id: " + user.getId() );
+        return user.getEmployeeId();
+    }
+
+    private LocalDate parseDate( String date ) {
+        try {
+            return LocalDate.parse( date );
+        } catch ( DateTimeParseException e ) {
+            throw new InvalidParameterException( "Invalid date format" );
+        }
+    }
 
     private TimeEntry setRateAndTotals( TimeEntry timeEntry, TimeValidatable timeValidatable, BigDecimal rate ) {
         if ( timeValidatable.getStartTime() != null && timeValidatable.getEndTime() != null ) {
@@ -171,7 +299,7 @@ public class TimeEntryServiceImpl implements TimeEntryService {
             );
 
             timeEntry.setTotal(
-                    calculationService.calculateTotal(
+                    calculationService.calculateRoundedTotal(
                             d,
                             timeValidatable.getPauseTime(),
                             rate
@@ -179,7 +307,7 @@ public class TimeEntryServiceImpl implements TimeEntryService {
             );
             timeEntry.setRate( rate );
             timeEntry.setTotalInternal(
-                    calculationService.calculateTotal(
+                    calculationService.calculateRoundedTotal(
                             d,
                             timeValidatable.getPauseTime(),
                             FIXED_INTERNAL_RATE
@@ -189,7 +317,7 @@ public class TimeEntryServiceImpl implements TimeEntryService {
 
         } else {
             timeEntry.setTotal(
-                    calculationService.calculateTotal(
+                    calculationService.calculateRoundedTotal(
                             timeValidatable.getTotalTime(),
                             timeValidatable.getPauseTime(),
                             rate
@@ -197,7 +325,7 @@ public class TimeEntryServiceImpl implements TimeEntryService {
             );
             timeEntry.setRate( rate );
             timeEntry.setTotalInternal(
-                    calculationService.calculateTotal(
+                    calculationService.calculateRoundedTotal(
                             timeValidatable.getTotalTime(),
                             timeValidatable.getPauseTime(),
                             FIXED_INTERNAL_RATE
@@ -208,6 +336,12 @@ public class TimeEntryServiceImpl implements TimeEntryService {
         return timeEntry;
     }
 
+    private BigDecimal resolveRate( ProjectAssignment projectAssignment ) {
+        return projectAssignment.getHourlyRate() != null && projectAssignment.getHourlyRate().compareTo( BigDecimal.ZERO ) > 0 ?
+                projectAssignment.getHourlyRate()
+                : FIXED_RATE;
+    }
+
     private TimeEntryDTO processTimeEntryCreation( TimeEntryCreateDTO timeEntryCreateDTO ) {
         ProjectAssignment projectAssignment = projectAssignmentRepository
                 .findByProject_IdAndEmployee_Id(
@@ -225,14 +359,10 @@ public class TimeEntryServiceImpl implements TimeEntryService {
 
         TimeEntry timeEntry = timeEntryMapper.toTimeEntry( timeEntryCreateDTO, employee, project );
 
-        BigDecimal rate = projectAssignment.getHourlyRate() != null && projectAssignment.getHourlyRate().compareTo( BigDecimal.ZERO ) > 0 ?
-                projectAssignment.getHourlyRate()
-                : FIXED_RATE;
-
-
         TimeEntry newTimeEntry = timeEntryRepository.save(
-                setRateAndTotals( timeEntry, timeEntryCreateDTO, rate )
+                setRateAndTotals( timeEntry, timeEntryCreateDTO, resolveRate( projectAssignment ) )
         );
+        rollupService.addTimeEntry( newTimeEntry );
 
         return timeEntryMapper.toTimeEntryDTO( newTimeEntry );
     }
@@ -240,12 +370,9 @@ public class TimeEntryServiceImpl implements TimeEntryService {
     @Override
     @Transactional
     public TimeEntryDTO createOwnTimeEntry( TimeEntryCreateDTO timeEntryCreateDTO, SecurityUser user ) {
-        Employee relatedEmployee = employeeRepository.findByUser_Id( user.getUser().getId() ).orElseThrow(
-                () -> new EntityNotFoundException( "Could not find employee for user with id: " + user.getUser().getId() )
-        );
+        UUID employeeId = requireEmployeeId( user );
 
-        if ( relatedEmployee.getId() != null &&
-                !timeEntryCreateDTO.getEmployeeId().equals( relatedEmployee.getId().toString() ) ) {
+        if ( !timeEntryCreateDTO.getEmployeeId().equals( employeeId.toString() ) ) {
             throw new AccessDeniedException( "You are not allowed to access this time entry" );
         }
 
@@ -259,7 +386,145 @@ public class TimeEntryServiceImpl implements TimeEntryService {
         return processTimeEntryCreation( timeEntryCreateDTO );
     }
 
-    private TimeEntryDTO processTimeEntryUpdate( TimeEntryUpdateDTO timeEntryUpdateDTO, TimeEntry timeEntry ) {
+    private TimeEntryBulkResultDTO processTimeEntryBulkCreation( TimeEntryBulkCreateDTO bulkCreateDTO, UUID ownerId ) {
+        List<TimeEntryCreateDTO> entries = bulkCreateDTO.getEntries();
+
+        if ( entries == null || entries.isEmpty() || entries.size() > TimeEntryBulkCreateDTO.MAX_ENTRIES )
+            throw new InvalidParameterException(
+                    "Entries must contain between 1 and " + TimeEntryBulkCreateDTO.MAX_ENTRIES + " items"
+            );
+
+        TimeEntryBulkItemResultDTO[] results = new TimeEntryBulkItemResultDTO[entries.size()];
+        Map<Integer, AssignmentKey> pending = new LinkedHashMap<>();
+
+        for ( int i = 0; i < entries.size(); i++ ) {
+            TimeEntryCreateDTO entry = entries.get( i );
+
+            Set<ConstraintViolation<TimeEntryCreateDTO>> violations = validator.validate( entry );
+            if ( !violations.isEmpty() ) {
+                results[i] = failedItem( i, violations.stream()
+                        .map( violation -> violation.getPropertyPath() + ": " + violation.getMessage() )
+                        .sorted()
+                        .collect( Collectors.joining( "; " ) )
+                );
+                continue;
+            }
+
+            AssignmentKey key;
+            try {
+                key = new AssignmentKey(
+                        UUID.fromString( entry.getEmployeeId() ),
+                        UUID.fromString( entry.getProjectId() )
+                );
+            } catch ( IllegalArgumentException e ) {
+                results[i] = failedItem( i, "Invalid employee or project id" );
+                continue;
+            }
+
+            if ( ownerId != null && !ownerId.equals( key.employeeId() ) ) {
+                results[i] = failedItem( i, "You are not allowed to access this time entry" );
+                continue;
+            }
+
+            pending.put( i, key );
+        }
+
+        Map<AssignmentKey, ProjectAssignment> assignments = pending.isEmpty()
+                ? Map.of()
+                : projectAssignmentRepository.findAllByEmployeeIdsAndProjectIds(
+                        pending.values().stream().map( AssignmentKey::employeeId ).collect( Collectors.toSet() ),
+                        pending.values().stream().map( AssignmentKey::projectId ).collect( Collectors.toSet() )
+                ).stream().collect( Collectors.toMap(
+                        assignment -> new AssignmentKey( assignment.getEmployee().getId(), assignment.getProject().getId() ),
+                        Function.identity()
+                ) );
+
+        Map<Integer, TimeEntry> timeEntries = new LinkedHashMap<>();
+
+        pending.forEach( ( index, key ) -> {
+            ProjectAssignment projectAssignment = assignments.get( key );
+
+            if ( projectAssignment == null ) {
+                results[index] = failedItem( index, "Could not find assignment for project and employee" );
+            } else if ( !projectAssignment.isActive() ) {
+                results[index] = failedItem( index, "Project assignment is not active" );
+            } else {
+                TimeEntryCreateDTO entry = entries.get( index );
+                TimeEntry timeEntry = timeEntryMapper.toTimeEntry(
+                        entry, projectAssignment.getEmployee(), projectAssignment.getProject()
+                );
+                timeEntries.put( index, setRateAndTotals( timeEntry, entry, resolveRate( projectAssignment ) ) );
+            }
+        } );
+
+        int failed = entries.size() - timeEntries.size();
+
+        if ( timeEntries.isEmpty() || bulkCreateDTO.isAllOrNothing() && failed > 0 ) {
+            timeEntries.keySet().forEach( index -> results[index] = TimeEntryBulkItemResultDTO.builder()
+                    .index( index )
+                    .status( TimeEntryBulkItemStatus.SKIPPED )
+                    .build()
+            );
+
+            return TimeEntryBulkResultDTO.builder()
+                    .results( List.of( results ) )
+                    .created( 0 )
+                    .failed( failed )
+                    .build();
+        }
+
+        // Ids are assigned on the application side, so Hibernate can batch these inserts
+        List<Integer> indexes = List.copyOf( timeEntries.keySet() );
+        List<TimeEntry> savedTimeEntries = timeEntryRepository.saveAll( timeEntries.values() );
+        timeEntryRepository.flush();
+        rollupService.addTimeEntries( savedTimeEntries );
+
+        for ( int i = 0; i < savedTimeEntries.size(); i++ ) {
+            int index = indexes.get( i );
+            results[index] = TimeEntryBulkItemResultDTO.builder()
+                    .index( index )
+                    .status( TimeEntryBulkItemStatus.CREATED )
+                    .timeEntry( timeEntryMapper.toTimeEntryDTO( savedTimeEntries.get( i ) ) )
+                    .build();
+        }
+
+        return TimeEntryBulkResultDTO.builder()
+                .results( List.of( results ) )
+                .created( savedTimeEntries.size() )
+                .failed( failed )
+                .build();
+    }
+
+    private TimeEntryBulkItemResultDTO failedItem( int index, String error ) {
+        return TimeEntryBulkItemResultDTO.builder()
+                .index( index )
+                .status( TimeEntryBulkItemStatus.FAILED )
+                .error( error )
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public TimeEntryBulkResultDTO createOwnTimeEntries( TimeEntryBulkCreateDTO bulkCreateDTO, SecurityUser user ) {
+        UUID employeeId = requireEmployeeId( user );
+
+        return processTimeEntryBulkCreation( bulkCreateDTO, employeeId );
+    }
+
+    @Override
+    @Transactional
+    public TimeEntryBulkResultDTO createTimeEntries( TimeEntryBulkCreateDTO bulkCreateDTO ) {
+        return processTimeEntryBulkCreation( bulkCreateDTO, null );
+    }
+
+    // The If-Match tag is compared with the entry loaded in this transaction, @Version rejects anything committed later
+    private TaggedDTO<TimeEntryDTO> processTimeEntryUpdate(
+            TimeEntryUpdateDTO timeEntryUpdateDTO,
+            TimeEntry timeEntry,
+            String ifMatch
+    ) {
+        versionOf( timeEntry ).checkIfMatch( ifMatch );
+
         Employee employee = timeEntry.getEmployee();
         Project project = timeEntry.getProject();
 
@@ -289,60 +554,61 @@ public class TimeEntryServiceImpl implements TimeEntryService {
         if ( timeEntryUpdateDTO.getTotalTime() == null ) timeEntryUpdateDTO.setTotalTime( timeEntry.getTotalTime() );
         if ( timeEntryUpdateDTO.getPauseTime() == null ) timeEntryUpdateDTO.setPauseTime( timeEntry.getPauseTime() );
 
+        rollupService.removeTimeEntry( timeEntry );
+        // The previous employee has to drop the entry from their calendar
+        if ( !Objects.equals( employee.getId(), timeEntry.getEmployee().getId() ) ) syncService.removeTimeEntry( timeEntry );
+
         TimeEntry updatedTimeEntry = timeEntryMapper.toTimeEntry( timeEntryUpdateDTO, employee, project, timeEntry );
         TimeEntry savedTimeEntry = timeEntryRepository.save( setRateAndTotals( updatedTimeEntry, timeEntryUpdateDTO, rate ) );
+        rollupService.addTimeEntry( savedTimeEntry );
+        // Raises the version and sets the last modified date, the tag then matches the stored row
+        timeEntryRepository.flush();
 
-
-        return timeEntryMapper.toTimeEntryDTO( savedTimeEntry );
+        return new TaggedDTO<>(
+                timeEntryMapper.toTimeEntryDTO( savedTimeEntry ),
+                versionOf( savedTimeEntry ).toEntityTag()
+        );
     }
 
     @Override
     @Transactional
-    public TimeEntryDTO updateOwnTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO, SecurityUser user ) {
-        Employee relatedEmployee = employeeRepository.findByUser_Id( user.getUser().getId() ).orElseThrow(
-                () -> new EntityNotFoundException( "Could not find employee for user with id: " + user.getUser().getId() )
-        );
-
-        TimeEntry timeEntry = timeEntryRepository.findById( UUID.fromString( id ) )
-                .orElseThrow(
-                        () -> new EntityNotFoundException( "Could not find time entry with id: " + id )
-                );
-
-        if ( timeEntry.getEmployee().getId() != null && !
-                timeEntry.getEmployee().getId().equals( relatedEmployee.getId() ) )
-            throw new AccessDeniedException( "You are not allowed to access this time entry" );
-
-        return processTimeEntryUpdate( timeEntryUpdateDTO, timeEntry );
+    public TaggedDTO<TimeEntryDTO> updateOwnTimeEntry(
+            String id,
+            TimeEntryUpdateDTO timeEntryUpdateDTO,
+            SecurityUser user,
+            String ifMatch
+    ) {
+        return processTimeEntryUpdate( timeEntryUpdateDTO, findOwnTimeEntry( id, user ), ifMatch );
     }
 
     @Override
     @Transactional
-    public TimeEntryDTO updateTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO ) {
+    public TaggedDTO<TimeEntryDTO> updateTimeEntry( String id, TimeEntryUpdateDTO timeEntryUpdateDTO, String ifMatch ) {
         TimeEntry timeEntry = timeEntryRepository.findById( UUID.fromString( id ) )
                 .orElseThrow(
                         () -> new EntityNotFoundException( "Could not find time entry with id: " + id )
                 );
-        return processTimeEntryUpdate( timeEntryUpdateDTO, timeEntry );
+        return processTimeEntryUpdate( timeEntryUpdateDTO, timeEntry, ifMatch );
     }
 
     @Override
     @Transactional
     public void deleteOwnTimeEntryById( String id, SecurityUser user ) {
-        Employee relatedEmployee = employeeRepository.findByUser_Id( user.getUser().getId() ).orElseThrow(
-                () -> new EntityNotFoundException( "Could not find employee for user with id: " + user.getUser().getId() )
-        );
-
-        TimeEntry timeEntry = timeEntryRepository.findById( UUID.fromString( id ) )
-                .orElseThrow(
-                        () -> new EntityNotFoundException( "Could not find time entry with id: " + id )
-                );
-
-        if ( timeEntry.getEmployee().getId() != null &&
-                !timeEntry.getEmployee().getId().equals( relatedEmployee.getId() ) )
-            throw new AccessDeniedException( "You are not allowed to access this time entry" );
-
-        timeEntryRepository.delete( timeEntry );
+        requireEmployeeId( user );
+        UUID timeEntryId = UUID.fromString( id );
+
+        TimeEntry timeEntry = jdbcTemplate.query(
+                        DELETE_OWN_TIME_ENTRY,
+                        this::toDeletedTimeEntry,
+                        timeEntryId,
+                        user.getId()
+                )
+                .stream()
+                .findFirst()
+                .orElseThrow( () -> notOwnTimeEntry( timeEntryId ) );
 
+        rollupService.removeTimeEntry( timeEntry );
+        syncService.removeTimeEntry( timeEntry );
     }
 
     @Override
@@ -354,5 +620,52 @@ public class TimeEntryServiceImpl implements TimeEntryService {
                 );
 
         timeEntryRepository.delete( timeEntry );
+        rollupService.removeTimeEntry( timeEntry );
+        syncService.removeTimeEntry( timeEntry );
+    }
+
+    private TimeEntry findOwnTimeEntry( String id, SecurityUser user ) {
+        requireEmployeeId( user );
+        UUID timeEntryId = UUID.fromString( id );
+
+        return timeEntryRepository.findByIdAndEmployee_User_Id( timeEntryId, user.getId() )
+                .orElseThrow( () -> notOwnTimeEntry( timeEntryId ) );
+    }
+
+    // Same sum as TimeEntryRepository.SELECT_VERSION for a single entry
+    private static EntityVersionProjection versionOf( TimeEntry timeEntry ) {
+        Employee employee = timeEntry.getEmployee();
+        return EntityVersionProjection.of(
+                timeEntry.getLastModifiedDate(),
+                timeEntry.getVersion(),
+                employee != null ? employee.getVersion() : null,
+                employee != null && employee.getUser() != null ? employee.getUser().getVersion() : null,
+                timeEntry.getProject() != null ? timeEntry.getProject().getVersion() : null
+        );
+    }
+
+    // Only reached when the scoped statement matched nothing, tells an entry of someone else apart from a missing one
+    private RuntimeException notOwnTimeEntry( UUID timeEntryId ) {
+        if ( timeEntryRepository.existsById( timeEntryId ) )
+            return new AccessDeniedException( "You are not allowed to access this time entry" );
+        return new EntityNotFoundException( "Could not find time entry with id: " + timeEntryId );
+    }
+
+    // The references are proxies, the rollups and the sync tombstone only read their ids
+    private TimeEntry toDeletedTimeEntry( ResultSet resultSet, int rowNum ) throws SQLException {
+        return TimeEntry.builder()
+                .id( resultSet.getObject( "id", UUID.class ) )
+                .employee( employeeRepository.getReferenceById( resultSet.getObject( "employee_id", UUID.class ) ) )
+                .project( projectRepository.getReferenceById( resultSet.getObject( "project_id", UUID.class ) ) )
+                .description( resultSet.getString( "description" ) )
+                .date( resultSet.getObject( "date", LocalDate.class ) )
+                .totalTime( Duration.ofNanos( resultSet.getLong( "total_time" ) ) )
+                .pauseTime( Duration.ofNanos( resultSet.getLong( "pause_time" ) ) )
+                .total( resultSet.getBigDecimal( "total" ) )
+                .totalInternal( resultSet.getBigDecimal( "total_internal" ) )
+                .build();
+    }
+
+    private record AssignmentKey(UUID employeeId, UUID projectId) {
     }
 }
@@ -0,0 +1,26 @@
+/*
+ * assemble
+ * TimeEntrySyncService.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntrySyncDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryView;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+
+public interface TimeEntrySyncService {
+
+    void removeTimeEntry( TimeEntry timeEntry );
+
+    TimeEntrySyncDTO getOwnChanges( SecurityUser user, String since, TimeEntryView view );
+
+    int purgeTombstones();
+
+}
@@ -0,0 +1,179 @@
+/*
+ * assemble
+ * TimeEntrySyncServiceImpl.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.mappers.timeentry.TimeEntryMapper;
+import com.assemble.backend.models.dtos.timeentry.TimeEntrySyncDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryTombstoneDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryView;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.InvalidParameterException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class TimeEntrySyncServiceImpl implements TimeEntrySyncService {
+
+    static final Duration TOMBSTONE_RETENTION = Duration.ofDays( 30 );
+
+    // Rows carry the id of the transaction that wrote them last. Every transaction below the oldest one still
+    // running has finished, so that id is handed out as watermark and the next sync picks up every transaction
+    // that was still running, whenever it commits and whatever the clock of its node says.
+    // Transactions that committed above it are returned again, the client applies them by id.
+    private static final String SELECT_WATERMARK = """
+            SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint
+            """;
+
+    private static final String UPSERT_TOMBSTONE = """
+            INSERT INTO time_entry_tombstones (employee_id, time_entry_id, deleted_date, change_xid)
+            VALUES (?, ?, ?, pg_current_xact_id()::text::bigint)
+            ON CONFLICT (employee_id, time_entry_id)
+            DO UPDATE SET deleted_date = EXCLUDED.deleted_date, change_xid = EXCLUDED.change_xid
+            """;
+
+    // Entries moved back to the employee are reported as changed instead
+    private static final String SELECT_TOMBSTONES = """
+            SELECT ts.time_entry_id, ts.deleted_date
+            FROM time_entry_tombstones ts
+            WHERE ts.employee_id = ? AND ts.change_xid >= ?
+            AND NOT EXISTS (
+                SELECT 1 FROM time_entries t
+                WHERE t.id = ts.time_entry_id AND t.employee_id = ts.employee_id
+            )
+            ORDER BY ts.change_xid, ts.time_entry_id
+            """;
+
+    private static final String DELETE_EXPIRED_TOMBSTONES = """
+            DELETE FROM time_entry_tombstones WHERE deleted_date < ?
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+    private TimeEntryRepository timeEntryRepository;
+    private TimeEntryMapper timeEntryMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeTimeEntry( TimeEntry timeEntry ) {
+        jdbcTemplate.update(
+                UPSERT_TOMBSTONE,
+                timeEntry.getEmployee().getId(),
+                timeEntry.getId(),
+                Timestamp.from( Instant.now() )
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimeEntrySyncDTO getOwnChanges( SecurityUser user, String since, TimeEntryView view ) {
+        Instant now = Instant.now().truncatedTo( ChronoUnit.MILLIS );
+        Watermark sinceWatermark = since != null ? Watermark.parse( since ) : null;
+
+        // Taken before the changes are read, a transaction committing in between is returned again next time
+        Watermark watermark = new Watermark( jdbcTemplate.queryForObject( SELECT_WATERMARK, Long.class ), now );
+
+        UUID employeeId = user.getEmployeeId();
+        if ( employeeId == null ) return emptySync( watermark, false );
+
+        // Tombstones older than the retention may be purged already, the client has to reload
+        if ( sinceWatermark == null || sinceWatermark.issued().isBefore( now.minus( TOMBSTONE_RETENTION ) ) )
+            return emptySync( watermark, true );
+
+        List<?> changed = view == TimeEntryView.COMPACT
+                ? timeEntryRepository.findAllCompactByEmployeeIdAndChangeXidGreaterThanEqual(
+                        employeeId,
+                        sinceWatermark.xid()
+                )
+                .stream()
+                .map( timeEntryMapper::toTimeEntryCompactDTO )
+                .toList()
+                : timeEntryRepository.findAllByEmployee_IdAndChangeXidGreaterThanEqual( employeeId, sinceWatermark.xid() )
+                .stream()
+                .map( timeEntryMapper::toTimeEntryDTO )
+                .toList();
+
+        List<TimeEntryTombstoneDTO> deleted = jdbcTemplate.query(
+                SELECT_TOMBSTONES,
+                this::toTombstoneDTO,
+                employeeId,
+                sinceWatermark.xid()
+        );
+
+        return TimeEntrySyncDTO.builder()
+                .changed( changed )
+                .deleted( deleted )
+                .watermark( watermark.toString() )
+                .reset( false )
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones() {
+        return jdbcTemplate.update(
+                DELETE_EXPIRED_TOMBSTONES,
+                Timestamp.from( Instant.now().minus( TOMBSTONE_RETENTION ) )
+        );
+    }
+
+    private TimeEntrySyncDTO emptySync( Watermark watermark, boolean reset ) {
+        return TimeEntrySyncDTO.builder()
+                .changed( List.of() )
+                .deleted( List.of() )
+                .watermark( watermark.toString() )
+                .reset( reset )
+                .build();
+    }
+
+    private TimeEntryTombstoneDTO toTombstoneDTO( ResultSet rs, int rowNum ) throws SQLException {
+        return new TimeEntryTombstoneDTO(
+                rs.getObject( "time_entry_id", UUID.class ),
+                rs.getTimestamp( "deleted_date" ).toInstant()
+        );
+    }
+
+    // Transaction id to sync from and the time it was handed out, which is only compared to the tombstone retention
+    record Watermark( long xid, Instant issued ) {
+
+        static Watermark parse( String value ) {
+            int separator = value.indexOf( '@' );
+            try {
+                if ( separator < 1 ) throw new InvalidParameterException( "Invalid watermark format" );
+                return new Watermark(
+                        Long.parseLong( value.substring( 0, separator ) ),
+                        Instant.parse( value.substring( separator + 1 ) )
+                );
+            } catch ( NumberFormatException | DateTimeParseException e ) {
+                throw new InvalidParameterException( "Invalid watermark format" );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return xid + "@" + issued;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * assemble
+ * BoundedPasswordEncoder.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import com.assemble.backend.exceptions.auth.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Hashes passwords on a small bounded pool, so a burst of logins only ever occupies as many cores as it has threads.
+ * Request threads wait for their hash, once the queue is full further requests are rejected instead of queued.
+ * Hashes with another cost than the configured strength are reported as outdated, authentication rehashes them.
+ * The timeout bounds the wait of the request, a hash still queued is dropped, a running one cannot be stopped
+ * and finishes on its thread, BCrypt does not react to interrupts.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile( "^\\$2[aby]?\\$(\\d\\d)\\$" );
+
+    private final PasswordEncoder delegate;
+
+    private final int strength;
+
+    private final Duration timeout;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer matchesTimer;
+
+    private final Timer encodeTimer;
+
+    private final Counter queueFullCounter;
+
+    private final Counter queuedTimeoutCounter;
+
+    private final Counter runningTimeoutCounter;
+
+    public BoundedPasswordEncoder(
+            int strength,
+            MeterRegistry meterRegistry,
+            int threads,
+            int queueCapacity,
+            Duration timeout
+    ) {
+        this( new BCryptPasswordEncoder( strength ), strength, meterRegistry, threads, queueCapacity, timeout );
+    }
+
+    BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int strength,
+            MeterRegistry meterRegistry,
+            int threads,
+            int queueCapacity,
+            Duration timeout
+    ) {
+        if ( threads < 1 ) throw new IllegalArgumentException( "Number of threads must be positive" );
+        if ( queueCapacity < 1 ) throw new IllegalArgumentException( "Queue capacity must be positive" );
+
+        this.delegate = delegate;
+        this.strength = strength;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>( queueCapacity ),
+                Thread.ofPlatform().name( "password-hash-", 0 ).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.matchesTimer = Timer.builder( "assemble.auth.password.hash" )
+                .description( "Time spent hashing a password, without the time waiting in the queue" )
+                .tag( "operation", "matches" )
+                .register( meterRegistry );
+        this.encodeTimer = Timer.builder( "assemble.auth.password.hash" )
+                .description( "Time spent hashing a password, without the time waiting in the queue" )
+                .tag( "operation", "encode" )
+                .register( meterRegistry );
+        this.queueFullCounter = rejectedCounter( meterRegistry, "queue-full" );
+        this.queuedTimeoutCounter = rejectedCounter( meterRegistry, "queued" );
+        this.runningTimeoutCounter = rejectedCounter( meterRegistry, "running" );
+        Gauge.builder( "assemble.auth.password.queue", executor.getQueue(), BlockingQueue::size )
+                .description( "Number of password hashes waiting for a thread" )
+                .register( meterRegistry );
+    }
+
+    @Override
+    public String encode( CharSequence rawPassword ) {
+        return submit( encodeTimer, () -> delegate.encode( rawPassword ) );
+    }
+
+    @Override
+    public boolean matches( CharSequence rawPassword, String encodedPassword ) {
+        return submit( matchesTimer, () -> delegate.matches( rawPassword, encodedPassword ) );
+    }
+
+    // Not while the queue is full, the rehash would reject a login that already succeeded, the next login retries
+    @Override
+    public boolean upgradeEncoding( String encodedPassword ) {
+        if ( encodedPassword == null ) return false;
+
+        Matcher matcher = BCRYPT_COST.matcher( encodedPassword );
+        if ( !matcher.find() || Integer.parseInt( matcher.group( 1 ) ) == strength ) return false;
+
+        return executor.getQueue().remainingCapacity() > 0;
+    }
+
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit( Timer timer, Callable<T> hash ) {
+        // Claimed by the task when it starts hashing or by the request when it gives up, whichever comes first
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit( () -> claimed.compareAndSet( false, true ) ? timer.recordCallable( hash ) : null );
+        } catch ( RejectedExecutionException e ) {
+            queueFullCounter.increment();
+            throw new PasswordHashingRejectedException( "Too many login attempts are in progress, try again later" );
+        }
+
+        try {
+            return future.get( timeout.toMillis(), TimeUnit.MILLISECONDS );
+        } catch ( TimeoutException e ) {
+            if ( claimed.compareAndSet( false, true ) ) {
+                // Still queued, the hash never starts and its slot is freed for the next request
+                executor.remove( (Runnable) future );
+                queuedTimeoutCounter.increment();
+            } else {
+                runningTimeoutCounter.increment();
+            }
+            future.cancel( false );
+            throw new PasswordHashingRejectedException( "Too many login attempts are in progress, try again later" );
+        } catch ( InterruptedException e ) {
+            claimed.set( true );
+            future.cancel( false );
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while waiting for the password hash", e );
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException runtimeException ) throw runtimeException;
+            throw new IllegalStateException( "Password hashing failed", e.getCause() );
+        }
+    }
+
+    private static Counter rejectedCounter( MeterRegistry meterRegistry, String reason ) {
+        return Counter.builder( "assemble.auth.password.rejected" )
+                .description( "Number of password hashes rejected because the queue was full or the wait timed out" )
+                .tag( "reason", reason )
+                .register( meterRegistry );
+    }
+}
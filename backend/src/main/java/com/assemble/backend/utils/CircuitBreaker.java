@@ -0,0 +1,77 @@
+/*
+ * assemble
+ * CircuitBreaker.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+ * Opens after failureThreshold consecutive failures and rejects calls for openDuration.
+ * After that a single trial call is let through, its outcome closes or reopens the breaker.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final Duration openDuration;
+
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+
+    private int failures;
+
+    private Instant openedAt;
+
+    public CircuitBreaker( int failureThreshold, Duration openDuration, Clock clock ) {
+        if ( failureThreshold < 1 ) throw new IllegalArgumentException( "Failure threshold must be positive" );
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if ( state == State.CLOSED ) return true;
+
+        if ( state == State.OPEN && !clock.instant().isBefore( openedAt.plus( openDuration ) ) ) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+
+        // Open, or half open with the trial call still running
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if ( state == State.HALF_OPEN || failures >= failureThreshold ) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
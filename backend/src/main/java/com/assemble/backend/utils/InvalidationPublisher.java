@@ -0,0 +1,21 @@
+/*
+ * assemble
+ * InvalidationPublisher.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+// Tells the other nodes to drop their cached copy of an entry
+@FunctionalInterface
+public interface InvalidationPublisher {
+
+    InvalidationPublisher NONE = key -> {
+    };
+
+    void publish( String key );
+}
@@ -10,44 +10,124 @@
 
 package com.assemble.backend.utils;
 
-import com.assemble.backend.models.entities.db.Sequence;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.NoResultException;
-import jakarta.persistence.PersistenceContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 public class NoGenerator {
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    // nextval is not transactional, the block stays reserved on the connection of the caller without a
+    // transaction of its own. The increment of the sequence is the block size, change it with ALTER SEQUENCE.
+    // Every instance gets disjoint blocks, numbers stay unique but are not strictly ordered across instances.
+    private static final String RESERVE_BLOCK = """
+            SELECT nextval(s.seqrelid) AS upper_bound, s.seqincrement AS block_size
+            FROM pg_sequence s
+            WHERE s.seqrelid = ?::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+    private final Map<String, ReentrantLock> refillLocks = new ConcurrentHashMap<>();
+
+    public NoGenerator( JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+    }
 
-    @Transactional
     public String generateNextNo( String sequenceName, String prefix ) {
-        String query = "SELECT s FROM Sequence s WHERE s.name = :sequenceName";
+        return String.format( "%s%05d", prefix, nextValue( sequenceName ) );
+    }
+
+    long nextValue( String sequenceName ) {
+        SequenceBlock block = blocks.get( sequenceName );
+        if ( block != null ) {
+            long value = block.next();
+            if ( value > 0 ) return value;
+        }
+        return refill( sequenceName );
+    }
+
+    // The lock only avoids reserving blocks that are thrown away, waiting threads hold no second connection
+    private long refill( String sequenceName ) {
+        ReentrantLock lock = refillLocks.computeIfAbsent( sequenceName, name -> new ReentrantLock() );
 
+        Timer.Sample waitSample = Timer.start( meterRegistry );
+        lock.lock();
+        waitSample.stop(
+                Timer.builder( "assemble.sequence.refill.wait" )
+                        .description( "Time spent waiting for another thread refilling the same sequence" )
+                        .tag( "sequence", sequenceName )
+                        .register( meterRegistry )
+        );
         try {
-            Sequence sequence = entityManager
-                    .createQuery( query, Sequence.class )
-                    .setParameter( "sequenceName", sequenceName )
-                    .setLockMode( LockModeType.PESSIMISTIC_WRITE )
-                    .getSingleResult();
+            // Another thread may have refilled the block while this one was waiting
+            SequenceBlock block = blocks.get( sequenceName );
+            if ( block != null ) {
+                long value = block.next();
+                if ( value > 0 ) return value;
+            }
+
+            Timer.Sample refillSample = Timer.start( meterRegistry );
+            SequenceBlock refilled = jdbcTemplate.queryForObject(
+                    RESERVE_BLOCK,
+                    ( resultSet, rowNum ) -> new SequenceBlock(
+                            resultSet.getLong( "upper_bound" ) - resultSet.getLong( "block_size" ) + 1,
+                            resultSet.getLong( "upper_bound" )
+                    ),
+                    sequenceName.toLowerCase( Locale.ROOT )
+            );
+            refillSample.stop(
+                    Timer.builder( "assemble.sequence.refill" )
+                            .description( "Time spent reserving a block of numbers from the database sequence" )
+                            .tag( "sequence", sequenceName )
+                            .register( meterRegistry )
+            );
+            if ( refilled == null )
+                throw new IllegalStateException( "Could not reserve numbers for sequence " + sequenceName );
+
+            Counter.builder( "assemble.sequence.refills" )
+                    .description( "Number of blocks reserved from the database sequences" )
+                    .tag( "sequence", sequenceName )
+                    .register( meterRegistry )
+                    .increment();
+
+            long value = refilled.next();
+            blocks.put( sequenceName, refilled );
 
-            sequence.setCurrentValue( sequence.getCurrentValue() + 1 );
-            entityManager.merge( sequence );
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class SequenceBlock {
 
-            return String.format( "%s%05d", prefix, sequence.getCurrentValue() );
-        } catch ( NoResultException e ) {
-            Sequence sequence = Sequence.builder()
-                    .name( sequenceName )
-                    .currentValue( 1L )
-                    .build();
+        private final AtomicLong nextValue;
 
-            entityManager.persist( sequence );
+        private final long maxValue;
+
+        private SequenceBlock( long firstValue, long maxValue ) {
+            this.nextValue = new AtomicLong( firstValue );
+            this.maxValue = maxValue;
+        }
 
-            return String.format( "%s%05d", prefix, sequence.getCurrentValue() );
+        private long next() {
+            long value = nextValue.getAndIncrement();
+            // -1 signals an exhausted block
+            return value <= maxValue ? value : -1;
         }
     }
 }
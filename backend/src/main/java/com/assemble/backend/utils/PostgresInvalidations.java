@@ -0,0 +1,75 @@
+/*
+ * assemble
+ * PostgresInvalidations.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.sql.ResultSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/*
+ * Cache invalidations between the nodes over Postgres LISTEN and NOTIFY, one instance per channel.
+ * All channels are received by the shared listener on its own connection. Notifications sent while it reconnects
+ * are lost, so it tells the cache to drop everything once it is listening again.
+ */
+public class PostgresInvalidations implements InvalidationPublisher, AutoCloseable {
+
+    private final PostgresNotificationListener listener;
+
+    private final JdbcOperations jdbcOperations;
+
+    private final String channel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private boolean started;
+
+    public PostgresInvalidations(
+            PostgresNotificationListener listener,
+            JdbcOperations jdbcOperations,
+            String channel
+    ) {
+        if ( !channel.matches( "[a-z_][a-z0-9_]*" ) )
+            throw new IllegalArgumentException( "Invalid notification channel: " + channel );
+
+        this.listener = listener;
+        this.jdbcOperations = jdbcOperations;
+        this.channel = channel;
+    }
+
+    public synchronized void start( Consumer<String> onInvalidated, Runnable onListening ) {
+        if ( started ) return;
+        started = true;
+        listener.subscribe( channel, payload -> handle( payload, onInvalidated ), onListening );
+    }
+
+    @Override
+    public synchronized void close() {
+        if ( !started ) return;
+        started = false;
+        listener.unsubscribe( channel );
+    }
+
+    // Sent with the transaction of the caller, so other nodes only drop their copy once the change is committed
+    @Override
+    public void publish( String key ) {
+        jdbcOperations.query( "SELECT pg_notify(?, ?)", ResultSet::next, channel, nodeId + ":" + key );
+    }
+
+    private void handle( String payload, Consumer<String> onInvalidated ) {
+        int separator = payload.indexOf( ':' );
+        if ( separator < 0 ) return;
+        // Own notifications are skipped, the cache of this node is already up to date
+        if ( payload.substring( 0, separator ).equals( nodeId ) ) return;
+        onInvalidated.accept( payload.substring( separator + 1 ) );
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * assemble
+ * PostgresNotificationListener.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/*
+ * Receives the Postgres notifications of all channels on one thread and one connection. The data source is expected
+ * to open that connection outside the pool, so listening never takes a connection away from the requests.
+ * Channels subscribed later are listened to with the next poll. Notifications sent while it reconnects are lost,
+ * every subscriber is told once its channel is listened to again.
+ */
+@Slf4j
+public class PostgresNotificationListener implements AutoCloseable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds( 1 );
+
+    private static final Duration RECONNECT_DELAY = Duration.ofSeconds( 5 );
+
+    private final DataSource dataSource;
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    private Thread listener;
+
+    public PostgresNotificationListener( DataSource dataSource ) {
+        this.dataSource = dataSource;
+    }
+
+    public synchronized void subscribe( String channel, Consumer<String> onNotification, Runnable onListening ) {
+        if ( !channel.matches( "[a-z_][a-z0-9_]*" ) )
+            throw new IllegalArgumentException( "Invalid notification channel: " + channel );
+        if ( subscriptions.putIfAbsent( channel, new Subscription( onNotification, onListening ) ) != null )
+            throw new IllegalStateException( "Notification channel is already subscribed: " + channel );
+
+        if ( running ) return;
+        running = true;
+        listener = Thread.ofPlatform()
+                .name( "postgres-notifications" )
+                .daemon()
+                .start( this::listen );
+    }
+
+    // The channel is no longer listened to after the next poll
+    public void unsubscribe( String channel ) {
+        subscriptions.remove( channel );
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if ( listener == null ) return;
+        listener.interrupt();
+        try {
+            listener.join( POLL_TIMEOUT.multipliedBy( 2 ) );
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+        }
+        listener = null;
+    }
+
+    private void listen() {
+        while ( running ) {
+            Set<String> listening = new HashSet<>();
+            try (
+                    Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()
+            ) {
+                PGConnection pgConnection = connection.unwrap( PGConnection.class );
+
+                while ( running ) {
+                    updateChannels( statement, listening );
+
+                    PGNotification[] notifications = pgConnection.getNotifications( (int) POLL_TIMEOUT.toMillis() );
+                    if ( notifications == null ) continue;
+                    for ( PGNotification notification : notifications ) {
+                        Subscription subscription = subscriptions.get( notification.getName() );
+                        if ( subscription != null )
+                            notify( notification.getName(), subscription.onNotification(), notification.getParameter() );
+                    }
+                }
+            } catch ( SQLException e ) {
+                if ( !running ) return;
+                log.warn( "Notification listener lost its connection, reconnecting: {}", e.getMessage() );
+                try {
+                    Thread.sleep( RECONNECT_DELAY );
+                } catch ( InterruptedException interrupted ) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void updateChannels( Statement statement, Set<String> listening ) throws SQLException {
+        for ( Iterator<String> iterator = listening.iterator(); iterator.hasNext(); ) {
+            String channel = iterator.next();
+            if ( subscriptions.containsKey( channel ) ) continue;
+            statement.execute( "UNLISTEN " + channel );
+            iterator.remove();
+        }
+
+        for ( Map.Entry<String, Subscription> entry : subscriptions.entrySet() ) {
+            if ( listening.contains( entry.getKey() ) ) continue;
+            statement.execute( "LISTEN " + entry.getKey() );
+            listening.add( entry.getKey() );
+            notify( entry.getKey(), ignored -> entry.getValue().onListening().run(), null );
+        }
+    }
+
+    // A failing subscriber must not stop the notifications of the other channels
+    private static void notify( String channel, Consumer<String> subscriber, String payload ) {
+        try {
+            subscriber.accept( payload );
+        } catch ( RuntimeException e ) {
+            log.warn( "Subscriber of notification channel {} failed: {}", channel, e.getMessage() );
+        }
+    }
+
+    private record Subscription( Consumer<String> onNotification, Runnable onListening ) {
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * assemble
+ * SchedulerLease.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Lease on a row of scheduler_leases, so a job scheduled on every node only runs on one of them.
+ * The owner renews it on every run, the other nodes take it over once it expired.
+ */
+@Slf4j
+public class SchedulerLease {
+
+    // Taken over once expired, renewed by the current owner on every run
+    private static final String ACQUIRE_LEASE_QUERY = """
+            INSERT INTO scheduler_leases (name, owner, expires_date)
+            VALUES (?, ?, now() + make_interval(secs => ?))
+            ON CONFLICT (name) DO UPDATE SET
+                owner = EXCLUDED.owner,
+                expires_date = EXCLUDED.expires_date
+            WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_date < now()
+            RETURNING owner
+            """;
+
+    private static final String RELEASE_LEASE_QUERY = """
+            DELETE FROM scheduler_leases WHERE name = ? AND owner = ?
+            """;
+
+    private final JdbcOperations jdbcOperations;
+
+    private final String name;
+
+    private final Duration duration;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    public SchedulerLease( JdbcOperations jdbcOperations, String name, Duration duration ) {
+        this.jdbcOperations = jdbcOperations;
+        this.name = name;
+        this.duration = duration;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public boolean tryAcquire() {
+        List<String> owners = jdbcOperations.queryForList(
+                ACQUIRE_LEASE_QUERY,
+                String.class,
+                name,
+                owner,
+                duration.toSeconds()
+        );
+        return !owners.isEmpty();
+    }
+
+    // Gives the lease up, so another node can take over without waiting for it to expire
+    public void release() {
+        try {
+            jdbcOperations.update( RELEASE_LEASE_QUERY, name, owner );
+        } catch ( RuntimeException e ) {
+            log.warn( "Could not release the scheduler lease {}: {}", name, e.getMessage() );
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * assemble
+ * SlidingWindowLimiter.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Limits the attempts per key within a sliding window, approximated by the count of the current fixed window
+ * plus the count of the previous one weighted by how much of it still overlaps the sliding window.
+ * Counters are swapped with compare and set, attempts of different keys never wait for each other.
+ */
+public class SlidingWindowLimiter {
+
+    private static final Window EMPTY = new Window( Long.MIN_VALUE, 0, 0 );
+
+    private final int maxAttempts;
+
+    private final long windowMillis;
+
+    private final int maximumKeys;
+
+    private final Clock clock;
+
+    private final Map<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    // Index of the window the stale keys were last dropped in, at most one purge per window
+    private final AtomicLong purgedWindow = new AtomicLong( Long.MIN_VALUE );
+
+    public SlidingWindowLimiter( int maxAttempts, Duration window, int maximumKeys, Clock clock ) {
+        if ( maxAttempts < 1 ) throw new IllegalArgumentException( "Maximum number of attempts must be positive" );
+        if ( window.toMillis() < 1 ) throw new IllegalArgumentException( "Window must be at least one millisecond" );
+        if ( maximumKeys < 1 ) throw new IllegalArgumentException( "Maximum number of keys must be positive" );
+
+        this.maxAttempts = maxAttempts;
+        this.windowMillis = window.toMillis();
+        this.maximumKeys = maximumKeys;
+        this.clock = clock;
+    }
+
+    // Counts the attempt unless the key is already over the limit, rejected attempts are not counted
+    public boolean tryAcquire( String key ) {
+        long now = clock.millis();
+        AtomicReference<Window> reference = reference( key, now );
+
+        while ( true ) {
+            Window current = reference.get();
+            Window rolled = current.roll( now / windowMillis );
+            if ( rolled.estimate( now, windowMillis ) >= maxAttempts ) return false;
+            if ( reference.compareAndSet( current, rolled.increment() ) ) return true;
+        }
+    }
+
+    // Counts an attempt another node already accepted
+    public void record( String key ) {
+        long now = clock.millis();
+        AtomicReference<Window> reference = reference( key, now );
+
+        reference.updateAndGet( current -> current.roll( now / windowMillis ).increment() );
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    // Every key is tracked, a full table makes room by dropping the key that matters least
+    private AtomicReference<Window> reference( String key, long now ) {
+        AtomicReference<Window> reference = windows.get( key );
+        if ( reference != null ) return reference;
+
+        if ( windows.size() >= maximumKeys ) {
+            purge( now / windowMillis );
+            if ( windows.size() >= maximumKeys ) evict();
+        }
+        return windows.computeIfAbsent( key, ignored -> new AtomicReference<>( EMPTY ) );
+    }
+
+    // A key without attempts in the current or previous window counts as zero, it can be dropped
+    private void purge( long index ) {
+        long purged = purgedWindow.get();
+        if ( purged >= index || !purgedWindow.compareAndSet( purged, index ) ) return;
+
+        windows.values().removeIf( reference -> reference.get().index() < index - 1 );
+    }
+
+    // Drops the key with the oldest window and the fewest attempts, keys close to their limit are kept the longest
+    private void evict() {
+        Map.Entry<String, AtomicReference<Window>> eviction = null;
+        for ( Map.Entry<String, AtomicReference<Window>> entry : windows.entrySet() ) {
+            if ( eviction == null || entry.getValue().get().isBefore( eviction.getValue().get() ) )
+                eviction = entry;
+        }
+        if ( eviction != null ) windows.remove( eviction.getKey(), eviction.getValue() );
+    }
+
+    private record Window( long index, int current, int previous ) {
+
+        Window roll( long toIndex ) {
+            if ( index == toIndex ) return this;
+            if ( index == toIndex - 1 ) return new Window( toIndex, 0, current );
+            return new Window( toIndex, 0, 0 );
+        }
+
+        boolean isBefore( Window other ) {
+            if ( index != other.index ) return index < other.index;
+            return current + previous < other.current + other.previous;
+        }
+
+        Window increment() {
+            return new Window( index, current + 1, previous );
+        }
+
+        double estimate( long now, long windowMillis ) {
+            double elapsed = (double) ( now - index * windowMillis ) / windowMillis;
+            return previous * ( 1 - elapsed ) + current;
+        }
+    }
+}
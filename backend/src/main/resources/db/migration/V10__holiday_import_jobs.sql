@@ -0,0 +1,3 @@
+create table if not exists holiday_import_jobs (id uuid not null, status varchar(255) not null, countries varchar(255) not null, from_year integer not null, to_year integer not null, total integer not null, cancel_requested boolean not null default false, error varchar(1000), created_date timestamp(6) with time zone not null, started_date timestamp(6) with time zone, finished_date timestamp(6) with time zone, progress_date timestamp(6) with time zone not null, primary key (id));
+create table if not exists holiday_import_job_results (job_id uuid not null, country varchar(255) not null, year integer not null, inserted integer not null, updated integer not null, skipped integer not null, primary key (job_id, country, year));
+alter table if exists holiday_import_job_results add constraint fk_holiday_import_job_results_job foreign key (job_id) references holiday_import_jobs on delete cascade;
@@ -0,0 +1,3 @@
+create index if not exists idx_time_entries_date_id on time_entries (date, id);
+create index if not exists idx_time_entries_employee_date_id on time_entries (employee_id, date, id);
+create index if not exists idx_time_entries_project_date_id on time_entries (project_id, date, id);
@@ -0,0 +1,20 @@
+create table if not exists time_entry_daily_rollups (employee_id uuid not null, project_id uuid not null, day date not null, entry_count bigint not null, total_time numeric(21,0) not null, pause_time numeric(21,0) not null, total numeric(38,2) not null, total_internal numeric(38,2) not null, primary key (employee_id, project_id, day));
+create table if not exists time_entry_monthly_rollups (employee_id uuid not null, project_id uuid not null, month date not null, entry_count bigint not null, total_time numeric(21,0) not null, pause_time numeric(21,0) not null, total numeric(38,2) not null, total_internal numeric(38,2) not null, primary key (employee_id, project_id, month));
+create index if not exists idx_time_entry_daily_rollups_project_day on time_entry_daily_rollups (project_id, day);
+create index if not exists idx_time_entry_monthly_rollups_project_month on time_entry_monthly_rollups (project_id, month);
+alter table if exists time_entry_daily_rollups add constraint fk_time_entry_daily_rollups_employee foreign key (employee_id) references employees;
+alter table if exists time_entry_daily_rollups add constraint fk_time_entry_daily_rollups_project foreign key (project_id) references projects;
+alter table if exists time_entry_monthly_rollups add constraint fk_time_entry_monthly_rollups_employee foreign key (employee_id) references employees;
+alter table if exists time_entry_monthly_rollups add constraint fk_time_entry_monthly_rollups_project foreign key (project_id) references projects;
+
+insert into time_entry_daily_rollups (employee_id, project_id, day, entry_count, total_time, pause_time, total, total_internal)
+select employee_id, project_id, date, count(*), sum(total_time), sum(pause_time), sum(total), sum(total_internal)
+from time_entries
+group by employee_id, project_id, date
+on conflict do nothing;
+
+insert into time_entry_monthly_rollups (employee_id, project_id, month, entry_count, total_time, pause_time, total, total_internal)
+select employee_id, project_id, cast(date_trunc('month', date) as date), count(*), sum(total_time), sum(pause_time), sum(total), sum(total_internal)
+from time_entries
+group by employee_id, project_id, cast(date_trunc('month', date) as date)
+on conflict do nothing;
@@ -0,0 +1,4 @@
+create table if not exists time_entry_tombstones (employee_id uuid not null, time_entry_id uuid not null, deleted_date timestamp(6) with time zone not null, primary key (employee_id, time_entry_id));
+create index if not exists idx_time_entry_tombstones_employee_deleted on time_entry_tombstones (employee_id, deleted_date);
+create index if not exists idx_time_entries_employee_last_modified on time_entries (employee_id, last_modified_date);
+alter table if exists time_entry_tombstones add constraint fk_time_entry_tombstones_employee foreign key (employee_id) references employees on delete cascade;
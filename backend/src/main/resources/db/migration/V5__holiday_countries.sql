@@ -0,0 +1,2 @@
+alter table if exists holidays add column if not exists country varchar(2) not null default 'DE' check (country in ('DE','AT','CH'));
+create index if not exists idx_holidays_country_start_date on holidays (country, start_date);
@@ -0,0 +1,10 @@
+alter table if exists subdivisions rename to holiday_subdivision_copies;
+create table if not exists subdivisions (code varchar(255) not null, country varchar(2) not null check (country in ('DE','AT','CH')), iso_code varchar(255) not null, short_name varchar(255) not null, name varchar(255) not null, primary key (code));
+insert into subdivisions (code, country, iso_code, short_name, name) select distinct on (c.holiday_code) c.holiday_code, h.country, c.holiday_iso_code, c.holiday_short_name, c.holiday_name from holiday_subdivision_copies c join holidays h on h.id = c.holiday_id order by c.holiday_code, h.last_modified_date desc;
+create table if not exists holiday_subdivisions (holiday_id uuid not null, subdivision_code varchar(255) not null, primary key (holiday_id, subdivision_code));
+insert into holiday_subdivisions (holiday_id, subdivision_code) select distinct holiday_id, holiday_code from holiday_subdivision_copies;
+drop table holiday_subdivision_copies;
+create index if not exists idx_holiday_subdivisions_subdivision_holiday on holiday_subdivisions (subdivision_code, holiday_id);
+create index if not exists idx_subdivisions_country on subdivisions (country);
+alter table if exists holiday_subdivisions add constraint fk_holiday_subdivisions_holiday foreign key (holiday_id) references holidays on delete cascade;
+alter table if exists holiday_subdivisions add constraint fk_holiday_subdivisions_subdivision foreign key (subdivision_code) references subdivisions;
@@ -0,0 +1 @@
+create table if not exists scheduler_leases (name varchar(255) not null, owner varchar(255) not null, expires_date timestamp(6) with time zone not null, primary key (name));
@@ -0,0 +1,10 @@
+do $$
+declare
+    sequence_name text;
+    reserved bigint;
+begin
+    foreach sequence_name in array array['employee_seq', 'project_seq', 'time_entry_seq'] loop
+        select coalesce(max(s.current_value), 0) into reserved from sequences s where lower(s.name) = sequence_name;
+        execute format('create sequence if not exists %I increment by 50 start with %s', sequence_name, reserved + 50);
+    end loop;
+end $$;
@@ -0,0 +1,13 @@
+alter table if exists time_entries add column if not exists change_xid bigint not null default 0;
+alter table if exists time_entry_tombstones add column if not exists change_xid bigint not null default 0;
+create or replace function time_entries_change_xid() returns trigger as $$
+begin
+    new.change_xid := pg_current_xact_id()::text::bigint;
+    return new;
+end $$ language plpgsql;
+create trigger time_entries_change_xid before insert or update on time_entries for each row execute function time_entries_change_xid();
+drop index if exists idx_time_entries_employee_last_modified;
+drop index if exists idx_time_entry_tombstones_employee_deleted;
+create index if not exists idx_time_entries_employee_change_xid on time_entries (employee_id, change_xid);
+create index if not exists idx_time_entry_tombstones_employee_change_xid on time_entry_tombstones (employee_id, change_xid);
+create index if not exists idx_time_entry_tombstones_deleted on time_entry_tombstones (deleted_date);
@@ -0,0 +1,73 @@
+/*
+ * assemble
+ * HolidayProviderConfigurationTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.holiday;
+
+import com.assemble.backend.services.holiday.FileHolidayProvider;
+import com.assemble.backend.services.holiday.HolidayProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayProviderConfiguration Unit Test")
+class HolidayProviderConfigurationTest {
+
+    private final HolidayProviderConfiguration configuration = new HolidayProviderConfiguration();
+
+    @TempDir
+    private Path cacheDirectory;
+
+    private HolidayProvider fileProvider( String fileLocation ) {
+        return configuration.holidayProvider(
+                RestClient.builder(),
+                new ObjectMapper(),
+                "file",
+                "http://localhost/",
+                Duration.ofSeconds( 1 ),
+                Duration.ofSeconds( 1 ),
+                1,
+                Duration.ofMillis( 1 ),
+                1,
+                Duration.ofMinutes( 1 ),
+                cacheDirectory,
+                Duration.ofDays( 1 ),
+                fileLocation,
+                new DefaultResourceLoader()
+        );
+    }
+
+    @Test
+    @DisplayName("holidayProvider should read the cache directory when no file location is set")
+    void holidayProvider_ShouldReadCacheDirectory_WhenFileLocationIsBlank() throws IOException {
+        Files.writeString( cacheDirectory.resolve( "subdivisions-DE.json" ), "[]" );
+
+        HolidayProvider actual = fileProvider( "" );
+
+        assertInstanceOf( FileHolidayProvider.class, actual );
+        assertTrue( actual.getSubdivisions( "DE" ).isEmpty() );
+    }
+
+    @Test
+    @DisplayName("holidayProvider should throw IllegalStateException when the file location does not exist")
+    void holidayProvider_ShouldThrowIllegalStateException_WhenFileLocationDoesNotExist() {
+        assertThrows( IllegalStateException.class, () -> fileProvider( "classpath:holidays/" ) );
+        assertThrows( IllegalStateException.class, () -> fileProvider( "file:" + cacheDirectory.resolve( "missing" ) + "/" ) );
+    }
+}
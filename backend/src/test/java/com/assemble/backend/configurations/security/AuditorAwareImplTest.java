@@ -70,7 +70,7 @@ class AuditorAwareImplTest {
                 .roles( List.of( UserRole.USER ) )
                 .build()
         );
-        UserAudit expected = new UserAudit( user.getUser().getId(), user.getUsername() );
+        UserAudit expected = new UserAudit( user.getId(), user.getUsername() );
 
         Mockito.when( authentication.isAuthenticated() ).thenReturn( true );
         Mockito.when( authentication.getName() ).thenReturn( "mustermannmax" );
@@ -103,7 +103,7 @@ class AuditorAwareImplTest {
                         .build()
         );
 
-        UserAudit expected = new UserAudit( user.getUser().getId(), user.getUsername() );
+        UserAudit expected = new UserAudit( user.getId(), user.getUsername() );
 
         Mockito.when( authentication.getPrincipal() ).thenReturn( user );
         Mockito.when( securityContext.getAuthentication() ).thenReturn( authentication );
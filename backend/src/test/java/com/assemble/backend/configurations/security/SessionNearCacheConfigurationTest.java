@@ -0,0 +1,170 @@
+/*
+ * assemble
+ * SessionNearCacheConfigurationTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.configurations.security;
+
+import com.assemble.backend.models.dtos.auth.LoginRequest;
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.repositories.session.SessionNearCache;
+import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "assemble.sessions.near-cache.flush-interval=1h")
+@Import(TestcontainersConfiguration.class)
+@DisplayName("SessionNearCacheConfiguration Integration Test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+class SessionNearCacheConfigurationTest {
+
+    private static final String PASSWORD = "SuperS3curePassword123!";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SessionNearCache sessionNearCache;
+
+    private Cookie sessionCookie;
+
+    private String sessionId;
+
+    @BeforeEach
+    void login() throws Exception {
+        userRepository.save(
+                User.builder()
+                        .username( "mustermannmax" )
+                        .firstname( "Max" )
+                        .lastname( "Mustermann" )
+                        .password( passwordEncoder.encode( PASSWORD ) )
+                        .email( "max.mustermann@example.com" )
+                        .roles( List.of( UserRole.USER ) )
+                        .build()
+        );
+
+        MockHttpServletResponse response = mockMvc.perform(
+                post( "/api/auth/login" )
+                        .contentType( MediaType.APPLICATION_JSON_VALUE )
+                        .content( objectMapper.writeValueAsString( new LoginRequest( "mustermannmax", PASSWORD ) ) )
+        ).andExpect(
+                status().isOk()
+        ).andReturn().getResponse();
+
+        sessionCookie = response.getCookie( "SESSION" );
+        sessionId = JsonPath.read( response.getContentAsString(), "$.sessionId" );
+        assertNotNull( sessionCookie );
+    }
+
+    private int getMe() throws Exception {
+        return mockMvc.perform( get( "/api/users/me" ).cookie( sessionCookie ) )
+                .andReturn().getResponse().getStatus();
+    }
+
+    private long getLastAccessTime() {
+        return jdbcTemplate.queryForObject(
+                "SELECT LAST_ACCESS_TIME FROM SESSIONS WHERE SESSION_ID = ?",
+                Long.class,
+                sessionId
+        );
+    }
+
+    @Test
+    @DisplayName("authenticated requests should be served from the near cache without reading the sessions table")
+    void authenticatedRequests_ShouldBeServedFromNearCache() throws Exception {
+        assertEquals( 200, getMe() );
+
+        // Gone from the table, but neither notified nor expired from the cache
+        jdbcTemplate.update( "DELETE FROM SESSIONS WHERE SESSION_ID = ?", sessionId );
+
+        assertEquals( 200, getMe() );
+    }
+
+    @Test
+    @DisplayName("authenticated requests should be rejected once another node invalidated the session")
+    void authenticatedRequests_ShouldBeRejected_WhenAnotherNodeInvalidatedSession() throws Exception {
+        assertEquals( 200, getMe() );
+
+        jdbcTemplate.update( "DELETE FROM SESSIONS WHERE SESSION_ID = ?", sessionId );
+        jdbcTemplate.query( "SELECT pg_notify( 'session_invalidations', ? )", rs -> null, "other-node:" + sessionId );
+
+        int status = 200;
+        for ( int i = 0; i < 100 && status == 200; i++ ) {
+            Thread.sleep( 50 );
+            status = getMe();
+        }
+        assertEquals( 401, status );
+    }
+
+    @Test
+    @DisplayName("last access times should only be written when the near cache is flushed")
+    void lastAccessTimes_ShouldOnlyBeWrittenOnFlush() throws Exception {
+        long loginAccessTime = getLastAccessTime();
+        Thread.sleep( 5 );
+
+        assertEquals( 200, getMe() );
+        assertEquals( 200, getMe() );
+        assertEquals( loginAccessTime, getLastAccessTime() );
+
+        assertEquals( 1, sessionNearCache.flush() );
+        assertTrue( getLastAccessTime() > loginAccessTime );
+    }
+
+    @Test
+    @DisplayName("logout should delete the session and remove it from the near cache")
+    void logout_ShouldRemoveSessionFromNearCache() throws Exception {
+        assertEquals( 200, getMe() );
+
+        mockMvc.perform(
+                post( "/api/auth/logout" )
+                        .cookie( sessionCookie )
+                        .with( csrf() )
+        ).andExpect(
+                status().isNoContent()
+        );
+
+        assertEquals( 401, getMe() );
+        assertEquals( 0, jdbcTemplate.queryForObject( "SELECT COUNT(*) FROM SESSIONS WHERE SESSION_ID = ?", Integer.class, sessionId ) );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * assemble
+ * AuthRestControllerForwardedAddressTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.controllers.rest.auth;
+
+import com.assemble.backend.models.dtos.auth.LoginRequest;
+import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.client.RestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * The forwarded client address is resolved by the embedded server, so these requests go through a real connection.
+ * The test client connects from the loopback address, which the server trusts as a proxy like the frontend.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "assemble.auth.login-limit.address.max-attempts=2",
+                "assemble.auth.login-limit.username.max-attempts=100"
+        }
+)
+@Import(TestcontainersConfiguration.class)
+@DisplayName("AuthRestController Forwarded Address Integration Test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AuthRestControllerForwardedAddressTest {
+
+    @LocalServerPort
+    private int port;
+
+    private RestClient restClient;
+
+    @BeforeEach
+    void init() {
+        restClient = RestClient.create( "http://127.0.0.1:" + port );
+    }
+
+    @DisplayName("POST /api/auth/login should limit the attempts per forwarded client address")
+    @Test
+    void login_ShouldLimitAttemptsPerForwardedClientAddress() {
+        assertEquals( HttpStatus.UNAUTHORIZED, login( "203.0.113.7" ) );
+        assertEquals( HttpStatus.UNAUTHORIZED, login( "203.0.113.7" ) );
+        assertEquals( HttpStatus.TOO_MANY_REQUESTS, login( "203.0.113.7" ) );
+
+        // Same proxy, another client behind it
+        assertEquals( HttpStatus.UNAUTHORIZED, login( "198.51.100.9" ) );
+    }
+
+    private HttpStatusCode login( String forwardedFor ) {
+        return restClient.post()
+                .uri( "/api/auth/login" )
+                .contentType( MediaType.APPLICATION_JSON )
+                .accept( MediaType.APPLICATION_JSON )
+                .header( "X-Forwarded-For", forwardedFor )
+                .body( new LoginRequest( "not-existing-username", "fake-password" ) )
+                .exchange( ( request, response ) -> response.getStatusCode() );
+    }
+}
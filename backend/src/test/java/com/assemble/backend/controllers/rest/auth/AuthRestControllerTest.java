@@ -227,6 +227,45 @@ class AuthRestControllerTest {
                 );
     }
 
+    @DisplayName("POST /api/auth/login should return 429 Too Many Requests when the username exceeded its attempts")
+    @Test
+    void login_ShouldReturn429_WhenUsernameExceededAttempts() throws Exception {
+        LoginRequest loginRequest = new LoginRequest(
+                "not-existing-username",
+                "fake-password"
+        );
+
+        for ( int attempt = 0; attempt < 10; attempt++ ) {
+            mockMvc.perform(
+                            post(
+                                    "/api/auth/login"
+                            )
+                                    .contentType( MediaType.APPLICATION_JSON_VALUE )
+                                    .content( objectMapper.writeValueAsString( loginRequest ) )
+                    )
+                    .andExpect(
+                            status().isUnauthorized()
+                    );
+        }
+
+        mockMvc.perform(
+                        post(
+                                "/api/auth/login"
+                        )
+                                .contentType( MediaType.APPLICATION_JSON_VALUE )
+                                .content( objectMapper.writeValueAsString( loginRequest ) )
+                )
+                .andExpect(
+                        status().isTooManyRequests()
+                )
+                .andExpect(
+                        content().contentType( MediaType.APPLICATION_JSON_VALUE )
+                )
+                .andExpect(
+                        jsonPath( "$.message" ).value( "Too many login attempts, try again later" )
+                );
+    }
+
     @DisplayName("POST /api/auth/logout should return 204 No Content when user is authenticated")
     @Test
     @WithMockCustomUser
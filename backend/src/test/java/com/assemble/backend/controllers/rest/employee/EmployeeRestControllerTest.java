@@ -32,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
@@ -40,6 +41,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -158,6 +160,59 @@ class EmployeeRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getEmployee should return 304 when if none match tag is current")
+    void getEmployee_ShouldReturn304_WhenIfNoneMatchTagIsCurrent() throws Exception {
+        Employee employee = employeeRepository.save( testEmployee );
+
+        assertNotNull( employee.getId() );
+
+        String eTag = mockMvc.perform(
+                get( "/api/employees/" + employee.getId().toString() )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                header().exists( HttpHeaders.ETAG )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        mockMvc.perform(
+                get( "/api/employees/" + employee.getId().toString() )
+                        .header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isNotModified()
+        ).andExpect(
+                content().string( "" )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getEmployee should return 200 when the linked user changed")
+    void getEmployee_ShouldReturn200_WhenLinkedUserChanged() throws Exception {
+        testEmployee.setUser( testUser );
+        Employee employee = employeeRepository.save( testEmployee );
+
+        assertNotNull( employee.getId() );
+
+        String eTag = mockMvc.perform(
+                get( "/api/employees/" + employee.getId().toString() )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        User user = userRepository.findById( testUser.getId() ).orElseThrow();
+        user.setFirstname( "Changed" );
+        userRepository.save( user );
+
+        mockMvc.perform(
+                get( "/api/employees/" + employee.getId().toString() )
+                        .header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.user.firstname" ).value( "Changed" )
+        );
+    }
+
     @Test
     @WithMockCustomUser(roles = { UserRole.MANAGER })
     @DisplayName("/GET searchUnlinkedEmployees should return 200")
@@ -596,6 +651,40 @@ class EmployeeRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/PATCH updateEmployee should return 412 when if match tag is stale")
+    void updateEmployee_ShouldReturn412_WhenIfMatchTagIsStale() throws Exception {
+        Employee employee = employeeRepository.save( testEmployee );
+
+        assertNotNull( employee.getId() );
+
+        String eTag = mockMvc.perform(
+                get( "/api/employees/" + employee.getId().toString() )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        employee.setLastname( "Concurrent" );
+        employeeRepository.save( employee );
+
+        EmployeeUpdateDTO employeeUpdateDTO = EmployeeUpdateDTO.builder()
+                .firstname( "max" )
+                .lastname( "musterperson" )
+                .email( "valid@email.com" )
+                .build();
+
+        mockMvc.perform(
+                patch( "/api/employees/" + employee.getId().toString() )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( objectMapper.writeValueAsString( employeeUpdateDTO ) )
+                        .header( HttpHeaders.IF_MATCH, eTag )
+                        .with( csrf() )
+        ).andExpect(
+                status().isPreconditionFailed()
+        );
+
+        assertEquals( "Concurrent", employeeRepository.findById( employee.getId() ).orElseThrow().getLastname() );
+    }
+
     @Test
     @WithMockCustomUser(roles = { UserRole.MANAGER })
     @DisplayName("/DELETE deleteEmployee should return 404 when employee does not exist")
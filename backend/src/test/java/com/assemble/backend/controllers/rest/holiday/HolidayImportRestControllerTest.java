@@ -10,41 +10,50 @@
 
 package com.assemble.backend.controllers.rest.holiday;
 
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobStatus;
 import com.assemble.backend.models.entities.auth.UserRole;
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.TemporalScope;
 import com.assemble.backend.repositories.holiday.HolidayRepository;
+import com.assemble.backend.repositories.holiday.SubdivisionRepository;
 import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import com.assemble.backend.testutils.StandInHttpServer;
 import com.assemble.backend.testutils.WithMockCustomUser;
 import com.github.f4b6a3.uuid.UuidCreator;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
-import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
-import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
-import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,29 +62,63 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("HolidayImportRestController Integeration Test")
 @AutoConfigureMockMvc
-@AutoConfigureMockRestServiceServer
 class HolidayImportRestControllerTest {
 
+    private static final String HOLIDAYS_PATH = "/PublicHolidays";
+
+    private static final String SUBDIVISIONS_PATH = "/Subdivisions";
+
+    private static final StandInHttpServer openHolidayApi = startOpenHolidayApi();
+
+    @TempDir
+    private static Path cacheDirectory;
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
-    private MockRestServiceServer mockRestServiceServer;
+    private HolidayRepository holidayRepository;
 
     @Autowired
-    private HolidayRepository holidayRepository;
+    private SubdivisionRepository subdivisionRepository;
 
     private static Holiday holiday;
 
+    private static StandInHttpServer startOpenHolidayApi() {
+        try {
+            return new StandInHttpServer();
+        } catch ( IOException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    @DynamicPropertySource
+    static void holidayProviderProperties( DynamicPropertyRegistry registry ) {
+        registry.add( "assemble.holidays.api-url", openHolidayApi::getBaseUrl );
+        registry.add( "assemble.holidays.cache-dir", () -> cacheDirectory.toString() );
+        registry.add( "assemble.holidays.initial-backoff", () -> "1ms" );
+    }
+
+    @AfterAll
+    static void stopOpenHolidayApi() {
+        openHolidayApi.close();
+    }
+
     @BeforeEach
-    void init() {
+    void init() throws IOException {
+        openHolidayApi.reset();
+        FileSystemUtils.deleteRecursively( cacheDirectory.toFile() );
+
         List<Subdivision> subdivisions = List.of(
-                Subdivision.builder()
-                        .code( "DE-BE" )
-                        .isoCode( "DE-BE" )
-                        .name( "Berlin" )
-                        .shortName( "DE-BE" )
-                        .build()
+                subdivisionRepository.save(
+                        Subdivision.builder()
+                                .code( "DE-BE" )
+                                .country( HolidayCountry.DE )
+                                .isoCode( "DE-BE" )
+                                .name( "Berlin" )
+                                .shortName( "DE-BE" )
+                                .build()
+                )
         );
         holiday = Holiday.builder()
                 .externalId( UuidCreator.getTimeOrderedEpoch().toString() )
@@ -97,84 +140,219 @@ class HolidayImportRestControllerTest {
                 new ClassPathResource( "data/openholidayapi_subdivisions.json" ).getInputStream(),
                 StandardCharsets.UTF_8
         );
-        mockRestServiceServer.expect( requestTo(
-                        "https://openholidaysapi.org/PublicHolidays?countryIsoCode=DE&languageIsoCode=DE&validFrom=2026-01-01&validTo=2026-12-31"
-                ) )
-                .andExpect(
-                        method( HttpMethod.GET )
-                ).andRespond(
-                        withSuccess()
-                                .contentType( MediaType.APPLICATION_JSON )
-                                .body( holidayJsonContent )
-                );
-
-        mockRestServiceServer.expect( requestTo(
-                        "https://openholidaysapi.org/Subdivisions?countryIsoCode=DE&languageIsoCode=DE"
-                ) )
-                .andExpect(
-                        method( HttpMethod.GET )
-                ).andRespond(
-                        withSuccess()
-                                .contentType( MediaType.APPLICATION_JSON )
-                                .body( subdivisionJsonContent )
-                );
-    }
-
-    private void performImportMockAction() throws Exception {
-        mockMvc.perform(
-                post( "/api/holidays/import/2026" )
-                        .with( csrf() )
+        openHolidayApi.respond( HOLIDAYS_PATH, 200, holidayJsonContent )
+                .respond( SUBDIVISIONS_PATH, 200, subdivisionJsonContent );
+    }
+
+    // Starts an import job and polls its status until the job is finished
+    private ResultActions performImportAction( MockHttpServletRequestBuilder request ) throws Exception {
+        String content = mockMvc.perform(
+                request.with( csrf() )
+        ).andExpect(
+                status().isAccepted()
+        ).andExpect(
+                MockMvcResultMatchers.header().exists( HttpHeaders.LOCATION )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.status" ).value( "QUEUED" )
+        ).andReturn().getResponse().getContentAsString();
+        String jobId = JsonPath.read( content, "$.id" );
+
+        for ( int i = 0; i < 500; i++ ) {
+            String status = JsonPath.read(
+                    mockMvc.perform( get( "/api/holidays/import/jobs/{jobId}", jobId ) )
+                            .andReturn().getResponse().getContentAsString(),
+                    "$.status"
+            );
+            if ( HolidayImportJobStatus.valueOf( status ).isFinished() ) break;
+            Thread.sleep( 10 );
+        }
+
+        return mockMvc.perform(
+                get( "/api/holidays/import/jobs/{jobId}", jobId )
         ).andExpect(
                 status().isOk()
         ).andExpect(
                 MockMvcResultMatchers.content().contentType( MediaType.APPLICATION_JSON )
+        );
+    }
+
+    private void performImportMockAction( int inserted, int updated, int skipped ) throws Exception {
+        performImportAction(
+                post( "/api/holidays/import/2026" )
         ).andExpect(
-                MockMvcResultMatchers.jsonPath( "$[0].id" ).isNotEmpty()
+                MockMvcResultMatchers.jsonPath( "$.status" ).value( "COMPLETED" )
         ).andExpect(
-                MockMvcResultMatchers.jsonPath( "$[0].startDate" ).isNotEmpty()
+                MockMvcResultMatchers.jsonPath( "$.total" ).value( 1 )
         ).andExpect(
-                MockMvcResultMatchers.jsonPath( "$[0].endDate" ).isNotEmpty()
+                MockMvcResultMatchers.jsonPath( "$.completed" ).value( 1 )
         ).andExpect(
-                MockMvcResultMatchers.jsonPath( "$[0].name" ).isNotEmpty()
+                MockMvcResultMatchers.jsonPath( "$.results[0].year" ).value( 2026 )
         ).andExpect(
-                MockMvcResultMatchers.jsonPath( "$[0].externalId" ).isNotEmpty()
+                MockMvcResultMatchers.jsonPath( "$.inserted" ).value( inserted )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.updated" ).value( updated )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.skipped" ).value( skipped )
         );
     }
 
     @Test
-    @DisplayName("/POST getHolidaysFromYear should return statuss code 200 and a empty list when holidays already exist")
+    @DisplayName("/POST getHolidaysFromYear should skip all holidays when holidays already exist")
     @WithMockCustomUser(roles = { UserRole.SUPERUSER })
-    void getHolidaysFromYear_ShouldReturnStatusCode200AndAEmptyList_WhenHolidaysAlreadyExist() throws Exception {
+    void getHolidaysFromYear_ShouldSkipAllHolidays_WhenHolidaysAlreadyExist() throws Exception {
         mockOpenHolidayApi();
-        performImportMockAction();
+        performImportMockAction( 10, 0, 0 );
 
         long count = holidayRepository.count();
         assertEquals( 10, count );
 
-        mockRestServiceServer.reset();
+        performImportMockAction( 0, 0, 10 );
+        assertEquals( 10, holidayRepository.count() );
+        // The second import is served from the response cache
+        assertEquals( 1, openHolidayApi.getRequestCount( HOLIDAYS_PATH ) );
+        assertEquals( 1, openHolidayApi.getRequestCount( SUBDIVISIONS_PATH ) );
+    }
+
+    @Test
+    @DisplayName("/POST getHolidaysFromYear should import holidays with their subdivisions")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void getHolidaysFromYear_ShouldImportHolidaysWithSubdivisions() throws Exception {
         mockOpenHolidayApi();
+        performImportMockAction( 10, 0, 0 );
+
+        long count = holidayRepository.count();
+        assertEquals( 10, count );
+        assertTrue( holidayRepository.searchHolidayByStartDateBetween( LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 12, 31 ) )
+                .stream()
+                .anyMatch( holiday -> !holiday.getNationWide() && !holiday.getSubdivisions().isEmpty() )
+        );
+        assertEquals( 16, subdivisionRepository.count() );
+    }
 
+    @Test
+    @DisplayName("/POST getHolidaysFromYear should update holidays changed since the last import")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void getHolidaysFromYear_ShouldUpdateChangedHolidays() throws Exception {
+        mockOpenHolidayApi();
+        performImportMockAction( 10, 0, 0 );
+
+        Holiday changedHoliday = holidayRepository.findAll().getFirst();
+        String name = changedHoliday.getName();
+        changedHoliday.setName( "Renamed Holiday" );
+        holidayRepository.save( changedHoliday );
+
+        performImportMockAction( 0, 1, 9 );
+        assertEquals( name, holidayRepository.findById( changedHoliday.getId() ).orElseThrow().getName() );
+    }
+
+    @Test
+    @DisplayName("/POST importHolidays should import every country and year of the range")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void importHolidays_ShouldImportEveryCountryAndYear() throws Exception {
+        mockOpenHolidayApi();
+        openHolidayApi.respond( SUBDIVISIONS_PATH + "?countryIsoCode=AT&languageIsoCode=DE", 200, "[]" )
+                .respond( HOLIDAYS_PATH + "?countryIsoCode=AT&languageIsoCode=DE&validFrom=2026-01-01&validTo=2026-12-31", 200, """
+                        [{"id": "3b1d4a5e-8d8e-4e43-9a37-6a1a0b9d1c11", "startDate": "2026-10-26", "endDate": "2026-10-26",
+                          "name": [{"language": "DE", "text": "Nationalfeiertag"}], "temporalScope": "FullDay", "nationwide": true}]
+                        """ )
+                .respond( HOLIDAYS_PATH + "?countryIsoCode=AT&languageIsoCode=DE&validFrom=2025-01-01&validTo=2025-12-31", 200, "[]" )
+                .respond( HOLIDAYS_PATH + "?countryIsoCode=DE&languageIsoCode=DE&validFrom=2025-01-01&validTo=2025-12-31", 200, "[]" );
+
+        performImportAction(
+                post( "/api/holidays/import" )
+                        .param( "countries", "DE", "AT" )
+                        .param( "fromYear", "2025" )
+                        .param( "toYear", "2026" )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.status" ).value( "COMPLETED" )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.total" ).value( 4 )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.completed" ).value( 4 )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.inserted" ).value( 11 )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.results[1].country" ).value( "DE" )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.results[1].inserted" ).value( 10 )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.results[3].country" ).value( "AT" )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.results[3].inserted" ).value( 1 )
+        );
+
+        assertEquals( 11, holidayRepository.count() );
+        assertEquals( 1, holidayRepository.findAllByCountryAndSubdivisionBetween(
+                HolidayCountry.AT, null, LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 12, 31 )
+        ).size() );
+    }
+
+    @Test
+    @DisplayName("/POST importHolidays should return status code 400 when the year range is invalid")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void importHolidays_ShouldReturnStatusCode400_WhenYearRangeIsInvalid() throws Exception {
         mockMvc.perform(
-                post( "/api/holidays/import/2026" )
+                post( "/api/holidays/import" )
+                        .param( "fromYear", "2027" )
+                        .param( "toYear", "2026" )
                         .with( csrf() )
         ).andExpect(
-                status().isOk()
+                status().isBadRequest()
+        );
+    }
+
+    @Test
+    @DisplayName("/POST getHolidaysFromYear should retry when the provider fails temporarily")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void getHolidaysFromYear_ShouldRetry_WhenProviderFailsTemporarily() throws Exception {
+        openHolidayApi.respond( HOLIDAYS_PATH, 503, "" );
+        mockOpenHolidayApi();
+
+        performImportMockAction( 10, 0, 0 );
+        assertEquals( 2, openHolidayApi.getRequestCount( HOLIDAYS_PATH ) );
+    }
+
+    @Test
+    @DisplayName("/POST getHolidaysFromYear should fail the job when the provider is unavailable")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void getHolidaysFromYear_ShouldFailJob_WhenProviderIsUnavailable() throws Exception {
+        openHolidayApi.respond( SUBDIVISIONS_PATH, 503, "" )
+                .respond( HOLIDAYS_PATH, 503, "" );
+
+        performImportAction(
+                post( "/api/holidays/import/2026" )
         ).andExpect(
-                MockMvcResultMatchers.content().contentType( MediaType.APPLICATION_JSON )
+                MockMvcResultMatchers.jsonPath( "$.status" ).value( "FAILED" )
+        ).andExpect(
+                MockMvcResultMatchers.jsonPath( "$.error" ).isNotEmpty()
         ).andExpect(
-                MockMvcResultMatchers.content().string( "[]" )
+                MockMvcResultMatchers.jsonPath( "$.completed" ).value( 0 )
         );
+
+        assertEquals( 0, holidayRepository.count() );
     }
 
     @Test
-    @DisplayName("/POST getHolidaysFromYear should return status code 200 and a list of holiday dto")
+    @DisplayName("/GET getImportJob should return status code 404 when the job does not exist")
     @WithMockCustomUser(roles = { UserRole.SUPERUSER })
-    void getHolidaysFromYear_ShouldReturnStatusCode200AndAListOfHolidayDTO() throws Exception {
-        mockOpenHolidayApi();
-        performImportMockAction();
+    void getImportJob_ShouldReturnStatusCode404_WhenJobDoesNotExist() throws Exception {
+        mockMvc.perform(
+                get( "/api/holidays/import/jobs/{jobId}", UuidCreator.getTimeOrderedEpoch() )
+        ).andExpect(
+                status().isNotFound()
+        );
+    }
 
-        long count = holidayRepository.count();
-        assertEquals( 10, count );
+    @Test
+    @DisplayName("/POST cancelImportJob should return status code 404 when the job does not exist")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void cancelImportJob_ShouldReturnStatusCode404_WhenJobDoesNotExist() throws Exception {
+        mockMvc.perform(
+                post( "/api/holidays/import/jobs/{jobId}/cancel", UuidCreator.getTimeOrderedEpoch() )
+                        .with( csrf() )
+        ).andExpect(
+                status().isNotFound()
+        );
     }
 
     @Test
@@ -211,4 +389,21 @@ class HolidayImportRestControllerTest {
         assertEquals( 0, count );
     }
 
+    @Test
+    @DisplayName("/DELETE deleteHolidaysFromYear should keep the holidays of other countries")
+    @WithMockCustomUser(roles = { UserRole.SUPERUSER })
+    void deleteHolidaysFromYear_ShouldKeepHolidaysOfOtherCountries_WhenCountryIsGiven() throws Exception {
+        holidayRepository.save( holiday );
+
+        mockMvc.perform(
+                delete( "/api/holidays/import/{year}", holiday.getStartDate().getYear() )
+                        .param( "country", HolidayCountry.AT.name() )
+                        .with( csrf() )
+        ).andExpect(
+                status().isNoContent()
+        );
+
+        assertEquals( 1, holidayRepository.count() );
+    }
+
 }
\ No newline at end of file
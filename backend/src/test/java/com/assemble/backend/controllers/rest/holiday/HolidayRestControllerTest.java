@@ -11,9 +11,12 @@
 package com.assemble.backend.controllers.rest.holiday;
 
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.SubdivisionCode;
 import com.assemble.backend.models.entities.holiday.api.TemporalScope;
 import com.assemble.backend.repositories.holiday.HolidayRepository;
+import com.assemble.backend.repositories.holiday.SubdivisionRepository;
 import com.assemble.backend.testcontainers.TestcontainersConfiguration;
 import com.assemble.backend.testutils.WithMockCustomUser;
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -28,6 +31,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +49,9 @@ class HolidayRestControllerTest {
     @Autowired
     private HolidayRepository holidayRepository;
 
+    @Autowired
+    private SubdivisionRepository subdivisionRepository;
+
     private static Holiday holiday;
 
     @BeforeEach
@@ -92,6 +99,34 @@ class HolidayRestControllerTest {
         );
     }
 
+    @Test
+    @DisplayName("/GET getHolidaysByYearAndSubdivisionCode should only return nation wide holidays and the ones of the subdivision")
+    @WithMockCustomUser
+    void getHolidaysByYearAndSubdivisionCode_ShouldOnlyReturnHolidaysOfSubdivision() throws Exception {
+        Subdivision bavaria = subdivisionRepository.save( subdivision( "DE-BY", "Bayern" ) );
+        Subdivision berlin = subdivisionRepository.save( subdivision( "DE-BE", "Berlin" ) );
+        holidayRepository.save( holiday );
+        holidayRepository.save( regionalHoliday( "Heilige Drei Könige", LocalDate.of( 2026, 1, 6 ), bavaria ) );
+        holidayRepository.save( regionalHoliday( "Frauentag", LocalDate.of( 2026, 3, 8 ), berlin ) );
+
+        mockMvc.perform(
+                get( "/api/holidays" )
+                        .param( "year", "2026" )
+                        .param( "country", "DE" )
+                        .param( "subdivisionCode", "DE-BY" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.length()" ).value( 2 )
+        ).andExpect(
+                jsonPath( "$[0].name" ).value( "New Year" )
+        ).andExpect(
+                jsonPath( "$[1].name" ).value( "Heilige Drei Könige" )
+        ).andExpect(
+                jsonPath( "$[1].subdivisions[0].code" ).value( "DE-BY" )
+        );
+    }
+
     @Test
     @DisplayName("/GET getCompanySubdivisionCode should return status code 200 and subdivisioncode")
     @WithMockCustomUser
@@ -101,4 +136,26 @@ class HolidayRestControllerTest {
                 .andExpect( content().contentType( "application/json" ) )
                 .andExpect( jsonPath( "$" ).value( SubdivisionCode.BE.toString() ) );
     }
-}
\ No newline at end of file
+
+    private Subdivision subdivision( String code, String name ) {
+        return Subdivision.builder()
+                .code( code )
+                .country( HolidayCountry.DE )
+                .isoCode( code )
+                .shortName( code.substring( 3 ) )
+                .name( name )
+                .build();
+    }
+
+    private Holiday regionalHoliday( String name, LocalDate date, Subdivision subdivision ) {
+        return Holiday.builder()
+                .externalId( UuidCreator.getTimeOrderedEpoch().toString() )
+                .name( name )
+                .startDate( date )
+                .endDate( date )
+                .nationWide( false )
+                .subdivisions( List.of( subdivision ) )
+                .temporalScope( TemporalScope.FullDay )
+                .build();
+    }
+}
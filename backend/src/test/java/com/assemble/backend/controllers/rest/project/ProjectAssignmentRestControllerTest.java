@@ -20,6 +20,7 @@ import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
 import com.assemble.backend.repositories.project.ProjectRepository;
 import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import com.assemble.backend.testutils.MockCustomUserEmployee;
 import com.assemble.backend.testutils.WithMockCustomUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -244,6 +245,7 @@ class ProjectAssignmentRestControllerTest {
     void getOwnProjectAssignments_ShouldReturnListOfAssignments() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
         projectAssignmentRepository.save( testProjectAssignment );
 
@@ -29,10 +29,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -154,6 +157,70 @@ class ProjectRestControllerTest {
                 );
     }
 
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getProjectById should return status code 304 when if none match tag is current")
+    void getProjectById_ShouldReturnStatusCode304_WhenIfNoneMatchTagIsCurrent() throws Exception {
+        Project project = projectRepository.save( testProject );
+        assert project.getId() != null;
+
+        String eTag = mockMvc.perform(
+                get( "/api/projects/" + project.getId().toString() )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                header().exists( HttpHeaders.ETAG )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        mockMvc.perform(
+                get( "/api/projects/" + project.getId().toString() )
+                        .header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isNotModified()
+        ).andExpect(
+                content().string( "" )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getAllProjects should return status code 200 with a new tag when a project was added")
+    void getAllProjects_ShouldReturnStatusCode200WithNewTag_WhenProjectWasAdded() throws Exception {
+        projectRepository.save( testProject );
+
+        String eTag = mockMvc.perform(
+                get( "/api/projects" )
+        ).andExpect(
+                status().isOk()
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        mockMvc.perform(
+                get( "/api/projects" ).header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isNotModified()
+        );
+
+        projectRepository.save(
+                Project.builder()
+                        .name( "Other Project" )
+                        .category( "Maintanance" )
+                        .stage( ProjectStage.PROPOSAL )
+                        .type( ProjectType.EXTERNAL )
+                        .color( ProjectColor.BLUE )
+                        .build()
+        );
+
+        String newETag = mockMvc.perform(
+                get( "/api/projects" ).header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.length()" ).value( 2 )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        assertNotEquals( eTag, newETag );
+    }
+
     @Test
     @WithMockCustomUser(roles = { UserRole.MANAGER })
     @DisplayName("/GET searchAllProjects should return status code 200 when project does exist in db")
@@ -334,6 +401,74 @@ class ProjectRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/PATCH updateProject should return status code 412 when if match tag is stale")
+    void updateProject_ShouldReturnStatusCode412_WhenIfMatchTagIsStale() throws Exception {
+        Project project = projectRepository.save( testProject );
+        assert project.getId() != null;
+
+        String eTag = mockMvc.perform(
+                get( "/api/projects/" + project.getId().toString() )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        project.setDescription( "Concurrent description" );
+        projectRepository.save( project );
+
+        mockMvc.perform(
+                patch( "/api/projects/" + project.getId().toString() )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( """
+                                {"description": "Stale description"}
+                                """ )
+                        .header( HttpHeaders.IF_MATCH, eTag )
+                        .with( csrf() )
+        ).andExpect(
+                status().isPreconditionFailed()
+        );
+
+        assertEquals(
+                "Concurrent description",
+                projectRepository.findById( project.getId() ).orElseThrow().getDescription()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/PATCH updateProject should return status code 200 and a new tag when if match tag is current")
+    void updateProject_ShouldReturnStatusCode200AndNewTag_WhenIfMatchTagIsCurrent() throws Exception {
+        Project project = projectRepository.save( testProject );
+        assert project.getId() != null;
+
+        String eTag = mockMvc.perform(
+                get( "/api/projects/" + project.getId().toString() )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        String newETag = mockMvc.perform(
+                patch( "/api/projects/" + project.getId().toString() )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( """
+                                {"description": "New description"}
+                                """ )
+                        .header( HttpHeaders.IF_MATCH, eTag )
+                        .with( csrf() )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.description" ).value( "New description" )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        assertNotNull( newETag );
+        assertNotEquals( eTag, newETag );
+
+        mockMvc.perform(
+                get( "/api/projects/" + project.getId().toString() )
+                        .header( HttpHeaders.IF_NONE_MATCH, newETag )
+        ).andExpect(
+                status().isNotModified()
+        );
+    }
+
     @Test
     @WithMockCustomUser(roles = { UserRole.MANAGER })
     @DisplayName("/DELETE deleteProjectById should return status code 404 when project does not exist in db")
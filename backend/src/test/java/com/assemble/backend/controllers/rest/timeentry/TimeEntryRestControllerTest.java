@@ -10,6 +10,7 @@
 
 package com.assemble.backend.controllers.rest.timeentry;
 
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
 import com.assemble.backend.models.entities.auth.User;
@@ -23,9 +24,11 @@ import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
 import com.assemble.backend.repositories.project.ProjectRepository;
 import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
 import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import com.assemble.backend.testutils.MockCustomUserEmployee;
 import com.assemble.backend.testutils.WithMockCustomUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.f4b6a3.uuid.UuidCreator;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -33,10 +36,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -46,6 +51,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -186,6 +194,300 @@ class TimeEntryRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser
+    @DisplayName("/GET getAllTimeEntries should return status code 200 and a compact timeentry list when view is compact")
+    void getAllTimeEntries_ShouldReturnStatusCode200AndACompactTimeEntryList_WhenViewIsCompact() throws Exception {
+        TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
+        assert timeEntry.getId() != null;
+        mockMvc.perform(
+                get( "/api/timeentries" )
+                        .param( "view", "compact" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$[0].id" ).value( timeEntry.getId().toString() )
+        ).andExpect(
+                jsonPath( "$[0].employee.id" ).value( testEmployee.getId().toString() )
+        ).andExpect(
+                jsonPath( "$[0].employee.fullname" ).value( testEmployee.getFullname() )
+        ).andExpect(
+                jsonPath( "$[0].project.color" ).value( testProject.getColor().name() )
+        ).andExpect(
+                jsonPath( "$[0].employee.user" ).doesNotExist()
+        ).andExpect(
+                jsonPath( "$[0].createdBy" ).doesNotExist()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("/GET getAllTimeEntries should return status code 400 when view is unsupported")
+    void getAllTimeEntries_ShouldReturnStatusCode400_WhenViewIsUnsupported() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries" )
+                        .param( "view", "tiny" )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.message" ).value( containsString( "Unsupported view" ) )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryPage should return status code 200 and a page with cursor")
+    void getTimeEntryPage_ShouldReturnStatusCode200AndAPageWithCursor() throws Exception {
+        TimeEntry first = timeEntryRepository.save( testTimeEntry );
+        timeEntryRepository.save(
+                TimeEntry.builder()
+                        .description( "Other Time Entry" )
+                        .project( testProject )
+                        .employee( testEmployee )
+                        .date( LocalDate.now().plusDays( 1 ) )
+                        .totalTime( Duration.ofHours( 8 ) )
+                        .pauseTime( Duration.ofHours( 2 ) )
+                        .rate( BigDecimal.valueOf( 45 ) )
+                        .total( BigDecimal.valueOf( 450 ) )
+                        .totalInternal( BigDecimal.valueOf( 300 ) )
+                        .build()
+        );
+        assert first.getId() != null;
+        assert testEmployee.getId() != null;
+
+        mockMvc.perform(
+                get( "/api/timeentries/page" )
+                        .param( "employeeId", testEmployee.getId().toString() )
+                        .param( "activeAssignment", "true" )
+                        .param( "size", "1" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                content().contentType( MediaType.APPLICATION_JSON )
+        ).andExpect(
+                jsonPath( "$.content.length()" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$.content[0].id" ).value( first.getId().toString() )
+        ).andExpect(
+                jsonPath( "$.hasNext" ).value( true )
+        ).andExpect(
+                jsonPath( "$.nextCursor" ).isNotEmpty()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryPage should return status code 400 when cursor is invalid")
+    void getTimeEntryPage_ShouldReturnStatusCode400_WhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/page" )
+                        .param( "cursor", "invalid" )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.message" ).value( "Invalid cursor" )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("/GET getTimeEntryPage should return status code 403 when user has no privileged role")
+    void getTimeEntryPage_ShouldReturnStatusCode403_WhenUserHasNoPrivilegedRole() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/page" )
+        ).andExpect(
+                status().isForbidden()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET exportTimeEntries should stream csv rows")
+    void exportTimeEntries_ShouldStreamCsvRows() throws Exception {
+        timeEntryRepository.save( testTimeEntry );
+
+        MvcResult result = mockMvc.perform(
+                get( "/api/timeentries/export" )
+                        .param( "format", "csv" )
+        ).andExpect(
+                request().asyncStarted()
+        ).andReturn();
+
+        mockMvc.perform(
+                asyncDispatch( result )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                header().string( "Content-Disposition", "attachment; filename=\"timeentries.csv\"" )
+        ).andExpect(
+                content().string( containsString( testTimeEntry.getDescription() ) )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET exportTimeEntries should return status code 400 when format is unsupported")
+    void exportTimeEntries_ShouldReturnStatusCode400_WhenFormatIsUnsupported() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/export" )
+                        .param( "format", "xlsx" )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.message" ).value( "Unsupported export format: xlsx" )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("/GET exportTimeEntries should return status code 403 when user has no privileged role")
+    void exportTimeEntries_ShouldReturnStatusCode403_WhenUserHasNoPrivilegedRole() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/export" )
+        ).andExpect(
+                status().isForbidden()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryRollups should return rollups maintained by create")
+    void getTimeEntryRollups_ShouldReturnRollupsMaintainedByCreate() throws Exception {
+        assert testProject.getId() != null;
+        assert testEmployee.getId() != null;
+
+        TimeEntryCreateDTO timeEntryCreateDTO = TimeEntryCreateDTO.builder()
+                .projectId( testProject.getId().toString() )
+                .employeeId( testEmployee.getId().toString() )
+                .description( "Test description" )
+                .date( LocalDate.of( 2026, 1, 15 ) )
+                .totalTime( Duration.ofHours( 9 ) )
+                .pauseTime( Duration.ofHours( 1 ) )
+                .build();
+
+        for ( int i = 0; i < 2; i++ ) {
+            mockMvc.perform(
+                    post( "/api/timeentries" )
+                            .contentType( MediaType.APPLICATION_JSON )
+                            .content( objectMapper.writeValueAsString( timeEntryCreateDTO ) )
+                            .with( csrf() )
+            ).andExpect(
+                    status().isCreated()
+            );
+        }
+
+        mockMvc.perform(
+                get( "/api/timeentries/rollups" )
+                        .param( "granularity", "month" )
+                        .param( "employeeId", testEmployee.getId().toString() )
+                        .param( "from", "2026-01-01" )
+                        .param( "to", "2026-01-31" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.length()" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$[0].period" ).value( "2026-01-01" )
+        ).andExpect(
+                jsonPath( "$[0].projectId" ).value( testProject.getId().toString() )
+        ).andExpect(
+                jsonPath( "$[0].entryCount" ).value( 2 )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryBalances should return target, actual and balance time per month")
+    void getTimeEntryBalances_ShouldReturnTargetActualAndBalancePerMonth() throws Exception {
+        assert testProject.getId() != null;
+        assert testEmployee.getId() != null;
+
+        TimeEntryCreateDTO timeEntryCreateDTO = TimeEntryCreateDTO.builder()
+                .projectId( testProject.getId().toString() )
+                .employeeId( testEmployee.getId().toString() )
+                .description( "Test description" )
+                .date( LocalDate.of( 2026, 1, 15 ) )
+                .totalTime( Duration.ofHours( 9 ) )
+                .pauseTime( Duration.ofHours( 1 ) )
+                .build();
+
+        mockMvc.perform(
+                post( "/api/timeentries" )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( objectMapper.writeValueAsString( timeEntryCreateDTO ) )
+                        .with( csrf() )
+        ).andExpect(
+                status().isCreated()
+        );
+
+        // No holidays are imported, January 2026 has 22 weekdays and February starts on a Sunday
+        mockMvc.perform(
+                get( "/api/timeentries/balance" )
+                        .param( "employeeId", testEmployee.getId().toString() )
+                        .param( "from", "2026-01-01" )
+                        .param( "to", "2026-02-01" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.length()" ).value( 2 )
+        ).andExpect(
+                jsonPath( "$[0].workingDays" ).value( 22 )
+        ).andExpect(
+                jsonPath( "$[0].targetTime" ).value( "PT176H" )
+        ).andExpect(
+                jsonPath( "$[0].actualTime" ).value( "PT8H" )
+        ).andExpect(
+                jsonPath( "$[0].balance" ).value( "PT-168H" )
+        ).andExpect(
+                jsonPath( "$[1].from" ).value( "2026-02-01" )
+        ).andExpect(
+                jsonPath( "$[1].workingDays" ).value( 0 )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryBalances should return status code 400 when from is after to")
+    void getTimeEntryBalances_ShouldReturnStatusCode400_WhenFromIsAfterTo() throws Exception {
+        assert testEmployee.getId() != null;
+
+        mockMvc.perform(
+                get( "/api/timeentries/balance" )
+                        .param( "employeeId", testEmployee.getId().toString() )
+                        .param( "from", "2026-02-01" )
+                        .param( "to", "2026-01-01" )
+        ).andExpect(
+                status().isBadRequest()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("/GET getOwnTimeEntryBalances should return status code 404 when user has no employee")
+    void getOwnTimeEntryBalances_ShouldReturnStatusCode404_WhenUserHasNoEmployee() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/me/balance" )
+                        .param( "from", "2026-01-01" )
+                        .param( "to", "2026-01-31" )
+        ).andExpect(
+                status().isNotFound()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryRollups should return status code 400 when granularity is unsupported")
+    void getTimeEntryRollups_ShouldReturnStatusCode400_WhenGranularityIsUnsupported() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/rollups" )
+                        .param( "granularity", "year" )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.message" ).value( "Unsupported rollup granularity: year" )
+        );
+    }
+
     @Test
     @WithMockCustomUser
     @DisplayName("/GET getAllTimeEntriesByProjectId should return status code 200 and a empty list")
@@ -268,6 +570,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntries_ShouldReturnStatusCode400_WhenAroundDateParamIsInvalid() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         mockMvc.perform(
@@ -288,6 +591,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntries_ShouldReturnStatusCode400_WhenExactDateParamIsInvalid() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         mockMvc.perform(
@@ -308,6 +612,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntries_ShouldReturnStatusCode200AndAListOfTimeEntryDTO_WhenCalledWithExactDate() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
@@ -330,6 +635,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntries_ShouldReturnStatusCode200AndAListOfTimeEntryDTO_WhenCalledWithAroundDate() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
@@ -346,12 +652,39 @@ class TimeEntryRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET getOwnTimeEntries should return status code 200 and a compact list when view is compact")
+    void getOwnTimeEntries_ShouldReturnStatusCode200AndACompactList_WhenViewIsCompact() throws Exception {
+        User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
+        testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
+        employeeRepository.save( testEmployee );
+
+        TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
+        assert timeEntry.getId() != null;
+        mockMvc.perform(
+                get( "/api/timeentries/me" )
+                        .param( "aroundDate", LocalDate.now().format( DateTimeFormatter.ofPattern( "yyyy-MM-dd" ) ) )
+                        .param( "view", "compact" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$[0].id" ).value( timeEntry.getId().toString() )
+        ).andExpect(
+                jsonPath( "$[0].project.name" ).value( testProject.getName() )
+        ).andExpect(
+                jsonPath( "$[0].employee.email" ).doesNotExist()
+        );
+    }
+
     @Test
     @WithMockCustomUser(saveToDatabase = true)
     @DisplayName("/GET getOwnTimeEntries should return status code 200 and an empty list")
     void getOwnTimeEntries_ShouldReturnStatusCode200AndAnEmptyList() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         mockMvc.perform(
@@ -384,12 +717,153 @@ class TimeEntryRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET syncOwnTimeEntries should return status code 200 and request a reset when since is missing")
+    void syncOwnTimeEntries_ShouldReturnStatusCode200AndRequestReset_WhenSinceIsMissing() throws Exception {
+        User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
+        testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
+        employeeRepository.save( testEmployee );
+        timeEntryRepository.save( testTimeEntry );
+
+        mockMvc.perform(
+                get( "/api/timeentries/me/sync" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.reset" ).value( true )
+        ).andExpect(
+                jsonPath( "$.changed.length()" ).value( 0 )
+        ).andExpect(
+                jsonPath( "$.watermark" ).isNotEmpty()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET syncOwnTimeEntries should return status code 200 with changed time entries and tombstones since the watermark")
+    void syncOwnTimeEntries_ShouldReturnStatusCode200WithChangesAndTombstones() throws Exception {
+        User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
+        testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
+        employeeRepository.save( testEmployee );
+        String since = JsonPath.read(
+                mockMvc.perform( get( "/api/timeentries/me/sync" ) ).andReturn().getResponse().getContentAsString(),
+                "$.watermark"
+        );
+
+        TimeEntry keptTimeEntry = timeEntryRepository.save( testTimeEntry );
+        TimeEntry deletedTimeEntry = timeEntryRepository.save(
+                TimeEntry.builder()
+                        .description( "Deleted Time Entry" )
+                        .project( testProject )
+                        .employee( testEmployee )
+                        .date( LocalDate.now() )
+                        .totalTime( Duration.ofHours( 1 ) )
+                        .pauseTime( Duration.ZERO )
+                        .rate( BigDecimal.valueOf( 45 ) )
+                        .total( BigDecimal.valueOf( 45 ) )
+                        .totalInternal( BigDecimal.valueOf( 30 ) )
+                        .build()
+        );
+        timeEntryRepository.save(
+                TimeEntry.builder()
+                        .description( "Other Time Entry" )
+                        .project( testProject )
+                        .employee( otherTestEmployee )
+                        .date( LocalDate.now() )
+                        .totalTime( Duration.ofHours( 1 ) )
+                        .pauseTime( Duration.ZERO )
+                        .rate( BigDecimal.valueOf( 45 ) )
+                        .total( BigDecimal.valueOf( 45 ) )
+                        .totalInternal( BigDecimal.valueOf( 30 ) )
+                        .build()
+        );
+        assert keptTimeEntry.getId() != null && deletedTimeEntry.getId() != null;
+
+        mockMvc.perform(
+                delete( "/api/timeentries/me/{id}", deletedTimeEntry.getId().toString() )
+                        .with( csrf() )
+        ).andExpect(
+                status().isNoContent()
+        );
+
+        mockMvc.perform(
+                get( "/api/timeentries/me/sync" )
+                        .param( "since", since )
+                        .param( "view", "compact" )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.reset" ).value( false )
+        ).andExpect(
+                jsonPath( "$.changed.length()" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$.changed[0].id" ).value( keptTimeEntry.getId().toString() )
+        ).andExpect(
+                jsonPath( "$.deleted.length()" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$.deleted[0].id" ).value( deletedTimeEntry.getId().toString() )
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET syncOwnTimeEntries should return status code 400 when since is invalid")
+    void syncOwnTimeEntries_ShouldReturnStatusCode400_WhenSinceIsInvalid() throws Exception {
+        mockMvc.perform(
+                get( "/api/timeentries/me/sync" )
+                        .param( "since", "yesterday" )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.message" ).isNotEmpty()
+        );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryById should return status code 304 until the project of the time entry changes")
+    void getTimeEntryById_ShouldReturnStatusCode304_UntilProjectChanges() throws Exception {
+        TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
+        assert timeEntry.getId() != null;
+
+        String eTag = mockMvc.perform(
+                get( "/api/timeentries/" + timeEntry.getId() )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                header().exists( HttpHeaders.ETAG )
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        mockMvc.perform(
+                get( "/api/timeentries/" + timeEntry.getId() ).header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isNotModified()
+        ).andExpect(
+                content().string( "" )
+        );
+
+        testProject.setName( "Renamed Project" );
+        projectRepository.save( testProject );
+
+        mockMvc.perform(
+                get( "/api/timeentries/" + timeEntry.getId() ).header( HttpHeaders.IF_NONE_MATCH, eTag )
+        ).andExpect(
+                status().isOk()
+        ).andExpect(
+                jsonPath( "$.project.name" ).value( "Renamed Project" )
+        );
+    }
+
     @Test
     @WithMockCustomUser(saveToDatabase = true)
     @DisplayName("/GET getOwnTimeEntryById should return status code 404 when time entry not found")
     void getOwnTimeEntryById_ShouldReturnStatusCode404_WhenTimeEntryNotFound() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         mockMvc.perform(
@@ -426,6 +900,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntryById_ShouldReturnStatusCode400_WhenUserDoesNotOwnTimeEntry() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         otherTestEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( otherTestEmployee );
         employeeRepository.save( otherTestEmployee );
 
         TimeEntry entry = timeEntryRepository.save( testTimeEntry );
@@ -447,6 +922,7 @@ class TimeEntryRestControllerTest {
     void getOwnTimeEntryById_ShouldReturnStatusCode200_WhenCalled() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         TimeEntry entry = timeEntryRepository.save( testTimeEntry );
@@ -726,12 +1202,108 @@ class TimeEntryRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/POST createTimeEntries should return status code 207 and a result per entry")
+    void createTimeEntries_ShouldReturnStatusCode207AndAResultPerEntry() throws Exception {
+        assert testProject.getId() != null;
+        assert testEmployee.getId() != null;
+
+        TimeEntryBulkCreateDTO bulkCreateDTO = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of(
+                        TimeEntryCreateDTO.builder()
+                                .projectId( testProject.getId().toString() )
+                                .employeeId( testEmployee.getId().toString() )
+                                .description( "Test description" )
+                                .date( LocalDate.now() )
+                                .totalTime( Duration.ofHours( 9 ) )
+                                .pauseTime( Duration.ofHours( 1 ) )
+                                .build(),
+                        TimeEntryCreateDTO.builder()
+                                .projectId( notExistingId.toString() )
+                                .employeeId( testEmployee.getId().toString() )
+                                .description( "Test description" )
+                                .date( LocalDate.now() )
+                                .totalTime( Duration.ofHours( 9 ) )
+                                .pauseTime( Duration.ofHours( 1 ) )
+                                .build()
+                ) )
+                .build();
+
+        mockMvc.perform(
+                post( "/api/timeentries/bulk" )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( objectMapper.writeValueAsString( bulkCreateDTO ) )
+                        .with( csrf() )
+        ).andExpect(
+                status().isMultiStatus()
+        ).andExpect(
+                jsonPath( "$.created" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$.failed" ).value( 1 )
+        ).andExpect(
+                jsonPath( "$.results[0].status" ).value( "CREATED" )
+        ).andExpect(
+                jsonPath( "$.results[0].timeEntry.no" ).isNotEmpty()
+        ).andExpect(
+                jsonPath( "$.results[1].status" ).value( "FAILED" )
+        );
+
+        assertEquals( 1, timeEntryRepository.count() );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/POST createTimeEntries should return status code 400 and create nothing when all or nothing fails")
+    void createTimeEntries_ShouldReturnStatusCode400_WhenAllOrNothingFails() throws Exception {
+        assert testProject.getId() != null;
+        assert testEmployee.getId() != null;
+
+        TimeEntryBulkCreateDTO bulkCreateDTO = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of(
+                        TimeEntryCreateDTO.builder()
+                                .projectId( testProject.getId().toString() )
+                                .employeeId( testEmployee.getId().toString() )
+                                .description( "Test description" )
+                                .date( LocalDate.now() )
+                                .totalTime( Duration.ofHours( 9 ) )
+                                .pauseTime( Duration.ofHours( 1 ) )
+                                .build(),
+                        TimeEntryCreateDTO.builder()
+                                .projectId( testProject.getId().toString() )
+                                .employeeId( testEmployee.getId().toString() )
+                                .description( "Too short" )
+                                .date( LocalDate.now() )
+                                .totalTime( Duration.ofHours( 9 ) )
+                                .pauseTime( Duration.ofHours( 1 ) )
+                                .build()
+                ) )
+                .allOrNothing( true )
+                .build();
+
+        mockMvc.perform(
+                post( "/api/timeentries/bulk" )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( objectMapper.writeValueAsString( bulkCreateDTO ) )
+                        .with( csrf() )
+        ).andExpect(
+                status().isBadRequest()
+        ).andExpect(
+                jsonPath( "$.results[0].status" ).value( "SKIPPED" )
+        ).andExpect(
+                jsonPath( "$.results[1].status" ).value( "FAILED" )
+        );
+
+        assertEquals( 0, timeEntryRepository.count() );
+    }
+
     @Test
     @WithMockCustomUser(saveToDatabase = true)
     @DisplayName("/POST createOwnTimeEntry should return status code 404 when related employee not found")
     void createOwnTimeEntry_ShouldReturnStatusCode404_WhenRelatedEmployeeNotFound() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         otherTestEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( otherTestEmployee );
         employeeRepository.save( otherTestEmployee );
 
         assert testProject.getId() != null;
@@ -768,6 +1340,7 @@ class TimeEntryRestControllerTest {
     void createOwnTimeEntry_ShouldReturnStatusCode201_WhenCalled() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         assert testProject.getId() != null;
@@ -1032,6 +1605,7 @@ class TimeEntryRestControllerTest {
     void updateOwnTimeEntry_ShouldReturnStatusCode404_WhenTimeEntryNotFound() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         assert testProject.getId() != null;
@@ -1064,6 +1638,7 @@ class TimeEntryRestControllerTest {
     void updateOwnTimeEntry_ShouldReturnStatusCode400_WhenUserDoesNotOwnTimeEntry() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         otherTestEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( otherTestEmployee );
         employeeRepository.save( otherTestEmployee );
 
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
@@ -1098,6 +1673,7 @@ class TimeEntryRestControllerTest {
     void updateOwnTimeEntry_ShouldReturnStatusCode200_WhenCalled() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
         assert timeEntry.getId() != null;
@@ -1125,6 +1701,64 @@ class TimeEntryRestControllerTest {
         );
     }
 
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/PATCH updateOwnTimeEntry should return status code 412 when if match tag is stale")
+    void updateOwnTimeEntry_ShouldReturnStatusCode412_WhenIfMatchTagIsStale() throws Exception {
+        User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
+        testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
+        employeeRepository.save( testEmployee );
+        TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
+        assert timeEntry.getId() != null;
+
+        String eTag = mockMvc.perform(
+                get( "/api/timeentries/me/{id}", timeEntry.getId().toString() )
+        ).andExpect(
+                status().isOk()
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        String jsonContent = objectMapper.writeValueAsString(
+                TimeEntryUpdateDTO.builder().description( "First update" ).build()
+        );
+
+        String newETag = mockMvc.perform(
+                patch( "/api/timeentries/me/{id}", timeEntry.getId().toString() )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( jsonContent )
+                        .header( HttpHeaders.IF_MATCH, eTag )
+                        .with( csrf() )
+        ).andExpect(
+                status().isOk()
+        ).andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        assertNotEquals( eTag, newETag );
+
+        mockMvc.perform(
+                get( "/api/timeentries/me/{id}", timeEntry.getId().toString() )
+                        .header( HttpHeaders.IF_NONE_MATCH, newETag )
+        ).andExpect(
+                status().isNotModified()
+        );
+
+        mockMvc.perform(
+                patch( "/api/timeentries/me/{id}", timeEntry.getId().toString() )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .content( objectMapper.writeValueAsString(
+                                TimeEntryUpdateDTO.builder().description( "Stale update" ).build()
+                        ) )
+                        .header( HttpHeaders.IF_MATCH, eTag )
+                        .with( csrf() )
+        ).andExpect(
+                status().isPreconditionFailed()
+        );
+
+        assertEquals(
+                "First update",
+                timeEntryRepository.findById( timeEntry.getId() ).orElseThrow().getDescription()
+        );
+    }
+
     @Test
     @WithMockCustomUser(roles = { UserRole.MANAGER })
     @DisplayName("/DELETE deleteTimeEntryById should return status code 404 when time entry not found")
@@ -1179,6 +1813,7 @@ class TimeEntryRestControllerTest {
     void deleteOwnTimeEntryById_ShouldReturnStatusCode404_WhenTimeEntryNotFound() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
 
         mockMvc.perform(
@@ -1199,6 +1834,7 @@ class TimeEntryRestControllerTest {
     void deleteOwnTimeEntryById_ShouldReturnStatusCode403_WhenUserDoesNotOwnTimeEntry() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         otherTestEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( otherTestEmployee );
         employeeRepository.save( otherTestEmployee );
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
         assert timeEntry.getId() != null;
@@ -1221,6 +1857,7 @@ class TimeEntryRestControllerTest {
     void deleteOwnTimeEntryById_ShouldReturnStatusCode204_WhenCalled() throws Exception {
         User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
         testEmployee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( testEmployee );
         employeeRepository.save( testEmployee );
         TimeEntry timeEntry = timeEntryRepository.save( testTimeEntry );
         assert timeEntry.getId() != null;
@@ -0,0 +1,283 @@
+/*
+ * assemble
+ * TimeEntryStatementCountTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.controllers.rest.timeentry;
+
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.models.entities.project.Project;
+import com.assemble.backend.models.entities.project.ProjectColor;
+import com.assemble.backend.models.entities.project.ProjectStage;
+import com.assemble.backend.models.entities.project.ProjectType;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.repositories.employee.EmployeeRepository;
+import com.assemble.backend.repositories.project.ProjectRepository;
+import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
+import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import com.assemble.backend.testutils.HibernateStatementCounter;
+import com.assemble.backend.testutils.MockCustomUserEmployee;
+import com.assemble.backend.testutils.WithMockCustomUser;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("TimeEntry Statement Count Integration Test")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@AutoConfigureMockMvc
+class TimeEntryStatementCountTest {
+
+    private static final int EMPLOYEES = 3;
+    private static final int PROJECTS = 3;
+    private static final int ENTRIES_PER_PAIR = 2;
+    private static final int TIME_ENTRIES = EMPLOYEES * PROJECTS * ENTRIES_PER_PAIR;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private HibernateStatementCounter statementCounter;
+
+    private final List<Employee> employees = new ArrayList<>();
+
+    private final List<Project> projects = new ArrayList<>();
+
+    private final List<TimeEntry> timeEntries = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        statementCounter = new HibernateStatementCounter( entityManagerFactory );
+
+        for ( int i = 0; i < EMPLOYEES; i++ ) {
+            User user = userRepository.save(
+                    User.builder()
+                            .firstname( "Test" )
+                            .lastname( "User" + i )
+                            .username( "counted" + i )
+                            .email( "counted" + i + "@example.com" )
+                            .password( "secret" )
+                            .roles( List.of( UserRole.USER, UserRole.MANAGER ) )
+                            .build()
+            );
+            employees.add( employeeRepository.save(
+                    Employee.builder()
+                            .firstname( "Max" )
+                            .lastname( "Mustermann" + i )
+                            .email( "counted" + i + "@example.com" )
+                            .user( user )
+                            .build()
+            ) );
+        }
+
+        for ( int i = 0; i < PROJECTS; i++ ) {
+            projects.add( projectRepository.save(
+                    Project.builder()
+                            .name( "Test Project " + i )
+                            .description( "Test Project Description" )
+                            .category( "Maintanance" )
+                            .color( ProjectColor.PURPLE )
+                            .stage( ProjectStage.PROPOSAL )
+                            .type( ProjectType.EXTERNAL )
+                            .build()
+            ) );
+        }
+
+        for ( Employee employee : employees ) {
+            for ( Project project : projects ) {
+                for ( int i = 0; i < ENTRIES_PER_PAIR; i++ ) {
+                    timeEntries.add( timeEntryRepository.save(
+                            TimeEntry.builder()
+                                    .description( "Counted Time Entry" )
+                                    .project( project )
+                                    .employee( employee )
+                                    .date( LocalDate.now().minusDays( i ) )
+                                    .totalTime( Duration.ofHours( 8 ) )
+                                    .pauseTime( Duration.ofHours( 1 ) )
+                                    .rate( BigDecimal.valueOf( 45 ) )
+                                    .total( BigDecimal.valueOf( 315 ) )
+                                    .totalInternal( BigDecimal.valueOf( 210 ) )
+                                    .build()
+                    ) );
+                }
+            }
+        }
+    }
+
+    private Employee linkEmployeeToMockUser() {
+        User mockedUserFromDB = userRepository.findByUsername( "testuser" ).orElseThrow();
+        Employee employee = employees.getFirst();
+        employee.setUser( mockedUserFromDB );
+        MockCustomUserEmployee.link( employee );
+        return employeeRepository.save( employee );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getAllTimeEntries should load the tag and all time entries with two statements")
+    void getAllTimeEntries_ShouldLoadTagAndTimeEntriesWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries" ) )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.length()" ).value( TIME_ENTRIES ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getAllTimeEntries should load the tag and the compact view with two statements")
+    void getAllTimeEntries_ShouldLoadTagAndCompactViewWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries" ).param( "view", "compact" ) )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.length()" ).value( TIME_ENTRIES ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryPage should load a page and the user roles with two statements")
+    void getTimeEntryPage_ShouldLoadPageWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries/page" ).param( "size", "50" ) )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.content.length()" ).value( TIME_ENTRIES ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getAllTimeEntriesByEmployeeId should load the tag and time entries with two statements")
+    void getAllTimeEntriesByEmployeeId_ShouldLoadTagAndTimeEntriesWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries/employee/" + employees.getFirst().getId() ) )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.length()" ).value( PROJECTS * ENTRIES_PER_PAIR ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getAllTimeEntriesByProjectId should load the tag and time entries with two statements")
+    void getAllTimeEntriesByProjectId_ShouldLoadTagAndTimeEntriesWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries/project/" + projects.getFirst().getId() ) )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.length()" ).value( EMPLOYEES * ENTRIES_PER_PAIR ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryById should load the tag and the time entry with two statements")
+    void getTimeEntryById_ShouldLoadTagAndTimeEntryWithTwoStatements() throws Exception {
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries/" + timeEntries.getFirst().getId() ) )
+                        .andExpect( status().isOk() )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(roles = { UserRole.MANAGER })
+    @DisplayName("/GET getTimeEntryById should only load the tag when the if none match tag is current")
+    void getTimeEntryById_ShouldOnlyLoadTag_WhenIfNoneMatchTagIsCurrent() throws Exception {
+        String eTag = mockMvc.perform( get( "/api/timeentries/" + timeEntries.getFirst().getId() ) )
+                .andReturn().getResponse().getHeader( HttpHeaders.ETAG );
+
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform(
+                                get( "/api/timeentries/" + timeEntries.getFirst().getId() )
+                                        .header( HttpHeaders.IF_NONE_MATCH, eTag )
+                        )
+                        .andExpect( status().isNotModified() )
+        );
+
+        assertThat( statements ).isEqualTo( 1 );
+    }
+
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET getOwnTimeEntries should load the time entries without looking up the employee")
+    void getOwnTimeEntries_ShouldLoadTimeEntriesWithoutLookingUpEmployee() throws Exception {
+        linkEmployeeToMockUser();
+
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform(
+                                get( "/api/timeentries/me" )
+                                        .param( "aroundDate", LocalDate.now().toString() )
+                        )
+                        .andExpect( status().isOk() )
+                        .andExpect( jsonPath( "$.length()" ).value( PROJECTS * ENTRIES_PER_PAIR ) )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+
+    @Test
+    @WithMockCustomUser(saveToDatabase = true)
+    @DisplayName("/GET getOwnTimeEntryById should load the tag and the time entry without looking up the employee")
+    void getOwnTimeEntryById_ShouldLoadTagAndTimeEntryWithoutLookingUpEmployee() throws Exception {
+        linkEmployeeToMockUser();
+
+        long statements = statementCounter.countStatements( () ->
+                mockMvc.perform( get( "/api/timeentries/me/" + timeEntries.getFirst().getId() ) )
+                        .andExpect( status().isOk() )
+        );
+
+        assertThat( statements ).isEqualTo( 2 );
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * assemble
+ * UserDetailsCacheTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.auth;
+
+import com.assemble.backend.models.dtos.auth.UserDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.utils.InvalidationPublisher;
+import com.github.f4b6a3.uuid.UuidCreator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDetailsCache Unit Test")
+class UserDetailsCacheTest {
+
+    private static final Instant NOW = Instant.parse( "2026-03-02T10:00:00Z" );
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private InvalidationPublisher invalidationPublisher;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDetailsCache cache;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(
+                userRepository,
+                userMapper,
+                meterRegistry,
+                invalidationPublisher,
+                2,
+                Duration.ofMinutes( 5 ),
+                clock
+        );
+        lenient().when( clock.instant() ).thenReturn( NOW );
+        lenient().when( userRepository.findByUsername( any() ) ).thenAnswer(
+                invocation -> Optional.of( user( invocation.getArgument( 0 ) ) )
+        );
+        lenient().when( userMapper.toUserDTO( any() ) ).thenAnswer( invocation -> {
+            User user = invocation.getArgument( 0 );
+            return UserDTO.builder()
+                    .id( user.getId().toString() )
+                    .username( user.getUsername() )
+                    .email( user.getEmail() )
+                    .firstname( user.getFirstname() )
+                    .lastname( user.getLastname() )
+                    .fullname( user.getFullname() )
+                    .roles( user.getRoles() )
+                    .build();
+        } );
+    }
+
+    private static User user( String username ) {
+        return User.builder()
+                .id( UuidCreator.getTimeOrderedEpoch() )
+                .username( username )
+                .firstname( "Max" )
+                .lastname( "Mustermann" )
+                .email( "max.mustermann@example.com" )
+                .password( "secret" )
+                .roles( List.of( UserRole.USER ) )
+                .build();
+    }
+
+    private double lookups( String result ) {
+        return meterRegistry.get( "assemble.users.cache.lookups" ).tag( "result", result ).counter().count();
+    }
+
+    @Test
+    @DisplayName("get should load a user once and serve it from the cache afterwards")
+    void get_ShouldLoadUserOnce() {
+        assertTrue( cache.get( "mustermannmax" ).isPresent() );
+        assertTrue( cache.get( "mustermannmax" ).isPresent() );
+
+        verify( userRepository, times( 1 ) ).findByUsername( "mustermannmax" );
+        assertEquals( 1, lookups( "hit" ) );
+        assertEquals( 1, lookups( "miss" ) );
+    }
+
+    @Test
+    @DisplayName("get should reload a user once the time to live passed")
+    void get_ShouldReloadUser_WhenTimeToLivePassed() {
+        cache.get( "mustermannmax" );
+        when( clock.instant() ).thenReturn( NOW.plus( Duration.ofMinutes( 6 ) ) );
+
+        cache.get( "mustermannmax" );
+
+        verify( userRepository, times( 2 ) ).findByUsername( "mustermannmax" );
+    }
+
+    @Test
+    @DisplayName("get should not cache unknown usernames")
+    void get_ShouldNotCacheUnknownUsernames() {
+        when( userRepository.findByUsername( "unknown" ) ).thenReturn( Optional.empty() );
+
+        assertTrue( cache.get( "unknown" ).isEmpty() );
+        assertTrue( cache.get( "unknown" ).isEmpty() );
+
+        verify( userRepository, times( 2 ) ).findByUsername( "unknown" );
+        assertEquals( 0, cache.size() );
+    }
+
+    @Test
+    @DisplayName("get should drop the least recently used user when the cache is full")
+    void get_ShouldDropLeastRecentlyUsedUser() {
+        cache.get( "first" );
+        cache.get( "second" );
+        cache.get( "first" );
+        cache.get( "third" );
+
+        assertEquals( 2, cache.size() );
+        cache.get( "first" );
+        cache.get( "second" );
+
+        verify( userRepository, times( 1 ) ).findByUsername( "first" );
+        verify( userRepository, times( 2 ) ).findByUsername( "second" );
+    }
+
+    @Test
+    @DisplayName("get should not cache a user that was evicted while it was loaded")
+    void get_ShouldNotCacheUser_WhenEvictedWhileLoading() {
+        when( userRepository.findByUsername( "mustermannmax" ) ).thenAnswer( invocation -> {
+            cache.evictLocally( "mustermannmax" );
+            return Optional.of( user( "mustermannmax" ) );
+        } );
+
+        assertTrue( cache.get( "mustermannmax" ).isPresent() );
+
+        assertEquals( 0, cache.size() );
+    }
+
+    @Test
+    @DisplayName("evict should remove the user and tell the other nodes")
+    void evict_ShouldRemoveUserAndPublish() {
+        cache.get( "mustermannmax" );
+
+        cache.evict( "mustermannmax" );
+        cache.get( "mustermannmax" );
+
+        verify( invalidationPublisher ).publish( "mustermannmax" );
+        verify( userRepository, times( 2 ) ).findByUsername( "mustermannmax" );
+    }
+
+    @Test
+    @DisplayName("get should resolve the employee id of the user")
+    void get_ShouldResolveEmployeeId() {
+        User user = user( "mustermannmax" );
+        Employee employee = Employee.builder()
+                .id( UuidCreator.getTimeOrderedEpoch() )
+                .firstname( "Max" )
+                .lastname( "Mustermann" )
+                .user( user )
+                .build();
+        user.setEmployee( employee );
+        when( userRepository.findByUsername( "mustermannmax" ) ).thenReturn( Optional.of( user ) );
+
+        SecurityUser actual = cache.get( "mustermannmax" ).orElseThrow().toSecurityUser();
+
+        assertEquals( employee.getId(), actual.getEmployeeId() );
+        assertNull( cache.get( "other" ).orElseThrow().toSecurityUser().getEmployeeId() );
+    }
+
+    @Test
+    @DisplayName("toSecurityUser should return a new principal every time")
+    void toSecurityUser_ShouldReturnNewPrincipal() {
+        UserDetailsCache.CachedUser cached = cache.get( "mustermannmax" ).orElseThrow();
+
+        SecurityUser first = cached.toSecurityUser();
+        first.eraseCredentials();
+
+        assertNull( first.getPassword() );
+        assertEquals( "secret", cached.toSecurityUser().getPassword() );
+        assertNotSame( cached.toUserDTO(), cached.toUserDTO() );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * assemble
+ * ExpiredSessionSweeperTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredSessionSweeper Unit Test")
+class ExpiredSessionSweeperTest {
+
+    private static final Instant NOW = Instant.parse( "2026-03-02T10:00:00Z" );
+
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExpiredSessionSweeper sweeper;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new ExpiredSessionSweeper(
+                jdbcOperations,
+                meterRegistry,
+                "SESSIONS",
+                BATCH_SIZE,
+                3,
+                Duration.ofMinutes( 5 ),
+                Clock.fixed( NOW, ZoneOffset.UTC )
+        );
+    }
+
+    private void holdLease( boolean held ) {
+        when( jdbcOperations.queryForList( contains( "scheduler_leases" ), eq( String.class ), any(), any(), any() ) )
+                .thenReturn( held ? List.of( "owner" ) : List.of() );
+    }
+
+    @Test
+    @DisplayName("sweep should delete batches until a batch is not full")
+    void sweep_ShouldDeleteBatchesUntilBatchIsNotFull() {
+        holdLease( true );
+        when( jdbcOperations.update( contains( "DELETE FROM SESSIONS" ), eq( NOW.toEpochMilli() ), eq( BATCH_SIZE ) ) )
+                .thenReturn( BATCH_SIZE, 4 );
+        when( jdbcOperations.queryForObject( contains( "COUNT(*)" ), eq( Long.class ), eq( NOW.toEpochMilli() ) ) )
+                .thenReturn( 0L );
+
+        assertEquals( 14, sweeper.sweep() );
+
+        verify( jdbcOperations, times( 2 ) ).update( contains( "DELETE FROM SESSIONS" ), anyLong(), anyInt() );
+        assertEquals( 14, meterRegistry.get( "assemble.sessions.swept" ).counter().count() );
+        assertEquals( 2, meterRegistry.get( "assemble.sessions.sweep.batch" ).timer().count() );
+        assertEquals( 0, meterRegistry.get( "assemble.sessions.sweep.backlog" ).gauge().value() );
+    }
+
+    @Test
+    @DisplayName("sweep should stop after the maximum number of batches and report the backlog")
+    void sweep_ShouldStopAfterMaxBatches() {
+        holdLease( true );
+        when( jdbcOperations.update( contains( "DELETE FROM SESSIONS" ), anyLong(), anyInt() ) ).thenReturn( BATCH_SIZE );
+        when( jdbcOperations.queryForObject( contains( "COUNT(*)" ), eq( Long.class ), anyLong() ) ).thenReturn( 250L );
+
+        assertEquals( 30, sweeper.sweep() );
+
+        verify( jdbcOperations, times( 3 ) ).update( contains( "DELETE FROM SESSIONS" ), anyLong(), anyInt() );
+        assertEquals( 250, meterRegistry.get( "assemble.sessions.sweep.backlog" ).gauge().value() );
+    }
+
+    @Test
+    @DisplayName("sweep should skip the run when another node holds the lease")
+    void sweep_ShouldSkip_WhenLeaseIsHeldByAnotherNode() {
+        holdLease( false );
+
+        assertEquals( -1, sweeper.sweep() );
+
+        verify( jdbcOperations, never() ).update( contains( "DELETE FROM SESSIONS" ), anyLong(), anyInt() );
+    }
+
+    @Test
+    @DisplayName("start should throw IllegalArgumentException when the lease is not longer than the interval")
+    void start_ShouldThrow_WhenLeaseIsNotLongerThanInterval() {
+        assertThrows( IllegalArgumentException.class, () -> sweeper.start( Duration.ofMinutes( 5 ) ) );
+    }
+}
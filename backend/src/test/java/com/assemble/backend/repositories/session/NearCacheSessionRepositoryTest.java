@@ -0,0 +1,177 @@
+/*
+ * assemble
+ * NearCacheSessionRepositoryTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import com.assemble.backend.utils.InvalidationPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheSessionRepository Unit Test")
+class NearCacheSessionRepositoryTest {
+
+    @Mock
+    private FindByIndexNameSessionRepository<MapSession> delegate;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private InvalidationPublisher invalidationPublisher;
+
+    private SessionNearCache nearCache;
+
+    private NearCacheSessionRepository<MapSession> repository;
+
+    private MapSession stored;
+
+    @BeforeEach
+    void init() {
+        nearCache = new SessionNearCache( jdbcOperations, "SESSIONS", 100, Duration.ofSeconds( 30 ), Clock.systemUTC() );
+        repository = new NearCacheSessionRepository<>( delegate, nearCache, invalidationPublisher );
+
+        stored = new MapSession( "session-id" );
+        stored.setMaxInactiveInterval( Duration.ofMinutes( 120 ) );
+        stored.setAttribute( "name", "value" );
+    }
+
+    @Test
+    @DisplayName("findById should load a session once and serve it from the near cache afterwards")
+    void findById_ShouldLoadSessionOnce() {
+        when( delegate.findById( "session-id" ) ).thenReturn( stored );
+
+        assertEquals( "value", repository.findById( "session-id" ).getAttribute( "name" ) );
+        assertEquals( "value", repository.findById( "session-id" ).getAttribute( "name" ) );
+
+        verify( delegate, times( 1 ) ).findById( "session-id" );
+    }
+
+    @Test
+    @DisplayName("findById should return null when the delegate has no session")
+    void findById_ShouldReturnNull_WhenSessionDoesNotExist() {
+        when( delegate.findById( "session-id" ) ).thenReturn( null );
+
+        assertNull( repository.findById( "session-id" ) );
+    }
+
+    @Test
+    @DisplayName("save should only defer the last access time when nothing else changed")
+    void save_ShouldDeferLastAccessTime_WhenNothingElseChanged() {
+        when( delegate.findById( "session-id" ) ).thenReturn( stored );
+        Instant accessed = Instant.now().plusSeconds( 1 );
+
+        NearCacheSessionRepository<MapSession>.NearCacheSession session = repository.findById( "session-id" );
+        session.setLastAccessedTime( accessed );
+        repository.save( session );
+
+        assertEquals( accessed, repository.findById( "session-id" ).getLastAccessedTime() );
+        verify( delegate, never() ).save( any() );
+        verifyNoInteractions( invalidationPublisher, jdbcOperations );
+        assertEquals( 1, nearCache.flush() );
+    }
+
+    @Test
+    @DisplayName("save should write changed attributes through the delegate and invalidate other nodes")
+    void save_ShouldWriteThroughDelegateAndInvalidate_WhenAttributeChanged() {
+        MapSession loaded = new MapSession( stored );
+        when( delegate.findById( "session-id" ) ).thenReturn( stored, loaded );
+
+        NearCacheSessionRepository<MapSession>.NearCacheSession session = repository.findById( "session-id" );
+        session.setAttribute( "name", "changed" );
+        repository.save( session );
+
+        verify( delegate, times( 1 ) ).save( loaded );
+        assertEquals( "changed", loaded.getAttribute( "name" ) );
+        verify( invalidationPublisher, times( 1 ) ).publish( "session-id" );
+        assertEquals( "changed", repository.findById( "session-id" ).getAttribute( "name" ) );
+        verify( delegate, times( 2 ) ).findById( "session-id" );
+    }
+
+    @Test
+    @DisplayName("save should drop the write when the session was deleted meanwhile")
+    void save_ShouldDropWrite_WhenSessionWasDeleted() {
+        when( delegate.findById( "session-id" ) ).thenReturn( stored, (MapSession) null );
+
+        NearCacheSessionRepository<MapSession>.NearCacheSession session = repository.findById( "session-id" );
+        session.setAttribute( "name", "changed" );
+        repository.save( session );
+
+        verify( delegate, never() ).save( any() );
+        assertEquals( 0, nearCache.size() );
+    }
+
+    @Test
+    @DisplayName("save should cache a new session without invalidating other nodes")
+    void save_ShouldCacheNewSessionWithoutInvalidating() {
+        when( delegate.createSession() ).thenReturn( stored );
+
+        NearCacheSessionRepository<MapSession>.NearCacheSession session = repository.createSession();
+        repository.save( session );
+
+        verify( delegate, times( 1 ) ).save( stored );
+        verifyNoInteractions( invalidationPublisher );
+        assertNotNull( repository.findById( "session-id" ) );
+        verify( delegate, never() ).findById( anyString() );
+    }
+
+    @Test
+    @DisplayName("save should drop the cached copy of the old id when the session id changed")
+    void save_ShouldDropOldId_WhenSessionIdChanged() {
+        when( delegate.findById( "session-id" ) ).thenReturn( stored, new MapSession( stored ) );
+
+        NearCacheSessionRepository<MapSession>.NearCacheSession session = repository.findById( "session-id" );
+        String newId = session.changeSessionId();
+        repository.save( session );
+
+        verify( invalidationPublisher, times( 1 ) ).publish( "session-id" );
+        assertEquals( newId, repository.findById( newId ).getId() );
+        assertNull( nearCache.get( "session-id" ) );
+    }
+
+    @Test
+    @DisplayName("deleteById should delete the session, drop the cached copy and invalidate other nodes")
+    void deleteById_ShouldDeleteAndInvalidate() {
+        when( delegate.findById( "session-id" ) ).thenReturn( stored );
+        repository.findById( "session-id" );
+
+        repository.deleteById( "session-id" );
+
+        verify( delegate, times( 1 ) ).deleteById( "session-id" );
+        verify( invalidationPublisher, times( 1 ) ).publish( "session-id" );
+        assertEquals( 0, nearCache.size() );
+    }
+
+    @Test
+    @DisplayName("findByIndexNameAndIndexValue should always ask the delegate")
+    void findByIndexNameAndIndexValue_ShouldAskDelegate() {
+        when( delegate.findByIndexNameAndIndexValue( FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "admin" ) )
+                .thenReturn( Map.of( "session-id", stored ) );
+
+        Map<String, NearCacheSessionRepository<MapSession>.NearCacheSession> actual = repository.findByPrincipalName( "admin" );
+
+        assertEquals( "value", actual.get( "session-id" ).getAttribute( "name" ) );
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * assemble
+ * SessionAttributeSerializerTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SessionAttributeSerializer Unit Test")
+class SessionAttributeSerializerTest {
+
+    private final SessionAttributeSerializer serializer = new SessionAttributeSerializer( getClass().getClassLoader() );
+
+    private static SecurityContext securityContext( SecurityUser principal ) {
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal,
+                null,
+                principal.getAuthorities()
+        );
+        authentication.setDetails( new WebAuthenticationDetails( "127.0.0.1", null ) );
+        return new SecurityContextImpl( authentication );
+    }
+
+    private static SecurityUser principal() {
+        return new SecurityUser(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "mustermannmax",
+                null,
+                List.of( UserRole.USER, UserRole.MANAGER ),
+                true,
+                false
+        );
+    }
+
+    @Test
+    @DisplayName("serialize should write the security context in the compact format and read it back")
+    void serialize_ShouldRoundTripSecurityContext() {
+        SecurityUser principal = principal();
+
+        byte[] bytes = serializer.serialize( securityContext( principal ) );
+
+        assertEquals( SessionAttributeSerializer.SECURITY_CONTEXT_V2, bytes[0] );
+        Authentication actual = ( (SecurityContext) serializer.deserialize( bytes ) ).getAuthentication();
+        SecurityUser actualPrincipal = (SecurityUser) actual.getPrincipal();
+        assertTrue( actual.isAuthenticated() );
+        assertEquals( principal.getId(), actualPrincipal.getId() );
+        assertEquals( principal.getEmployeeId(), actualPrincipal.getEmployeeId() );
+        assertEquals( principal.getUsername(), actualPrincipal.getUsername() );
+        assertEquals( principal.getRoles(), actualPrincipal.getRoles() );
+        assertTrue( actualPrincipal.isEnabled() );
+        assertTrue( actualPrincipal.isAccountNonLocked() );
+        assertNull( actualPrincipal.getPassword() );
+        assertEquals( principal.getAuthorities(), actual.getAuthorities() );
+        assertEquals( new WebAuthenticationDetails( "127.0.0.1", null ), actual.getDetails() );
+    }
+
+    @Test
+    @DisplayName("serialize should write a smaller security context than Java serialization")
+    void serialize_ShouldBeSmallerThanJavaSerialization() {
+        SecurityContext context = securityContext( principal() );
+
+        byte[] java = new SerializingConverter().convert( context );
+
+        assertTrue( serializer.serialize( context ).length * 4 < java.length );
+    }
+
+    @Test
+    @DisplayName("serialize should fall back to Java serialization for other attributes")
+    void serialize_ShouldFallBackToJavaSerialization() {
+        SecurityContext context = new SecurityContextImpl( new TestingAuthenticationToken( "user", "password", "ROLE_USER" ) );
+
+        byte[] bytes = serializer.serialize( context );
+
+        assertEquals( (byte) 0xAC, bytes[0] );
+        assertEquals( context, serializer.deserialize( bytes ) );
+        assertEquals( "value", serializer.deserialize( serializer.serialize( "value" ) ) );
+    }
+
+    @Test
+    @DisplayName("deserialize should read attributes written with Java serialization before")
+    void deserialize_ShouldReadJavaSerializedAttributes() {
+        SecurityContext context = securityContext( principal() );
+
+        Authentication actual = ( (SecurityContext) serializer.deserialize(
+                new SerializingConverter().convert( context )
+        ) ).getAuthentication();
+
+        assertEquals( context.getAuthentication().getName(), actual.getName() );
+    }
+
+    @Test
+    @DisplayName("serialize should write a security context without employee id")
+    void serialize_ShouldRoundTripSecurityContext_WhenEmployeeIdIsNull() {
+        SecurityUser principal = principal().withEmployeeId( null );
+
+        SecurityUser actual = (SecurityUser) ( (SecurityContext) serializer.deserialize(
+                serializer.serialize( securityContext( principal ) )
+        ) ).getAuthentication().getPrincipal();
+
+        assertEquals( principal.getId(), actual.getId() );
+        assertNull( actual.getEmployeeId() );
+    }
+
+    @Test
+    @DisplayName("deserialize should drop security contexts of the first version")
+    void deserialize_ShouldDropFirstVersion() {
+        byte[] bytes = serializer.serialize( securityContext( principal() ) );
+        bytes[0] = SessionAttributeSerializer.SECURITY_CONTEXT_V1;
+
+        assertNull( serializer.deserialize( bytes ) );
+    }
+
+    @Test
+    @DisplayName("deserialize should throw SerializationFailedException for an unknown format")
+    void deserialize_ShouldThrow_WhenFormatIsUnknown() {
+        assertThrows( SerializationFailedException.class, () -> serializer.deserialize( new byte[]{ 0x7F, 0x00 } ) );
+        assertThrows( SerializationFailedException.class, () -> serializer.deserialize( new byte[0] ) );
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * assemble
+ * SessionNearCacheTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.repositories.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.session.MapSession;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionNearCache Unit Test")
+class SessionNearCacheTest {
+
+    private static final Instant NOW = Instant.parse( "2026-03-02T10:00:00Z" );
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private Clock clock;
+
+    private SessionNearCache nearCache;
+
+    @BeforeEach
+    void init() {
+        nearCache = new SessionNearCache( jdbcOperations, "SESSIONS", 2, Duration.ofSeconds( 30 ), clock );
+    }
+
+    private MapSession session( String id ) {
+        MapSession session = new MapSession( id );
+        session.setCreationTime( NOW );
+        session.setLastAccessedTime( NOW );
+        session.setMaxInactiveInterval( Duration.ofMinutes( 120 ) );
+        session.setAttribute( "name", "value" );
+        return session;
+    }
+
+    @Test
+    @DisplayName("get should return a copy of the cached session")
+    void get_ShouldReturnCopyOfCachedSession() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.put( session( "a" ) );
+
+        MapSession first = nearCache.get( "a" );
+        first.setAttribute( "name", "changed" );
+
+        assertEquals( "value", nearCache.get( "a" ).getAttribute( "name" ) );
+    }
+
+    @Test
+    @DisplayName("get should return null when the session was loaded longer ago than the time to live")
+    void get_ShouldReturnNull_WhenTimeToLiveIsExceeded() {
+        when( clock.instant() ).thenReturn( NOW, NOW.plusSeconds( 31 ) );
+        nearCache.put( session( "a" ) );
+
+        assertNull( nearCache.get( "a" ) );
+        assertEquals( 0, nearCache.size() );
+    }
+
+    @Test
+    @DisplayName("put should drop the least recently used session when the maximum size is exceeded")
+    void put_ShouldDropLeastRecentlyUsedSession_WhenMaximumSizeIsExceeded() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.put( session( "a" ) );
+        nearCache.put( session( "b" ) );
+        nearCache.get( "a" );
+        nearCache.put( session( "c" ) );
+
+        assertNotNull( nearCache.get( "a" ) );
+        assertNull( nearCache.get( "b" ) );
+        assertNotNull( nearCache.get( "c" ) );
+    }
+
+    @Test
+    @DisplayName("put should keep a pending access time that is newer than the loaded one")
+    void put_ShouldKeepNewerPendingAccessTime() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.touch( "a", NOW.plusSeconds( 60 ), Duration.ofMinutes( 120 ) );
+
+        MapSession actual = nearCache.put( session( "a" ) );
+
+        assertEquals( NOW.plusSeconds( 60 ), actual.getLastAccessedTime() );
+    }
+
+    @Test
+    @DisplayName("touch should update the cached session without any statement")
+    void touch_ShouldUpdateCachedSessionWithoutStatement() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.put( session( "a" ) );
+
+        nearCache.touch( "a", NOW.plusSeconds( 5 ), Duration.ofMinutes( 120 ) );
+
+        assertEquals( NOW.plusSeconds( 5 ), nearCache.get( "a" ).getLastAccessedTime() );
+        verifyNoInteractions( jdbcOperations );
+    }
+
+    @Test
+    @DisplayName("flush should write the newest pending access time of every session in one batch")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteNewestAccessTimesInOneBatch() {
+        nearCache.touch( "b", NOW.plusSeconds( 1 ), Duration.ofMinutes( 120 ) );
+        nearCache.touch( "a", NOW.plusSeconds( 2 ), Duration.ofMinutes( 120 ) );
+        nearCache.touch( "a", NOW.plusSeconds( 1 ), Duration.ofMinutes( 120 ) );
+
+        assertEquals( 2, nearCache.flush() );
+        assertEquals( 0, nearCache.flush() );
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass( List.class );
+        verify( jdbcOperations, times( 1 ) ).batchUpdate( contains( "UPDATE SESSIONS" ), batch.capture() );
+
+        long lastAccessTime = NOW.plusSeconds( 2 ).toEpochMilli();
+        assertArrayEquals(
+                new Object[]{ lastAccessTime, lastAccessTime + Duration.ofMinutes( 120 ).toMillis(), "a", lastAccessTime },
+                batch.getValue().getFirst()
+        );
+        assertEquals( "b", batch.getValue().get( 1 )[2] );
+    }
+
+    @Test
+    @DisplayName("flush should keep the access times pending when the batch fails")
+    void flush_ShouldKeepAccessTimesPending_WhenBatchFails() {
+        nearCache.touch( "a", NOW, Duration.ofMinutes( 120 ) );
+        when( jdbcOperations.batchUpdate( anyString(), anyList() ) )
+                .thenThrow( new DataAccessResourceFailureException( "down" ) )
+                .thenReturn( new int[]{ 1 } );
+
+        assertThrows( DataAccessResourceFailureException.class, () -> nearCache.flush() );
+        assertEquals( 1, nearCache.flush() );
+    }
+
+    @Test
+    @DisplayName("remove should drop the cached session and its pending access time")
+    void remove_ShouldDropCachedSessionAndPendingAccessTime() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.put( session( "a" ) );
+        nearCache.touch( "a", NOW.plusSeconds( 5 ), Duration.ofMinutes( 120 ) );
+
+        nearCache.remove( "a" );
+
+        assertNull( nearCache.get( "a" ) );
+        assertEquals( 0, nearCache.flush() );
+    }
+
+    @Test
+    @DisplayName("evict should only drop the cached session")
+    void evict_ShouldOnlyDropCachedSession() {
+        when( clock.instant() ).thenReturn( NOW );
+        nearCache.put( session( "a" ) );
+        nearCache.touch( "a", NOW.plusSeconds( 5 ), Duration.ofMinutes( 120 ) );
+
+        nearCache.evict( "a" );
+
+        assertNull( nearCache.get( "a" ) );
+        assertEquals( 1, nearCache.flush() );
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * assemble
+ * TimeEntryCommandsTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.scripts.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.models.entities.project.Project;
+import com.assemble.backend.models.entities.project.ProjectColor;
+import com.assemble.backend.models.entities.project.ProjectStage;
+import com.assemble.backend.models.entities.project.ProjectType;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.assemble.backend.repositories.employee.EmployeeRepository;
+import com.assemble.backend.repositories.project.ProjectRepository;
+import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
+import com.assemble.backend.services.timeentry.TimeEntryRollupService;
+import com.assemble.backend.testcontainers.TestcontainersConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeEntry Commands Integration Test")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TimeEntryCommandsTest {
+
+    @Autowired
+    private TimeEntryCommands timeEntryCommands;
+
+    @Autowired
+    private TimeEntryRollupService timeEntryRollupService;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    @DisplayName("rebuild-timeentry-rollups should backfill rollups from existing time entries")
+    void rebuildTimeEntryRollups_ShouldBackfillRollupsFromExistingTimeEntries() {
+        Employee employee = employeeRepository.save(
+                Employee.builder()
+                        .firstname( "Max" )
+                        .lastname( "Mustermann" )
+                        .email( "max@example.com" )
+                        .build()
+        );
+        Project project = projectRepository.save(
+                Project.builder()
+                        .name( "Test Project" )
+                        .description( "Test Project Description" )
+                        .category( "Maintenance" )
+                        .color( ProjectColor.PURPLE )
+                        .stage( ProjectStage.PROPOSAL )
+                        .type( ProjectType.EXTERNAL )
+                        .build()
+        );
+
+        for ( LocalDate date : List.of( LocalDate.of( 2026, 1, 5 ), LocalDate.of( 2026, 1, 5 ), LocalDate.of( 2026, 1, 6 ) ) ) {
+            timeEntryRepository.save(
+                    TimeEntry.builder()
+                            .description( "Imported Time Entry" )
+                            .project( project )
+                            .employee( employee )
+                            .date( date )
+                            .totalTime( Duration.ofHours( 8 ) )
+                            .pauseTime( Duration.ofHours( 1 ) )
+                            .rate( BigDecimal.valueOf( 50 ) )
+                            .total( BigDecimal.valueOf( 350 ) )
+                            .totalInternal( BigDecimal.valueOf( 210 ) )
+                            .build()
+            );
+        }
+
+        assertTrue( timeEntryRollupService.getRollups(
+                new TimeEntryFilterDTO(), TimeEntryRollupGranularity.DAY
+        ).isEmpty() );
+
+        assertEquals( "2 daily and 1 monthly rollups rebuilt", timeEntryCommands.rebuildTimeEntryRollups() );
+
+        List<TimeEntryRollupDTO> monthly = timeEntryRollupService.getRollups(
+                new TimeEntryFilterDTO(), TimeEntryRollupGranularity.MONTH
+        );
+        assertEquals( 1, monthly.size() );
+        assertEquals( 3, monthly.getFirst().getEntryCount() );
+        assertEquals( Duration.ofHours( 24 ), monthly.getFirst().getTotalTime() );
+        assertEquals( 0, BigDecimal.valueOf( 1050 ).compareTo( monthly.getFirst().getTotal() ) );
+    }
+}
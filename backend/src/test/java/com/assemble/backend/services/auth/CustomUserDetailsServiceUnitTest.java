@@ -13,12 +13,16 @@ package com.assemble.backend.services.auth;
 import com.assemble.backend.models.entities.auth.SecurityUser;
 import com.assemble.backend.models.entities.auth.User;
 import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.utils.InvalidationPublisher;
 import com.github.f4b6a3.uuid.UuidCreator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,6 +33,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -43,11 +49,29 @@ class CustomUserDetailsServiceUnitTest {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
+    @Mock
+    private UserMapper userMapper;
+
     private CustomUserDetailsService customUserDetailsService;
 
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
+    @BeforeEach
+    void setUp() {
+        customUserDetailsService = new CustomUserDetailsService(
+                new UserDetailsCache(
+                        userRepository,
+                        userMapper,
+                        new SimpleMeterRegistry(),
+                        InvalidationPublisher.NONE,
+                        10,
+                        Duration.ofMinutes( 5 ),
+                        Clock.systemUTC()
+                ),
+                userRepository
+        );
+    }
+
     @DisplayName("loadUserByUsername should return an instance of UserDetails with all Details")
     @Test
     void loadUserByUsername_ShouldReturnUserDetails() {
@@ -73,11 +97,11 @@ class CustomUserDetailsServiceUnitTest {
         assertThat( userDetails )
                 .isNotNull()
                 .isInstanceOf( SecurityUser.class )
-                .extracting( "user" )
-                .isEqualTo( givenUser );
+                .extracting( "id" )
+                .isEqualTo( givenUser.getId() );
 
         assertEquals( authorities, userDetails.getAuthorities() );
-        assertEquals( givenUser.getFirstname() + " " + givenUser.getLastname(), securityUser.getUser().getFullname() );
+        assertEquals( givenUser.getRoles(), securityUser.getRoles() );
         assertEquals( givenUser.getUsername(), userDetails.getUsername() );
         assertEquals( givenUser.getPassword(), userDetails.getPassword() );
         assertTrue( userDetails.isAccountNonExpired() );
@@ -101,4 +125,30 @@ class CustomUserDetailsServiceUnitTest {
                 .isInstanceOf( UsernameNotFoundException.class );
     }
 
-}
\ No newline at end of file
+    @DisplayName("updatePassword should store the rehashed password of the user")
+    @Test
+    void updatePassword_ShouldStoreRehashedPassword() {
+        User givenUser = User.builder()
+                .id( UuidCreator.getTimeOrderedEpoch() )
+                .username( "mustermannmax" )
+                .firstname( "Max" )
+                .lastname( "Mustermann" )
+                .password( "old-hash" )
+                .email( "max.mustermann@example.com" )
+                .roles( List.of( UserRole.USER ) )
+                .enabled( true )
+                .build();
+
+        Mockito.when( userRepository.findByUsername( givenUser.getUsername() ) )
+                .thenReturn( Optional.of( givenUser ) );
+
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername( givenUser.getUsername() );
+        UserDetails actual = customUserDetailsService.updatePassword( userDetails, "new-hash" );
+
+        assertEquals( "new-hash", actual.getPassword() );
+        assertEquals( "new-hash", givenUser.getPassword() );
+        Mockito.verify( userRepository ).save( givenUser );
+        assertEquals( "new-hash", customUserDetailsService.loadUserByUsername( givenUser.getUsername() ).getPassword() );
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * assemble
+ * LoginAttemptLimiterTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.auth;
+
+import com.assemble.backend.exceptions.auth.LoginAttemptsExceededException;
+import com.assemble.backend.utils.InvalidationPublisher;
+import com.assemble.backend.utils.SlidingWindowLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LoginAttemptLimiter Unit Test")
+class LoginAttemptLimiterTest {
+
+    @Mock
+    private InvalidationPublisher attemptPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new LoginAttemptLimiter(
+                new SlidingWindowLimiter( 2, Duration.ofMinutes( 5 ), 100, Clock.systemUTC() ),
+                new SlidingWindowLimiter( 3, Duration.ofMinutes( 1 ), 100, Clock.systemUTC() ),
+                attemptPublisher,
+                meterRegistry
+        );
+    }
+
+    private double rejections( String limit ) {
+        return meterRegistry.get( "assemble.auth.login.rejected" ).tag( "limit", limit ).counter().count();
+    }
+
+    @Test
+    @DisplayName("checkAttempt should reject a username over its limit regardless of its case")
+    void checkAttempt_ShouldRejectUsernameOverLimit() {
+        limiter.checkAttempt( "mustermannmax", "10.0.0.1" );
+        limiter.checkAttempt( "MustermannMax", "10.0.0.2" );
+
+        assertThrows( LoginAttemptsExceededException.class, () -> limiter.checkAttempt( "mustermannmax", "10.0.0.3" ) );
+        assertEquals( 1, rejections( "username" ) );
+        verify( attemptPublisher, times( 2 ) ).publish( anyString() );
+    }
+
+    @Test
+    @DisplayName("checkAttempt should reject an address over its limit before counting the username")
+    void checkAttempt_ShouldRejectAddressOverLimit() {
+        limiter.checkAttempt( "first", "10.0.0.1" );
+        limiter.checkAttempt( "second", "10.0.0.1" );
+        limiter.checkAttempt( "third", "10.0.0.1" );
+
+        assertThrows( LoginAttemptsExceededException.class, () -> limiter.checkAttempt( "mustermannmax", "10.0.0.1" ) );
+        assertEquals( 1, rejections( "address" ) );
+
+        limiter.checkAttempt( "mustermannmax", "10.0.0.2" );
+        limiter.checkAttempt( "mustermannmax", "10.0.0.2" );
+    }
+
+    @Test
+    @DisplayName("checkAttempt should publish accepted attempts and count the attempts of other nodes")
+    void checkAttempt_ShouldPublishAndCountRemoteAttempts() {
+        limiter.checkAttempt( "mustermannmax", "10.0.0.1" );
+        verify( attemptPublisher ).publish( "10.0.0.1/mustermannmax" );
+
+        limiter.recordRemoteAttempt( "10.0.0.2/mustermannmax" );
+
+        assertThrows( LoginAttemptsExceededException.class, () -> limiter.checkAttempt( "mustermannmax", "10.0.0.3" ) );
+    }
+
+    @Test
+    @DisplayName("checkAttempt should accept the attempt when it cannot be published")
+    void checkAttempt_ShouldAcceptAttempt_WhenPublishFails() {
+        doThrow( new IllegalStateException( "connection lost" ) ).when( attemptPublisher ).publish( anyString() );
+
+        assertDoesNotThrow( () -> limiter.checkAttempt( "mustermannmax", "10.0.0.1" ) );
+    }
+}
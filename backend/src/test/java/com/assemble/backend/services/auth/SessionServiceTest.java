@@ -12,21 +12,29 @@ package com.assemble.backend.services.auth;
 
 import com.assemble.backend.models.dtos.auth.admin.SessionCountDTO;
 import com.assemble.backend.models.dtos.auth.admin.SessionDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,5 +110,60 @@ class SessionServiceTest {
         verify( sessionRepository, times( 1 ) ).deleteById( "session-id" );
     }
 
+    @Test
+    @DisplayName("setUserSessionsEmployee should replace the employee id of the principal in every session")
+    void setUserSessionsEmployee_ShouldReplaceEmployeeIdOfPrincipal_WhenCalled() {
+        UUID employeeId = UUID.randomUUID();
+        SecurityUser principal = new SecurityUser(
+                UUID.randomUUID(), null, "admin", null, List.of( UserRole.ADMIN ), true, false
+        );
+        MapSession session = new MapSession();
+        session.setAttribute(
+                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl( UsernamePasswordAuthenticationToken.authenticated(
+                        principal, null, principal.getAuthorities()
+                ) )
+        );
+        MapSession anonymousSession = new MapSession();
+
+        when( sessionRepository.findByPrincipalName( "admin" ) ).thenReturn( Map.of(
+                "session-id", session,
+                "anonymous-session-id", anonymousSession
+        ) );
+
+        assertDoesNotThrow( () -> sessionService.setUserSessionsEmployee( "admin", employeeId ) );
+
+        SecurityContext context = session.getAttribute( HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY );
+        SecurityUser actual = (SecurityUser) context.getAuthentication().getPrincipal();
+        assertEquals( employeeId, actual.getEmployeeId() );
+        assertEquals( principal.getId(), actual.getId() );
+        assertEquals( principal.getAuthorities(), context.getAuthentication().getAuthorities() );
+
+        verify( sessionRepository, times( 1 ) ).save( session );
+        verify( sessionRepository, never() ).save( anonymousSession );
+    }
+
+    @Test
+    @DisplayName("setUserSessionsEmployee should not save sessions that already carry the employee id")
+    void setUserSessionsEmployee_ShouldNotSaveSession_WhenEmployeeIdIsUnchanged() {
+        UUID employeeId = UUID.randomUUID();
+        SecurityUser principal = new SecurityUser(
+                UUID.randomUUID(), employeeId, "admin", null, List.of( UserRole.ADMIN ), true, false
+        );
+        MapSession session = new MapSession();
+        session.setAttribute(
+                HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl( UsernamePasswordAuthenticationToken.authenticated(
+                        principal, null, principal.getAuthorities()
+                ) )
+        );
+
+        when( sessionRepository.findByPrincipalName( "admin" ) ).thenReturn( Map.of( "session-id", session ) );
+
+        assertDoesNotThrow( () -> sessionService.setUserSessionsEmployee( "admin", employeeId ) );
+
+        verify( sessionRepository, never() ).save( any() );
+    }
+
 
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import com.assemble.backend.models.entities.auth.UserAudit;
 import com.assemble.backend.models.entities.auth.UserRole;
 import com.assemble.backend.models.entities.employee.Employee;
 import com.assemble.backend.models.mappers.auth.UserAdminMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -64,6 +65,9 @@ class UserAdminServiceImplTest {
     @Mock
     private SessionService sessionService;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private UserAdminServiceImpl userAdminServiceImpl;
 
@@ -543,6 +547,7 @@ class UserAdminServiceImplTest {
         verify( userRepository, times( 1 ) ).findById( uuid );
         verify( employeeRepository, times( 1 ) ).findById( uuid );
         verify( employeeRepository, times( 1 ) ).save( employee );
+        verify( sessionService, times( 1 ) ).setUserSessionsEmployee( user.getUsername(), uuid );
     }
 
     @Test
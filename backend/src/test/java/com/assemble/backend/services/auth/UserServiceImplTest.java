@@ -16,20 +16,25 @@ import com.assemble.backend.models.entities.auth.SecurityUser;
 import com.assemble.backend.models.entities.auth.User;
 import com.assemble.backend.models.entities.auth.UserRole;
 import com.assemble.backend.models.mappers.auth.UserMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
+import com.assemble.backend.utils.InvalidationPublisher;
 import com.github.f4b6a3.uuid.UuidCreator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -49,7 +54,6 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
-    @InjectMocks
     private UserServiceImpl userService;
 
     private static final PasswordEncoder encoder = new BCryptPasswordEncoder();
@@ -68,6 +72,23 @@ class UserServiceImplTest {
                 .build();
     }
 
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(
+                userRepository,
+                passwordEncoder,
+                new UserDetailsCache(
+                        userRepository,
+                        userMapper,
+                        new SimpleMeterRegistry(),
+                        InvalidationPublisher.NONE,
+                        10,
+                        Duration.ofMinutes( 5 ),
+                        Clock.systemUTC()
+                )
+        );
+    }
+
     @DisplayName("changePassword() should throw when username from principal not found in database")
     @Test
     void changePassword_ShouldThrow_WhenUsernameNotFound() {
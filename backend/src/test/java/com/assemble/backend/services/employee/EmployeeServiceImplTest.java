@@ -20,9 +20,11 @@ import com.assemble.backend.models.entities.project.ProjectAssignment;
 import com.assemble.backend.models.entities.project.ProjectStage;
 import com.assemble.backend.models.entities.project.ProjectType;
 import com.assemble.backend.models.mappers.employee.EmployeeMapper;
+import com.assemble.backend.repositories.auth.UserDetailsCache;
 import com.assemble.backend.repositories.auth.UserRepository;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
+import com.assemble.backend.services.auth.SessionService;
 import com.github.f4b6a3.uuid.UuidCreator;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeAll;
@@ -62,6 +64,12 @@ class EmployeeServiceImplTest {
     @Mock
     private ProjectAssignmentRepository projectAssignmentRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private SessionService sessionService;
+
     @InjectMocks
     private EmployeeServiceImpl service;
 
@@ -323,6 +331,7 @@ class EmployeeServiceImplTest {
         verify( employeeMapper, times( 1 ) ).toEmployee( employeeCreateDTO );
         verify( employeeMapper, times( 1 ) ).employeeToEmployeeDTO( employee );
         verify( employeeRepository, times( 1 ) ).save( employee );
+        verify( sessionService, times( 1 ) ).setUserSessionsEmployee( user.getUsername(), employee.getId() );
     }
 
     @Test
@@ -330,7 +339,7 @@ class EmployeeServiceImplTest {
     void setEmployeeUser_ShouldThrow_WhenEmployeeDoesNotExist() {
         when( employeeRepository.findById( uuid ) ).thenReturn( Optional.empty() );
         EmployeeUpdateUserDTO employeeUpdateUserDTO = EmployeeUpdateUserDTO.builder().userId( uuid.toString() ).build();
-        assertThrows( EntityNotFoundException.class, () -> service.setEmployeeUser( uuid.toString(), employeeUpdateUserDTO ) );
+        assertThrows( EntityNotFoundException.class, () -> service.setEmployeeUser( uuid.toString(), employeeUpdateUserDTO, null ) );
 
         verify( employeeRepository, times( 1 ) ).findById( uuid );
     }
@@ -349,7 +358,7 @@ class EmployeeServiceImplTest {
 
         when( userRepository.findById( notExistingUUID ) ).thenReturn( Optional.empty() );
 
-        assertThrows( EntityNotFoundException.class, () -> service.setEmployeeUser( id.toString(), employeeUpdateUserDTO ) );
+        assertThrows( EntityNotFoundException.class, () -> service.setEmployeeUser( id.toString(), employeeUpdateUserDTO, null ) );
 
         verify( employeeRepository, times( 1 ) ).findById( id );
         verify( userRepository, times( 1 ) ).findById( notExistingUUID );
@@ -371,7 +380,7 @@ class EmployeeServiceImplTest {
         user.setEmployee( employee );
         when( userRepository.findById( user.getId() ) ).thenReturn( Optional.of( user ) );
 
-        assertThrows( InvalidParameterException.class, () -> service.setEmployeeUser( id.toString(), employeeUpdateUserDTO ) );
+        assertThrows( InvalidParameterException.class, () -> service.setEmployeeUser( id.toString(), employeeUpdateUserDTO, null ) );
 
         verify( employeeRepository, times( 1 ) ).findById( id );
         verify( userRepository, times( 1 ) ).findById( user.getId() );
@@ -392,8 +401,8 @@ class EmployeeServiceImplTest {
         when( employeeMapper.employeeToEmployeeDTO( employee ) ).thenReturn( employeeDTO );
 
         EmployeeDTO actual = assertDoesNotThrow( () -> service.setEmployeeUser(
-                id.toString(), employeeUpdateUserDTO
-        ) );
+                id.toString(), employeeUpdateUserDTO, null
+        ).body() );
 
         assertEquals( employeeDTO, actual );
 
@@ -416,14 +425,15 @@ class EmployeeServiceImplTest {
         when( employeeMapper.employeeToEmployeeDTO( employee ) ).thenReturn( employeeDTO );
 
         EmployeeDTO actual = assertDoesNotThrow( () -> service.setEmployeeUser(
-                uuid.toString(), employeeUpdateUserDTO
-        ) );
+                uuid.toString(), employeeUpdateUserDTO, null
+        ).body() );
 
         assertEquals( employeeDTO, actual );
 
         verify( employeeRepository, times( 1 ) ).findById( uuid );
         verify( userRepository, times( 1 ) ).findById( uuid );
         verify( employeeRepository, times( 1 ) ).save( employee );
+        verify( sessionService, times( 1 ) ).setUserSessionsEmployee( user.getUsername(), employee.getId() );
     }
 
     @Test
@@ -435,7 +445,7 @@ class EmployeeServiceImplTest {
                 .lastname( "Mustermann" )
                 .build();
 
-        assertThrows( EntityNotFoundException.class, () -> service.updateEmployee( notExistingUUID.toString(), employeeUpdateDTO ) );
+        assertThrows( EntityNotFoundException.class, () -> service.updateEmployee( notExistingUUID.toString(), employeeUpdateDTO, null ) );
 
         verify( employeeRepository, times( 1 ) ).findById( notExistingUUID );
     }
@@ -459,7 +469,7 @@ class EmployeeServiceImplTest {
         employeeDTO.setLastname( employeeUpdateDTO.getLastname() );
         when( employeeMapper.toEmployee( employeeUpdateDTO, employee ) ).thenReturn( employee );
 
-        EmployeeDTO actual = assertDoesNotThrow( () -> service.updateEmployee( uuid.toString(), employeeUpdateDTO ) );
+        EmployeeDTO actual = assertDoesNotThrow( () -> service.updateEmployee( uuid.toString(), employeeUpdateDTO, null ).body() );
 
         assertEquals( employeeDTO, actual );
 
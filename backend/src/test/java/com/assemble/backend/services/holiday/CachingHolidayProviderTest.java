@@ -0,0 +1,137 @@
+/*
+ * assemble
+ * CachingHolidayProviderTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.models.entities.holiday.api.LocalizedText;
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingHolidayProvider Unit Test")
+class CachingHolidayProviderTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofDays( 7 );
+
+    @Mock
+    private HolidayProvider delegate;
+
+    @Mock
+    private Clock clock;
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CachingHolidayProvider provider;
+
+    private List<HolidayResponse> holidays;
+
+    @BeforeEach
+    void init() {
+        provider = new CachingHolidayProvider( delegate, directory, TIME_TO_LIVE, objectMapper, clock );
+        holidays = List.of(
+                new HolidayResponse(
+                        null,
+                        "2026-01-01",
+                        "9ac6fd8b-aec4-41f0-916b-f03af58ecdab",
+                        List.of( new LocalizedText( "DE", "Neujahr" ) ),
+                        true,
+                        "2026-01-01",
+                        null,
+                        TemporalScope.FullDay
+                )
+        );
+    }
+
+    @Test
+    @DisplayName("getHolidays should serve a fresh cache entry without asking the provider")
+    void getHolidays_ShouldServeFreshCacheEntry_WithoutAskingProvider() {
+        when( clock.instant() ).thenReturn( Instant.now() );
+        when( delegate.getHolidays( "DE", 2026 ) ).thenReturn( holidays );
+
+        assertEquals( holidays, provider.getHolidays( "DE", 2026 ) );
+        assertEquals( holidays, provider.getHolidays( "DE", 2026 ) );
+
+        verify( delegate, times( 1 ) ).getHolidays( "DE", 2026 );
+        assertTrue( Files.exists( directory.resolve( "holidays-DE-2026.json" ) ) );
+    }
+
+    @Test
+    @DisplayName("getHolidays should refresh an expired cache entry")
+    void getHolidays_ShouldRefreshExpiredCacheEntry() {
+        when( clock.instant() ).thenReturn( Instant.now() );
+        when( delegate.getHolidays( "DE", 2026 ) ).thenReturn( holidays );
+        provider.getHolidays( "DE", 2026 );
+
+        when( clock.instant() ).thenReturn( Instant.now().plus( TIME_TO_LIVE ) );
+        provider.getHolidays( "DE", 2026 );
+
+        verify( delegate, times( 2 ) ).getHolidays( "DE", 2026 );
+    }
+
+    @Test
+    @DisplayName("getHolidays should fall back to an expired cache entry when the provider is unavailable")
+    void getHolidays_ShouldFallBackToExpiredCacheEntry_WhenProviderIsUnavailable() {
+        when( clock.instant() ).thenReturn( Instant.now() );
+        when( delegate.getHolidays( "DE", 2026 ) ).thenReturn( holidays );
+        provider.getHolidays( "DE", 2026 );
+
+        when( clock.instant() ).thenReturn( Instant.now().plus( TIME_TO_LIVE ) );
+        when( delegate.getHolidays( "DE", 2026 ) ).thenThrow( new HolidayProviderUnavailableException( "down" ) );
+
+        assertEquals( holidays, provider.getHolidays( "DE", 2026 ) );
+    }
+
+    @Test
+    @DisplayName("getHolidays should throw HolidayProviderUnavailableException without cache entry")
+    void getHolidays_ShouldThrowHolidayProviderUnavailableException_WithoutCacheEntry() {
+        when( delegate.getHolidays( "DE", 2026 ) ).thenThrow( new HolidayProviderUnavailableException( "down" ) );
+
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+    }
+
+    @Test
+    @DisplayName("FileHolidayProvider should read the entries written by the cache")
+    void fileHolidayProvider_ShouldReadEntriesWrittenByCache() {
+        when( delegate.getHolidays( "DE", 2026 ) ).thenReturn( holidays );
+        provider.getHolidays( "DE", 2026 );
+
+        FileHolidayProvider fileProvider = new FileHolidayProvider(
+                new FileSystemResource( directory.toString() + "/" ),
+                objectMapper
+        );
+
+        assertEquals( holidays, fileProvider.getHolidays( "DE", 2026 ) );
+        assertThrows( HolidayProviderUnavailableException.class, () -> fileProvider.getHolidays( "DE", 2027 ) );
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * assemble
+ * HolidayCalendarServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+import com.assemble.backend.repositories.holiday.HolidayCalendarProjection;
+import com.assemble.backend.repositories.holiday.HolidayRepository;
+import com.assemble.backend.utils.InvalidationPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.InvalidParameterException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayCalendarServiceImpl Unit Test")
+class HolidayCalendarServiceImplTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    @Mock
+    private InvalidationPublisher invalidationPublisher;
+
+    @InjectMocks
+    private HolidayCalendarServiceImpl service;
+
+    private static final LocalDate NEW_YEAR = LocalDate.of( 2026, 1, 1 );
+
+    private void mockYear( int year, HolidayCalendarProjection... entries ) {
+        mockYear( HolidayCountry.DE, year, entries );
+    }
+
+    private void mockYear( HolidayCountry country, int year, HolidayCalendarProjection... entries ) {
+        when( holidayRepository.findAllCalendarEntriesBetween(
+                country,
+                LocalDate.of( year, 1, 1 ),
+                LocalDate.of( year, 12, 31 )
+        ) ).thenReturn( List.of( entries ) );
+    }
+
+    @Test
+    @DisplayName("isHoliday should load the calendar of a year only once")
+    void isHoliday_ShouldLoadCalendarOnlyOnce() {
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+        assertFalse( service.isHoliday( NEW_YEAR.plusDays( 1 ), HolidayCountry.DE, "DE-BE" ) );
+
+        verify( holidayRepository, times( 1 ) ).findAllCalendarEntriesBetween( any(), any(), any() );
+    }
+
+    @Test
+    @DisplayName("isHoliday should keep a calendar per country")
+    void isHoliday_ShouldKeepCalendarPerCountry() {
+        LocalDate nationalDay = LocalDate.of( 2026, 8, 1 );
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+        mockYear( HolidayCountry.CH, 2026,
+                new HolidayCalendarProjection( nationalDay, nationalDay, TemporalScope.FullDay, true, null )
+        );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+        assertFalse( service.isHoliday( nationalDay, HolidayCountry.DE, "DE-BE" ) );
+        assertTrue( service.isHoliday( nationalDay, HolidayCountry.CH, "CH-ZH" ) );
+        assertFalse( service.isHoliday( NEW_YEAR, HolidayCountry.CH, "CH-ZH" ) );
+    }
+
+    @Test
+    @DisplayName("evictCalendar should reload the calendar on the next read")
+    void evictCalendar_ShouldReloadCalendarOnNextRead() {
+        mockYear( 2026 );
+
+        assertFalse( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+        service.evictCalendar( HolidayCountry.DE, 2026 );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+        verify( holidayRepository, times( 2 ) ).findAllCalendarEntriesBetween( any(), any(), any() );
+        verify( invalidationPublisher, times( 1 ) ).publish( "DE:2026" );
+    }
+
+    @Test
+    @DisplayName("evictLocally should reload the calendar evicted by another node on the next read")
+    void evictLocally_ShouldReloadCalendarEvictedByAnotherNode() {
+        mockYear( 2026 );
+
+        assertFalse( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+        service.evictLocally( "DE:2026" );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+        verify( invalidationPublisher, never() ).publish( any() );
+    }
+
+    @Test
+    @DisplayName("getCalendar should not cache a calendar evicted while it was loaded")
+    void getCalendar_ShouldNotCacheCalendar_WhenEvictedWhileLoading() {
+        when( holidayRepository.findAllCalendarEntriesBetween(
+                HolidayCountry.DE,
+                LocalDate.of( 2026, 1, 1 ),
+                LocalDate.of( 2026, 12, 31 )
+        ) ).thenAnswer( invocation -> {
+            service.evictLocally( "DE:2026" );
+            return List.of();
+        } );
+
+        service.getCalendar( HolidayCountry.DE, 2026 );
+        service.getCalendar( HolidayCountry.DE, 2026 );
+
+        verify( holidayRepository, times( 2 ) ).findAllCalendarEntriesBetween( any(), any(), any() );
+    }
+
+    @Test
+    @DisplayName("evictCalendar should keep the calendars of other countries")
+    void evictCalendar_ShouldKeepCalendarsOfOtherCountries() {
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+
+        service.evictCalendar( HolidayCountry.AT, 2026 );
+
+        assertTrue( service.isHoliday( NEW_YEAR, HolidayCountry.DE, "DE-BE" ) );
+        verify( holidayRepository, times( 1 ) ).findAllCalendarEntriesBetween( any(), any(), any() );
+    }
+
+    @Test
+    @DisplayName("getWorkingDaysBetween should sum the working days of all years in the range")
+    void getWorkingDaysBetween_ShouldSumWorkingDaysAcrossYears() {
+        mockYear( 2025 );
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+
+        // Monday 2025-12-29 to Friday 2026-01-02
+        double actual = service.getWorkingDaysBetween(
+                LocalDate.of( 2025, 12, 29 ), LocalDate.of( 2026, 1, 2 ), HolidayCountry.DE, "DE-BE"
+        );
+
+        assertEquals( 4, actual );
+    }
+
+    @Test
+    @DisplayName("getHolidaysBetween should return the holidays of all years in the range")
+    void getHolidaysBetween_ShouldReturnHolidaysAcrossYears() {
+        LocalDate newYearsEve = LocalDate.of( 2025, 12, 31 );
+        mockYear( 2025, new HolidayCalendarProjection( newYearsEve, newYearsEve, TemporalScope.HalfDay, true, null ) );
+        mockYear( 2026, new HolidayCalendarProjection( NEW_YEAR, NEW_YEAR, TemporalScope.FullDay, true, null ) );
+
+        List<LocalDate> actual = service.getHolidaysBetween( newYearsEve, NEW_YEAR, HolidayCountry.DE, "DE-BE" );
+
+        assertEquals( List.of( newYearsEve, NEW_YEAR ), actual );
+    }
+
+    @Test
+    @DisplayName("getWorkingDaysBetween should throw InvalidParameterException when start is after end")
+    void getWorkingDaysBetween_ShouldThrowInvalidParameterException_WhenStartIsAfterEnd() {
+        assertThrows( InvalidParameterException.class, () ->
+                service.getWorkingDaysBetween( NEW_YEAR.plusDays( 1 ), NEW_YEAR, HolidayCountry.DE, "DE-BE" )
+        );
+
+        verifyNoInteractions( holidayRepository );
+    }
+}
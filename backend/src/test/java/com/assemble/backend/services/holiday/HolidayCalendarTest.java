@@ -0,0 +1,183 @@
+/*
+ * assemble
+ * HolidayCalendarTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+import com.assemble.backend.repositories.holiday.HolidayCalendarProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayCalendar Unit Test")
+class HolidayCalendarTest {
+
+    private HolidayCalendar calendar;
+
+    @BeforeEach
+    void init() {
+        calendar = HolidayCalendar.of( 2026, List.of(
+                // Thursday
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 1 ), TemporalScope.FullDay, true, null
+                ),
+                // Tuesday, Bayern and Baden-Württemberg only
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 1, 6 ), LocalDate.of( 2026, 1, 6 ), TemporalScope.FullDay, false, "DE-BY"
+                ),
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 1, 6 ), LocalDate.of( 2026, 1, 6 ), TemporalScope.FullDay, false, "DE-BW"
+                ),
+                // Regional holiday of Augsburg, not a holiday of Bayern
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 8, 8 ), LocalDate.of( 2026, 8, 8 ), TemporalScope.FullDay, false, "DE-BY-AU"
+                ),
+                // Thursday, half day
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 12, 24 ), LocalDate.of( 2026, 12, 24 ), TemporalScope.HalfDay, true, null
+                ),
+                // Friday and Saturday, spanning into the next year
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 12, 25 ), LocalDate.of( 2027, 1, 1 ), TemporalScope.FullDay, true, null
+                )
+        ) );
+    }
+
+    @Test
+    @DisplayName("isHoliday should return true for nation wide and subdivision holidays")
+    void isHoliday_ShouldReturnTrue_ForNationWideAndSubdivisionHolidays() {
+        assertTrue( calendar.isHoliday( LocalDate.of( 2026, 1, 1 ), "DE-BE" ) );
+        assertTrue( calendar.isHoliday( LocalDate.of( 2026, 1, 6 ), "DE-BY" ) );
+        assertTrue( calendar.isHoliday( LocalDate.of( 2026, 12, 24 ), "DE-BE" ) );
+        assertTrue( calendar.isHoliday( LocalDate.of( 2026, 12, 31 ), "DE-BE" ) );
+    }
+
+    @Test
+    @DisplayName("isHoliday should return false for holidays of other or regional subdivisions")
+    void isHoliday_ShouldReturnFalse_ForOtherSubdivisions() {
+        assertFalse( calendar.isHoliday( LocalDate.of( 2026, 1, 6 ), "DE-BE" ) );
+        assertFalse( calendar.isHoliday( LocalDate.of( 2026, 8, 8 ), "DE-BY" ) );
+        assertFalse( calendar.isHoliday( LocalDate.of( 2026, 1, 2 ), "DE-BY" ) );
+    }
+
+    @Test
+    @DisplayName("isHalfDayHoliday should only return true for half day holidays")
+    void isHalfDayHoliday_ShouldOnlyReturnTrue_ForHalfDayHolidays() {
+        assertTrue( calendar.isHalfDayHoliday( LocalDate.of( 2026, 12, 24 ), "DE-BE" ) );
+        assertFalse( calendar.isHalfDayHoliday( LocalDate.of( 2026, 12, 25 ), "DE-BE" ) );
+    }
+
+    @Test
+    @DisplayName("isHoliday should throw IllegalArgumentException when date is outside the calendar year")
+    void isHoliday_ShouldThrowIllegalArgumentException_WhenDateIsOutsideYear() {
+        assertThrows( IllegalArgumentException.class, () ->
+                calendar.isHoliday( LocalDate.of( 2027, 1, 1 ), "DE-BE" )
+        );
+    }
+
+    @Test
+    @DisplayName("getHolidaysBetween should return holidays of the subdivision clamped to the year")
+    void getHolidaysBetween_ShouldReturnHolidaysClampedToYear() {
+        List<LocalDate> actual = calendar.getHolidaysBetween(
+                LocalDate.of( 2025, 12, 1 ), LocalDate.of( 2026, 1, 31 ), "DE-BY"
+        );
+
+        assertEquals( List.of( LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 6 ) ), actual );
+        assertEquals( 8, calendar.getHolidaysBetween(
+                LocalDate.of( 2026, 12, 24 ), LocalDate.of( 2027, 1, 31 ), "DE-BE"
+        ).size() );
+    }
+
+    @Test
+    @DisplayName("getWorkingDaysBetween should exclude weekends and holidays and count half day holidays as half")
+    void getWorkingDaysBetween_ShouldExcludeWeekendsAndHolidays() {
+        // 22 weekdays in January, minus New Year and Epiphany in Bayern
+        assertEquals( 20, calendar.getWorkingDaysBetween(
+                LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 31 ), "DE-BY"
+        ) );
+        assertEquals( 21, calendar.getWorkingDaysBetween(
+                LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 31 ), "DE-BE"
+        ) );
+        // Monday to Thursday with Christmas Eve as half day, the rest of the year are holidays
+        assertEquals( 3.5, calendar.getWorkingDaysBetween(
+                LocalDate.of( 2026, 12, 21 ), LocalDate.of( 2027, 1, 10 ), "DE-BE"
+        ) );
+    }
+
+    @Test
+    @DisplayName("getWorkingDaysBetween should return zero when the range is outside the year")
+    void getWorkingDaysBetween_ShouldReturnZero_WhenRangeIsOutsideYear() {
+        assertEquals( 0, calendar.getWorkingDaysBetween(
+                LocalDate.of( 2027, 1, 1 ), LocalDate.of( 2027, 12, 31 ), "DE-BE"
+        ) );
+    }
+
+    @Test
+    @DisplayName("getWorkingHalfDaysBetween should count a half day holiday as one working half day")
+    void getWorkingHalfDaysBetween_ShouldCountHalfDayHolidayAsOneHalfDay() {
+        assertEquals( 1, calendar.getWorkingHalfDaysBetween(
+                LocalDate.of( 2026, 12, 24 ), LocalDate.of( 2026, 12, 24 ), "DE-BE"
+        ) );
+        assertEquals( 2, calendar.getWorkingHalfDaysBetween(
+                LocalDate.of( 2026, 12, 23 ), LocalDate.of( 2026, 12, 23 ), "DE-BE"
+        ) );
+    }
+
+    @Test
+    @DisplayName("getWorkingDaysBetween should only use nation wide holidays when no subdivision is given")
+    void getWorkingDaysBetween_ShouldOnlyUseNationWideHolidays_WhenSubdivisionIsNull() {
+        assertTrue( calendar.isHoliday( LocalDate.of( 2026, 1, 1 ), null ) );
+        assertFalse( calendar.isHoliday( LocalDate.of( 2026, 1, 6 ), null ) );
+        assertEquals( 21, calendar.getWorkingDaysBetween(
+                LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 31 ), null
+        ) );
+    }
+
+    @Test
+    @DisplayName("getWorkingHalfDaysBetween should match counting every day of the year")
+    void getWorkingHalfDaysBetween_ShouldMatchCountingEveryDay() {
+        LocalDate firstDay = LocalDate.of( 2026, 1, 1 );
+        for ( int start = 0; start < 365; start += 17 ) {
+            for ( int end = start; end < 365; end += 23 ) {
+                int expected = 0;
+                for ( int day = start; day <= end; day++ ) {
+                    LocalDate date = firstDay.plusDays( day );
+                    boolean weekend = date.getDayOfWeek().getValue() >= 6;
+                    if ( weekend || ( calendar.isHoliday( date, "DE-BY" ) && !calendar.isHalfDayHoliday( date, "DE-BY" ) ) )
+                        continue;
+                    expected += calendar.isHalfDayHoliday( date, "DE-BY" ) ? 1 : 2;
+                }
+
+                assertEquals( expected, calendar.getWorkingHalfDaysBetween(
+                        firstDay.plusDays( start ), firstDay.plusDays( end ), "DE-BY"
+                ) );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("isImported should return false when no holiday starts in the year")
+    void isImported_ShouldReturnFalse_WhenNoHolidayStartsInYear() {
+        HolidayCalendar spillOver = HolidayCalendar.of( 2027, List.of(
+                new HolidayCalendarProjection(
+                        LocalDate.of( 2026, 12, 25 ), LocalDate.of( 2027, 1, 1 ), TemporalScope.FullDay, true, null
+                )
+        ) );
+
+        assertTrue( calendar.isImported() );
+        assertFalse( spillOver.isImported() );
+        assertFalse( HolidayCalendar.of( 2027, List.of() ).isImported() );
+    }
+}
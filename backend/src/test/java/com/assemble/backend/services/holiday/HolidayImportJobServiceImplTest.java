@@ -0,0 +1,221 @@
+/*
+ * assemble
+ * HolidayImportJobServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayImportRejectedException;
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobDTO;
+import com.assemble.backend.models.dtos.holiday.HolidayImportJobStatus;
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.repositories.holiday.HolidayImportJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.InvalidParameterException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HolidayImportJobServiceImpl Unit Test")
+class HolidayImportJobServiceImplTest {
+
+    private static final EnumSet<HolidayCountry> COUNTRIES = EnumSet.of( HolidayCountry.DE );
+
+    private static final Instant NOW = Instant.parse( "2026-03-02T10:00:00Z" );
+
+    @Mock
+    private HolidayImportService holidayImportService;
+
+    @Mock
+    private HolidayImportJobRepository holidayImportJobRepository;
+
+    private HolidayImportJobServiceImpl service;
+
+    private final CountDownLatch started = new CountDownLatch( 1 );
+
+    private final CountDownLatch release = new CountDownLatch( 1 );
+
+    @BeforeEach
+    void init() {
+        service = new HolidayImportJobServiceImpl(
+                holidayImportService,
+                holidayImportJobRepository,
+                1,
+                1,
+                Duration.ofHours( 1 ),
+                Clock.fixed( NOW, ZoneOffset.UTC )
+        );
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        service.shutdown();
+    }
+
+    // Blocks the only import thread until release is counted down
+    private void blockImport() {
+        when( holidayImportService.importHolidays( any(), anyInt(), anyInt(), any() ) ).thenAnswer( invocation -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch ( InterruptedException e ) {
+                // Shut down while blocked, the job is not looked at anymore
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        } );
+    }
+
+    @Test
+    @DisplayName("startImport should store the queued job and write its progress to the job table")
+    void startImport_ShouldWriteProgress_WhenJobIsCompleted() {
+        HolidayImportResultDTO result = new HolidayImportResultDTO( HolidayCountry.DE, 2026, 3, 1, 6 );
+        when( holidayImportJobRepository.markRunning( anyString(), eq( NOW ) ) ).thenReturn( true );
+        when( holidayImportService.importHolidays( eq( COUNTRIES ), eq( 2025 ), eq( 2026 ), any() ) ).thenAnswer( invocation -> {
+            HolidayImportListener listener = invocation.getArgument( 3 );
+            listener.onStarted( 2 );
+            listener.onImported( result );
+            return List.of();
+        } );
+
+        HolidayImportJobDTO queued = service.startImport( COUNTRIES, 2025, 2026 );
+
+        assertEquals( HolidayImportJobStatus.QUEUED, queued.getStatus() );
+        assertEquals( 2, queued.getTotal() );
+        verify( holidayImportJobRepository, times( 1 ) ).insert( queued );
+        verify( holidayImportJobRepository, timeout( 5000 ) )
+                .finish( queued.getId(), HolidayImportJobStatus.COMPLETED, null, NOW );
+        verify( holidayImportJobRepository, times( 1 ) ).updateTotal( queued.getId(), 2, NOW );
+        verify( holidayImportJobRepository, times( 1 ) ).insertResult( queued.getId(), result, NOW );
+    }
+
+    @Test
+    @DisplayName("startImport should mark the job as failed when the provider is unavailable")
+    void startImport_ShouldMarkJobAsFailed_WhenProviderIsUnavailable() {
+        when( holidayImportJobRepository.markRunning( anyString(), eq( NOW ) ) ).thenReturn( true );
+        when( holidayImportService.importHolidays( any(), anyInt(), anyInt(), any() ) )
+                .thenThrow( new HolidayProviderUnavailableException( "down" ) );
+
+        HolidayImportJobDTO queued = service.startImport( COUNTRIES, 2026, 2026 );
+
+        verify( holidayImportJobRepository, timeout( 5000 ) )
+                .finish( queued.getId(), HolidayImportJobStatus.FAILED, "down", NOW );
+    }
+
+    @Test
+    @DisplayName("startImport should fail abandoned jobs and drop the finished ones older than the retention")
+    void startImport_ShouldPurgeJobsOlderThanRetention() {
+        service.startImport( COUNTRIES, 2026, 2026 );
+
+        verify( holidayImportJobRepository, times( 1 ) ).failAbandoned( NOW.minus( Duration.ofHours( 1 ) ), NOW );
+        verify( holidayImportJobRepository, times( 1 ) ).deleteFinishedBefore( NOW.minus( Duration.ofHours( 1 ) ) );
+    }
+
+    @Test
+    @DisplayName("startImport should throw InvalidParameterException before queueing when the year range is invalid")
+    void startImport_ShouldThrowInvalidParameterException_WhenYearRangeIsInvalid() {
+        assertThrows( InvalidParameterException.class, () -> service.startImport( COUNTRIES, 2027, 2026 ) );
+        verifyNoInteractions( holidayImportService, holidayImportJobRepository );
+    }
+
+    @Test
+    @DisplayName("startImport should throw HolidayImportRejectedException and drop the job when the queue is full")
+    void startImport_ShouldThrowHolidayImportRejectedException_WhenQueueIsFull() throws InterruptedException {
+        when( holidayImportJobRepository.markRunning( anyString(), eq( NOW ) ) ).thenReturn( true );
+        blockImport();
+        service.startImport( COUNTRIES, 2026, 2026 );
+        assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+        service.startImport( COUNTRIES, 2025, 2025 );
+
+        assertThrows( HolidayImportRejectedException.class, () -> service.startImport( COUNTRIES, 2024, 2024 ) );
+
+        ArgumentCaptor<HolidayImportJobDTO> inserted = ArgumentCaptor.forClass( HolidayImportJobDTO.class );
+        verify( holidayImportJobRepository, times( 3 ) ).insert( inserted.capture() );
+        verify( holidayImportJobRepository, times( 1 ) ).delete( inserted.getValue().getId() );
+    }
+
+    @Test
+    @DisplayName("cancelJob should skip a queued job cancelled by any node once its turn comes")
+    void cancelJob_ShouldSkipCancelledQueuedJob() throws InterruptedException {
+        // The second job was cancelled in the job table while it was queued
+        when( holidayImportJobRepository.markRunning( anyString(), eq( NOW ) ) ).thenReturn( true, false );
+        blockImport();
+        HolidayImportJobDTO running = service.startImport( COUNTRIES, 2026, 2026 );
+        assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+        service.startImport( COUNTRIES, 2025, 2025 );
+
+        release.countDown();
+
+        verify( holidayImportJobRepository, timeout( 5000 ).times( 2 ) ).markRunning( anyString(), eq( NOW ) );
+        verify( holidayImportJobRepository, times( 1 ) )
+                .finish( running.getId(), HolidayImportJobStatus.COMPLETED, null, NOW );
+        verify( holidayImportService, times( 1 ) ).importHolidays( any(), anyInt(), anyInt(), any() );
+    }
+
+    @Test
+    @DisplayName("cancelJob should flag the job, a running job stops before its next year without being interrupted")
+    void cancelJob_ShouldStopRunningJob() throws InterruptedException {
+        AtomicBoolean cancelRequested = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        when( holidayImportJobRepository.markRunning( anyString(), eq( NOW ) ) ).thenReturn( true );
+        when( holidayImportJobRepository.isCancelRequested( anyString() ) ).thenAnswer( invocation -> cancelRequested.get() );
+        doAnswer( invocation -> {
+            cancelRequested.set( true );
+            return null;
+        } ).when( holidayImportJobRepository ).requestCancel( anyString(), eq( NOW ) );
+        when( holidayImportService.importHolidays( any(), anyInt(), anyInt(), any() ) ).thenAnswer( invocation -> {
+            HolidayImportListener listener = invocation.getArgument( 3 );
+            started.countDown();
+            while ( !listener.isCancelled() ) Thread.onSpinWait();
+            interrupted.set( Thread.currentThread().isInterrupted() );
+            throw new CancellationException( "Holiday import was cancelled" );
+        } );
+
+        HolidayImportJobDTO running = service.startImport( COUNTRIES, 2025, 2026 );
+        assertTrue( started.await( 5, TimeUnit.SECONDS ) );
+        when( holidayImportJobRepository.findById( running.getId() ) ).thenReturn( Optional.of( running ) );
+
+        assertEquals( running, service.cancelJob( running.getId() ) );
+
+        verify( holidayImportJobRepository, timeout( 5000 ) )
+                .finish( running.getId(), HolidayImportJobStatus.CANCELLED, null, NOW );
+        assertFalse( interrupted.get() );
+    }
+
+    @Test
+    @DisplayName("getJob should throw EntityNotFoundException when the job does not exist")
+    void getJob_ShouldThrowEntityNotFoundException_WhenJobDoesNotExist() {
+        when( holidayImportJobRepository.findById( "unknown" ) ).thenReturn( Optional.empty() );
+
+        assertThrows( EntityNotFoundException.class, () -> service.getJob( "unknown" ) );
+    }
+}
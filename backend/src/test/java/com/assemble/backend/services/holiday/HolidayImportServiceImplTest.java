@@ -10,8 +10,11 @@
 
 package com.assemble.backend.services.holiday;
 
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.dtos.holiday.HolidayImportResultDTO;
 import com.assemble.backend.models.entities.auth.UserAudit;
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.TemporalScope;
 import com.assemble.backend.models.mappers.holiday.HolidayMapper;
@@ -22,17 +25,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.client.RestClient;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.security.InvalidParameterException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,10 +60,19 @@ class HolidayImportServiceImplTest {
     private SubdivisionMapper subdivisionMapper;
 
     @Mock
-    private RestClient restClient;
+    private HolidayCalendarService holidayCalendarService;
 
     @Mock
-    private RestClient.Builder restClientBuilder;
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private AuditorAware<UserAudit> auditorAware;
+
+    @Mock
+    private HolidayProvider holidayProvider;
 
     private HolidayImportServiceImpl service;
 
@@ -60,15 +80,16 @@ class HolidayImportServiceImplTest {
 
     @BeforeEach
     void init() {
-
-        when( restClientBuilder.baseUrl( anyString() ) ).thenReturn( restClientBuilder );
-        when( restClientBuilder.build() ).thenReturn( restClient );
-
         service = new HolidayImportServiceImpl(
-                restClientBuilder,
+                holidayProvider,
                 holidayRepository,
                 holidayMapper,
-                subdivisionMapper
+                subdivisionMapper,
+                holidayCalendarService,
+                jdbcTemplate,
+                transactionManager,
+                auditorAware,
+                4
         );
 
         UUID recordId = UuidCreator.getTimeOrderedEpoch();
@@ -101,6 +122,102 @@ class HolidayImportServiceImplTest {
                 .build();
     }
 
+    @Test
+    @DisplayName("getHolidaysByYear should request the holidays of the country from the provider")
+    void getHolidaysByYear_ShouldRequestHolidaysOfCountryFromProvider() {
+        when( holidayProvider.getHolidays( "AT", 2026 ) ).thenReturn( List.of() );
+
+        assertEquals( List.of(), service.getHolidaysByYear( HolidayCountry.AT, 2026 ) );
+        verify( holidayProvider, times( 1 ) ).getHolidays( "AT", 2026 );
+    }
+
+    @Test
+    @DisplayName("importSubdivisions should request the subdivisions of the country from the provider")
+    void importSubdivisions_ShouldRequestSubdivisionsOfCountryFromProvider() {
+        when( holidayProvider.getSubdivisions( "CH" ) ).thenReturn( List.of() );
+
+        assertEquals( List.of(), service.importSubdivisions( HolidayCountry.CH ) );
+        verify( holidayProvider, times( 1 ) ).getSubdivisions( "CH" );
+    }
+
+    @Test
+    @DisplayName("importHolidays should import every country and year and fetch subdivisions once per country")
+    void importHolidays_ShouldImportEveryCountryAndYear() {
+        when( auditorAware.getCurrentAuditor() ).thenReturn( Optional.empty() );
+        when( holidayProvider.getSubdivisions( anyString() ) ).thenReturn( List.of() );
+        when( holidayProvider.getHolidays( anyString(), anyInt() ) ).thenReturn( List.of() );
+
+        List<HolidayImportResultDTO> actual = service.importHolidays(
+                EnumSet.of( HolidayCountry.AT, HolidayCountry.DE ), 2025, 2026
+        );
+
+        assertEquals( List.of(
+                new HolidayImportResultDTO( HolidayCountry.DE, 2025, 0, 0, 0 ),
+                new HolidayImportResultDTO( HolidayCountry.DE, 2026, 0, 0, 0 ),
+                new HolidayImportResultDTO( HolidayCountry.AT, 2025, 0, 0, 0 ),
+                new HolidayImportResultDTO( HolidayCountry.AT, 2026, 0, 0, 0 )
+        ), actual );
+        verify( holidayProvider, times( 1 ) ).getSubdivisions( "DE" );
+        verify( holidayProvider, times( 1 ) ).getSubdivisions( "AT" );
+        verify( holidayProvider, times( 4 ) ).getHolidays( anyString(), anyInt() );
+    }
+
+    @Test
+    @DisplayName("importHolidays should report progress to the listener")
+    void importHolidays_ShouldReportProgressToListener() {
+        HolidayImportListener listener = mock( HolidayImportListener.class );
+        when( auditorAware.getCurrentAuditor() ).thenReturn( Optional.empty() );
+        when( holidayProvider.getSubdivisions( "DE" ) ).thenReturn( List.of() );
+        when( holidayProvider.getHolidays( eq( "DE" ), anyInt() ) ).thenReturn( List.of() );
+
+        service.importHolidays( EnumSet.of( HolidayCountry.DE ), 2025, 2026, listener );
+
+        verify( listener, times( 1 ) ).onStarted( 2 );
+        verify( listener, times( 1 ) ).onImported( new HolidayImportResultDTO( HolidayCountry.DE, 2025, 0, 0, 0 ) );
+        verify( listener, times( 1 ) ).onImported( new HolidayImportResultDTO( HolidayCountry.DE, 2026, 0, 0, 0 ) );
+    }
+
+    @Test
+    @DisplayName("importHolidays should not fetch any year when the listener is cancelled")
+    void importHolidays_ShouldNotFetchAnyYear_WhenListenerIsCancelled() {
+        HolidayImportListener listener = mock( HolidayImportListener.class );
+        when( listener.isCancelled() ).thenReturn( true );
+        when( auditorAware.getCurrentAuditor() ).thenReturn( Optional.empty() );
+        when( holidayProvider.getSubdivisions( "DE" ) ).thenReturn( List.of() );
+
+        assertThrows( CancellationException.class, () ->
+                service.importHolidays( EnumSet.of( HolidayCountry.DE ), 2025, 2026, listener )
+        );
+        verify( holidayProvider, never() ).getHolidays( anyString(), anyInt() );
+        verify( listener, never() ).onImported( any() );
+    }
+
+    @Test
+    @DisplayName("importHolidays should throw InvalidParameterException when the year range is invalid")
+    void importHolidays_ShouldThrowInvalidParameterException_WhenYearRangeIsInvalid() {
+        Set<HolidayCountry> countries = EnumSet.of( HolidayCountry.DE );
+
+        assertThrows( InvalidParameterException.class, () -> service.importHolidays( countries, 2027, 2026 ) );
+        assertThrows( InvalidParameterException.class, () ->
+                service.importHolidays( countries, 2026, 2026 + HolidayImportServiceImpl.MAX_YEARS )
+        );
+        assertThrows( InvalidParameterException.class, () ->
+                service.importHolidays( EnumSet.noneOf( HolidayCountry.class ), 2026, 2026 )
+        );
+        verifyNoInteractions( holidayProvider );
+    }
+
+    @Test
+    @DisplayName("importHolidays should rethrow when the provider is unavailable")
+    void importHolidays_ShouldRethrow_WhenProviderIsUnavailable() {
+        when( auditorAware.getCurrentAuditor() ).thenReturn( Optional.empty() );
+        when( holidayProvider.getSubdivisions( "DE" ) ).thenThrow( new HolidayProviderUnavailableException( "down" ) );
+
+        assertThrows( HolidayProviderUnavailableException.class, () ->
+                service.importHolidays( EnumSet.of( HolidayCountry.DE ), 2026, 2026 )
+        );
+        verify( holidayProvider, never() ).getHolidays( anyString(), anyInt() );
+    }
 
     @Test
     @DisplayName("getImportedYears should return a list of integers")
@@ -117,24 +234,46 @@ class HolidayImportServiceImplTest {
     }
 
     @Test
-    @DisplayName("deleteHolidaysByYear should delete all found holidays")
-    void deleteHolidaysByYear_ShouldDeleteAllFoundHolidays_WhenCalled() {
+    @DisplayName("deleteHolidaysByYear should delete the holidays of the country and year in one statement under the lock")
+    void deleteHolidaysByYear_ShouldDeleteHolidaysOfCountryAndYearUnderLock_WhenCalled() {
         // Arrange
         int year = 2024;
         LocalDate startDate = LocalDate.of( year, 1, 1 );
         LocalDate endDate = LocalDate.of( year, 12, 31 );
-        List<Holiday> holidays = List.of( holiday );
 
-        when( holidayRepository.searchHolidayByStartDateBetween( startDate, endDate ) )
-                .thenReturn( holidays );
+        when( jdbcTemplate.update( contains( "DELETE FROM holidays" ), eq( "DE" ), eq( startDate ), eq( endDate ) ) )
+                .thenReturn( 3 );
+
+        // Act
+        assertDoesNotThrow( () -> service.deleteHolidaysByYear( HolidayCountry.DE, year ) );
+
+        // Assert
+        InOrder inOrder = inOrder( jdbcTemplate, holidayCalendarService );
+        inOrder.verify( jdbcTemplate ).query(
+                eq( "SELECT pg_advisory_xact_lock(?, ?)" ),
+                any( RowCallbackHandler.class ),
+                anyInt(),
+                eq( HolidayCountry.DE.ordinal() * 10_000 + year )
+        );
+        inOrder.verify( jdbcTemplate ).update( contains( "DELETE FROM holidays" ), eq( "DE" ), eq( startDate ), eq( endDate ) );
+        inOrder.verify( holidayCalendarService ).evictCalendar( HolidayCountry.DE, year );
+        verify( holidayRepository, never() ).deleteAll( anyList() );
+    }
+
+    @Test
+    @DisplayName("deleteHolidaysByYear should keep the calendar when nothing was deleted")
+    void deleteHolidaysByYear_ShouldKeepCalendar_WhenNothingWasDeleted() {
+        // Arrange
+        int year = 2024;
 
+        when( jdbcTemplate.update( contains( "DELETE FROM holidays" ), eq( "AT" ), any(), any() ) )
+                .thenReturn( 0 );
 
         // Act
-        assertDoesNotThrow( () -> service.deleteHolidaysByYear( year ) );
+        assertDoesNotThrow( () -> service.deleteHolidaysByYear( HolidayCountry.AT, year ) );
 
         // Assert
-        verify( holidayRepository ).searchHolidayByStartDateBetween( startDate, endDate );
-        verify( holidayRepository ).deleteAll( holidays );
+        verify( holidayCalendarService, never() ).evictCalendar( any(), anyInt() );
     }
 
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ package com.assemble.backend.services.holiday;
 import com.assemble.backend.models.dtos.holiday.HolidayDTO;
 import com.assemble.backend.models.entities.auth.UserAudit;
 import com.assemble.backend.models.entities.holiday.Holiday;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
 import com.assemble.backend.models.entities.holiday.Subdivision;
 import com.assemble.backend.models.entities.holiday.api.TemporalScope;
 import com.assemble.backend.models.mappers.holiday.HolidayMapper;
@@ -104,6 +105,7 @@ class HolidayServiceImplTest {
                 .endDate( holiday.getEndDate() )
                 .subdivisions( holiday.getSubdivisions() )
                 .name( holiday.getName() )
+                .country( holiday.getCountry() )
                 .nationWide( holiday.getNationWide() )
                 .temporalScope( holiday.getTemporalScope() )
                 .build();
@@ -114,6 +116,7 @@ class HolidayServiceImplTest {
                 .endDate( holidayNationWide.getEndDate() )
                 .subdivisions( holidayNationWide.getSubdivisions() )
                 .name( holidayNationWide.getName() )
+                .country( holidayNationWide.getCountry() )
                 .nationWide( holidayNationWide.getNationWide() )
                 .temporalScope( holidayNationWide.getTemporalScope() )
                 .build();
@@ -125,13 +128,13 @@ class HolidayServiceImplTest {
         int year = holiday.getStartDate().getYear();
         LocalDate startDate = LocalDate.of( year, 1, 1 );
         LocalDate endDate = LocalDate.of( year, 12, 31 );
-        when( holidayRepository.searchHolidayByStartDateBetween( startDate, endDate ) ).thenReturn( List.of() );
+        when( holidayRepository.findAllByCountryAndSubdivisionBetween( HolidayCountry.DE, "DE-BE", startDate, endDate ) ).thenReturn( List.of() );
 
-        List<HolidayDTO> actual = service.getHolidaysByYearAndSubdivisionCode( year, "DE-BE" );
+        List<HolidayDTO> actual = service.getHolidaysByYearAndSubdivisionCode( year, HolidayCountry.DE, "DE-BE" );
 
         assertEquals( 0, actual.size() );
 
-        verify( holidayRepository, times( 1 ) ).searchHolidayByStartDateBetween( startDate, endDate );
+        verify( holidayRepository, times( 1 ) ).findAllByCountryAndSubdivisionBetween( HolidayCountry.DE, "DE-BE", startDate, endDate );
     }
 
     @Test
@@ -140,19 +143,19 @@ class HolidayServiceImplTest {
         int year = holiday.getStartDate().getYear();
         LocalDate startDate = LocalDate.of( year, 1, 1 );
         LocalDate endDate = LocalDate.of( year, 12, 31 );
-        when( holidayRepository.searchHolidayByStartDateBetween( startDate, endDate ) )
+        when( holidayRepository.findAllByCountryAndSubdivisionBetween( HolidayCountry.DE, "DE-BE", startDate, endDate ) )
                 .thenReturn( List.of( holiday, holidayNationWide ) );
 
         when( holidayMapper.toHolidayDTO( holiday ) ).thenReturn( holidayDTO );
         when( holidayMapper.toHolidayDTO( holidayNationWide ) ).thenReturn( holidayNationWideDTO );
 
-        List<HolidayDTO> actual = service.getHolidaysByYearAndSubdivisionCode( year, "DE-BE" );
+        List<HolidayDTO> actual = service.getHolidaysByYearAndSubdivisionCode( year, HolidayCountry.DE, "DE-BE" );
 
         assertEquals( 2, actual.size() );
         assertEquals( holidayDTO, actual.getFirst() );
         assertEquals( holidayNationWideDTO, actual.getLast() );
 
-        verify( holidayRepository, times( 1 ) ).searchHolidayByStartDateBetween( startDate, endDate );
+        verify( holidayRepository, times( 1 ) ).findAllByCountryAndSubdivisionBetween( HolidayCountry.DE, "DE-BE", startDate, endDate );
         verify( holidayMapper, times( 1 ) ).toHolidayDTO( holiday );
         verify( holidayMapper, times( 1 ) ).toHolidayDTO( holidayNationWide );
     }
@@ -0,0 +1,139 @@
+/*
+ * assemble
+ * OpenHolidaysApiProviderTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.holiday;
+
+import com.assemble.backend.exceptions.holiday.HolidayProviderUnavailableException;
+import com.assemble.backend.models.entities.holiday.api.HolidayResponse;
+import com.assemble.backend.testutils.StandInHttpServer;
+import com.assemble.backend.utils.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenHolidaysApiProvider Unit Test")
+class OpenHolidaysApiProviderTest {
+
+    private static final String HOLIDAYS_PATH = "/PublicHolidays";
+
+    private StandInHttpServer server;
+
+    private CircuitBreaker circuitBreaker;
+
+    private OpenHolidaysApiProvider provider;
+
+    private String holidayJsonContent;
+
+    @BeforeEach
+    void init() throws IOException {
+        server = new StandInHttpServer();
+        circuitBreaker = new CircuitBreaker( 2, Duration.ofMinutes( 1 ), Clock.systemUTC() );
+        provider = new OpenHolidaysApiProvider(
+                RestClient.builder().baseUrl( server.getBaseUrl() ).build(),
+                circuitBreaker,
+                3,
+                Duration.ofMillis( 1 )
+        );
+        holidayJsonContent = StreamUtils.copyToString(
+                new ClassPathResource( "data/openholidayapi_holidays.json" ).getInputStream(),
+                StandardCharsets.UTF_8
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("getHolidays should retry server errors until the provider answers")
+    void getHolidays_ShouldRetryServerErrors_UntilProviderAnswers() {
+        server.respond( HOLIDAYS_PATH, 503, "" )
+                .respond( HOLIDAYS_PATH, 500, "" )
+                .respond( HOLIDAYS_PATH, 200, holidayJsonContent );
+
+        List<HolidayResponse> actual = provider.getHolidays( "DE", 2026 );
+
+        assertEquals( 10, actual.size() );
+        assertEquals( 3, server.getRequestCount( HOLIDAYS_PATH ) );
+        assertEquals( CircuitBreaker.State.CLOSED, circuitBreaker.getState() );
+    }
+
+    @Test
+    @DisplayName("getHolidays should throw HolidayProviderUnavailableException when all attempts fail")
+    void getHolidays_ShouldThrowHolidayProviderUnavailableException_WhenAllAttemptsFail() {
+        server.respond( HOLIDAYS_PATH, 503, "" );
+
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( 3, server.getRequestCount( HOLIDAYS_PATH ) );
+    }
+
+    @Test
+    @DisplayName("getHolidays should not retry client errors")
+    void getHolidays_ShouldNotRetryClientErrors() {
+        server.respond( HOLIDAYS_PATH, 400, "" );
+
+        assertThrows( HttpClientErrorException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( 1, server.getRequestCount( HOLIDAYS_PATH ) );
+        assertEquals( CircuitBreaker.State.CLOSED, circuitBreaker.getState() );
+    }
+
+    @Test
+    @DisplayName("getHolidays should fail fast without a request when the circuit is open")
+    void getHolidays_ShouldFailFast_WhenCircuitIsOpen() {
+        server.respond( HOLIDAYS_PATH, 503, "" );
+
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( CircuitBreaker.State.OPEN, circuitBreaker.getState() );
+
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( 6, server.getRequestCount( HOLIDAYS_PATH ) );
+    }
+
+    @Test
+    @DisplayName("getHolidays should open the circuit again when the trial call fails without an http error")
+    void getHolidays_ShouldOpenCircuitAgain_WhenTrialCallFailsWithoutHttpError() {
+        // Opens after one failed call and lets the next call through as trial right away
+        circuitBreaker = new CircuitBreaker( 1, Duration.ZERO, Clock.systemUTC() );
+        provider = new OpenHolidaysApiProvider(
+                RestClient.builder().baseUrl( server.getBaseUrl() ).build(),
+                circuitBreaker,
+                1,
+                Duration.ofMillis( 1 )
+        );
+        server.respond( HOLIDAYS_PATH, 503, "" )
+                .respond( HOLIDAYS_PATH, 200, "not json" )
+                .respond( HOLIDAYS_PATH, 200, holidayJsonContent );
+
+        assertThrows( HolidayProviderUnavailableException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( CircuitBreaker.State.OPEN, circuitBreaker.getState() );
+
+        assertThrows( RestClientException.class, () -> provider.getHolidays( "DE", 2026 ) );
+        assertEquals( CircuitBreaker.State.OPEN, circuitBreaker.getState() );
+
+        assertEquals( 10, provider.getHolidays( "DE", 2026 ).size() );
+        assertEquals( CircuitBreaker.State.CLOSED, circuitBreaker.getState() );
+    }
+}
@@ -186,35 +186,32 @@ class ProjectAssignmentServiceImplTest {
     @Test
     @DisplayName("getOwnProjectAssignments should return empty list when user has no employee assigned")
     void getOwnProjectAssignments_ShouldReturnEmptyList_WhenUserHasNoEmployeeAssigned() {
-        when( employeeRepository.findByUser_Id( randomId ) ).thenReturn( Optional.empty() );
-
         testUser.setId( randomId );
 
         List<ProjectAssignmentDTO> actual = assertDoesNotThrow( () -> service.getOwnProjectAssignments(
-                new SecurityUser( testUser )
+                new SecurityUser( testUser ).withEmployeeId( null )
         ) );
 
         assertEquals( 0, actual.size() );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( randomId );
+        verifyNoInteractions( employeeRepository );
     }
 
     @Test
     @DisplayName("getOwnProjectAssignments should return empty list of assignments when user has assigned employee")
     void getOwnProjectAssignments_ShouldReturnEmptyList_WhenUserHasAssignedEmployee() {
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( testEmployee ) );
         when( projectAssignmentRepository.findAllByEmployeeId( recordId ) ).thenReturn( List.of( testProjectAssignment ) );
         when( projectAssignmentMapper.toProjectAssignmentDTO( testProjectAssignment ) ).thenReturn( testProjectAssignmentDTO );
 
         testUser.setId( recordId );
 
         List<ProjectAssignmentDTO> actual = assertDoesNotThrow( () -> service.getOwnProjectAssignments(
-                new SecurityUser( testUser )
+                new SecurityUser( testUser ).withEmployeeId( testEmployee.getId() )
         ) );
 
         assertEquals( 1, actual.size() );
         assertEquals( testProjectAssignmentDTO, actual.getFirst() );
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verifyNoInteractions( employeeRepository );
         verify( projectAssignmentRepository, times( 1 ) ).findAllByEmployeeId( recordId );
         verify( projectAssignmentMapper, times( 1 ) ).toProjectAssignmentDTO( testProjectAssignment );
     }
@@ -10,6 +10,8 @@
 
 package com.assemble.backend.services.project;
 
+import com.assemble.backend.exceptions.global.PreconditionFailedException;
+import com.assemble.backend.models.dtos.global.TaggedDTO;
 import com.assemble.backend.models.dtos.project.ProjectCreateDTO;
 import com.assemble.backend.models.dtos.project.ProjectDTO;
 import com.assemble.backend.models.dtos.project.ProjectUpdateDTO;
@@ -17,6 +19,7 @@ import com.assemble.backend.models.entities.auth.UserAudit;
 import com.assemble.backend.models.entities.employee.Employee;
 import com.assemble.backend.models.entities.project.*;
 import com.assemble.backend.models.mappers.project.ProjectMapper;
+import com.assemble.backend.repositories.core.EntityVersionProjection;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
 import com.assemble.backend.repositories.project.ProjectRepository;
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -215,7 +218,7 @@ class ProjectServiceImplTest {
         when( projectRepository.findById( randomId ) ).thenReturn( Optional.empty() );
 
         String randomIdString = randomId.toString();
-        assertThrows( EntityNotFoundException.class, () -> service.updateProject( randomIdString, projectUpdateDTO ) );
+        assertThrows( EntityNotFoundException.class, () -> service.updateProject( randomIdString, projectUpdateDTO, null ) );
 
         verify( projectRepository, times( 1 ) ).findById( randomId );
     }
@@ -268,7 +271,7 @@ class ProjectServiceImplTest {
         when( projectMapper.toProjectDTO( updatedProject ) ).thenReturn( testProjectDTO );
 
         String testProjectIdString = testProjectId.toString();
-        ProjectDTO actual = assertDoesNotThrow( () -> service.updateProject( testProjectIdString, projectUpdateDTO ) );
+        ProjectDTO actual = assertDoesNotThrow( () -> service.updateProject( testProjectIdString, projectUpdateDTO, null ).body() );
 
         assertEquals( testProjectDTO, actual );
 
@@ -290,7 +293,7 @@ class ProjectServiceImplTest {
         when( projectMapper.toProjectDTO( testProject ) ).thenReturn( testProjectDTO );
 
         String testProjectIdString = testProjectId.toString();
-        ProjectDTO actual = assertDoesNotThrow( () -> service.updateProject( testProjectIdString, projectUpdateDTO ) );
+        ProjectDTO actual = assertDoesNotThrow( () -> service.updateProject( testProjectIdString, projectUpdateDTO, null ).body() );
 
         assertEquals( testProjectDTO, actual );
 
@@ -300,6 +303,51 @@ class ProjectServiceImplTest {
         verify( projectMapper, times( 1 ) ).toProjectDTO( testProject );
     }
 
+    @Test
+    @DisplayName("updateProject should throw PreconditionFailedException when If-Match tag is stale")
+    void updateProject_ShouldThrow_WhenIfMatchTagIsStale() {
+        ProjectUpdateDTO projectUpdateDTO = ProjectUpdateDTO.builder()
+                .name( "Updated Project" )
+                .build();
+
+        when( projectRepository.findById( testProjectId ) ).thenReturn( Optional.of( testProject ) );
+
+        String testProjectIdString = testProjectId.toString();
+        assertThrows(
+                PreconditionFailedException.class,
+                () -> service.updateProject( testProjectIdString, projectUpdateDTO, "\"1-0-0\"" )
+        );
+
+        verify( projectRepository, times( 1 ) ).findById( testProjectId );
+        verify( projectMapper, never() ).toProject( any( ProjectUpdateDTO.class ), any( Project.class ) );
+        verify( projectRepository, never() ).save( any( Project.class ) );
+    }
+
+    @Test
+    @DisplayName("updateProject should return the tag of the saved project when If-Match tag is current")
+    void updateProject_ShouldReturnSavedTag_WhenIfMatchTagIsCurrent() {
+        ProjectUpdateDTO projectUpdateDTO = ProjectUpdateDTO.builder()
+                .build();
+        String currentTag = EntityVersionProjection.of( testProject.getLastModifiedDate(), testProject.getVersion() )
+                .toEntityTag();
+
+        when( projectRepository.findById( testProjectId ) ).thenReturn( Optional.of( testProject ) );
+        when( projectMapper.toProject( projectUpdateDTO, testProject ) ).thenReturn( testProject );
+        when( projectRepository.save( testProject ) ).thenReturn( testProject );
+        when( projectMapper.toProjectDTO( testProject ) ).thenReturn( testProjectDTO );
+
+        String testProjectIdString = testProjectId.toString();
+        TaggedDTO<ProjectDTO> actual = assertDoesNotThrow(
+                () -> service.updateProject( testProjectIdString, projectUpdateDTO, currentTag )
+        );
+
+        assertEquals( testProjectDTO, actual.body() );
+        assertEquals( currentTag, actual.entityTag() );
+
+        verify( projectRepository, times( 1 ) ).save( testProject );
+        verify( projectRepository, times( 1 ) ).flush();
+    }
+
     @Test
     @DisplayName("deleteProjectById should throw when project does not exist in db")
     void deleteProjectById_ShouldThrow_WhenProjectDoesNotExistInDB() {
@@ -349,4 +397,23 @@ class ProjectServiceImplTest {
         verify( projectAssignmentRepository, times( 1 ) ).deleteAll( List.of( assignment ) );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("getProjectTag should build a quoted tag from count, version sum and last modified date")
+    void getProjectTag_ShouldBuildTagFromVersionProjection() {
+        Instant lastModified = Instant.ofEpochSecond( 1, 1_000 );
+        when( projectRepository.findVersionById( testProjectId ) )
+                .thenReturn( new EntityVersionProjection( 1L, 3L, lastModified ) );
+
+        assertEquals( "\"1-3-f4241\"", service.getProjectTag( testProjectId.toString() ) );
+    }
+
+    @Test
+    @DisplayName("getProjectTag should build a stable tag when the project does not exist")
+    void getProjectTag_ShouldBuildStableTag_WhenProjectDoesNotExist() {
+        when( projectRepository.findVersionById( randomId ) )
+                .thenReturn( new EntityVersionProjection( 0L, null, null ) );
+
+        assertEquals( "\"0-0-0\"", service.getProjectTag( randomId.toString() ) );
+    }
+
+}
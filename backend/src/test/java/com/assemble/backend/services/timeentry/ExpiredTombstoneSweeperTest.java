@@ -0,0 +1,85 @@
+/*
+ * assemble
+ * ExpiredTombstoneSweeperTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredTombstoneSweeper Unit Test")
+class ExpiredTombstoneSweeperTest {
+
+    @Mock
+    private TimeEntrySyncService timeEntrySyncService;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExpiredTombstoneSweeper sweeper;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new ExpiredTombstoneSweeper( timeEntrySyncService, jdbcOperations, meterRegistry, Duration.ofHours( 2 ) );
+    }
+
+    private void holdLease( boolean held ) {
+        when( jdbcOperations.queryForList(
+                contains( "scheduler_leases" ),
+                eq( String.class ),
+                eq( ExpiredTombstoneSweeper.LEASE_NAME ),
+                any(),
+                any()
+        ) ).thenReturn( held ? List.of( "owner" ) : List.of() );
+    }
+
+    @Test
+    @DisplayName("sweep should purge the expired tombstones when the lease is held")
+    void sweep_ShouldPurgeExpiredTombstones_WhenLeaseIsHeld() {
+        holdLease( true );
+        when( timeEntrySyncService.purgeTombstones() ).thenReturn( 7 );
+
+        assertEquals( 7, sweeper.sweep() );
+
+        assertEquals( 7, meterRegistry.get( "assemble.timeentries.tombstones.purged" ).counter().count() );
+    }
+
+    @Test
+    @DisplayName("sweep should skip the run when another node holds the lease")
+    void sweep_ShouldSkip_WhenLeaseIsHeldByAnotherNode() {
+        holdLease( false );
+
+        assertEquals( -1, sweeper.sweep() );
+
+        verifyNoInteractions( timeEntrySyncService );
+    }
+
+    @Test
+    @DisplayName("start should throw IllegalArgumentException when the lease is not longer than the interval")
+    void start_ShouldThrow_WhenLeaseIsNotLongerThanInterval() {
+        assertThrows( IllegalArgumentException.class, () -> sweeper.start( Duration.ofHours( 2 ) ) );
+    }
+}
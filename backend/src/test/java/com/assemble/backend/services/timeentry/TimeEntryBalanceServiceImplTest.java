@@ -0,0 +1,211 @@
+/*
+ * assemble
+ * TimeEntryBalanceServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.app.AppSettingsDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBalanceDTO;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.entities.holiday.HolidayCountry;
+import com.assemble.backend.models.entities.holiday.SubdivisionCode;
+import com.assemble.backend.models.entities.holiday.api.TemporalScope;
+import com.assemble.backend.repositories.employee.EmployeeRepository;
+import com.assemble.backend.repositories.holiday.HolidayCalendarProjection;
+import com.assemble.backend.services.app.AppSettingsService;
+import com.assemble.backend.services.holiday.HolidayCalendar;
+import com.assemble.backend.services.holiday.HolidayCalendarService;
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.security.InvalidParameterException;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeEntryBalanceServiceImpl Unit Test")
+class TimeEntryBalanceServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private HolidayCalendarService holidayCalendarService;
+
+    @Mock
+    private AppSettingsService appSettingsService;
+
+    private TimeEntryBalanceServiceImpl service;
+
+    private static UUID employeeId;
+
+    @BeforeEach
+    void init() {
+        service = new TimeEntryBalanceServiceImpl(
+                jdbcTemplate,
+                employeeRepository,
+                holidayCalendarService,
+                appSettingsService,
+                480
+        );
+
+        employeeId = UuidCreator.getTimeOrderedEpoch();
+    }
+
+    private void mockCalendar( boolean imported ) {
+        List<HolidayCalendarProjection> entries = imported
+                ? List.of( new HolidayCalendarProjection(
+                LocalDate.of( 2026, 1, 1 ), LocalDate.of( 2026, 1, 1 ), TemporalScope.FullDay, true, null
+        ) )
+                : List.of();
+        when( holidayCalendarService.getCalendar( HolidayCountry.DE, 2026 ) ).thenReturn( HolidayCalendar.of( 2026, entries ) );
+    }
+
+    private void mockSettings() {
+        AppSettingsDTO settings = mock( AppSettingsDTO.class );
+        when( settings.getHolidaySubdivisionCode() ).thenReturn( SubdivisionCode.BY );
+        when( appSettingsService.getSettings() ).thenReturn( settings );
+    }
+
+    @Test
+    @DisplayName("getMonthlyBalances should split the range into months and subtract the target time")
+    void getMonthlyBalances_ShouldSplitRangeIntoMonths() throws Exception {
+        LocalDate from = LocalDate.of( 2026, 1, 15 );
+        LocalDate to = LocalDate.of( 2026, 2, 10 );
+        ResultSet resultSet = mock( ResultSet.class );
+
+        when( employeeRepository.existsById( employeeId ) ).thenReturn( true );
+        mockSettings();
+        mockCalendar( true );
+        when( holidayCalendarService.getWorkingHalfDaysBetween( from, LocalDate.of( 2026, 1, 31 ), HolidayCountry.DE, "DE-BY" ) )
+                .thenReturn( 25 );
+        when( holidayCalendarService.getWorkingHalfDaysBetween( LocalDate.of( 2026, 2, 1 ), to, HolidayCountry.DE, "DE-BY" ) )
+                .thenReturn( 14 );
+        when( resultSet.getObject( "month", LocalDate.class ) ).thenReturn( LocalDate.of( 2026, 1, 1 ) );
+        when( resultSet.getLong( "actual_time" ) ).thenReturn( Duration.ofHours( 100 ).toNanos() );
+        doAnswer( invocation -> {
+            invocation.getArgument( 1, RowCallbackHandler.class ).processRow( resultSet );
+            return null;
+        } ).when( jdbcTemplate ).query( anyString(), any( RowCallbackHandler.class ), eq( employeeId ), eq( from ), eq( to ) );
+
+        List<TimeEntryBalanceDTO> actual = service.getMonthlyBalances( employeeId.toString(), from.toString(), to.toString() );
+
+        assertEquals( 2, actual.size() );
+        assertEquals( from, actual.getFirst().getFrom() );
+        assertEquals( 12.5, actual.getFirst().getWorkingDays() );
+        assertEquals( Duration.ofHours( 100 ), actual.getFirst().getTargetTime() );
+        assertEquals( Duration.ZERO, actual.getFirst().getBalance() );
+        assertEquals( LocalDate.of( 2026, 2, 1 ), actual.getLast().getFrom() );
+        assertEquals( Duration.ofHours( 56 ), actual.getLast().getTargetTime() );
+        assertEquals( Duration.ofHours( -56 ), actual.getLast().getBalance() );
+        assertEquals( SubdivisionCode.BY, actual.getLast().getSubdivisionCode() );
+        assertTrue( actual.getLast().isHolidaysImported() );
+    }
+
+    @Test
+    @DisplayName("getMonthlyBalances should throw EntityNotFoundException when employee does not exist")
+    void getMonthlyBalances_ShouldThrowEntityNotFoundException_WhenEmployeeDoesNotExist() {
+        when( employeeRepository.existsById( employeeId ) ).thenReturn( false );
+
+        assertThrows( EntityNotFoundException.class, () ->
+                service.getMonthlyBalances( employeeId.toString(), "2026-01-01", "2026-01-31" )
+        );
+
+        verifyNoInteractions( jdbcTemplate, holidayCalendarService );
+    }
+
+    @Test
+    @DisplayName("getMonthlyBalances should throw InvalidParameterException when the range is invalid")
+    void getMonthlyBalances_ShouldThrowInvalidParameterException_WhenRangeIsInvalid() {
+        when( employeeRepository.existsById( employeeId ) ).thenReturn( true );
+
+        assertThrows( InvalidParameterException.class, () ->
+                service.getMonthlyBalances( employeeId.toString(), "2026-02-01", "2026-01-31" )
+        );
+        assertThrows( InvalidParameterException.class, () ->
+                service.getMonthlyBalances( employeeId.toString(), "2020-01-01", "2026-01-31" )
+        );
+        assertThrows( InvalidParameterException.class, () ->
+                service.getMonthlyBalances( employeeId.toString(), "01.01.2026", "2026-01-31" )
+        );
+
+        verifyNoInteractions( jdbcTemplate, holidayCalendarService );
+    }
+
+    @Test
+    @DisplayName("getOwnMonthlyBalances should throw EntityNotFoundException when user has no employee")
+    void getOwnMonthlyBalances_ShouldThrowEntityNotFoundException_WhenUserHasNoEmployee() {
+        UUID userId = UuidCreator.getTimeOrderedEpoch();
+        SecurityUser securityUser = new SecurityUser(
+                User.builder()
+                        .id( userId )
+                        .username( "testuser" )
+                        .firstname( "Test" )
+                        .lastname( "User" )
+                        .email( "test@example.com" )
+                        .roles( List.of( UserRole.USER ) )
+                        .password( "secret" )
+                        .build()
+        );
+
+        assertThrows( EntityNotFoundException.class, () ->
+                service.getOwnMonthlyBalances( securityUser, "2026-01-01", "2026-01-31" )
+        );
+
+        verifyNoInteractions( employeeRepository );
+    }
+
+    @Test
+    @DisplayName("getOwnMonthlyBalances should use the employee of the user")
+    void getOwnMonthlyBalances_ShouldUseEmployeeOfUser() {
+        SecurityUser securityUser = mock( SecurityUser.class );
+        when( securityUser.getEmployeeId() ).thenReturn( employeeId );
+        mockSettings();
+        mockCalendar( true );
+
+        List<TimeEntryBalanceDTO> actual = service.getOwnMonthlyBalances( securityUser, "2026-01-01", "2026-01-31" );
+
+        assertEquals( 1, actual.size() );
+        assertEquals( employeeId, actual.getFirst().getEmployeeId() );
+        assertEquals( Duration.ZERO, actual.getFirst().getActualTime() );
+    }
+
+    @Test
+    @DisplayName("getOwnMonthlyBalances should flag months whose holidays were never imported")
+    void getOwnMonthlyBalances_ShouldFlagMonths_WhenHolidaysWereNeverImported() {
+        SecurityUser securityUser = mock( SecurityUser.class );
+        when( securityUser.getEmployeeId() ).thenReturn( employeeId );
+        mockSettings();
+        mockCalendar( false );
+
+        List<TimeEntryBalanceDTO> actual = service.getOwnMonthlyBalances( securityUser, "2026-01-01", "2026-01-31" );
+
+        assertFalse( actual.getFirst().isHolidaysImported() );
+    }
+}
@@ -85,4 +85,37 @@ class TimeEntryCalculationServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("calculateTotalCents should return total in cents")
+    void calculateTotalCentsShouldReturnTotalInCents_WhenCalled() {
+        BigDecimal rate = new BigDecimal( "60.00" );
+        Duration total = Duration.ofHours( 6 );
+        Duration pause = Duration.ofMinutes( 30 );
+
+        long actual = timeEntryCalculationService.calculateTotalCents( total, pause, rate );
+
+        assertEquals( 33000L, actual );
+    }
+
+    @Test
+    @DisplayName("calculateTotalCents should throw when rate is null")
+    void calculateTotalCentsShouldThrow_WhenCalledRateIsNull() {
+        Duration total = Duration.ofHours( 6 );
+
+        assertThrows( InvalidParameterException.class, () ->
+                timeEntryCalculationService.calculateTotalCents( total, null, null )
+        );
+    }
+
+    @Test
+    @DisplayName("calculateRoundedTotal should round the total half up to cents")
+    void calculateRoundedTotalShouldRoundHalfUpToCents_WhenCalled() {
+        BigDecimal rate = new BigDecimal( "45.50" );
+        Duration total = Duration.ofMinutes( 37 );
+        Duration pause = Duration.ofMinutes( 30 );
+
+        BigDecimal actual = timeEntryCalculationService.calculateRoundedTotal( total, pause, rate );
+
+        assertEquals( new BigDecimal( "5.31" ), actual );
+    }
+}
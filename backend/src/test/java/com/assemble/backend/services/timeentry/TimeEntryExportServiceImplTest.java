@@ -0,0 +1,148 @@
+/*
+ * assemble
+ * TimeEntryExportServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryExportFormat;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidParameterException;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeEntryExportServiceImpl Unit Test")
+class TimeEntryExportServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private TimeEntryExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule( new JavaTimeModule() )
+                .disable( SerializationFeature.WRITE_DATES_AS_TIMESTAMPS );
+        service = new TimeEntryExportServiceImpl( jdbcTemplate, objectMapper, transactionManager );
+    }
+
+    private void mockSingleRow( String description ) throws Exception {
+        when( resultSet.getString( "no" ) ).thenReturn( "T000001" );
+        when( resultSet.getObject( "date", LocalDate.class ) ).thenReturn( LocalDate.of( 2026, 1, 5 ) );
+        when( resultSet.getString( "employee_no" ) ).thenReturn( "E000001" );
+        when( resultSet.getString( "first_name" ) ).thenReturn( "Max" );
+        when( resultSet.getString( "last_name" ) ).thenReturn( "Mustermann" );
+        when( resultSet.getString( "project_no" ) ).thenReturn( "P000001" );
+        when( resultSet.getString( "project_name" ) ).thenReturn( "Project" );
+        when( resultSet.getString( "description" ) ).thenReturn( description );
+        when( resultSet.getObject( "start_time", OffsetDateTime.class ) )
+                .thenReturn( OffsetDateTime.of( 2026, 1, 5, 8, 0, 0, 0, ZoneOffset.UTC ) );
+        when( resultSet.getObject( "end_time", OffsetDateTime.class ) )
+                .thenReturn( OffsetDateTime.of( 2026, 1, 5, 16, 0, 0, 0, ZoneOffset.UTC ) );
+        when( resultSet.getLong( "pause_time" ) ).thenReturn( Duration.ofMinutes( 30 ).toNanos() );
+        when( resultSet.getLong( "total_time" ) ).thenReturn( Duration.ofMinutes( 450 ).toNanos() );
+        when( resultSet.getBigDecimal( "rate" ) ).thenReturn( new BigDecimal( "45.00" ) );
+        when( resultSet.getBigDecimal( "total" ) ).thenReturn( new BigDecimal( "337.50" ) );
+        when( resultSet.getBigDecimal( "total_internal" ) ).thenReturn( new BigDecimal( "225.00" ) );
+
+        doAnswer( invocation -> {
+            RowCallbackHandler handler = invocation.getArgument( 1 );
+            handler.processRow( resultSet );
+            return null;
+        } ).when( jdbcTemplate ).query( any( PreparedStatementCreator.class ), any( RowCallbackHandler.class ) );
+    }
+
+    @Test
+    @DisplayName("exportTimeEntries should write csv header and escaped rows")
+    void exportTimeEntries_ShouldWriteCsvHeaderAndEscapedRows() throws Exception {
+        mockSingleRow( "=SUM(A1), \"quoted\"" );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.exportTimeEntries( new TimeEntryFilterDTO(), TimeEntryExportFormat.CSV )
+                .writeTo( outputStream );
+
+        String[] lines = outputStream.toString( StandardCharsets.UTF_8 ).split( "\n" );
+        assertEquals( 2, lines.length );
+        assertTrue( lines[0].startsWith( "no,date,employeeNo" ) );
+        assertEquals(
+                "T000001,2026-01-05,E000001,Max Mustermann,P000001,Project,\"'=SUM(A1), \"\"quoted\"\"\","
+                        + "2026-01-05T08:00:00Z,2026-01-05T16:00:00Z,PT30M,PT7H30M,45.00,337.50,225.00",
+                lines[1]
+        );
+        verify( transactionManager ).commit( any() );
+    }
+
+    @Test
+    @DisplayName("exportTimeEntries should write one json object per line")
+    void exportTimeEntries_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        mockSingleRow( "Work" );
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        service.exportTimeEntries( new TimeEntryFilterDTO(), TimeEntryExportFormat.NDJSON )
+                .writeTo( outputStream );
+
+        String output = outputStream.toString( StandardCharsets.UTF_8 );
+        assertTrue( output.endsWith( "\n" ) );
+        assertEquals( 1, output.split( "\n" ).length );
+        assertTrue( output.startsWith( "{\"no\":\"T000001\",\"date\":\"2026-01-05\"" ) );
+        assertTrue( output.contains( "\"description\":\"Work\"" ) );
+    }
+
+    @Test
+    @DisplayName("exportTimeEntries should throw InvalidParameterException when from is after to")
+    void exportTimeEntries_ShouldThrowInvalidParameterException_WhenFromIsAfterTo() {
+        TimeEntryFilterDTO filter = TimeEntryFilterDTO.builder()
+                .from( LocalDate.of( 2026, 2, 1 ) )
+                .to( LocalDate.of( 2026, 1, 1 ) )
+                .build();
+
+        assertThrows( InvalidParameterException.class,
+                () -> service.exportTimeEntries( filter, TimeEntryExportFormat.CSV ) );
+        verifyNoInteractions( jdbcTemplate );
+    }
+
+    @Test
+    @DisplayName("fromValue should resolve formats case insensitive and reject unknown values")
+    void fromValue_ShouldResolveFormatsCaseInsensitiveAndRejectUnknownValues() {
+        assertEquals( TimeEntryExportFormat.CSV, TimeEntryExportFormat.fromValue( "CSV" ) );
+        assertEquals( TimeEntryExportFormat.NDJSON, TimeEntryExportFormat.fromValue( "ndjson" ) );
+        assertThrows( InvalidParameterException.class, () -> TimeEntryExportFormat.fromValue( "xlsx" ) );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * assemble
+ * TimeEntryFixedPointCalculatorTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Label("TimeEntryFixedPointCalculator Property Test")
+class TimeEntryFixedPointCalculatorTest {
+
+    private final TimeEntryCalculationService calculationService = new TimeEntryCalculationService();
+
+    private long referenceCents( Duration total, Duration pause, BigDecimal rate ) {
+        return calculationService.calculateTotal( total, pause, rate )
+                .setScale( 2, RoundingMode.HALF_UP )
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    @Property(tries = 5000)
+    @Label("calculateTotalCents should match the BigDecimal calculation for any minutes and rate")
+    void calculateTotalCentsShouldMatchBigDecimal_ForAnyMinutesAndRate(
+            @ForAll @LongRange(min = -599_999, max = 599_999) long minutes,
+            @ForAll @LongRange(min = -999_999_999_999L, max = 999_999_999_999L) long rateCents
+    ) {
+        long expected = referenceCents( Duration.ofMinutes( minutes ), null, BigDecimal.valueOf( rateCents, 2 ) );
+
+        assertThat( TimeEntryFixedPointCalculator.calculateTotalCents( minutes, rateCents ) ).isEqualTo( expected );
+    }
+
+    @Property(tries = 5000)
+    @Label("calculateTotalCents should match the BigDecimal calculation for typical rates where half cent ties occur")
+    void calculateTotalCentsShouldMatchBigDecimal_ForTypicalRates(
+            @ForAll @IntRange(max = 24 * 60) int minutes,
+            @ForAll @IntRange(max = 50_000) int rateCents
+    ) {
+        long expected = referenceCents( Duration.ofMinutes( minutes ), null, BigDecimal.valueOf( rateCents, 2 ) );
+
+        assertThat( TimeEntryFixedPointCalculator.calculateTotalCents( minutes, rateCents ) ).isEqualTo( expected );
+    }
+
+    @Property(tries = 2000)
+    @Label("service calculateTotalCents should match the BigDecimal calculation for durations, pauses and rate scales")
+    void serviceCalculateTotalCentsShouldMatchBigDecimal(
+            @ForAll @LongRange(max = 7 * 24 * 3600) long totalSeconds,
+            @ForAll @IntRange(max = 999_999_999) int totalNanos,
+            @ForAll @LongRange(max = 4 * 3600) long pauseSeconds,
+            @ForAll @IntRange(max = 999_999_999) int pauseNanos,
+            @ForAll @LongRange(min = -10_000_000, max = 10_000_000) long unscaledRate,
+            @ForAll @IntRange(min = -2, max = 4) int rateScale
+    ) {
+        Duration total = Duration.ofSeconds( totalSeconds, totalNanos );
+        Duration pause = Duration.ofSeconds( pauseSeconds, pauseNanos );
+        BigDecimal rate = BigDecimal.valueOf( unscaledRate, rateScale );
+
+        assertThat( calculationService.calculateTotalCents( total, pause, rate ) )
+                .isEqualTo( referenceCents( total, pause, rate ) );
+    }
+
+    @Example
+    @Label("calculateTotalCents should match the BigDecimal calculation for every minute part up to 200.00 per hour")
+    void calculateTotalCentsShouldMatchBigDecimal_ForEveryMinutePart() {
+        for ( long rateCents = 0; rateCents <= 20_000; rateCents++ ) {
+            BigDecimal rate = BigDecimal.valueOf( rateCents, 2 );
+            for ( long minutes = 1; minutes < 60; minutes++ ) {
+                assertThat( TimeEntryFixedPointCalculator.calculateTotalCents( minutes, rateCents ) )
+                        .as( "rate %s, minutes %d", rate, minutes )
+                        .isEqualTo( referenceCents( Duration.ofMinutes( minutes ), null, rate ) );
+            }
+        }
+    }
+
+    @Example
+    @Label("calculateTotalCents should keep the rounding of the per minute rate")
+    void calculateTotalCentsShouldKeepPerMinuteRounding() {
+        // 0.11 / 60 * 30 is 0.05499999999999999 in the BigDecimal version, not a half cent tie
+        assertThat( TimeEntryFixedPointCalculator.calculateTotalCents( 30, 11 ) ).isEqualTo( 5 );
+        assertThat( TimeEntryFixedPointCalculator.calculateTotalCents( 330, 6000 ) ).isEqualTo( 33000 );
+    }
+
+    @Example
+    @Label("calculateTotalCents should throw when the rate exceeds the fixed point range")
+    void calculateTotalCentsShouldThrow_WhenRateExceedsRange() {
+        assertThatThrownBy( () ->
+                TimeEntryFixedPointCalculator.calculateTotalCents( 60, TimeEntryFixedPointCalculator.MAX_RATE_CENTS )
+        ).isInstanceOf( ArithmeticException.class );
+    }
+
+    @Example
+    @Label("service calculateTotalCents should fall back to BigDecimal outside the fixed point range")
+    void serviceCalculateTotalCentsShouldFallBack_WhenOutsideRange() {
+        BigDecimal rate = new BigDecimal( "12345678901234.5" );
+        Duration total = Duration.ofHours( 3 ).plusMinutes( 7 );
+
+        assertThat( calculationService.calculateTotalCents( total, null, rate ) )
+                .isEqualTo( referenceCents( total, null, rate ) );
+    }
+}
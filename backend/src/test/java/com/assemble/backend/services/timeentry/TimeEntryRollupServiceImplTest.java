@@ -0,0 +1,159 @@
+/*
+ * assemble
+ * TimeEntryRollupServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupGranularity;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryRollupRebuildDTO;
+import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.models.entities.project.Project;
+import com.assemble.backend.models.entities.project.ProjectColor;
+import com.assemble.backend.models.entities.project.ProjectStage;
+import com.assemble.backend.models.entities.project.ProjectType;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.github.f4b6a3.uuid.UuidCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeEntryRollupServiceImpl Unit Test")
+class TimeEntryRollupServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TimeEntryRollupServiceImpl service;
+
+    private static UUID employeeId;
+    private static UUID projectId;
+    private static TimeEntry timeEntry;
+
+    @BeforeEach
+    void init() {
+        employeeId = UuidCreator.getTimeOrderedEpoch();
+        projectId = UuidCreator.getTimeOrderedEpoch();
+
+        timeEntry = TimeEntry.builder()
+                .description( "Test description" )
+                .employee( Employee.builder()
+                        .id( employeeId )
+                        .firstname( "Max" )
+                        .lastname( "Mustermann" )
+                        .email( "max@example.com" )
+                        .build()
+                )
+                .project( Project.builder()
+                        .id( projectId )
+                        .name( "Test Project" )
+                        .description( "Test Project Description" )
+                        .category( "Maintenance" )
+                        .color( ProjectColor.PURPLE )
+                        .stage( ProjectStage.PROPOSAL )
+                        .type( ProjectType.EXTERNAL )
+                        .build()
+                )
+                .date( LocalDate.of( 2026, 1, 15 ) )
+                .totalTime( Duration.ofHours( 8 ) )
+                .pauseTime( Duration.ofHours( 1 ) )
+                .total( BigDecimal.valueOf( 350 ) )
+                .totalInternal( BigDecimal.valueOf( 210 ) )
+                .build();
+    }
+
+    @Test
+    @DisplayName("addTimeEntry should upsert the daily and monthly rollup")
+    void addTimeEntry_ShouldUpsertDailyAndMonthlyRollup() {
+        service.addTimeEntry( timeEntry );
+
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "INSERT INTO time_entry_daily_rollups" ),
+                eq( employeeId ), eq( projectId ), eq( LocalDate.of( 2026, 1, 15 ) ), eq( 1 ),
+                eq( Duration.ofHours( 8 ).toNanos() ), eq( Duration.ofHours( 1 ).toNanos() ),
+                eq( BigDecimal.valueOf( 350 ) ), eq( BigDecimal.valueOf( 210 ) )
+        );
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "INSERT INTO time_entry_monthly_rollups" ),
+                eq( employeeId ), eq( projectId ), eq( LocalDate.of( 2026, 1, 1 ) ), eq( 1 ),
+                eq( Duration.ofHours( 8 ).toNanos() ), eq( Duration.ofHours( 1 ).toNanos() ),
+                eq( BigDecimal.valueOf( 350 ) ), eq( BigDecimal.valueOf( 210 ) )
+        );
+        verify( jdbcTemplate, never() ).update( contains( "DELETE" ), any( Object[].class ) );
+    }
+
+    @Test
+    @DisplayName("removeTimeEntry should subtract the entry and delete empty rollups")
+    void removeTimeEntry_ShouldSubtractEntryAndDeleteEmptyRollups() {
+        service.removeTimeEntry( timeEntry );
+
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "INSERT INTO time_entry_daily_rollups" ),
+                eq( employeeId ), eq( projectId ), eq( LocalDate.of( 2026, 1, 15 ) ), eq( -1 ),
+                eq( -Duration.ofHours( 8 ).toNanos() ), eq( -Duration.ofHours( 1 ).toNanos() ),
+                eq( BigDecimal.valueOf( -350 ) ), eq( BigDecimal.valueOf( -210 ) )
+        );
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "DELETE FROM time_entry_daily_rollups" ),
+                eq( employeeId ), eq( projectId ), eq( LocalDate.of( 2026, 1, 15 ) )
+        );
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "DELETE FROM time_entry_monthly_rollups" ),
+                eq( employeeId ), eq( projectId ), eq( LocalDate.of( 2026, 1, 1 ) )
+        );
+    }
+
+    @Test
+    @DisplayName("getRollups should throw InvalidParameterException when from is after to")
+    void getRollups_ShouldThrowInvalidParameterException_WhenFromIsAfterTo() {
+        TimeEntryFilterDTO filter = TimeEntryFilterDTO.builder()
+                .from( LocalDate.of( 2026, 2, 1 ) )
+                .to( LocalDate.of( 2026, 1, 1 ) )
+                .build();
+
+        assertThrows( InvalidParameterException.class,
+                () -> service.getRollups( filter, TimeEntryRollupGranularity.DAY ) );
+        verifyNoInteractions( jdbcTemplate );
+    }
+
+    @Test
+    @DisplayName("rebuildRollups should lock time entries and reinsert both rollup tables")
+    void rebuildRollups_ShouldLockTimeEntriesAndReinsertBothRollupTables() {
+        when( jdbcTemplate.update( anyString() ) ).thenAnswer( invocation -> {
+            String sql = invocation.getArgument( 0 );
+            if ( sql.contains( "INSERT INTO time_entry_daily_rollups" ) ) return 4;
+            if ( sql.contains( "INSERT INTO time_entry_monthly_rollups" ) ) return 2;
+            return 0;
+        } );
+
+        TimeEntryRollupRebuildDTO actual = service.rebuildRollups();
+
+        assertEquals( new TimeEntryRollupRebuildDTO( 4, 2 ), actual );
+        verify( jdbcTemplate, times( 1 ) ).execute( "LOCK TABLE time_entries IN SHARE MODE" );
+        verify( jdbcTemplate, times( 1 ) ).update( "DELETE FROM time_entry_daily_rollups" );
+        verify( jdbcTemplate, times( 1 ) ).update( "DELETE FROM time_entry_monthly_rollups" );
+    }
+}
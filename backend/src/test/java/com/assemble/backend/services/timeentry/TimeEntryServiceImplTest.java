@@ -13,8 +13,14 @@ package com.assemble.backend.services.timeentry;
 import com.assemble.backend.models.dtos.auth.UserDTO;
 import com.assemble.backend.models.dtos.employee.EmployeeDTO;
 import com.assemble.backend.models.dtos.project.ProjectDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkCreateDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkItemStatus;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryBulkResultDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryCreateDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryFilterDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryPageDTO;
 import com.assemble.backend.models.dtos.timeentry.TimeEntryUpdateDTO;
 import com.assemble.backend.models.entities.auth.SecurityUser;
 import com.assemble.backend.models.entities.auth.User;
@@ -26,16 +32,27 @@ import com.assemble.backend.models.entities.timeentry.TimeEntry;
 import com.assemble.backend.models.mappers.timeentry.TimeEntryMapper;
 import com.assemble.backend.repositories.employee.EmployeeRepository;
 import com.assemble.backend.repositories.project.ProjectAssignmentRepository;
+import com.assemble.backend.repositories.project.ProjectRepository;
+import com.assemble.backend.repositories.timeentry.TimeEntryCompactProjection;
 import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
 import com.github.f4b6a3.uuid.UuidCreator;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
@@ -48,9 +65,11 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,6 +91,21 @@ class TimeEntryServiceImplTest {
     @Mock
     private ProjectAssignmentRepository projectAssignmentRepository;
 
+    @Mock
+    private TimeEntryRollupService rollupService;
+
+    @Mock
+    private TimeEntrySyncService syncService;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private TimeEntryServiceImpl service;
 
@@ -285,6 +319,89 @@ class TimeEntryServiceImplTest {
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
 
+    @Test
+    @DisplayName("getTimeEntryPage should return page without cursor when no more time entries exist")
+    void getTimeEntryPage_ShouldReturnPageWithoutCursor_WhenNoMoreTimeEntriesExist() {
+        when( timeEntryRepository.findBy( ArgumentMatchers.<Specification<TimeEntry>>any(), any() ) )
+                .thenReturn( Window.from( List.of( timeEntry ), ScrollPosition::offset, false ) );
+        when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
+
+        TimeEntryPageDTO actual = service.getTimeEntryPage( TimeEntryFilterDTO.builder().build(), null, 50 );
+
+        assertEquals( 1, actual.getContent().size() );
+        assertEquals( timeEntryDTO, actual.getContent().getFirst() );
+        assertFalse( actual.isHasNext() );
+        assertNull( actual.getNextCursor() );
+    }
+
+    @Test
+    @DisplayName("getTimeEntryPage should return cursor of last time entry when more time entries exist")
+    void getTimeEntryPage_ShouldReturnCursorOfLastTimeEntry_WhenMoreTimeEntriesExist() {
+        when( timeEntryRepository.findBy( ArgumentMatchers.<Specification<TimeEntry>>any(), any() ) )
+                .thenReturn( Window.from( List.of( timeEntry ), ScrollPosition::offset, true ) );
+        when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
+
+        TimeEntryPageDTO actual = service.getTimeEntryPage(
+                TimeEntryFilterDTO.builder().employeeId( recordId ).build(), null, 1
+        );
+
+        assertTrue( actual.isHasNext() );
+        assertNotNull( actual.getNextCursor() );
+
+        TimeEntryCursor cursor = TimeEntryCursor.decode( actual.getNextCursor() );
+        assertEquals( timeEntry.getDate(), cursor.date() );
+        assertEquals( timeEntry.getId(), cursor.id() );
+    }
+
+    @Test
+    @DisplayName("getTimeEntryPage should accept cursor returned by previous page")
+    void getTimeEntryPage_ShouldAcceptCursor_WhenCursorIsValid() {
+        String cursor = TimeEntryCursor.of( timeEntry ).encode();
+        when( timeEntryRepository.findBy( ArgumentMatchers.<Specification<TimeEntry>>any(), any() ) )
+                .thenReturn( Window.from( List.of(), ScrollPosition::offset, false ) );
+
+        TimeEntryPageDTO actual = service.getTimeEntryPage( TimeEntryFilterDTO.builder().build(), cursor, 50 );
+
+        assertEquals( 0, actual.getContent().size() );
+        assertFalse( actual.isHasNext() );
+    }
+
+    @Test
+    @DisplayName("getTimeEntryPage should throw when cursor is invalid")
+    void getTimeEntryPage_ShouldThrow_WhenCursorIsInvalid() {
+        TimeEntryFilterDTO filter = TimeEntryFilterDTO.builder().build();
+
+        assertThrows( InvalidParameterException.class,
+                () -> service.getTimeEntryPage( filter, "invalid", 50 )
+        );
+
+        verifyNoInteractions( timeEntryRepository );
+    }
+
+    @Test
+    @DisplayName("getTimeEntryPage should throw when size is out of range")
+    void getTimeEntryPage_ShouldThrow_WhenSizeIsOutOfRange() {
+        TimeEntryFilterDTO filter = TimeEntryFilterDTO.builder().build();
+
+        assertThrows( InvalidParameterException.class, () -> service.getTimeEntryPage( filter, null, 0 ) );
+        assertThrows( InvalidParameterException.class, () -> service.getTimeEntryPage( filter, null, 501 ) );
+
+        verifyNoInteractions( timeEntryRepository );
+    }
+
+    @Test
+    @DisplayName("getTimeEntryPage should throw when from date is after to date")
+    void getTimeEntryPage_ShouldThrow_WhenFromIsAfterTo() {
+        TimeEntryFilterDTO filter = TimeEntryFilterDTO.builder()
+                .from( LocalDate.of( 2026, 2, 1 ) )
+                .to( LocalDate.of( 2026, 1, 1 ) )
+                .build();
+
+        assertThrows( InvalidParameterException.class, () -> service.getTimeEntryPage( filter, null, 50 ) );
+
+        verifyNoInteractions( timeEntryRepository );
+    }
+
     @Test
     @DisplayName("getTimeEntriesByEmployeeId should return empty list when no time entry exists in db")
     void getTimeEntriesByEmployeeId_ShouldReturnEmptyList_WhenNoTimeEntryExistsInDB() {
@@ -342,19 +459,18 @@ class TimeEntryServiceImplTest {
     @Test
     @DisplayName("getOwnTimeEntries should throw if aroundDate param is invalid date format")
     void getOwnTimeEntries_ShouldThrow_WhenAroundDateParamIsInvalidDateFormat() {
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
         assertThrows( InvalidParameterException.class, () -> service.getOwnTimeEntries(
                 new SecurityUser( user ), "invalidDateString"
         ) );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntries should return empty list if user has no employee assigned")
     void getOwnTimeEntries_ShouldReturnEmptyList_WhenUserHasNoEmployeeAssigned() {
-        when( employeeRepository.findByUser_Id( notExistingRecordId ) ).thenReturn( Optional.empty() );
         user.setId( notExistingRecordId );
 
         List<TimeEntryDTO> actual = assertDoesNotThrow( () -> service.getOwnTimeEntries(
@@ -363,14 +479,14 @@ class TimeEntryServiceImplTest {
 
         assertEquals( 0, actual.size() );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( notExistingRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntries should return list of time entries when user has employee assigned")
     void getOwnTimeEntries_ShouldReturnListOfTimeEntries_WhenUserHasEmployeeAssigned() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern( "yyyy-MM-dd" );
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
         when( timeEntryRepository.findAllByEmployee_IdAndDateIsBetween( eq( recordId ), any( LocalDate.class ), any( LocalDate.class ) ) )
                 .thenReturn( List.of( timeEntry ) );
         when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
@@ -382,7 +498,7 @@ class TimeEntryServiceImplTest {
         assertEquals( 1, actual.size() );
         assertEquals( timeEntryDTO, actual.getFirst() );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
         verify( timeEntryRepository, times( 1 ) )
                 .findAllByEmployee_IdAndDateIsBetween( eq( recordId ), any( LocalDate.class ), any( LocalDate.class ) );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
@@ -391,19 +507,18 @@ class TimeEntryServiceImplTest {
     @Test
     @DisplayName("getOwnTimeEntriesByDate should throw if aroundDate param is invalid date format")
     void getOwnTimeEntriesByDate_ShouldThrow_WhenAroundDateParamIsInvalidDateFormat() {
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
         assertThrows( InvalidParameterException.class, () -> service.getOwnTimeEntriesByDate(
                 new SecurityUser( user ), "invalidDateString"
         ) );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntriesByDate should throw when user has no employee assigned")
     void getOwnTimeEntriesByDate_ShouldThrow_WhenUserHasNoEmployeeAssigned() {
-        when( employeeRepository.findByUser_Id( notExistingRecordId ) ).thenReturn( Optional.empty() );
         user.setId( notExistingRecordId );
 
         assertThrows( EntityNotFoundException.class, () -> service.getOwnTimeEntriesByDate(
@@ -411,14 +526,14 @@ class TimeEntryServiceImplTest {
         ) );
 
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( notExistingRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntriesByDate should return list of time entries when user has employee assigned")
     void getOwnTimeEntriesByDate_ShouldReturnListOfTimeEntries_WhenUserHasEmployeeAssigned() {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern( "yyyy-MM-dd" );
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
         when( timeEntryRepository.findAllByEmployee_IdAndDateIs( eq( recordId ), any( LocalDate.class ) ) )
                 .thenReturn( List.of( timeEntry ) );
@@ -431,12 +546,88 @@ class TimeEntryServiceImplTest {
         assertEquals( 1, actual.size() );
         assertEquals( timeEntryDTO, actual.getFirst() );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
         verify( timeEntryRepository, times( 1 ) )
                 .findAllByEmployee_IdAndDateIs( eq( recordId ), any( LocalDate.class ) );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
 
+    @Test
+    @DisplayName("getAllCompactTimeEntries should return compact time entry list from projection query")
+    void getAllCompactTimeEntries_ShouldReturnCompactTimeEntryList_WhenTimeEntryExistsInDB() {
+        TimeEntryCompactProjection projection = compactProjection();
+        TimeEntryCompactDTO compactDTO = mock( TimeEntryCompactDTO.class );
+        when( timeEntryRepository.findAllCompact() ).thenReturn( List.of( projection ) );
+        when( timeEntryMapper.toTimeEntryCompactDTO( projection ) ).thenReturn( compactDTO );
+
+        List<TimeEntryCompactDTO> actual = service.getAllCompactTimeEntries();
+
+        assertEquals( List.of( compactDTO ), actual );
+
+        verify( timeEntryRepository, times( 1 ) ).findAllCompact();
+        verify( timeEntryRepository, never() ).findAll();
+    }
+
+    @Test
+    @DisplayName("getCompactTimeEntriesByProjectId should return compact time entry list from projection query")
+    void getCompactTimeEntriesByProjectId_ShouldReturnCompactTimeEntryList_WhenTimeEntryExistsInDB() {
+        TimeEntryCompactProjection projection = compactProjection();
+        TimeEntryCompactDTO compactDTO = mock( TimeEntryCompactDTO.class );
+        when( timeEntryRepository.findAllCompactByProjectId( recordId ) ).thenReturn( List.of( projection ) );
+        when( timeEntryMapper.toTimeEntryCompactDTO( projection ) ).thenReturn( compactDTO );
+
+        List<TimeEntryCompactDTO> actual = service.getCompactTimeEntriesByProjectId( recordId.toString() );
+
+        assertEquals( List.of( compactDTO ), actual );
+
+        verify( timeEntryRepository, times( 1 ) ).findAllCompactByProjectId( recordId );
+    }
+
+    @Test
+    @DisplayName("getOwnCompactTimeEntries should return compact time entries around date when user has employee assigned")
+    void getOwnCompactTimeEntries_ShouldReturnCompactTimeEntries_WhenUserHasEmployeeAssigned() {
+        LocalDate aroundDate = LocalDate.of( 2026, 3, 15 );
+        TimeEntryCompactProjection projection = compactProjection();
+        TimeEntryCompactDTO compactDTO = mock( TimeEntryCompactDTO.class );
+        user.setEmployee( employee );
+        when( timeEntryRepository.findAllCompactByEmployeeIdAndDateBetween(
+                recordId, aroundDate.minusMonths( 2 ), aroundDate.plusMonths( 2 )
+        ) ).thenReturn( List.of( projection ) );
+        when( timeEntryMapper.toTimeEntryCompactDTO( projection ) ).thenReturn( compactDTO );
+
+        List<TimeEntryCompactDTO> actual = service.getOwnCompactTimeEntries(
+                new SecurityUser( user ), aroundDate.toString()
+        );
+
+        assertEquals( List.of( compactDTO ), actual );
+
+        verify( timeEntryRepository, never() )
+                .findAllByEmployee_IdAndDateIsBetween( any(), any( LocalDate.class ), any( LocalDate.class ) );
+    }
+
+    @Test
+    @DisplayName("getOwnCompactTimeEntriesByDate should throw if date param is invalid date format")
+    void getOwnCompactTimeEntriesByDate_ShouldThrow_WhenDateParamIsInvalidDateFormat() {
+        user.setEmployee( employee );
+
+        assertThrows( InvalidParameterException.class, () -> service.getOwnCompactTimeEntriesByDate(
+                new SecurityUser( user ), "invalidDateString"
+        ) );
+
+        verify( timeEntryRepository, never() ).findAllCompactByEmployeeIdAndDate( any(), any() );
+    }
+
+    private TimeEntryCompactProjection compactProjection() {
+        return new TimeEntryCompactProjection(
+                recordId, "T00001",
+                employee.getId(), employee.getNo(), employee.getFirstname(), employee.getLastname(),
+                project.getId(), project.getNo(), project.getName(), project.getColor(),
+                timeEntry.getDescription(), timeEntry.getDate(), timeEntry.getStartTime(), timeEntry.getEndTime(),
+                timeEntry.getPauseTime(), timeEntry.getTotalTime(),
+                timeEntry.getRate(), timeEntry.getTotal(), timeEntry.getTotalInternal()
+        );
+    }
+
     @Test
     @DisplayName("getTimeEntryById should throw if no time entry exists in db")
     void getTimeEntryById_ShouldThrow_WhenNoTimeEntryExistsInDB() {
@@ -464,8 +655,8 @@ class TimeEntryServiceImplTest {
     @Test
     @DisplayName("getOwnTimeEntryById should return time entry dto")
     void getOwnTimeEntryById_ShouldReturnTimeEntryDTO_WhenCalled() {
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( recordId, recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        user.setEmployee( employee );
         when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
 
         TimeEntryDTO actual = assertDoesNotThrow( () -> service.getOwnTimeEntryById(
@@ -474,53 +665,54 @@ class TimeEntryServiceImplTest {
 
         assertEquals( timeEntryDTO, actual );
 
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( recordId, recordId );
+        verify( timeEntryRepository, never() ).findById( any() );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
 
     @Test
     @DisplayName("getOwnTimeEntryById should throw when user does not own timeentry")
     void getOwnTimeEntryById_ShouldThrow_WhenUserDoesNotOwnTimeEntry() {
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( recordId, otherRecordId ) ).thenReturn( Optional.empty() );
+        when( timeEntryRepository.existsById( recordId ) ).thenReturn( true );
 
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.of( otherEmployee ) );
+        otherUser.setEmployee( otherEmployee );
 
         assertThrows( AccessDeniedException.class, () -> service.getOwnTimeEntryById(
                 recordId.toString(), new SecurityUser( otherUser )
         ) );
 
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( recordId, otherRecordId );
+        verify( timeEntryRepository, never() ).findById( any() );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntryById should throw when employee cant be found")
     void getOwnTimeEntryById_ShouldThrow_WhenEmployeeCantBeFound() {
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
-
-        when( employeeRepository.findByUser_Id( notExistingRecordId ) ).thenReturn( Optional.empty() );
-
         otherUser.setId( notExistingRecordId );
 
         assertThrows( EntityNotFoundException.class, () -> service.getOwnTimeEntryById(
                 recordId.toString(), new SecurityUser( otherUser )
         ) );
 
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( notExistingRecordId );
+        verifyNoInteractions( timeEntryRepository );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
     @DisplayName("getOwnTimeEntryById should throw when time entry cant be found")
     void getOwnTimeEntryById_ShouldThrow_WhenTimeEntryCantBeFound() {
-        when( timeEntryRepository.findById( notExistingRecordId ) ).thenReturn( Optional.empty() );
+        otherUser.setEmployee( otherEmployee );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( notExistingRecordId, otherRecordId ) ).thenReturn( Optional.empty() );
+        when( timeEntryRepository.existsById( notExistingRecordId ) ).thenReturn( false );
 
         assertThrows( EntityNotFoundException.class, () -> service.getOwnTimeEntryById(
                 notExistingRecordId.toString(), new SecurityUser( otherUser )
         ) );
 
-        verify( timeEntryRepository, times( 1 ) ).findById( notExistingRecordId );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( notExistingRecordId, otherRecordId );
     }
 
     @Test
@@ -589,10 +781,10 @@ class TimeEntryServiceImplTest {
         when( timeEntryMapper.toTimeEntry( dto, employee, project ) )
                 .thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -604,9 +796,10 @@ class TimeEntryServiceImplTest {
 
         verify( projectAssignmentRepository, times( 1 ) ).findByProject_IdAndEmployee_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
+        verify( rollupService, times( 1 ) ).addTimeEntry( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
 
@@ -630,10 +823,10 @@ class TimeEntryServiceImplTest {
         when( timeEntryMapper.toTimeEntry( dto, employee, project ) )
                 .thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -645,8 +838,8 @@ class TimeEntryServiceImplTest {
 
         verify( projectAssignmentRepository, times( 1 ) ).findByProject_IdAndEmployee_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -671,10 +864,10 @@ class TimeEntryServiceImplTest {
         when( timeEntryMapper.toTimeEntry( dto, employee, project ) )
                 .thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), rate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), rate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * rate.longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -686,8 +879,8 @@ class TimeEntryServiceImplTest {
 
         verify( projectAssignmentRepository, times( 1 ) ).findByProject_IdAndEmployee_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), rate );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), rate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -704,13 +897,11 @@ class TimeEntryServiceImplTest {
                 .pauseTime( Duration.ofHours( 1 ) )
                 .build();
 
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.empty() );
-
         assertThrows( EntityNotFoundException.class, () -> service
                 .createOwnTimeEntry( dto, new SecurityUser( otherUser ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
@@ -725,13 +916,13 @@ class TimeEntryServiceImplTest {
                 .pauseTime( Duration.ofHours( 1 ) )
                 .build();
 
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.of( otherEmployee ) );
+        otherUser.setEmployee( otherEmployee );
 
         assertThrows( AccessDeniedException.class, () -> service
                 .createOwnTimeEntry( dto, new SecurityUser( otherUser ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
@@ -746,7 +937,7 @@ class TimeEntryServiceImplTest {
                 .pauseTime( Duration.ofHours( 1 ) )
                 .build();
 
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
         when( projectAssignmentRepository.findByProject_IdAndEmployee_Id( recordId, recordId ) )
                 .thenReturn( Optional.of( projectAssignment ) );
@@ -754,10 +945,10 @@ class TimeEntryServiceImplTest {
         when( timeEntryMapper.toTimeEntry( dto, employee, project ) )
                 .thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -769,8 +960,8 @@ class TimeEntryServiceImplTest {
 
         verify( projectAssignmentRepository, times( 1 ) ).findByProject_IdAndEmployee_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -793,7 +984,8 @@ class TimeEntryServiceImplTest {
 
         assertThrows( EntityNotFoundException.class, () -> service.updateTimeEntry(
                 notExistingRecordId.toString(),
-                dto
+                dto,
+                null
         ) );
 
         verify( timeEntryRepository, times( 1 ) ).findById( notExistingRecordId );
@@ -819,7 +1011,8 @@ class TimeEntryServiceImplTest {
 
         assertThrows( EntityNotFoundException.class, () -> service.updateTimeEntry(
                 recordId.toString(),
-                dto
+                dto,
+                null
         ) );
 
         verify( timeEntryRepository, times( 1 ) ).findById( recordId );
@@ -847,10 +1040,10 @@ class TimeEntryServiceImplTest {
 
         when( timeEntryMapper.toTimeEntry( dto, employee, project, timeEntry ) ).thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -859,8 +1052,9 @@ class TimeEntryServiceImplTest {
 
         TimeEntryDTO actual = assertDoesNotThrow( () -> service.updateTimeEntry(
                 recordId.toString(),
-                dto
-        ) );
+                dto,
+                null
+        ).body() );
 
         assertEquals( timeEntryDTO, actual );
 
@@ -869,9 +1063,12 @@ class TimeEntryServiceImplTest {
                 .findByProject_IdAndEmployee_Id( recordId, recordId );
 
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project, timeEntry );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
+        verify( rollupService, times( 1 ) ).removeTimeEntry( timeEntry );
+        verify( rollupService, times( 1 ) ).addTimeEntry( timeEntry );
+        verify( syncService, never() ).removeTimeEntry( any() );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
 
@@ -893,10 +1090,10 @@ class TimeEntryServiceImplTest {
 
         when( timeEntryMapper.toTimeEntry( dto, employee, project, timeEntry ) ).thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), rate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), rate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * rate.longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -905,15 +1102,16 @@ class TimeEntryServiceImplTest {
 
         TimeEntryDTO actual = assertDoesNotThrow( () -> service.updateTimeEntry(
                 recordId.toString(),
-                dto
-        ) );
+                dto,
+                null
+        ).body() );
 
         assertEquals( timeEntryDTO, actual );
 
         verify( timeEntryRepository, times( 1 ) ).findById( recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project, timeEntry );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), rate );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), rate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -930,15 +1128,14 @@ class TimeEntryServiceImplTest {
                 .pauseTime( timeEntry.getPauseTime() )
                 .build();
 
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.empty() );
-
         assertThrows( EntityNotFoundException.class, () -> service.updateOwnTimeEntry(
                 recordId.toString(),
                 dto,
-                new SecurityUser( otherUser )
+                new SecurityUser( otherUser ),
+                null
         ) );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
     }
 
     @Test
@@ -954,17 +1151,19 @@ class TimeEntryServiceImplTest {
                 .pauseTime( timeEntry.getPauseTime() )
                 .build();
 
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
-        when( timeEntryRepository.findById( notExistingRecordId ) ).thenReturn( Optional.empty() );
+        user.setEmployee( employee );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( notExistingRecordId, recordId ) ).thenReturn( Optional.empty() );
+        when( timeEntryRepository.existsById( notExistingRecordId ) ).thenReturn( false );
 
         assertThrows( EntityNotFoundException.class, () -> service.updateOwnTimeEntry(
                 notExistingRecordId.toString(),
                 dto,
-                new SecurityUser( user )
+                new SecurityUser( user ),
+                null
         ) );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( notExistingRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( notExistingRecordId, recordId );
     }
 
     @Test
@@ -979,17 +1178,20 @@ class TimeEntryServiceImplTest {
                 .pauseTime( timeEntry.getPauseTime() )
                 .build();
 
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.of( otherEmployee ) );
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        otherUser.setEmployee( otherEmployee );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( recordId, otherRecordId ) ).thenReturn( Optional.empty() );
+        when( timeEntryRepository.existsById( recordId ) ).thenReturn( true );
 
         assertThrows( AccessDeniedException.class, () -> service.updateOwnTimeEntry(
                 recordId.toString(),
                 dto,
-                new SecurityUser( otherUser )
+                new SecurityUser( otherUser ),
+                null
         ) );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( recordId, otherRecordId );
+        verify( timeEntryRepository, never() ).save( any() );
     }
 
     @Test
@@ -1004,16 +1206,16 @@ class TimeEntryServiceImplTest {
                 .pauseTime( timeEntry.getPauseTime() )
                 .build();
 
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( recordId, recordId ) ).thenReturn( Optional.of( timeEntry ) );
 
         when( timeEntryMapper.toTimeEntry( dto, employee, project, timeEntry ) ).thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -1023,16 +1225,17 @@ class TimeEntryServiceImplTest {
         TimeEntryDTO actual = assertDoesNotThrow( () -> service.updateOwnTimeEntry(
                 recordId.toString(),
                 dto,
-                new SecurityUser( user )
-        ) );
+                new SecurityUser( user ),
+                null
+        ).body() );
 
         assertEquals( timeEntryDTO, actual );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project, timeEntry );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -1052,16 +1255,16 @@ class TimeEntryServiceImplTest {
                 .pauseTime( Duration.ofHours( 2 ) )
                 .build();
 
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        when( timeEntryRepository.findByIdAndEmployee_User_Id( recordId, recordId ) ).thenReturn( Optional.of( timeEntry ) );
 
         when( timeEntryMapper.toTimeEntry( dto, employee, project, timeEntry ) ).thenReturn( timeEntry );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() ) )
                 .thenReturn( BigDecimal.valueOf( 8 * projectAssignment.getHourlyRate().longValue() ) );
 
-        when( calculationService.calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
+        when( calculationService.calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate ) )
                 .thenReturn( BigDecimal.valueOf( 8 * 30 ) );
 
         when( timeEntryRepository.save( timeEntry ) ).thenReturn( timeEntry );
@@ -1071,16 +1274,17 @@ class TimeEntryServiceImplTest {
         TimeEntryDTO actual = assertDoesNotThrow( () -> service.updateOwnTimeEntry(
                 recordId.toString(),
                 dto,
-                new SecurityUser( user )
-        ) );
+                new SecurityUser( user ),
+                null
+        ).body() );
 
         assertEquals( timeEntryDTO, actual );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, times( 1 ) ).findByIdAndEmployee_User_Id( recordId, recordId );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntry( dto, employee, project, timeEntry );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
-        verify( calculationService, times( 1 ) ).calculateTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), projectAssignment.getHourlyRate() );
+        verify( calculationService, times( 1 ) ).calculateRoundedTotal( dto.getTotalTime(), dto.getPauseTime(), internalRate );
         verify( timeEntryRepository, times( 1 ) ).save( timeEntry );
         verify( timeEntryMapper, times( 1 ) ).toTimeEntryDTO( timeEntry );
     }
@@ -1106,65 +1310,187 @@ class TimeEntryServiceImplTest {
 
         verify( timeEntryRepository, times( 1 ) ).findById( recordId );
         verify( timeEntryRepository, times( 1 ) ).delete( timeEntry );
+        verify( rollupService, times( 1 ) ).removeTimeEntry( timeEntry );
+        verify( syncService, times( 1 ) ).removeTimeEntry( timeEntry );
+    }
+
+    private void mockDeleteOwnTimeEntry( UUID id, UUID userId, TimeEntry... deleted ) {
+        when( jdbcTemplate.query(
+                contains( "DELETE FROM time_entries" ),
+                ArgumentMatchers.<RowMapper<TimeEntry>>any(),
+                eq( id ),
+                eq( userId )
+        ) ).thenReturn( List.of( deleted ) );
     }
 
     @Test
     @DisplayName("deleteOwnTimeEntry should throw when employee not found")
     void deleteOwnTimeEntry_ShouldThrow_WhenEmployeeNotFound() {
-        when( employeeRepository.findByUser_Id( notExistingRecordId ) ).thenReturn( Optional.empty() );
-
         otherUser.setId( notExistingRecordId );
 
         assertThrows( EntityNotFoundException.class,
                 () -> service.deleteOwnTimeEntryById( recordId.toString(), new SecurityUser( otherUser ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( notExistingRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verifyNoInteractions( jdbcTemplate, rollupService, syncService );
     }
 
     @Test
     @DisplayName("deleteOwnTimeEntry should throw when user does not own time entry")
     void deleteOwnTimeEntry_ShouldThrow_WhenUserDoesNotOwnTimeEntry() {
-        when( employeeRepository.findByUser_Id( otherRecordId ) ).thenReturn( Optional.of( otherEmployee ) );
+        otherUser.setEmployee( otherEmployee );
 
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        mockDeleteOwnTimeEntry( recordId, otherRecordId );
+        when( timeEntryRepository.existsById( recordId ) ).thenReturn( true );
 
         assertThrows( AccessDeniedException.class,
                 () -> service.deleteOwnTimeEntryById( recordId.toString(), new SecurityUser( otherUser ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( otherRecordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, never() ).findById( any() );
+        verifyNoInteractions( rollupService, syncService );
     }
 
     @Test
     @DisplayName("deleteOwnTimeEntry should throw when time entry not found")
     void deleteOwnTimeEntry_ShouldThrow_WhenTimeEntryNotFound() {
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
-        when( timeEntryRepository.findById( notExistingRecordId ) ).thenReturn( Optional.empty() );
+        mockDeleteOwnTimeEntry( notExistingRecordId, recordId );
+        when( timeEntryRepository.existsById( notExistingRecordId ) ).thenReturn( false );
 
         assertThrows( EntityNotFoundException.class,
                 () -> service.deleteOwnTimeEntryById( notExistingRecordId.toString(), new SecurityUser( user ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( notExistingRecordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, times( 1 ) ).existsById( notExistingRecordId );
     }
 
     @Test
     @DisplayName("deleteOwnTimeEntry should delete time entry")
     void deleteOwnTimeEntry_ShouldDeleteTimeEntry_WhenCalled() {
-        when( employeeRepository.findByUser_Id( recordId ) ).thenReturn( Optional.of( employee ) );
+        user.setEmployee( employee );
 
-        when( timeEntryRepository.findById( recordId ) ).thenReturn( Optional.of( timeEntry ) );
+        mockDeleteOwnTimeEntry( recordId, recordId, timeEntry );
 
         assertDoesNotThrow( () ->
                 service.deleteOwnTimeEntryById( recordId.toString(), new SecurityUser( user ) )
         );
 
-        verify( employeeRepository, times( 1 ) ).findByUser_Id( recordId );
-        verify( timeEntryRepository, times( 1 ) ).findById( recordId );
+        verify( employeeRepository, never() ).findByUser_Id( any() );
+        verify( timeEntryRepository, never() ).findById( any() );
+        verify( jdbcTemplate, times( 1 ) ).query(
+                contains( "DELETE FROM time_entries" ),
+                ArgumentMatchers.<RowMapper<TimeEntry>>any(),
+                eq( recordId ),
+                eq( user.getId() )
+        );
+        verify( timeEntryRepository, never() ).delete( any( TimeEntry.class ) );
+        verify( rollupService, times( 1 ) ).removeTimeEntry( timeEntry );
+        verify( syncService, times( 1 ) ).removeTimeEntry( timeEntry );
+    }
+
+    private TimeEntryCreateDTO bulkEntry( UUID employeeId, UUID projectId, String description ) {
+        return TimeEntryCreateDTO.builder()
+                .projectId( projectId.toString() )
+                .employeeId( employeeId.toString() )
+                .description( description )
+                .date( LocalDate.now() )
+                .totalTime( Duration.ofHours( 9 ) )
+                .pauseTime( Duration.ofHours( 1 ) )
+                .build();
+    }
+
+    @Test
+    @DisplayName("createTimeEntries should create valid entries and report failed ones per item")
+    void createTimeEntries_ShouldCreateValidEntriesAndReportFailedOnesPerItem() {
+        TimeEntryCreateDTO valid = bulkEntry( recordId, recordId, "Test description" );
+        TimeEntryBulkCreateDTO dto = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of(
+                        valid,
+                        bulkEntry( recordId, recordId, "Too short" ),
+                        bulkEntry( otherRecordId, recordId, "Test description" )
+                ) )
+                .build();
+
+        when( projectAssignmentRepository.findAllByEmployeeIdsAndProjectIds(
+                Set.of( recordId, otherRecordId ), Set.of( recordId )
+        ) ).thenReturn( List.of( projectAssignment ) );
+        when( timeEntryMapper.toTimeEntry( valid, employee, project ) ).thenReturn( timeEntry );
+        when( calculationService.calculateRoundedTotal( any(), any(), any() ) ).thenReturn( BigDecimal.TEN );
+        when( timeEntryRepository.saveAll( anyCollection() ) ).thenReturn( List.of( timeEntry ) );
+        when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
+
+        TimeEntryBulkResultDTO actual = service.createTimeEntries( dto );
+
+        assertEquals( 1, actual.getCreated() );
+        assertEquals( 2, actual.getFailed() );
+        assertEquals( TimeEntryBulkItemStatus.CREATED, actual.getResults().get( 0 ).getStatus() );
+        assertEquals( timeEntryDTO, actual.getResults().get( 0 ).getTimeEntry() );
+        assertEquals( TimeEntryBulkItemStatus.FAILED, actual.getResults().get( 1 ).getStatus() );
+        assertTrue( actual.getResults().get( 1 ).getError().startsWith( "description" ) );
+        assertEquals( TimeEntryBulkItemStatus.FAILED, actual.getResults().get( 2 ).getStatus() );
+        assertEquals( "Could not find assignment for project and employee", actual.getResults().get( 2 ).getError() );
+
+        verify( projectAssignmentRepository, times( 1 ) ).findAllByEmployeeIdsAndProjectIds( anyCollection(), anyCollection() );
+        verify( projectAssignmentRepository, never() ).findByProject_IdAndEmployee_Id( any(), any() );
+        verify( timeEntryRepository, times( 1 ) ).flush();
+        verify( rollupService, times( 1 ) ).addTimeEntries( List.of( timeEntry ) );
+    }
+
+    @Test
+    @DisplayName("createTimeEntries should skip all entries when all or nothing is requested and one fails")
+    void createTimeEntries_ShouldSkipAllEntries_WhenAllOrNothingAndOneFails() {
+        TimeEntryCreateDTO valid = bulkEntry( recordId, recordId, "Test description" );
+        TimeEntryBulkCreateDTO dto = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of( valid, bulkEntry( recordId, recordId, "Too short" ) ) )
+                .allOrNothing( true )
+                .build();
+
+        when( projectAssignmentRepository.findAllByEmployeeIdsAndProjectIds( Set.of( recordId ), Set.of( recordId ) ) )
+                .thenReturn( List.of( projectAssignment ) );
+        when( timeEntryMapper.toTimeEntry( valid, employee, project ) ).thenReturn( timeEntry );
+        when( calculationService.calculateRoundedTotal( any(), any(), any() ) ).thenReturn( BigDecimal.TEN );
+
+        TimeEntryBulkResultDTO actual = service.createTimeEntries( dto );
+
+        assertEquals( 0, actual.getCreated() );
+        assertEquals( 1, actual.getFailed() );
+        assertEquals( TimeEntryBulkItemStatus.SKIPPED, actual.getResults().get( 0 ).getStatus() );
+        assertEquals( TimeEntryBulkItemStatus.FAILED, actual.getResults().get( 1 ).getStatus() );
+
+        verify( timeEntryRepository, never() ).saveAll( anyCollection() );
+        verifyNoInteractions( rollupService );
+    }
+
+    @Test
+    @DisplayName("createOwnTimeEntries should reject entries of other employees")
+    void createOwnTimeEntries_ShouldRejectEntriesOfOtherEmployees() {
+        TimeEntryBulkCreateDTO dto = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of( bulkEntry( otherRecordId, recordId, "Test description" ) ) )
+                .build();
+
+        user.setEmployee( employee );
+
+        TimeEntryBulkResultDTO actual = service.createOwnTimeEntries( dto, new SecurityUser( user ) );
+
+        assertEquals( 0, actual.getCreated() );
+        assertEquals( "You are not allowed to access this time entry", actual.getResults().getFirst().getError() );
+        verifyNoInteractions( projectAssignmentRepository );
+        verify( timeEntryRepository, never() ).saveAll( anyCollection() );
+    }
+
+    @Test
+    @DisplayName("createTimeEntries should throw InvalidParameterException when entries are empty")
+    void createTimeEntries_ShouldThrowInvalidParameterException_WhenEntriesAreEmpty() {
+        TimeEntryBulkCreateDTO dto = TimeEntryBulkCreateDTO.builder()
+                .entries( List.of() )
+                .build();
+
+        assertThrows( InvalidParameterException.class, () -> service.createTimeEntries( dto ) );
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,231 @@
+/*
+ * assemble
+ * TimeEntrySyncServiceImplTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.services.timeentry;
+
+import com.assemble.backend.models.dtos.timeentry.TimeEntryCompactDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntrySyncDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryTombstoneDTO;
+import com.assemble.backend.models.dtos.timeentry.TimeEntryView;
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.auth.User;
+import com.assemble.backend.models.entities.auth.UserRole;
+import com.assemble.backend.models.entities.employee.Employee;
+import com.assemble.backend.models.entities.timeentry.TimeEntry;
+import com.assemble.backend.models.mappers.timeentry.TimeEntryMapper;
+import com.assemble.backend.repositories.timeentry.TimeEntryCompactProjection;
+import com.assemble.backend.repositories.timeentry.TimeEntryRepository;
+import com.github.f4b6a3.uuid.UuidCreator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.security.InvalidParameterException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeEntrySyncServiceImpl Unit Test")
+class TimeEntrySyncServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TimeEntryRepository timeEntryRepository;
+
+    @Mock
+    private TimeEntryMapper timeEntryMapper;
+
+    @InjectMocks
+    private TimeEntrySyncServiceImpl service;
+
+    private static UUID userId;
+    private static SecurityUser securityUser;
+    private static Employee employee;
+
+    @BeforeEach
+    void init() {
+        userId = UuidCreator.getTimeOrderedEpoch();
+
+        securityUser = new SecurityUser(
+                User.builder()
+                        .id( userId )
+                        .username( "testuser" )
+                        .firstname( "Test" )
+                        .lastname( "User" )
+                        .email( "test@example.com" )
+                        .roles( List.of( UserRole.USER ) )
+                        .password( "secret" )
+                        .build()
+        );
+
+        employee = Employee.builder()
+                .id( UuidCreator.getTimeOrderedEpoch() )
+                .firstname( "Max" )
+                .lastname( "Mustermann" )
+                .email( "max@example.com" )
+                .build();
+    }
+
+    @Test
+    @DisplayName("removeTimeEntry should upsert a tombstone for the employee of the time entry")
+    void removeTimeEntry_ShouldUpsertTombstoneForEmployee() {
+        UUID timeEntryId = UuidCreator.getTimeOrderedEpoch();
+        TimeEntry timeEntry = mock( TimeEntry.class );
+        when( timeEntry.getId() ).thenReturn( timeEntryId );
+        when( timeEntry.getEmployee() ).thenReturn( employee );
+
+        service.removeTimeEntry( timeEntry );
+
+        verify( jdbcTemplate, times( 1 ) ).update(
+                contains( "INSERT INTO time_entry_tombstones" ),
+                eq( employee.getId() ), eq( timeEntryId ), any( Timestamp.class )
+        );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should request a reset without querying changes when since is missing")
+    void getOwnChanges_ShouldRequestReset_WhenSinceIsMissing() {
+        securityUser = securityUser.withEmployeeId( employee.getId() );
+        mockWatermark( 1200L );
+
+        TimeEntrySyncDTO actual = service.getOwnChanges( securityUser, null, TimeEntryView.FULL );
+
+        assertTrue( actual.isReset() );
+        assertTrue( actual.getChanged().isEmpty() );
+        assertTrue( actual.getDeleted().isEmpty() );
+        assertEquals( 1200L, TimeEntrySyncServiceImpl.Watermark.parse( actual.getWatermark() ).xid() );
+        verifyNoInteractions( timeEntryRepository );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should request a reset when since is older than the tombstone retention")
+    void getOwnChanges_ShouldRequestReset_WhenSinceIsOlderThanRetention() {
+        securityUser = securityUser.withEmployeeId( employee.getId() );
+        mockWatermark( 1200L );
+
+        String since = new TimeEntrySyncServiceImpl.Watermark(
+                1000L,
+                Instant.now().minus( TimeEntrySyncServiceImpl.TOMBSTONE_RETENTION ).minus( Duration.ofDays( 1 ) )
+        ).toString();
+
+        TimeEntrySyncDTO actual = service.getOwnChanges( securityUser, since, TimeEntryView.FULL );
+
+        assertTrue( actual.isReset() );
+        verifyNoInteractions( timeEntryRepository );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should return nothing when user has no employee")
+    void getOwnChanges_ShouldReturnNothing_WhenUserHasNoEmployee() {
+        mockWatermark( 1200L );
+
+        TimeEntrySyncDTO actual = service.getOwnChanges(
+                securityUser,
+                new TimeEntrySyncServiceImpl.Watermark( 1000L, Instant.now() ).toString(),
+                TimeEntryView.FULL
+        );
+
+        assertFalse( actual.isReset() );
+        assertTrue( actual.getChanged().isEmpty() );
+        assertTrue( actual.getDeleted().isEmpty() );
+        verifyNoInteractions( timeEntryRepository );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should throw InvalidParameterException when since is not a watermark")
+    void getOwnChanges_ShouldThrowInvalidParameterException_WhenSinceIsInvalid() {
+        assertThrows( InvalidParameterException.class, () ->
+                service.getOwnChanges( securityUser, "2026-01-01T00:00:00Z", TimeEntryView.FULL )
+        );
+        assertThrows( InvalidParameterException.class, () ->
+                service.getOwnChanges( securityUser, "abc@2026-01-01T00:00:00Z", TimeEntryView.FULL )
+        );
+
+        verifyNoInteractions( timeEntryRepository, jdbcTemplate );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should return changed time entries and tombstones from the transaction of the watermark on")
+    @SuppressWarnings("unchecked")
+    void getOwnChanges_ShouldReturnChangesAndTombstones_WhenSinceIsValid() {
+        String since = new TimeEntrySyncServiceImpl.Watermark( 1000L, Instant.now() ).toString();
+        TimeEntry timeEntry = mock( TimeEntry.class );
+        TimeEntryDTO timeEntryDTO = mock( TimeEntryDTO.class );
+        TimeEntryTombstoneDTO tombstone = new TimeEntryTombstoneDTO( UuidCreator.getTimeOrderedEpoch(), Instant.now() );
+
+        securityUser = securityUser.withEmployeeId( employee.getId() );
+        mockWatermark( 1200L );
+        when( timeEntryRepository.findAllByEmployee_IdAndChangeXidGreaterThanEqual( employee.getId(), 1000L ) )
+                .thenReturn( List.of( timeEntry ) );
+        when( timeEntryMapper.toTimeEntryDTO( timeEntry ) ).thenReturn( timeEntryDTO );
+        when( jdbcTemplate.query(
+                contains( "FROM time_entry_tombstones" ),
+                any( RowMapper.class ),
+                eq( employee.getId() ),
+                eq( 1000L )
+        ) ).thenReturn( List.of( tombstone ) );
+
+        TimeEntrySyncDTO actual = service.getOwnChanges( securityUser, since, TimeEntryView.FULL );
+
+        assertFalse( actual.isReset() );
+        assertEquals( List.of( timeEntryDTO ), actual.getChanged() );
+        assertEquals( List.of( tombstone ), actual.getDeleted() );
+        assertEquals( 1200L, TimeEntrySyncServiceImpl.Watermark.parse( actual.getWatermark() ).xid() );
+        verify( timeEntryRepository, never() ).findAllCompactByEmployeeIdAndChangeXidGreaterThanEqual( any(), any() );
+    }
+
+    @Test
+    @DisplayName("getOwnChanges should load compact projections when compact view is requested")
+    void getOwnChanges_ShouldLoadCompactProjections_WhenCompactViewIsRequested() {
+        String since = new TimeEntrySyncServiceImpl.Watermark( 1000L, Instant.now() ).toString();
+        TimeEntryCompactProjection projection = mock( TimeEntryCompactProjection.class );
+        TimeEntryCompactDTO compactDTO = mock( TimeEntryCompactDTO.class );
+
+        securityUser = securityUser.withEmployeeId( employee.getId() );
+        mockWatermark( 1200L );
+        when( timeEntryRepository.findAllCompactByEmployeeIdAndChangeXidGreaterThanEqual( employee.getId(), 1000L ) )
+                .thenReturn( List.of( projection ) );
+        when( timeEntryMapper.toTimeEntryCompactDTO( projection ) ).thenReturn( compactDTO );
+
+        TimeEntrySyncDTO actual = service.getOwnChanges( securityUser, since, TimeEntryView.COMPACT );
+
+        assertEquals( List.of( compactDTO ), actual.getChanged() );
+        verify( timeEntryRepository, never() ).findAllByEmployee_IdAndChangeXidGreaterThanEqual( any(), any() );
+    }
+
+    @Test
+    @DisplayName("purgeTombstones should delete tombstones older than the retention")
+    void purgeTombstones_ShouldDeleteExpiredTombstones() {
+        when( jdbcTemplate.update( contains( "DELETE FROM time_entry_tombstones" ), any( Timestamp.class ) ) )
+                .thenReturn( 3 );
+
+        assertEquals( 3, service.purgeTombstones() );
+    }
+
+    private void mockWatermark( long xid ) {
+        when( jdbcTemplate.queryForObject( contains( "pg_snapshot_xmin" ), eq( Long.class ) ) ).thenReturn( xid );
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * assemble
+ * HibernateStatementCounter.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.testutils;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public final class HibernateStatementCounter {
+
+    private final Statistics statistics;
+
+    public HibernateStatementCounter( EntityManagerFactory entityManagerFactory ) {
+        this.statistics = entityManagerFactory.unwrap( SessionFactory.class ).getStatistics();
+        this.statistics.setStatisticsEnabled( true );
+    }
+
+    // Only statements issued through Hibernate are counted, JdbcTemplate queries are not
+    public long countStatements( StatementAction action ) throws Exception {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    public interface StatementAction {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * assemble
+ * MockCustomUserEmployee.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.testutils;
+
+import com.assemble.backend.models.entities.auth.SecurityUser;
+import com.assemble.backend.models.entities.employee.Employee;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.test.context.TestSecurityContextHolder;
+
+/*
+ * The principal carries the employee id resolved at login, tests linking an employee to the mocked user
+ * afterwards update the principal the same way the relink updates the sessions of a real user.
+ */
+public final class MockCustomUserEmployee {
+
+    private MockCustomUserEmployee() {
+    }
+
+    public static void link( Employee employee ) {
+        SecurityContext context = TestSecurityContextHolder.getContext();
+        Authentication authentication = context.getAuthentication();
+        SecurityUser principal = (SecurityUser) authentication.getPrincipal();
+
+        context.setAuthentication( UsernamePasswordAuthenticationToken.authenticated(
+                principal.withEmployeeId( employee != null ? employee.getId() : null ),
+                authentication.getCredentials(),
+                authentication.getAuthorities()
+        ) );
+    }
+}
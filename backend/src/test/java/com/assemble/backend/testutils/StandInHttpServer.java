@@ -0,0 +1,85 @@
+/*
+ * assemble
+ * StandInHttpServer.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.testutils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Local http server for outbound clients, each path answers its queued responses and repeats the last one.
+// Responses registered for a path with query take precedence over the ones of the bare path.
+public final class StandInHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final Map<String, Deque<Response>> responses = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+
+    public StandInHttpServer() throws IOException {
+        server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        server.createContext( "/", this::handle );
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    public StandInHttpServer respond( String path, int status, String body ) {
+        responses.computeIfAbsent( path, key -> new ConcurrentLinkedDeque<>() ).add( new Response( status, body ) );
+        return this;
+    }
+
+    public int getRequestCount( String path ) {
+        AtomicInteger count = requests.get( path );
+        return count != null ? count.get() : 0;
+    }
+
+    public void reset() {
+        responses.clear();
+        requests.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop( 0 );
+    }
+
+    private void handle( HttpExchange exchange ) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requests.computeIfAbsent( path, key -> new AtomicInteger() ).incrementAndGet();
+
+        Deque<Response> queue = responses.get( path + "?" + exchange.getRequestURI().getRawQuery() );
+        if ( queue == null ) queue = responses.get( path );
+        Response response = queue == null ? new Response( 404, "" ) : queue.size() > 1 ? queue.poll() : queue.peek();
+        byte[] body = response.body().getBytes( StandardCharsets.UTF_8 );
+
+        exchange.getResponseHeaders().add( "Content-Type", "application/json" );
+        exchange.sendResponseHeaders( response.status(), body.length == 0 ? -1 : body.length );
+        try ( OutputStream outputStream = exchange.getResponseBody() ) {
+            outputStream.write( body );
+        }
+    }
+
+    private record Response( int status, String body ) {
+    }
+}
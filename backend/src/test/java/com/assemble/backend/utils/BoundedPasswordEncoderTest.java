@@ -0,0 +1,181 @@
+/*
+ * assemble
+ * BoundedPasswordEncoderTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import com.assemble.backend.exceptions.auth.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Unit Test")
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder( 4, meterRegistry, 1, 1, Duration.ofSeconds( 5 ) );
+    }
+
+    @AfterEach
+    void close() {
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("matches should verify the password on the pool and record the hash time")
+    void matches_ShouldVerifyPasswordAndRecordHashTime() {
+        String encoded = encoder.encode( "CompletelySecurePassword123!" );
+
+        assertTrue( encoder.matches( "CompletelySecurePassword123!", encoded ) );
+        assertFalse( encoder.matches( "WrongPassword123!", encoded ) );
+
+        assertEquals( 2, meterRegistry.get( "assemble.auth.password.hash" ).tag( "operation", "matches" ).timer().count() );
+        assertEquals( 1, meterRegistry.get( "assemble.auth.password.hash" ).tag( "operation", "encode" ).timer().count() );
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding should only report hashes with another cost than configured")
+    void upgradeEncoding_ShouldReportHashesWithAnotherCost() {
+        assertFalse( encoder.upgradeEncoding( encoder.encode( "CompletelySecurePassword123!" ) ) );
+        assertTrue( encoder.upgradeEncoding( new BCryptPasswordEncoder( 5 ).encode( "CompletelySecurePassword123!" ) ) );
+        assertFalse( encoder.upgradeEncoding( "not-a-bcrypt-hash" ) );
+        assertFalse( encoder.upgradeEncoding( null ) );
+    }
+
+    @Test
+    @DisplayName("encode should throw PasswordHashingRejectedException when the queue is full")
+    void encode_ShouldThrow_WhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch( 1 );
+        PasswordEncoder blocking = new BCryptPasswordEncoder( 4 ) {
+            @Override
+            public String encode( CharSequence rawPassword ) {
+                try {
+                    release.await( 5, TimeUnit.SECONDS );
+                } catch ( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode( rawPassword );
+            }
+        };
+        // A registry of its own, the gauge of the encoder from init would otherwise be reported
+        SimpleMeterRegistry boundedRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(
+                blocking,
+                4,
+                boundedRegistry,
+                1,
+                1,
+                Duration.ofSeconds( 5 )
+        );
+
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync( () -> bounded.encode( "first" ) );
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync( () -> bounded.encode( "second" ) );
+            awaitQueuedHash( boundedRegistry );
+
+            assertThrows( PasswordHashingRejectedException.class, () -> bounded.encode( "third" ) );
+            assertFalse( bounded.upgradeEncoding( new BCryptPasswordEncoder( 5 ).encode( "third" ) ) );
+
+            release.countDown();
+            assertNotNull( running.get( 5, TimeUnit.SECONDS ) );
+            assertNotNull( queued.get( 5, TimeUnit.SECONDS ) );
+            assertEquals( 1, rejected( boundedRegistry, "queue-full" ) );
+        } finally {
+            release.countDown();
+            bounded.close();
+        }
+    }
+
+    @Test
+    @DisplayName("encode should drop a queued hash on timeout and count it apart from a running one")
+    void encode_ShouldDropQueuedHashOnTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch( 1 );
+        AtomicInteger hashed = new AtomicInteger();
+        PasswordEncoder blocking = new BCryptPasswordEncoder( 4 ) {
+            @Override
+            public String encode( CharSequence rawPassword ) {
+                hashed.incrementAndGet();
+                try {
+                    release.await( 5, TimeUnit.SECONDS );
+                } catch ( InterruptedException e ) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode( rawPassword );
+            }
+        };
+        SimpleMeterRegistry boundedRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(
+                blocking,
+                4,
+                boundedRegistry,
+                1,
+                1,
+                Duration.ofMillis( 500 )
+        );
+
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync( () -> bounded.encode( "first" ) );
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync( () -> bounded.encode( "second" ) );
+
+            ExecutionException runningTimeout = assertThrows(
+                    ExecutionException.class,
+                    () -> running.get( 5, TimeUnit.SECONDS )
+            );
+            ExecutionException queuedTimeout = assertThrows(
+                    ExecutionException.class,
+                    () -> queued.get( 5, TimeUnit.SECONDS )
+            );
+            assertInstanceOf( PasswordHashingRejectedException.class, runningTimeout.getCause() );
+            assertInstanceOf( PasswordHashingRejectedException.class, queuedTimeout.getCause() );
+            assertEquals( 1, rejected( boundedRegistry, "running" ) );
+            assertEquals( 1, rejected( boundedRegistry, "queued" ) );
+            assertEquals( 0, boundedRegistry.get( "assemble.auth.password.queue" ).gauge().value() );
+
+            // The running hash finishes first, the dropped one is never started
+            release.countDown();
+            assertNotNull( bounded.encode( "third" ) );
+            assertEquals( 2, hashed.get() );
+        } finally {
+            release.countDown();
+            bounded.close();
+        }
+    }
+
+    private static double rejected( SimpleMeterRegistry registry, String reason ) {
+        return registry.get( "assemble.auth.password.rejected" ).tag( "reason", reason ).counter().count();
+    }
+
+    // With a single thread a hash only waits in the queue while the other one is blocked in the pool
+    private static void awaitQueuedHash( SimpleMeterRegistry registry ) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+        while ( registry.get( "assemble.auth.password.queue" ).gauge().value() < 1 ) {
+            if ( System.nanoTime() > deadline ) fail( "No password hash was queued" );
+            Thread.sleep( 10 );
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * assemble
+ * CircuitBreakerTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CircuitBreaker Unit Test")
+class CircuitBreakerTest {
+
+    private static final Instant NOW = Instant.parse( "2026-01-01T12:00:00Z" );
+
+    private Clock clock;
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void init() {
+        clock = mock( Clock.class );
+        when( clock.instant() ).thenReturn( NOW );
+        circuitBreaker = new CircuitBreaker( 2, Duration.ofMinutes( 1 ), clock );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should reject calls once the failure threshold is reached")
+    void tryAcquire_ShouldRejectCalls_WhenFailureThresholdIsReached() {
+        circuitBreaker.onFailure();
+        assertTrue( circuitBreaker.tryAcquire() );
+
+        circuitBreaker.onFailure();
+        assertEquals( CircuitBreaker.State.OPEN, circuitBreaker.getState() );
+        assertFalse( circuitBreaker.tryAcquire() );
+    }
+
+    @Test
+    @DisplayName("onSuccess should reset the failure count")
+    void onSuccess_ShouldResetFailureCount() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertEquals( CircuitBreaker.State.CLOSED, circuitBreaker.getState() );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should let a single trial call through after the open duration")
+    void tryAcquire_ShouldLetSingleTrialCallThrough_AfterOpenDuration() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+
+        when( clock.instant() ).thenReturn( NOW.plus( Duration.ofMinutes( 1 ) ) );
+
+        assertTrue( circuitBreaker.tryAcquire() );
+        assertEquals( CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState() );
+        assertFalse( circuitBreaker.tryAcquire() );
+    }
+
+    @Test
+    @DisplayName("onFailure should open the circuit again when the trial call fails")
+    void onFailure_ShouldOpenCircuitAgain_WhenTrialCallFails() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        when( clock.instant() ).thenReturn( NOW.plus( Duration.ofMinutes( 1 ) ) );
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onFailure();
+
+        assertEquals( CircuitBreaker.State.OPEN, circuitBreaker.getState() );
+        assertFalse( circuitBreaker.tryAcquire() );
+    }
+
+    @Test
+    @DisplayName("onSuccess should close the circuit when the trial call succeeds")
+    void onSuccess_ShouldCloseCircuit_WhenTrialCallSucceeds() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        when( clock.instant() ).thenReturn( NOW.plus( Duration.ofMinutes( 1 ) ) );
+        circuitBreaker.tryAcquire();
+
+        circuitBreaker.onSuccess();
+
+        assertEquals( CircuitBreaker.State.CLOSED, circuitBreaker.getState() );
+        assertTrue( circuitBreaker.tryAcquire() );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * assemble
+ * NoGeneratorTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NoGenerator Unit Test")
+class NoGeneratorTest {
+
+    private static final long BLOCK_SIZE = 10;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NoGenerator noGenerator;
+
+    private final AtomicLong currentValue = new AtomicLong();
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        noGenerator = new NoGenerator( jdbcTemplate, meterRegistry );
+
+        // Behaves like nextval of a sequence with the block size as increment
+        when( jdbcTemplate.queryForObject( anyString(), any( RowMapper.class ), anyString() ) )
+                .thenAnswer( invocation -> invocation.<RowMapper<?>>getArgument( 1 )
+                        .mapRow( reservedBlock( currentValue.addAndGet( BLOCK_SIZE ) ), 0 ) );
+    }
+
+    @Test
+    @DisplayName("generateNextNo should format numbers and reserve a block only when exhausted")
+    void generateNextNo_ShouldFormatNumbersAndReserveBlockOnlyWhenExhausted() {
+        assertEquals( "T00001", noGenerator.generateNextNo( "TIME_ENTRY_SEQ", "T" ) );
+
+        for ( int i = 2; i <= BLOCK_SIZE; i++ ) {
+            noGenerator.generateNextNo( "TIME_ENTRY_SEQ", "T" );
+        }
+        verify( jdbcTemplate, times( 1 ) )
+                .queryForObject( anyString(), any( RowMapper.class ), eq( "time_entry_seq" ) );
+
+        assertEquals( "T00011", noGenerator.generateNextNo( "TIME_ENTRY_SEQ", "T" ) );
+        verify( jdbcTemplate, times( 2 ) )
+                .queryForObject( anyString(), any( RowMapper.class ), eq( "time_entry_seq" ) );
+
+        assertEquals( 2, meterRegistry.get( "assemble.sequence.refills" )
+                .tag( "sequence", "TIME_ENTRY_SEQ" ).counter().count() );
+        assertEquals( 2, meterRegistry.get( "assemble.sequence.refill" )
+                .tag( "sequence", "TIME_ENTRY_SEQ" ).timer().count() );
+        assertEquals( 2, meterRegistry.get( "assemble.sequence.refill.wait" )
+                .tag( "sequence", "TIME_ENTRY_SEQ" ).timer().count() );
+    }
+
+    @Test
+    @DisplayName("generateNextNo should continue from the reserved upper bound of an existing sequence")
+    void generateNextNo_ShouldContinueFromReservedUpperBound() {
+        currentValue.set( 42 );
+
+        assertEquals( "P00043", noGenerator.generateNextNo( "PROJECT_SEQ", "P" ) );
+    }
+
+    @Test
+    @DisplayName("generateNextNo should hand out unique numbers under concurrency")
+    void generateNextNo_ShouldHandOutUniqueNumbersUnderConcurrency() throws InterruptedException {
+        int numbers = 1000;
+        Set<String> generated = ConcurrentHashMap.newKeySet();
+
+        try ( ExecutorService executor = Executors.newFixedThreadPool( 8 ) ) {
+            for ( int i = 0; i < numbers; i++ ) {
+                executor.submit( () -> generated.add( noGenerator.generateNextNo( "EMPLOYEE_SEQ", "E" ) ) );
+            }
+            executor.shutdown();
+            assertTrue( executor.awaitTermination( 10, TimeUnit.SECONDS ) );
+        }
+
+        assertEquals( numbers, generated.size() );
+        assertEquals( numbers, currentValue.get() );
+    }
+
+    // A row of the reserve statement, thread safe unlike a mock stubbed while the generator runs
+    private static ResultSet reservedBlock( long upperBound ) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[]{ ResultSet.class },
+                ( proxy, method, args ) -> switch ( (String) args[0] ) {
+                    case "upper_bound" -> upperBound;
+                    case "block_size" -> BLOCK_SIZE;
+                    default -> throw new IllegalArgumentException( "Unknown column " + args[0] );
+                }
+        );
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * assemble
+ * PostgresNotificationListenerTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostgresNotificationListener Unit Test")
+class PostgresNotificationListenerTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    private PostgresNotificationListener listener;
+
+    @BeforeEach
+    void init() throws Exception {
+        // The listener thread may not poll before a test closes it
+        lenient().when( dataSource.getConnection() ).thenReturn( connection );
+        lenient().when( connection.createStatement() ).thenReturn( statement );
+        lenient().when( connection.unwrap( PGConnection.class ) ).thenReturn( pgConnection );
+        lenient().when( pgConnection.getNotifications( anyInt() ) ).thenAnswer( invocation -> {
+            Thread.sleep( 10 );
+            return null;
+        } );
+
+        listener = new PostgresNotificationListener( dataSource );
+    }
+
+    @AfterEach
+    void close() {
+        listener.close();
+    }
+
+    @Test
+    @DisplayName("subscribe should listen to every channel on one connection and dispatch by channel")
+    void subscribe_ShouldListenToEveryChannelOnOneConnection() throws Exception {
+        CountDownLatch listening = new CountDownLatch( 2 );
+        CountDownLatch received = new CountDownLatch( 2 );
+        List<String> users = new CopyOnWriteArrayList<>();
+        List<String> sessions = new CopyOnWriteArrayList<>();
+
+        PGNotification[] notifications = {
+                notification( "users", "node:max" ),
+                notification( "sessions", "node:session-id" )
+        };
+        AtomicBoolean sent = new AtomicBoolean();
+        when( pgConnection.getNotifications( anyInt() ) ).thenAnswer( invocation -> {
+            if ( listening.getCount() == 0 && sent.compareAndSet( false, true ) ) return notifications;
+            Thread.sleep( 10 );
+            return null;
+        } );
+
+        listener.subscribe( "users", payload -> {
+            users.add( payload );
+            received.countDown();
+        }, listening::countDown );
+        listener.subscribe( "sessions", payload -> {
+            sessions.add( payload );
+            received.countDown();
+        }, listening::countDown );
+
+        assertTrue( received.await( 5, TimeUnit.SECONDS ) );
+        assertEquals( List.of( "node:max" ), users );
+        assertEquals( List.of( "node:session-id" ), sessions );
+
+        verify( dataSource, times( 1 ) ).getConnection();
+        verify( statement, times( 1 ) ).execute( "LISTEN users" );
+        verify( statement, times( 1 ) ).execute( "LISTEN sessions" );
+    }
+
+    @Test
+    @DisplayName("unsubscribe should stop listening to the channel with the next poll")
+    void unsubscribe_ShouldStopListeningToChannel() throws Exception {
+        CountDownLatch listening = new CountDownLatch( 1 );
+
+        listener.subscribe( "users", payload -> {
+        }, listening::countDown );
+        assertTrue( listening.await( 5, TimeUnit.SECONDS ) );
+
+        listener.unsubscribe( "users" );
+
+        verify( statement, timeout( 5000 ) ).execute( "UNLISTEN users" );
+    }
+
+    @Test
+    @DisplayName("subscribe should throw when the channel is already subscribed or invalid")
+    void subscribe_ShouldThrow_WhenChannelIsSubscribedOrInvalid() {
+        listener.subscribe( "users", payload -> {
+        }, () -> {
+        } );
+
+        assertThrows( IllegalStateException.class, () -> listener.subscribe( "users", payload -> {
+        }, () -> {
+        } ) );
+        assertThrows( IllegalArgumentException.class, () -> listener.subscribe( "users; DROP TABLE users", payload -> {
+        }, () -> {
+        } ) );
+    }
+
+    private static PGNotification notification( String channel, String payload ) {
+        PGNotification notification = mock( PGNotification.class );
+        when( notification.getName() ).thenReturn( channel );
+        when( notification.getParameter() ).thenReturn( payload );
+        return notification;
+    }
+}
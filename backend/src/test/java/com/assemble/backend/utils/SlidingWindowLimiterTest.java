@@ -0,0 +1,104 @@
+/*
+ * assemble
+ * SlidingWindowLimiterTest.java
+ *
+ * Copyright (c) 2026 Simon Sagstetter
+ *
+ * This software is the property of Simon Sagstetter.
+ * All rights reserved.
+ */
+
+package com.assemble.backend.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SlidingWindowLimiter Unit Test")
+class SlidingWindowLimiterTest {
+
+    private static final Instant NOW = Instant.parse( "2026-01-01T12:00:00Z" );
+
+    private Clock clock;
+
+    private SlidingWindowLimiter limiter;
+
+    @BeforeEach
+    void init() {
+        clock = mock( Clock.class );
+        when( clock.millis() ).thenReturn( NOW.toEpochMilli() );
+        limiter = new SlidingWindowLimiter( 2, Duration.ofMinutes( 1 ), 2, clock );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should reject attempts once the limit of a key is reached")
+    void tryAcquire_ShouldRejectAttempts_WhenLimitIsReached() {
+        assertTrue( limiter.tryAcquire( "mustermannmax" ) );
+        assertTrue( limiter.tryAcquire( "mustermannmax" ) );
+
+        assertFalse( limiter.tryAcquire( "mustermannmax" ) );
+        assertTrue( limiter.tryAcquire( "other" ) );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should weight the attempts of the previous window by its overlap")
+    void tryAcquire_ShouldWeightPreviousWindow() {
+        limiter.tryAcquire( "mustermannmax" );
+        limiter.tryAcquire( "mustermannmax" );
+
+        // A quarter into the next window three quarters of the previous attempts still count
+        when( clock.millis() ).thenReturn( NOW.plus( Duration.ofSeconds( 75 ) ).toEpochMilli() );
+        assertTrue( limiter.tryAcquire( "mustermannmax" ) );
+        assertFalse( limiter.tryAcquire( "mustermannmax" ) );
+
+        when( clock.millis() ).thenReturn( NOW.plus( Duration.ofMinutes( 3 ) ).toEpochMilli() );
+        assertTrue( limiter.tryAcquire( "mustermannmax" ) );
+    }
+
+    @Test
+    @DisplayName("record should count attempts accepted by other nodes")
+    void record_ShouldCountRemoteAttempts() {
+        limiter.record( "mustermannmax" );
+        limiter.record( "mustermannmax" );
+
+        assertFalse( limiter.tryAcquire( "mustermannmax" ) );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should drop stale keys once the maximum number of keys is reached")
+    void tryAcquire_ShouldDropStaleKeys_WhenMaximumIsReached() {
+        limiter.tryAcquire( "first" );
+        limiter.tryAcquire( "second" );
+
+        assertTrue( limiter.tryAcquire( "third" ) );
+        assertEquals( 2, limiter.size() );
+
+        when( clock.millis() ).thenReturn( NOW.plus( Duration.ofMinutes( 3 ) ).toEpochMilli() );
+        assertTrue( limiter.tryAcquire( "fourth" ) );
+        assertEquals( 1, limiter.size() );
+    }
+
+    @Test
+    @DisplayName("tryAcquire should keep limiting new keys when the maximum number of keys is reached")
+    void tryAcquire_ShouldKeepLimitingNewKeys_WhenMaximumIsReached() {
+        limiter.tryAcquire( "first" );
+        limiter.tryAcquire( "first" );
+        limiter.tryAcquire( "second" );
+
+        assertTrue( limiter.tryAcquire( "third" ) );
+        assertTrue( limiter.tryAcquire( "third" ) );
+        assertFalse( limiter.tryAcquire( "third" ) );
+        assertEquals( 2, limiter.size() );
+
+        // The key with the fewest attempts made room, the one at its limit is still limited
+        assertFalse( limiter.tryAcquire( "first" ) );
+    }
+}